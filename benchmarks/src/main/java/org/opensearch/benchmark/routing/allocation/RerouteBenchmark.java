@@ -17,6 +17,7 @@ import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.allocator.BalancedShardsAllocator;
 import org.opensearch.common.logging.LogConfigurator;
 import org.opensearch.common.settings.Settings;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -55,8 +56,13 @@ public class RerouteBenchmark {
     public int numShards = 10;
     public int numReplicas = 1;
 
+    @Param({ "false", "true" })
+    public boolean incremental;
+
     private AllocationService allocationService;
     private ClusterState initialClusterState;
+    private AllocationService balancedAllocationService;
+    private ClusterState balancedClusterState;
 
     @Setup
     public void setUp() throws Exception {
@@ -87,19 +93,38 @@ public class RerouteBenchmark {
             .routingTable(routingTable)
             .nodes(setUpClusterNodes(numNodes))
             .build();
+
+        balancedAllocationService = createAllocationService();
+        balancedClusterState = allocateAndStartShards(balancedAllocationService, initialClusterState);
+        while (balancedClusterState.getRoutingNodes().shardsWithState(INITIALIZING).isEmpty() == false) {
+            balancedClusterState = startInitializingShardsAndReroute(balancedAllocationService, balancedClusterState);
+        }
     }
 
     @Benchmark
     public ClusterState measureShardAllocationEmptyCluster() throws Exception {
-        ClusterState clusterState = initialClusterState;
-        allocationService = Allocators.createAllocationService(
+        allocationService = createAllocationService();
+        return allocateAndStartShards(allocationService, initialClusterState);
+    }
+
+    @Benchmark
+    public ClusterState measureRerouteBalancedCluster() throws Exception {
+        return balancedAllocationService.reroute(balancedClusterState, "reroute");
+    }
+
+    private AllocationService createAllocationService() {
+        return Allocators.createAllocationService(
             Settings.builder()
                 .put("cluster.routing.allocation.awareness.attributes", "zone")
                 .put("cluster.routing.allocation.load_awareness.provisioned_capacity", numNodes)
                 .put("cluster.routing.allocation.load_awareness.skew_factor", "50")
                 .put("cluster.routing.allocation.node_concurrent_recoveries", "2")
+                .put(BalancedShardsAllocator.INCREMENTAL_BALANCE_SETTING.getKey(), incremental)
                 .build()
         );
+    }
+
+    private static ClusterState allocateAndStartShards(AllocationService allocationService, ClusterState clusterState) {
         clusterState = allocationService.reroute(clusterState, "reroute");
         while (clusterState.getRoutingNodes().hasUnassignedShards()) {
             clusterState = startInitializingShardsAndReroute(allocationService, clusterState);
@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.store.remote.filecache;
+
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.index.store.remote.filecache.CachedIndexInput;
+import org.opensearch.index.store.remote.filecache.FileCache;
+import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a trace of block accesses against a {@link FileCache} with and without the TinyLFU admission policy. Most accesses go to a
+ * skewed set of terms dictionary blocks that is larger than the cache, and the trace periodically scans blocks of stored fields that
+ * are only read once, like a large export would. The hit and miss counts are reported as auxiliary counters next to the time it takes
+ * to replay the trace.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class FileCacheReplayBenchmark {
+    private static final CachedIndexInput INDEX_INPUT = new FixedSizeStubIndexInput();
+
+    @Param({ "lru", "tinylfu" })
+    String policy;
+
+    @Param({ "1024" })
+    int cacheEntries;
+
+    /**
+     * Number of blocks in the hot set, relative to the number of cache entries.
+     */
+    @Param({ "4" })
+    int hotSetRatio;
+
+    /**
+     * Number of blocks of every scan, relative to the number of cache entries.
+     */
+    @Param({ "0", "2" })
+    int scanRatio;
+
+    @Param({ "1000000" })
+    int accesses;
+
+    private Path[] trace;
+
+    private FileCache fileCache;
+
+    @Setup(Level.Trial)
+    public void createTrace() {
+        final Random random = new Random(0);
+        final int hotSetSize = cacheEntries * hotSetRatio;
+        final int scanLength = cacheEntries * scanRatio;
+        trace = new Path[accesses];
+        int scanBlock = 0;
+        for (int i = 0; i < accesses;) {
+            // a scan every ten times the size of the cache
+            if (scanLength > 0 && i > 0 && i % (10 * cacheEntries) == 0) {
+                for (int j = 0; j < scanLength && i < accesses; j++, i++) {
+                    trace[i] = Paths.get("_0.fdt_block_" + scanBlock++);
+                }
+            } else {
+                // the lower blocks are accessed much more often than the higher ones
+                final int block = (int) (hotSetSize * Math.pow(random.nextDouble(), 3));
+                trace[i++] = Paths.get("_0.tim_block_" + block);
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void createCache() {
+        final long capacity = (long) cacheEntries * INDEX_INPUT.length();
+        fileCache = "tinylfu".equals(policy)
+            ? FileCacheFactory.createConcurrentTinyLFUFileCache(capacity, 1)
+            : FileCacheFactory.createConcurrentLRUFileCache(capacity, 1);
+    }
+
+    @Benchmark
+    public void replay(HitCounters counters) {
+        for (Path key : trace) {
+            if (fileCache.get(key) == null) {
+                fileCache.put(key, INDEX_INPUT);
+                counters.misses++;
+            } else {
+                counters.hits++;
+            }
+            fileCache.decRef(key);
+        }
+    }
+
+    /**
+     * Number of hits and misses of the replayed trace.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HitCounters {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    /**
+     * Stubbed out IndexInput that does nothing but report a fixed size
+     */
+    private static class FixedSizeStubIndexInput implements CachedIndexInput {
+        @Override
+        public IndexInput getIndexInput() {
+            return null;
+        }
+
+        @Override
+        public long length() {
+            return 1024 * 1024 * 8; // 8MiB
+        }
+
+        @Override
+        public boolean isClosed() {
+            return false;
+        }
+
+        @Override
+        public void close() throws Exception {
+
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.transport;
+
+import org.opensearch.Version;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.compress.CompressorRegistry;
+import org.opensearch.core.compress.NoneCompressor;
+import org.opensearch.transport.Header;
+import org.opensearch.transport.InboundAggregator;
+import org.opensearch.transport.InboundDecoder;
+import org.opensearch.transport.InboundMessage;
+import org.opensearch.transport.nativeprotocol.NativeOutboundMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes transport messages shaped like bulk shard requests and search query requests from network sized chunks and reads their
+ * content, the way the inbound pipeline of a channel does. Run it with {@code -prof gc} to see the bytes allocated per message.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class InboundDecoderBenchmark {
+
+    private static final int NETWORK_CHUNK_SIZE = 64 * 1024;
+
+    @Param({ "bulk_shard", "search_query" })
+    private String message;
+
+    @Param({ "NONE", "DEFLATE", "ZSTD" })
+    private String compression;
+
+    private BytesReference serialized;
+    private InboundDecoder decoder;
+    private InboundAggregator aggregator;
+
+    @Setup
+    public void setup() throws IOException {
+        final Writeable payload = "bulk_shard".equals(message)
+            ? TransportMessagePayloads.bulkShard()
+            : TransportMessagePayloads.searchQuery();
+        final NativeOutboundMessage.Response response = new NativeOutboundMessage.Response(
+            new ThreadContext(Settings.EMPTY),
+            Collections.emptySet(),
+            payload,
+            Version.CURRENT,
+            1L,
+            false,
+            NoneCompressor.NAME.equals(compression) ? null : CompressorRegistry.getCompressor(compression)
+        );
+        serialized = new BytesArray(BytesReference.toBytes(response.serialize(new BytesStreamOutput())));
+        decoder = new InboundDecoder(Version.CURRENT, new PageCacheRecycler(Settings.EMPTY));
+        aggregator = new InboundAggregator(() -> new NoopCircuitBreaker("benchmark"), action -> {
+            throw new AssertionError("only responses are decoded");
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        decoder.close();
+        aggregator.close();
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) throws IOException {
+        int offset = 0;
+        ReleasableBytesReference pending = null;
+        while (offset < serialized.length()) {
+            final int chunkLength = Math.min(NETWORK_CHUNK_SIZE, serialized.length() - offset);
+            final ReleasableBytesReference chunk = ReleasableBytesReference.wrap(serialized.slice(offset, chunkLength));
+            offset += chunkLength;
+            // bytes that could not be decoded yet are prepended to the next chunk, like the inbound pipeline does
+            ReleasableBytesReference toDecode = pending == null ? chunk : concat(pending, chunk);
+            pending = null;
+            int consumed;
+            while (toDecode.length() > 0 && (consumed = decoder.decode(toDecode, fragment -> forward(fragment, blackhole))) > 0) {
+                toDecode = ReleasableBytesReference.wrap(toDecode.slice(consumed, toDecode.length() - consumed));
+            }
+            if (toDecode.length() > 0) {
+                pending = toDecode;
+            }
+        }
+    }
+
+    private static ReleasableBytesReference concat(BytesReference first, BytesReference second) {
+        return ReleasableBytesReference.wrap(CompositeBytesReference.of(first, second));
+    }
+
+    private void forward(Object fragment, Blackhole blackhole) {
+        try {
+            if (fragment instanceof Header) {
+                aggregator.headerReceived((Header) fragment);
+            } else if (fragment == InboundDecoder.END_CONTENT) {
+                try (InboundMessage inboundMessage = aggregator.finishAggregation()) {
+                    final StreamInput in = inboundMessage.openOrGetStreamInput();
+                    final boolean bulkShard = "bulk_shard".equals(message);
+                    blackhole.consume(bulkShard ? TransportMessagePayloads.readBulkShard(in) : TransportMessagePayloads.readSearchQuery(in));
+                }
+            } else {
+                final ReleasableBytesReference content = (ReleasableBytesReference) fragment;
+                aggregator.aggregate(content);
+                content.close();
+            }
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.transport;
+
+import org.opensearch.common.io.Streams;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the transport compression schemes on bulk shard and search query payloads by measuring the throughput of compressing and
+ * decompressing a message.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class TransportCompressionBenchmark {
+
+    @Param({ "bulk_shard", "search_query" })
+    private String message;
+
+    @Param({ "DEFLATE", "ZSTD" })
+    private String compression;
+
+    private Compressor compressor;
+    private BytesReference uncompressed;
+    private BytesReference compressed;
+    private byte[] buffer;
+
+    @Setup
+    public void setup() throws IOException {
+        compressor = CompressorRegistry.getCompressor(compression);
+        final Writeable payload = "bulk_shard".equals(message)
+            ? TransportMessagePayloads.bulkShard()
+            : TransportMessagePayloads.searchQuery();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            payload.writeTo(out);
+            uncompressed = out.copyBytes();
+        }
+        compressed = compress(compressor, uncompressed);
+        buffer = new byte[8192];
+    }
+
+    @Benchmark
+    public BytesReference compress() throws IOException {
+        return compress(compressor, uncompressed);
+    }
+
+    @Benchmark
+    public long decompress() throws IOException {
+        long decompressed = 0;
+        try (InputStream in = compressor.threadLocalInputStream(compressed.streamInput())) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                decompressed += read;
+            }
+        }
+        return decompressed;
+    }
+
+    private static BytesReference compress(Compressor compressor, BytesReference bytes) throws IOException {
+        final BytesStreamOutput out = new BytesStreamOutput();
+        try (OutputStream compressStream = compressor.threadLocalOutputStream(Streams.flushOnCloseStream(out))) {
+            bytes.writeTo(compressStream);
+        }
+        return out.bytes();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.transport;
+
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Transport message payloads shaped like the bulk shard requests and search shard query requests the transport benchmarks send.
+ */
+final class TransportMessagePayloads {
+
+    private static final String[] WORDS = {
+        "connection",
+        "reset",
+        "by",
+        "peer",
+        "request",
+        "completed",
+        "user",
+        "login",
+        "failed",
+        "timeout",
+        "upstream",
+        "GET",
+        "POST",
+        "/api/v1/orders",
+        "/api/v1/users",
+        "cache",
+        "miss",
+        "retrying",
+        "shard",
+        "node" };
+
+    private TransportMessagePayloads() {}
+
+    static Writeable bulkShard() {
+        return new BulkShardPayload(new Random(42));
+    }
+
+    static long readBulkShard(StreamInput in) throws IOException {
+        return BulkShardPayload.read(in);
+    }
+
+    static Writeable searchQuery() {
+        return new SearchQueryPayload();
+    }
+
+    static long readSearchQuery(StreamInput in) throws IOException {
+        return SearchQueryPayload.read(in);
+    }
+
+    /**
+     * The shape of a bulk shard request: the index, the shard and many log documents with their ids, routing and sources.
+     */
+    private static final class BulkShardPayload implements Writeable {
+
+        private static final int DOCUMENTS = 500;
+
+        private final BytesReference[] sources = new BytesReference[DOCUMENTS];
+
+        BulkShardPayload(Random random) {
+            for (int i = 0; i < DOCUMENTS; i++) {
+                final StringBuilder source = new StringBuilder("{\"@timestamp\":").append(1700000000000L + 17L * i)
+                    .append(",\"host\":\"web-")
+                    .append(random.nextInt(32))
+                    .append("\",\"message\":\"");
+                final int words = 10 + random.nextInt(60);
+                for (int j = 0; j < words; j++) {
+                    source.append(j == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+                }
+                source.append("\",\"status\":").append(200 + random.nextInt(300)).append('}');
+                sources[i] = new BytesArray(source.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString("logs-2024.01.01");
+            out.writeVInt(3);
+            out.writeLong(1_000L);
+            out.writeVInt(sources.length);
+            for (int i = 0; i < sources.length; i++) {
+                out.writeVInt(i);
+                out.writeString("doc-" + i);
+                out.writeOptionalString(null);
+                out.writeZLong(-2L);
+                out.writeVLong(0L);
+                out.writeBytesReference(sources[i]);
+            }
+        }
+
+        static long read(StreamInput in) throws IOException {
+            long checksum = in.readString().length() + in.readVInt() + in.readLong();
+            final int documents = in.readVInt();
+            for (int i = 0; i < documents; i++) {
+                checksum += in.readVInt();
+                checksum += in.readString().length();
+                final String routing = in.readOptionalString();
+                checksum += routing == null ? 0 : routing.length();
+                checksum += in.readZLong() + in.readVLong();
+                checksum += in.readBytesReference().length();
+            }
+            return checksum;
+        }
+    }
+
+    /**
+     * The shape of a search shard query request: the shard, the query, sorting, paging and timing options.
+     */
+    private static final class SearchQueryPayload implements Writeable {
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString("logs-2024.01.01");
+            out.writeVInt(0);
+            out.writeString("_na_");
+            out.writeStringArray(new String[] { "logs-2024.01.01", "logs-2024.01.02" });
+            out.writeString(
+                "{\"query\":{\"bool\":{\"filter\":[{\"range\":{\"@timestamp\":{\"gte\":\"now-15m\"}}},"
+                    + "{\"term\":{\"status\":500}}],\"must\":[{\"match\":{\"message\":\"connection reset by peer\"}}]}},"
+                    + "\"sort\":[{\"@timestamp\":\"desc\"}],\"size\":100}"
+            );
+            out.writeVInt(0);
+            out.writeVInt(100);
+            out.writeLong(1700000000000L);
+            out.writeOptionalString("1m");
+            out.writeBoolean(true);
+            out.writeFloat(1.0f);
+        }
+
+        static long read(StreamInput in) throws IOException {
+            long checksum = in.readString().length() + in.readVInt() + in.readString().length();
+            checksum += in.readStringArray().length;
+            checksum += in.readString().length();
+            checksum += in.readVInt() + in.readVInt() + in.readLong();
+            checksum += in.readOptionalString().length();
+            checksum += in.readBoolean() ? 1 : 0;
+            checksum += (long) in.readFloat();
+            return checksum;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the heap and paged storage of the {@link LiveVersionMap} for an upsert heavy workload. Run with {@code -prof gc} to compare
+ * the allocation rate and GC counts of both storages.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(LiveVersionMapBenchmark.OPS)
+@State(Scope.Benchmark)
+public class LiveVersionMapBenchmark {
+    static final int OPS = 100_000;
+
+    @Param({ "heap", "paged" })
+    public String storage;
+
+    /**
+     * Number of distinct ids that are updated, the ratio to {@link #OPS} controls how many operations are updates of an id that is
+     * already in the map.
+     */
+    @Param({ "10000", "100000" })
+    public int distinctIds;
+
+    private final BigArrays bigArrays = new BigArrays(new PageCacheRecycler(Settings.EMPTY), null, "REQUEST");
+
+    private BytesRef[] ids;
+    private IndexVersionValue[] values;
+    private LiveVersionMap map;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(distinctIds);
+        ids = new BytesRef[distinctIds];
+        for (int i = 0; i < distinctIds; i++) {
+            // auto-generated ids are 20 characters long
+            final byte[] bytes = new byte[20];
+            for (int b = 0; b < bytes.length; b++) {
+                bytes[b] = (byte) ('a' + random.nextInt(26));
+            }
+            ids[i] = new BytesRef(bytes);
+        }
+        values = new IndexVersionValue[OPS];
+        for (int i = 0; i < OPS; i++) {
+            values[i] = new IndexVersionValue(new Translog.Location(1, i * 100L, 100), 1, i, 1);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void createMap() throws IOException {
+        map = "paged".equals(storage) ? new LiveVersionMap(bigArrays) : new LiveVersionMap();
+        map.enforceSafeAccess();
+        // the map that is swapped out by the refresh benchmark must have entries
+        for (int i = 0; i < distinctIds; i++) {
+            put(ids[i], values[i % OPS]);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void releaseMap() {
+        map.clear();
+    }
+
+    @Benchmark
+    public void put() {
+        for (int i = 0; i < OPS; i++) {
+            put(ids[i % distinctIds], values[i]);
+        }
+    }
+
+    @Benchmark
+    public void get(Blackhole bh) {
+        for (int i = 0; i < OPS; i++) {
+            final BytesRef id = ids[i % distinctIds];
+            try (Releasable ignore = map.acquireLock(id)) {
+                bh.consume(map.getUnderLock(id));
+            }
+        }
+    }
+
+    /**
+     * Indexes while a refresh is in flight and then swaps the maps, which is the pattern of a refresh every few thousand operations.
+     */
+    @Benchmark
+    public void putAndRefresh() throws IOException {
+        for (int i = 0; i < OPS; i++) {
+            if (i % 10_000 == 0) {
+                map.beforeRefresh();
+            }
+            put(ids[i % distinctIds], values[i]);
+            if (i % 10_000 == 5_000) {
+                map.afterRefresh(true);
+            }
+        }
+    }
+
+    private void put(BytesRef id, IndexVersionValue value) {
+        try (Releasable ignore = map.acquireLock(id)) {
+            map.putIndexUnderLock(id, value);
+        }
+    }
+}
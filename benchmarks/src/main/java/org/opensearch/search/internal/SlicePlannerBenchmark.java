@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency of a concurrent search over an index with skewed segment sizes, one large merged segment and a tail of small
+ * flushed segments, when the leaves are grouped into slices by count ({@link MaxTargetSliceSupplier}) or by cost
+ * ({@link CostBasedSliceSupplier}, with and without splitting the large segment).
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SlicePlannerBenchmark {
+
+    @Param({ "max_target", "cost_based", "cost_based_partitioned" })
+    public String planner;
+
+    @Param({ "4" })
+    public int sliceCount;
+
+    /**
+     * Number of docs of the large segment, the small segments hold 1% of it each.
+     */
+    @Param({ "2000000" })
+    public int largeSegmentDocs;
+
+    @Param({ "20" })
+    public int smallSegments;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private ExecutorService executor;
+    private IndexSearcher searcher;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            addSegment(writer, largeSegmentDocs);
+            for (int i = 0; i < smallSegments; i++) {
+                addSegment(writer, largeSegmentDocs / 100);
+            }
+        }
+        reader = DirectoryReader.open(directory);
+        executor = Executors.newFixedThreadPool(sliceCount);
+        searcher = new IndexSearcher(reader, executor) {
+            @Override
+            protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+                switch (planner) {
+                    case "max_target":
+                        return MaxTargetSliceSupplier.getSlices(leaves, sliceCount);
+                    case "cost_based":
+                        return CostBasedSliceSupplier.getSlices(leaves, sliceCount, 0);
+                    case "cost_based_partitioned":
+                        return CostBasedSliceSupplier.getSlices(leaves, sliceCount, largeSegmentDocs / 100);
+                    default:
+                        throw new IllegalArgumentException("unknown planner [" + planner + "]");
+                }
+            }
+        };
+    }
+
+    private static void addSegment(IndexWriter writer, int docs) throws IOException {
+        for (int i = 0; i < docs; i++) {
+            Document document = new Document();
+            document.add(new NumericDocValuesField("value", i));
+            writer.addDocument(document);
+        }
+        writer.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        executor.shutdown();
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public long sumDocValues() throws IOException {
+        return searcher.search(new MatchAllDocsQuery(), new SumCollectorManager());
+    }
+
+    /**
+     * Sums the doc values of all matching docs so that the cost of a slice is proportional to the number of docs it covers.
+     */
+    private static final class SumCollectorManager implements CollectorManager<SumCollector, Long> {
+        @Override
+        public SumCollector newCollector() {
+            return new SumCollector();
+        }
+
+        @Override
+        public Long reduce(Collection<SumCollector> collectors) {
+            long sum = 0;
+            for (SumCollector collector : collectors) {
+                sum += collector.sum;
+            }
+            return sum;
+        }
+    }
+
+    private static final class SumCollector implements Collector {
+        long sum;
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+            final NumericDocValues values = context.reader().getNumericDocValues("value");
+            return new LeafCollector() {
+                @Override
+                public void setScorer(Scorable scorer) {}
+
+                @Override
+                public void collect(int doc) throws IOException {
+                    if (values.advanceExact(doc)) {
+                        sum += values.longValue();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+}
@@ -254,6 +254,72 @@ public abstract class AbstractBytesReference implements BytesReference {
             return sliceStartOffset + sliceIndex;
         }
 
+        /**
+         * Returns the number of bytes that can be read from the current slice without moving to the next one.
+         */
+        private int remainingInSlice() {
+            return slice == null ? 0 : slice.length - sliceIndex;
+        }
+
+        @Override
+        public short readShort() throws IOException {
+            if (remainingInSlice() < 2) {
+                return super.readShort();
+            }
+            final byte[] bytes = slice.bytes;
+            final int pos = slice.offset + sliceIndex;
+            sliceIndex += 2;
+            return (short) (((bytes[pos] & 0xFF) << 8) | (bytes[pos + 1] & 0xFF));
+        }
+
+        @Override
+        public int readInt() throws IOException {
+            if (remainingInSlice() < 4) {
+                return super.readInt();
+            }
+            final int i = readIntFromSlice(slice.offset + sliceIndex);
+            sliceIndex += 4;
+            return i;
+        }
+
+        @Override
+        public long readLong() throws IOException {
+            if (remainingInSlice() < 8) {
+                return super.readLong();
+            }
+            final int pos = slice.offset + sliceIndex;
+            final long l = (((long) readIntFromSlice(pos)) << 32) | (readIntFromSlice(pos + 4) & 0xFFFFFFFFL);
+            sliceIndex += 8;
+            return l;
+        }
+
+        private int readIntFromSlice(int pos) {
+            final byte[] bytes = slice.bytes;
+            return ((bytes[pos] & 0xFF) << 24) | ((bytes[pos + 1] & 0xFF) << 16) | ((bytes[pos + 2] & 0xFF) << 8) | (bytes[pos + 3] & 0xFF);
+        }
+
+        @Override
+        public int readVInt() throws IOException {
+            // a vInt takes at most 5 bytes, only decode it from the slice directly if it cannot span two slices
+            if (remainingInSlice() < 5) {
+                return super.readVInt();
+            }
+            final byte[] bytes = slice.bytes;
+            int pos = slice.offset + sliceIndex;
+            byte b = bytes[pos++];
+            int i = b & 0x7F;
+            for (int shift = 7; (b & 0x80) != 0; shift += 7) {
+                b = bytes[pos++];
+                if (shift == 28 && (b & 0x80) != 0) {
+                    sliceIndex = pos - slice.offset;
+                    throw new IOException("Invalid vInt ((" + Integer.toHexString(b) + " & 0x7f) << 28) | " + Integer.toHexString(i));
+                }
+                i |= (b & 0x7F) << shift;
+            }
+            sliceIndex = pos - slice.offset;
+            return i;
+        }
+
         private void maybeNextSlice() throws IOException {
             while (sliceIndex == slice.length) {
                 sliceStartOffset += sliceIndex;
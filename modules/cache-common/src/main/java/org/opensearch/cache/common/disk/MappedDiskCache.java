@@ -0,0 +1,952 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.disk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.ICacheKeySerializer;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.stats.CacheStatsHolder;
+import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
+import org.opensearch.common.cache.stats.NoopCacheStatsHolder;
+import org.opensearch.common.cache.store.builders.ICacheBuilder;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.io.PathUtils;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongBiFunction;
+
+import static org.opensearch.cache.common.disk.MappedDiskCacheSettings.DISK_CACHE_ALIAS_KEY;
+import static org.opensearch.cache.common.disk.MappedDiskCacheSettings.DISK_COMPACTION_THRESHOLD_KEY;
+import static org.opensearch.cache.common.disk.MappedDiskCacheSettings.DISK_LOG_FILE_SIZE_KEY;
+import static org.opensearch.cache.common.disk.MappedDiskCacheSettings.DISK_MAX_SIZE_IN_BYTES_KEY;
+import static org.opensearch.cache.common.disk.MappedDiskCacheSettings.DISK_SEGMENTS_KEY;
+import static org.opensearch.cache.common.disk.MappedDiskCacheSettings.DISK_STORAGE_PATH_KEY;
+
+/**
+ * Disk cache that appends serialized entries to memory mapped log files.
+ * <p>
+ * The cache is split into segments by key. Every segment appends its entries to its own log files and keeps a hash index from the keys
+ * to the address of their entries in the log. Writes to a segment are serialized by a lock, while reads are lock free: they look up the
+ * address in the index and copy the value out of the mapped log file, which is served from the page cache for recently written or read
+ * entries. Replaced and invalidated entries are only marked as dead in the log.
+ * <p>
+ * Once the log files of a segment reach its share of the capacity, the oldest log file is dropped and its live entries are evicted.
+ * When the cache is refreshed, the live entries of the log files that are mostly dead are copied to the current log file in the
+ * background so that the space of the dead entries can be reclaimed without evicting live entries.
+ * <p>
+ * The data is not persisted across restarts, the directory of the cache is cleaned up when it is created and when it is closed.
+ *
+ * @param <K> Type of key.
+ * @param <V> Type of value.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class MappedDiskCache<K, V> implements ICache<K, V> {
+
+    private static final Logger logger = LogManager.getLogger(MappedDiskCache.class);
+
+    static final int MINIMUM_MAX_SIZE_IN_BYTES = 1024 * 100; // 100KB
+
+    /**
+     * Every segment is split into at least this many log files, so that dropping its oldest log file on rollover only evicts a fraction
+     * of the entries of the segment.
+     */
+    static final int MIN_LOG_FILES_PER_SEGMENT = 4;
+
+    /** every entry starts with a state byte, then the lengths of the serialized key and value */
+    static final int HEADER_BYTES = 1 + Integer.BYTES + Integer.BYTES;
+    private static final byte LIVE = 1;
+    private static final byte DEAD = 0;
+
+    private final Path directory;
+    private final List<Segment> segments;
+    private final long logFileSize;
+    private final double compactionThreshold;
+    private final CacheStatsHolder cacheStatsHolder;
+    private final RemovalListener<ICacheKey<K>, V> removalListener;
+    private final ToLongBiFunction<ICacheKey<K>, V> weigher;
+    private final Serializer<ICacheKey<K>, byte[]> keySerializer;
+    private final Serializer<V, byte[]> valueSerializer;
+    // compacts the log files in the background, a compaction pass is scheduled at most once at a time
+    private final ExecutorService compactionExecutor;
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+
+    /**
+     * Used in computeIfAbsent to make sure a key is only loaded once by concurrent callers.
+     */
+    private final Map<ICacheKey<K>, CompletableFuture<V>> pendingLoads = new ConcurrentHashMap<>();
+
+    MappedDiskCache(Builder<K, V> builder) {
+        final long maxWeightInBytes = builder.getMaxWeightInBytes();
+        if (maxWeightInBytes <= MINIMUM_MAX_SIZE_IN_BYTES) {
+            throw new IllegalArgumentException("Memory mapped disk cache size should be greater than " + MINIMUM_MAX_SIZE_IN_BYTES);
+        }
+        if (builder.storagePath == null || builder.storagePath.isBlank()) {
+            throw new IllegalArgumentException("Storage path shouldn't be null or empty");
+        }
+        if (builder.diskCacheAlias == null || builder.diskCacheAlias.isBlank()) {
+            throw new IllegalArgumentException("Disk cache alias shouldn't be null or empty");
+        }
+        this.keySerializer = new ICacheKeySerializer<>(Objects.requireNonNull(builder.keySerializer, "Key serializer shouldn't be null"));
+        this.valueSerializer = Objects.requireNonNull(builder.valueSerializer, "Value serializer shouldn't be null");
+        this.removalListener = Objects.requireNonNull(builder.getRemovalListener(), "Removal listener can't be null");
+        this.weigher = Objects.requireNonNull(builder.getWeigher(), "Weigher can't be null");
+        List<String> dimensionNames = Objects.requireNonNull(builder.dimensionNames, "Dimension names can't be null");
+        if (builder.getStatsTrackingEnabled()) {
+            this.cacheStatsHolder = new DefaultCacheStatsHolder(dimensionNames, MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME);
+        } else {
+            this.cacheStatsHolder = NoopCacheStatsHolder.getInstance();
+        }
+        final int numberOfSegments = Math.max(1, builder.getNumberOfSegments());
+        final long segmentCapacity = maxWeightInBytes / numberOfSegments;
+        this.logFileSize = Math.min(builder.logFileSize.getBytes(), segmentCapacity / MIN_LOG_FILES_PER_SEGMENT);
+        if (logFileSize < MappedDiskCacheSettings.MINIMUM_LOG_FILE_SIZE.getBytes()) {
+            throw new IllegalArgumentException(
+                "Memory mapped disk cache of ["
+                    + maxWeightInBytes
+                    + "] bytes is too small for ["
+                    + numberOfSegments
+                    + "] segments, every segment needs at least ["
+                    + MIN_LOG_FILES_PER_SEGMENT
+                    + "] log files of ["
+                    + MappedDiskCacheSettings.MINIMUM_LOG_FILE_SIZE
+                    + "]"
+            );
+        }
+        if (logFileSize < builder.logFileSize.getBytes()) {
+            logger.debug(
+                "using log files of [{}] bytes rather than [{}] so that every segment of the disk cache has [{}] of them",
+                logFileSize,
+                builder.logFileSize,
+                MIN_LOG_FILES_PER_SEGMENT
+            );
+        }
+        this.compactionThreshold = builder.compactionThreshold;
+
+        this.directory = PathUtils.get(builder.storagePath, builder.diskCacheAlias);
+        try {
+            // We don't persist data between process restarts, clean up in case there was a non graceful restart.
+            if (Files.exists(directory)) {
+                logger.info("Found older disk cache data lying around during initialization under path: {}", directory);
+                IOUtils.rm(directory);
+            }
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new OpenSearchException("Failed to initialize the memory mapped disk cache under path: " + directory, e);
+        }
+        List<Segment> segments = new ArrayList<>(numberOfSegments);
+        for (int i = 0; i < numberOfSegments; i++) {
+            segments.add(new Segment(i, segmentCapacity));
+        }
+        this.segments = Collections.unmodifiableList(segments);
+        this.compactionExecutor = OpenSearchExecutors.newScaling(
+            "mmap_disk_cache_compaction",
+            0,
+            1,
+            30,
+            TimeUnit.SECONDS,
+            OpenSearchExecutors.daemonThreadFactory("opensearch[mmap_disk_cache_compaction][" + builder.diskCacheAlias + "]"),
+            new ThreadContext(Settings.EMPTY)
+        );
+    }
+
+    @Override
+    public V get(ICacheKey<K> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key passed to memory mapped disk cache was null.");
+        }
+        V value = read(key);
+        if (value != null) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V read(ICacheKey<K> key) {
+        final byte[] bytes = segmentFor(key).readValue(key);
+        return bytes == null ? null : valueSerializer.deserialize(bytes);
+    }
+
+    /**
+     * Puts the item into cache.
+     * @param key Type of key.
+     * @param value Type of value.
+     */
+    @Override
+    public void put(ICacheKey<K> key, V value) {
+        final byte[] keyBytes = keySerializer.serialize(key);
+        final byte[] valueBytes = valueSerializer.serialize(value);
+        if (keyBytes == null || valueBytes == null) {
+            throw new IllegalArgumentException("Key and value passed to memory mapped disk cache must be serializable");
+        }
+        segmentFor(key).put(key, weigher.applyAsLong(key, value), keyBytes, valueBytes);
+    }
+
+    /**
+     * Computes the value using loader in case key is not present, otherwise fetches it.
+     * @param key Type of key
+     * @param loader loader to load the value in case key is missing
+     * @return value
+     * @throws Exception when either internal get or put calls fail.
+     */
+    @Override
+    public V computeIfAbsent(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        V value = read(key);
+        if (value == null) {
+            value = load(key, loader);
+        }
+        if (!loader.isLoaded()) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V load(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final CompletableFuture<V> existing = pendingLoads.putIfAbsent(key, future);
+        if (existing != null) {
+            // another caller is loading the same key
+            return existing.get();
+        }
+        try {
+            final V value;
+            try {
+                value = loader.load(key);
+            } catch (Exception ex) {
+                future.completeExceptionally(ex);
+                throw new ExecutionException(ex);
+            }
+            if (value == null) {
+                NullPointerException npe = new NullPointerException("loader returned a null value");
+                future.completeExceptionally(npe);
+                throw new ExecutionException(npe);
+            }
+            put(key, value);
+            future.complete(value);
+            return value;
+        } finally {
+            pendingLoads.remove(key, future);
+        }
+    }
+
+    /**
+     * Invalidate the item.
+     * @param key key to be invalidated.
+     */
+    @Override
+    public void invalidate(ICacheKey<K> key) {
+        if (key.getDropStatsForDimensions()) {
+            cacheStatsHolder.removeDimensions(key.dimensions);
+        }
+        if (key.key != null) {
+            segmentFor(key).remove(key);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        cacheStatsHolder.reset();
+    }
+
+    /**
+     * Provides a way to iterate over disk cache keys.
+     * @return Iterable
+     */
+    @Override
+    public Iterable<ICacheKey<K>> keys() {
+        return KeyIterator::new;
+    }
+
+    /**
+     * Gives the current count of keys in disk cache.
+     * If enableStatsTracking is set to false in the builder, always returns 0.
+     * @return current count of keys
+     */
+    @Override
+    public long count() {
+        return cacheStatsHolder.count();
+    }
+
+    /**
+     * Schedules the compaction of the log files whose share of live entries dropped below the compaction threshold. Compaction copies
+     * entries under the write locks of the segments, it runs in the background so that the caller, such as the tiered spillover cache
+     * which refreshes its tiers under its own write lock, does not wait for it.
+     */
+    @Override
+    public void refresh() {
+        if (compactionScheduled.compareAndSet(false, true) == false) {
+            return;
+        }
+        try {
+            compactionExecutor.execute(() -> {
+                compactionScheduled.set(false);
+                try {
+                    compact();
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("Failed to compact the memory mapped disk cache: {}", directory), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // the cache is closed
+            compactionScheduled.set(false);
+        }
+    }
+
+    // Pkg-private for testing.
+    void compact() {
+        for (Segment segment : segments) {
+            while (segment.compactNext()) {
+                // compact the log files one at a time, releasing the write lock of the segment in between
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        ThreadPool.terminate(compactionExecutor, 10, TimeUnit.SECONDS);
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+        try {
+            IOUtils.rm(directory);
+        } catch (IOException e) {
+            logger.warn(() -> new ParameterizedMessage("Failed to delete the memory mapped disk cache under path: {}", directory), e);
+        }
+    }
+
+    /**
+     * Relevant stats for this cache, aggregated by levels.
+     * @param levels The levels to aggregate by.
+     * @return ImmutableCacheStatsHolder
+     */
+    @Override
+    public ImmutableCacheStatsHolder stats(String[] levels) {
+        return cacheStatsHolder.getImmutableCacheStatsHolder(levels);
+    }
+
+    private Segment segmentFor(ICacheKey<K> key) {
+        return segments.get(Math.floorMod(key.hashCode(), segments.size()));
+    }
+
+    // Pkg-private for testing.
+    long getLogFileSize() {
+        return logFileSize;
+    }
+
+    // Pkg-private for testing.
+    int numberOfLogFiles() {
+        int count = 0;
+        for (Segment segment : segments) {
+            count += segment.files.size();
+        }
+        return count;
+    }
+
+    private static long address(int fileId, int offset) {
+        return ((long) fileId << 32) | offset;
+    }
+
+    private static int fileId(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int offset(long address) {
+        return (int) address;
+    }
+
+    /**
+     * The address of the entry of a key in the log, and the weight of its value so that replacing, removing or evicting the entry does
+     * not need to deserialize the value to account for its size.
+     */
+    private static final class IndexEntry {
+        private final long address;
+        private final long weight;
+
+        IndexEntry(long address, long weight) {
+            this.address = address;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * A part of the cache with its own log files, index and write lock.
+     */
+    private final class Segment {
+        private final int id;
+        private final long capacity;
+        // the entry of every key, read without locking
+        private final Map<ICacheKey<K>, IndexEntry> index = new ConcurrentHashMap<>();
+        // the log files by id, read without locking
+        private final Map<Integer, LogFile> files = new ConcurrentHashMap<>();
+        private final ReentrantLock writeLock = new ReentrantLock();
+        // the log files that are full, from the oldest to the most recent one, guarded by the write lock
+        private final ArrayDeque<LogFile> sealedFiles = new ArrayDeque<>();
+        // the log file that entries are appended to, guarded by the write lock
+        private LogFile activeFile;
+        private int nextFileId;
+        // the keys and serialized values of the entries evicted under the write lock, listeners are notified once it is released
+        private final List<Tuple<ICacheKey<K>, byte[]>> evicted = new ArrayList<>();
+
+        Segment(int id, long capacity) {
+            this.id = id;
+            this.capacity = capacity;
+        }
+
+        byte[] readValue(ICacheKey<K> key) {
+            final IndexEntry entry = index.get(key);
+            if (entry == null) {
+                return null;
+            }
+            final LogFile file = files.get(fileId(entry.address));
+            if (file == null) {
+                // the log file was dropped after the lookup, the mapping is gone from the index as well
+                return null;
+            }
+            // a log file that is dropped concurrently stays mapped until its buffer is garbage collected
+            return file.readValue(offset(entry.address));
+        }
+
+        void put(ICacheKey<K> key, long weight, byte[] keyBytes, byte[] valueBytes) {
+            final int entryBytes = HEADER_BYTES + keyBytes.length + valueBytes.length;
+            if (entryBytes > logFileSize) {
+                logger.debug("not caching entry of [{}] bytes which is larger than the log files of the disk cache", entryBytes);
+                return;
+            }
+            writeLock.lock();
+            try {
+                final LogFile file = reserve(entryBytes);
+                final long address = address(file.id, file.append(keyBytes, valueBytes));
+                final IndexEntry previous = index.put(key, new IndexEntry(address, weight));
+                if (previous == null) {
+                    cacheStatsHolder.incrementItems(key.dimensions);
+                    cacheStatsHolder.incrementSizeInBytes(key.dimensions, weight);
+                } else {
+                    logFile(previous.address).markDead(offset(previous.address));
+                    cacheStatsHolder.incrementSizeInBytes(key.dimensions, weight - previous.weight);
+                }
+            } finally {
+                unlockAndNotifyEvicted();
+            }
+        }
+
+        void remove(ICacheKey<K> key) {
+            final byte[] valueBytes;
+            writeLock.lock();
+            try {
+                final IndexEntry entry = index.remove(key);
+                if (entry == null) {
+                    return;
+                }
+                final LogFile file = logFile(entry.address);
+                valueBytes = file.readValue(offset(entry.address));
+                file.markDead(offset(entry.address));
+                cacheStatsHolder.decrementItems(key.dimensions);
+                cacheStatsHolder.decrementSizeInBytes(key.dimensions, entry.weight);
+            } finally {
+                writeLock.unlock();
+            }
+            removalListener.onRemoval(new RemovalNotification<>(key, valueSerializer.deserialize(valueBytes), RemovalReason.EXPLICIT));
+        }
+
+        /**
+         * Returns the log file of a live entry.
+         */
+        private LogFile logFile(long address) {
+            final LogFile file = files.get(fileId(address));
+            assert file != null : "the log file of a live entry must exist";
+            return file;
+        }
+
+        /**
+         * Releases the write lock, then notifies the removal listener of the entries that were evicted while it was held.
+         */
+        private void unlockAndNotifyEvicted() {
+            assert writeLock.isHeldByCurrentThread();
+            final List<Tuple<ICacheKey<K>, byte[]>> toNotify;
+            if (evicted.isEmpty()) {
+                toNotify = Collections.emptyList();
+            } else {
+                toNotify = new ArrayList<>(evicted);
+                evicted.clear();
+            }
+            writeLock.unlock();
+            for (Tuple<ICacheKey<K>, byte[]> entry : toNotify) {
+                final V value = valueSerializer.deserialize(entry.v2());
+                removalListener.onRemoval(new RemovalNotification<>(entry.v1(), value, RemovalReason.EVICTED));
+            }
+        }
+
+        /**
+         * Returns a log file with room for an entry of the given size, rolling over to a new log file and dropping the oldest log
+         * files if needed.
+         */
+        private LogFile reserve(int entryBytes) {
+            assert writeLock.isHeldByCurrentThread();
+            if (activeFile != null && activeFile.remaining() >= entryBytes) {
+                return activeFile;
+            }
+            if (activeFile != null) {
+                sealedFiles.addLast(activeFile);
+            }
+            while (sealedFiles.isEmpty() == false && (sealedFiles.size() + 1) * logFileSize > capacity) {
+                evict(sealedFiles.pollFirst());
+            }
+            activeFile = createFile();
+            return activeFile;
+        }
+
+        private LogFile createFile() {
+            final int fileId = nextFileId++;
+            final Path path = directory.resolve(id + "_" + fileId + ".log");
+            try (
+                FileChannel channel = FileChannel.open(
+                    path,
+                    StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.SPARSE
+                )
+            ) {
+                // the mapping stays valid after the channel is closed
+                final LogFile file = new LogFile(fileId, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, logFileSize));
+                files.put(fileId, file);
+                return file;
+            } catch (IOException e) {
+                throw new OpenSearchException("Failed to create log file of the memory mapped disk cache: " + path, e);
+            }
+        }
+
+        /**
+         * Drops the log file, evicting its live entries.
+         */
+        private void evict(LogFile file) {
+            forEachLiveEntry(file, (key, offset) -> {
+                final IndexEntry entry = index.get(key);
+                if (entry != null && entry.address == address(file.id, offset)) {
+                    index.remove(key);
+                    cacheStatsHolder.decrementItems(key.dimensions);
+                    cacheStatsHolder.decrementSizeInBytes(key.dimensions, entry.weight);
+                    cacheStatsHolder.incrementEvictions(key.dimensions);
+                    evicted.add(new Tuple<>(key, file.readValue(offset)));
+                }
+            });
+            drop(file);
+        }
+
+        /**
+         * Copies the live entries of the oldest sealed log file that is mostly dead to the active log file and drops it.
+         * @return whether a log file was compacted
+         */
+        boolean compactNext() {
+            writeLock.lock();
+            try {
+                final Iterator<LogFile> iterator = sealedFiles.iterator();
+                LogFile toCompact = null;
+                while (iterator.hasNext() && toCompact == null) {
+                    final LogFile file = iterator.next();
+                    if (file.liveBytes < compactionThreshold * file.writeOffset) {
+                        iterator.remove();
+                        toCompact = file;
+                    }
+                }
+                if (toCompact == null) {
+                    return false;
+                }
+                final LogFile file = toCompact;
+                forEachLiveEntry(file, (key, offset) -> {
+                    final byte[] keyBytes = file.readKey(offset);
+                    final byte[] valueBytes = file.readValue(offset);
+                    final LogFile target = reserve(HEADER_BYTES + keyBytes.length + valueBytes.length);
+                    final long address = address(target.id, target.append(keyBytes, valueBytes));
+                    final IndexEntry entry = index.get(key);
+                    assert entry != null && entry.address == address(file.id, offset) : "live entries must be indexed";
+                    index.put(key, new IndexEntry(address, entry.weight));
+                });
+                drop(file);
+                logger.debug("compacted log file [{}] of segment [{}] of the disk cache", file.id, id);
+                return true;
+            } finally {
+                unlockAndNotifyEvicted();
+            }
+        }
+
+        private void forEachLiveEntry(LogFile file, LiveEntryConsumer<K> consumer) {
+            assert writeLock.isHeldByCurrentThread();
+            int offset = 0;
+            while (offset < file.writeOffset && file.liveBytes > 0) {
+                if (file.isLive(offset)) {
+                    consumer.accept(keySerializer.deserialize(file.readKey(offset)), offset);
+                }
+                offset += file.entryBytes(offset);
+            }
+        }
+
+        /**
+         * Removes the log file from the segment and deletes it. Readers that still access it copy entries out of its mapping, which is
+         * released once the buffer is garbage collected.
+         */
+        private void drop(LogFile file) {
+            files.remove(file.id);
+            file.delete();
+        }
+
+        void clear() {
+            writeLock.lock();
+            try {
+                index.clear();
+                for (LogFile file : sealedFiles) {
+                    drop(file);
+                }
+                sealedFiles.clear();
+                if (activeFile != null) {
+                    drop(activeFile);
+                    activeFile = null;
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Consumes the key and offset of a live entry of a log file.
+     */
+    @FunctionalInterface
+    private interface LiveEntryConsumer<K> {
+        void accept(ICacheKey<K> key, int offset);
+    }
+
+    /**
+     * An append only log file, mapped into memory. Entries are written under the write lock of the segment and made visible to
+     * readers by publishing their address in the index of the segment, readers use absolute reads so that they do not share any
+     * state of the buffer.
+     */
+    private static final class LogFile {
+        private final int id;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        // guarded by the write lock of the segment
+        private int writeOffset;
+        private long liveBytes;
+
+        LogFile(int id, Path path, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.buffer = buffer;
+        }
+
+        void delete() {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                // the file is deleted with the directory of the cache at the latest
+                logger.debug(() -> new ParameterizedMessage("Failed to delete log file of the memory mapped disk cache: {}", path), e);
+            }
+        }
+
+        int remaining() {
+            return buffer.capacity() - writeOffset;
+        }
+
+        int append(byte[] keyBytes, byte[] valueBytes) {
+            final int offset = writeOffset;
+            buffer.put(offset, LIVE);
+            buffer.putInt(offset + 1, keyBytes.length);
+            buffer.putInt(offset + 1 + Integer.BYTES, valueBytes.length);
+            buffer.put(offset + HEADER_BYTES, keyBytes);
+            buffer.put(offset + HEADER_BYTES + keyBytes.length, valueBytes);
+            final int entryBytes = HEADER_BYTES + keyBytes.length + valueBytes.length;
+            writeOffset += entryBytes;
+            liveBytes += entryBytes;
+            return offset;
+        }
+
+        boolean isLive(int offset) {
+            return buffer.get(offset) == LIVE;
+        }
+
+        int entryBytes(int offset) {
+            return HEADER_BYTES + buffer.getInt(offset + 1) + buffer.getInt(offset + 1 + Integer.BYTES);
+        }
+
+        byte[] readKey(int offset) {
+            final byte[] key = new byte[buffer.getInt(offset + 1)];
+            buffer.get(offset + HEADER_BYTES, key);
+            return key;
+        }
+
+        byte[] readValue(int offset) {
+            final int keyLength = buffer.getInt(offset + 1);
+            final byte[] value = new byte[buffer.getInt(offset + 1 + Integer.BYTES)];
+            buffer.get(offset + HEADER_BYTES + keyLength, value);
+            return value;
+        }
+
+        void markDead(int offset) {
+            assert isLive(offset);
+            buffer.put(offset, DEAD);
+            liveBytes -= entryBytes(offset);
+        }
+    }
+
+    /**
+     * Iterates over the keys of all the segments, removing a key invalidates it.
+     */
+    private final class KeyIterator implements Iterator<ICacheKey<K>> {
+        private int segment;
+        private Iterator<ICacheKey<K>> current = segments.get(0).index.keySet().iterator();
+        private ICacheKey<K> last;
+
+        @Override
+        public boolean hasNext() {
+            while (current.hasNext() == false && segment < segments.size() - 1) {
+                current = segments.get(++segment).index.keySet().iterator();
+            }
+            return current.hasNext();
+        }
+
+        @Override
+        public ICacheKey<K> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = current.next();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            segmentFor(last).remove(last);
+            last = null;
+        }
+    }
+
+    /**
+     * Factory to create a memory mapped disk cache.
+     */
+    public static class MappedDiskCacheFactory implements ICache.Factory {
+
+        /**
+         * Memory mapped disk cache name.
+         */
+        public static final String MAPPED_DISK_CACHE_NAME = "mmap_disk";
+
+        /**
+         * Default constructor.
+         */
+        public MappedDiskCacheFactory() {}
+
+        @Override
+        @SuppressWarnings({ "unchecked" }) // Required to ensure the serializers output byte[]
+        public <K, V> ICache<K, V> create(CacheConfig<K, V> config, CacheType cacheType, Map<String, Factory> cacheFactories) {
+            Map<String, Setting<?>> settingList = MappedDiskCacheSettings.getSettingListForCacheType(cacheType);
+            Settings settings = config.getSettings();
+
+            Serializer<K, byte[]> keySerializer;
+            try {
+                keySerializer = (Serializer<K, byte[]>) config.getKeySerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("MappedDiskCache requires a key serializer of type Serializer<K, byte[]>");
+            }
+
+            Serializer<V, byte[]> valueSerializer;
+            try {
+                valueSerializer = (Serializer<V, byte[]>) config.getValueSerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("MappedDiskCache requires a value serializer of type Serializer<V, byte[]>");
+            }
+
+            String storagePath = (String) settingList.get(DISK_STORAGE_PATH_KEY).get(settings);
+            if (storagePath == null || storagePath.isBlank()) {
+                // In case storage path is not explicitly set by user, use default path.
+                storagePath = config.getStoragePath();
+            }
+            String diskCacheAlias = (String) settingList.get(DISK_CACHE_ALIAS_KEY).get(settings);
+            if (config.getCacheAlias() != null && !config.getCacheAlias().isBlank()) {
+                diskCacheAlias = config.getCacheAlias();
+            }
+            Builder<K, V> builder = (Builder<K, V>) new Builder<K, V>().setStoragePath(storagePath)
+                .setDiskCacheAlias(diskCacheAlias)
+                .setKeySerializer(keySerializer)
+                .setValueSerializer(valueSerializer)
+                .setDimensionNames(config.getDimensionNames())
+                .setLogFileSize((ByteSizeValue) settingList.get(DISK_LOG_FILE_SIZE_KEY).get(settings))
+                .setCompactionThreshold((Double) settingList.get(DISK_COMPACTION_THRESHOLD_KEY).get(settings))
+                .setWeigher(config.getWeigher())
+                .setRemovalListener(config.getRemovalListener())
+                .setStatsTrackingEnabled(config.getStatsTrackingEnabled())
+                .setSettings(settings);
+            // If config value is set, use this instead.
+            if (config.getMaxSizeInBytes() > 0) {
+                builder.setMaximumWeightInBytes(config.getMaxSizeInBytes());
+            } else {
+                builder.setMaximumWeightInBytes((Long) settingList.get(DISK_MAX_SIZE_IN_BYTES_KEY).get(settings));
+            }
+            if (config.getSegmentCount() > 0) {
+                builder.setNumberOfSegments(config.getSegmentCount());
+            } else {
+                builder.setNumberOfSegments((Integer) settingList.get(DISK_SEGMENTS_KEY).get(settings));
+            }
+            return builder.build();
+        }
+
+        @Override
+        public String getCacheName() {
+            return MAPPED_DISK_CACHE_NAME;
+        }
+    }
+
+    /**
+     * Builder object to build the memory mapped disk cache.
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    public static class Builder<K, V> extends ICacheBuilder<K, V> {
+
+        private String storagePath;
+        private String diskCacheAlias = MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME;
+        private List<String> dimensionNames;
+        private Serializer<K, byte[]> keySerializer;
+        private Serializer<V, byte[]> valueSerializer;
+        private ByteSizeValue logFileSize = MappedDiskCacheSettings.DEFAULT_LOG_FILE_SIZE;
+        private double compactionThreshold = MappedDiskCacheSettings.DEFAULT_COMPACTION_THRESHOLD;
+
+        /**
+         * Default constructor. Added to fix javadocs.
+         */
+        public Builder() {}
+
+        /**
+         * Desired storage path for disk cache.
+         * @param storagePath path for disk cache
+         * @return builder
+         */
+        public Builder<K, V> setStoragePath(String storagePath) {
+            this.storagePath = storagePath;
+            return this;
+        }
+
+        /**
+         * Cache alias, the name of the directory of the cache under the storage path.
+         * @param diskCacheAlias disk cache alias
+         * @return builder
+         */
+        public Builder<K, V> setDiskCacheAlias(String diskCacheAlias) {
+            this.diskCacheAlias = diskCacheAlias;
+            return this;
+        }
+
+        /**
+         * Sets the allowed dimension names for keys that will enter this cache.
+         * @param dimensionNames A list of dimension names this cache will accept
+         * @return builder
+         */
+        public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
+            this.dimensionNames = dimensionNames;
+            return this;
+        }
+
+        /**
+         * Sets the key serializer for this cache.
+         * @param keySerializer the key serializer
+         * @return builder
+         */
+        public Builder<K, V> setKeySerializer(Serializer<K, byte[]> keySerializer) {
+            this.keySerializer = keySerializer;
+            return this;
+        }
+
+        /**
+         * Sets the value serializer for this cache.
+         * @param valueSerializer the value serializer
+         * @return builder
+         */
+        public Builder<K, V> setValueSerializer(Serializer<V, byte[]> valueSerializer) {
+            this.valueSerializer = valueSerializer;
+            return this;
+        }
+
+        /**
+         * Sets the size of the log files.
+         * @param logFileSize size of the log files
+         * @return builder
+         */
+        public Builder<K, V> setLogFileSize(ByteSizeValue logFileSize) {
+            this.logFileSize = logFileSize;
+            return this;
+        }
+
+        /**
+         * Sets the share of live entries below which a log file is compacted on refresh.
+         * @param compactionThreshold compaction threshold between 0 and 1
+         * @return builder
+         */
+        public Builder<K, V> setCompactionThreshold(double compactionThreshold) {
+            this.compactionThreshold = compactionThreshold;
+            return this;
+        }
+
+        @Override
+        public MappedDiskCache<K, V> build() {
+            return new MappedDiskCache<>(this);
+        }
+    }
+}
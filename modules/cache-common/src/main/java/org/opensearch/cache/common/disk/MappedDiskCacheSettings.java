@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.disk;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.common.settings.Setting.Property.NodeScope;
+
+/**
+ * Settings related to the memory mapped disk cache.
+ */
+public class MappedDiskCacheSettings {
+
+    /**
+     * Default cache size in bytes ie 1gb.
+     */
+    public static final long DEFAULT_CACHE_SIZE_IN_BYTES = 1073741824L;
+
+    /**
+     * Default size of the log files ie 64mb.
+     */
+    public static final ByteSizeValue DEFAULT_LOG_FILE_SIZE = new ByteSizeValue(64, ByteSizeUnit.MB);
+
+    /**
+     * Minimum size of the log files ie 4kb.
+     */
+    public static final ByteSizeValue MINIMUM_LOG_FILE_SIZE = new ByteSizeValue(4, ByteSizeUnit.KB);
+
+    /**
+     * Default share of live entries below which a log file is compacted.
+     */
+    public static final double DEFAULT_COMPACTION_THRESHOLD = 0.5;
+
+    /**
+     * Defines how many segments the disk cache is separated into. Every segment has its own log files and its own write lock, so a
+     * higher number allows more concurrent writes but keeps more files open.
+     *
+     * Setting pattern: {cache_type}.mmap_disk.segments
+     */
+    public static final Setting.AffixSetting<Integer> DISK_SEGMENTS_SETTING = Setting.suffixKeySetting(
+        MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME + ".segments",
+        (key) -> Setting.intSetting(key, 16, 1, 256, NodeScope)
+    );
+
+    /**
+     * Size of the log files that entries are appended to. Space is reclaimed one log file at a time, so smaller files release space
+     * more gradually but require more files. The log files are made smaller if needed so that every segment has at least four of them.
+     * An entry that does not fit in a log file is not cached.
+     *
+     * Setting pattern: {cache_type}.mmap_disk.log_file_size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> DISK_LOG_FILE_SIZE_SETTING = Setting.suffixKeySetting(
+        MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME + ".log_file_size",
+        (key) -> Setting.byteSizeSetting(
+            key,
+            DEFAULT_LOG_FILE_SIZE,
+            MINIMUM_LOG_FILE_SIZE,
+            new ByteSizeValue(1, ByteSizeUnit.GB),
+            NodeScope
+        )
+    );
+
+    /**
+     * Log files whose share of live entries drops below this ratio get their live entries copied to the current log file, and their
+     * space reclaimed, when the cache is refreshed.
+     *
+     * Setting pattern: {cache_type}.mmap_disk.compaction_threshold
+     */
+    public static final Setting.AffixSetting<Double> DISK_COMPACTION_THRESHOLD_SETTING = Setting.suffixKeySetting(
+        MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME + ".compaction_threshold",
+        (key) -> Setting.doubleSetting(key, DEFAULT_COMPACTION_THRESHOLD, 0.0, 1.0, NodeScope)
+    );
+
+    /**
+     * Storage path for disk cache.
+     */
+    public static final Setting.AffixSetting<String> DISK_STORAGE_PATH_SETTING = Setting.suffixKeySetting(
+        MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME + ".storage.path",
+        (key) -> Setting.simpleString(key, "", NodeScope)
+    );
+
+    /**
+     * Disk cache alias, the name of the directory of the cache under the storage path.
+     */
+    public static final Setting.AffixSetting<String> DISK_CACHE_ALIAS_SETTING = Setting.suffixKeySetting(
+        MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME + ".alias",
+        (key) -> Setting.simpleString(key, MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME, NodeScope)
+    );
+
+    /**
+     * Disk cache max size setting.
+     * If this cache is used as a tier in a TieredSpilloverCache, this setting is ignored.
+     */
+    public static final Setting.AffixSetting<Long> DISK_CACHE_MAX_SIZE_IN_BYTES_SETTING = Setting.suffixKeySetting(
+        MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME + ".max_size_in_bytes",
+        (key) -> Setting.longSetting(key, DEFAULT_CACHE_SIZE_IN_BYTES, NodeScope)
+    );
+
+    /**
+     * Key for disk segments.
+     */
+    public static final String DISK_SEGMENTS_KEY = "disk_segments";
+    /**
+     * Key for log file size.
+     */
+    public static final String DISK_LOG_FILE_SIZE_KEY = "disk_log_file_size";
+    /**
+     * Key for compaction threshold.
+     */
+    public static final String DISK_COMPACTION_THRESHOLD_KEY = "disk_compaction_threshold";
+    /**
+     * Key for storage path.
+     */
+    public static final String DISK_STORAGE_PATH_KEY = "disk_storage_path";
+    /**
+     * Key for cache alias.
+     */
+    public static final String DISK_CACHE_ALIAS_KEY = "disk_cache_alias";
+    /**
+     * Key for max size.
+     */
+    public static final String DISK_MAX_SIZE_IN_BYTES_KEY = "max_size_in_bytes";
+
+    /**
+     * Map of key to setting.
+     */
+    private static final Map<String, Setting.AffixSetting<?>> KEY_SETTING_MAP = Map.of(
+        DISK_SEGMENTS_KEY,
+        DISK_SEGMENTS_SETTING,
+        DISK_LOG_FILE_SIZE_KEY,
+        DISK_LOG_FILE_SIZE_SETTING,
+        DISK_COMPACTION_THRESHOLD_KEY,
+        DISK_COMPACTION_THRESHOLD_SETTING,
+        DISK_STORAGE_PATH_KEY,
+        DISK_STORAGE_PATH_SETTING,
+        DISK_CACHE_ALIAS_KEY,
+        DISK_CACHE_ALIAS_SETTING,
+        DISK_MAX_SIZE_IN_BYTES_KEY,
+        DISK_CACHE_MAX_SIZE_IN_BYTES_SETTING
+    );
+
+    /**
+     * Map to store desired settings for a cache type.
+     */
+    public static final Map<CacheType, Map<String, Setting<?>>> CACHE_TYPE_MAP = getCacheTypeMap();
+
+    /**
+     * Used to form concrete setting for cache types and return desired map
+     * @return map of cacheType and associated settings.
+     */
+    private static Map<CacheType, Map<String, Setting<?>>> getCacheTypeMap() {
+        Map<CacheType, Map<String, Setting<?>>> cacheTypeMap = new HashMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            Map<String, Setting<?>> settingMap = new HashMap<>();
+            for (Map.Entry<String, Setting.AffixSetting<?>> entry : KEY_SETTING_MAP.entrySet()) {
+                settingMap.put(entry.getKey(), entry.getValue().getConcreteSettingForNamespace(cacheType.getSettingPrefix()));
+            }
+            cacheTypeMap.put(cacheType, settingMap);
+        }
+        return cacheTypeMap;
+    }
+
+    /**
+     * Fetches setting list for a cache type.
+     * @param cacheType cache type
+     * @return settings
+     */
+    public static Map<String, Setting<?>> getSettingListForCacheType(CacheType cacheType) {
+        Map<String, Setting<?>> cacheTypeSettings = CACHE_TYPE_MAP.get(cacheType);
+        if (cacheTypeSettings == null) {
+            throw new IllegalArgumentException(
+                "No settings exist for cache store name: "
+                    + MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME
+                    + " associated with cache type: "
+                    + cacheType
+            );
+        }
+        return cacheTypeSettings;
+    }
+
+    /**
+     * Default constructor. Added to fix javadocs.
+     */
+    public MappedDiskCacheSettings() {}
+}
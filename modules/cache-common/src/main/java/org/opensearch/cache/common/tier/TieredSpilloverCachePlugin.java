@@ -8,6 +8,8 @@
 
 package org.opensearch.cache.common.tier;
 
+import org.opensearch.cache.common.disk.MappedDiskCache;
+import org.opensearch.cache.common.disk.MappedDiskCacheSettings;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.settings.Setting;
@@ -24,7 +26,7 @@ import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TOOK
 import static org.opensearch.cache.common.tier.TieredSpilloverCacheSettings.TOOK_TIME_POLICY_CONCRETE_SETTINGS_MAP;
 
 /**
- * Plugin for TieredSpilloverCache.
+ * Plugin for TieredSpilloverCache and the memory mapped disk cache that can be used as its disk tier.
  */
 public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
 
@@ -47,7 +49,9 @@ public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
     public Map<String, ICache.Factory> getCacheFactoryMap() {
         return Map.of(
             TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME,
-            new TieredSpilloverCache.TieredSpilloverCacheFactory()
+            new TieredSpilloverCache.TieredSpilloverCacheFactory(),
+            MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME,
+            new MappedDiskCache.MappedDiskCacheFactory()
         );
     }
 
@@ -73,6 +77,7 @@ public class TieredSpilloverCachePlugin extends Plugin implements CachePlugin {
             settingList.add(
                 TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_STORE_SIZE.getConcreteSettingForNamespace(cacheType.getSettingPrefix())
             );
+            settingList.addAll(MappedDiskCacheSettings.getSettingListForCacheType(cacheType).values());
         }
         return settingList;
     }
@@ -0,0 +1,530 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.disk;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongBiFunction;
+import java.util.stream.Stream;
+
+import static org.opensearch.cache.common.disk.MappedDiskCacheSettings.DISK_LOG_FILE_SIZE_KEY;
+import static org.opensearch.cache.common.disk.MappedDiskCacheSettings.DISK_MAX_SIZE_IN_BYTES_KEY;
+import static org.opensearch.cache.common.disk.MappedDiskCacheSettings.DISK_SEGMENTS_KEY;
+import static org.opensearch.cache.common.disk.MappedDiskCacheSettings.DISK_STORAGE_PATH_KEY;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class MappedDiskCacheTests extends OpenSearchTestCase {
+
+    private static final long CACHE_SIZE_IN_BYTES = 128 * 1024;
+    private static final ByteSizeValue LOG_FILE_SIZE = new ByteSizeValue(16, ByteSizeUnit.KB);
+    private static final String DIMENSION_NAME = "shard_id";
+
+    public void testBasicGetAndPut() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (MappedDiskCache<String, String> cache = buildCache(removalListener, randomIntBetween(1, 4))) {
+            int numberOfKeys = randomIntBetween(10, 100);
+            long expectedSize = 0;
+            Map<String, String> keyValueMap = new HashMap<>();
+            for (int i = 0; i < numberOfKeys; i++) {
+                keyValueMap.put("key_" + i, randomAlphaOfLength(randomIntBetween(1, 100)));
+            }
+            for (Map.Entry<String, String> entry : keyValueMap.entrySet()) {
+                ICacheKey<String> key = getICacheKey(entry.getKey());
+                cache.put(key, entry.getValue());
+                expectedSize += getWeigher().applyAsLong(key, entry.getValue());
+            }
+            for (Map.Entry<String, String> entry : keyValueMap.entrySet()) {
+                assertEquals(entry.getValue(), cache.get(getICacheKey(entry.getKey())));
+            }
+            int numberOfMisses = randomIntBetween(1, 50);
+            for (int i = 0; i < numberOfMisses; i++) {
+                assertNull(cache.get(getICacheKey("missing_" + i)));
+            }
+            assertEquals(numberOfKeys, cache.count());
+            assertEquals(numberOfKeys, cache.stats().getTotalItems());
+            assertEquals(numberOfKeys, cache.stats().getTotalHits());
+            assertEquals(numberOfMisses, cache.stats().getTotalMisses());
+            assertEquals(expectedSize, cache.stats().getTotalSizeInBytes());
+            assertTrue(removalListener.notifications.isEmpty());
+        }
+    }
+
+    public void testReplaceAndInvalidate() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (MappedDiskCache<String, String> cache = buildCache(removalListener, 1)) {
+            ICacheKey<String> key = getICacheKey("key");
+            cache.put(key, "value");
+            cache.put(key, "longer value");
+            assertEquals("longer value", cache.get(key));
+            assertEquals(1, cache.count());
+            assertEquals(getWeigher().applyAsLong(key, "longer value"), cache.stats().getTotalSizeInBytes());
+
+            cache.invalidate(key);
+            assertNull(cache.get(key));
+            assertEquals(0, cache.count());
+            assertEquals(0, cache.stats().getTotalSizeInBytes());
+            assertEquals(1, removalListener.notifications.size());
+            assertEquals("longer value", removalListener.notifications.get(0).getValue());
+            assertEquals(RemovalReason.EXPLICIT, removalListener.notifications.get(0).getRemovalReason());
+        }
+    }
+
+    public void testKeysIteratorAndRemove() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (MappedDiskCache<String, String> cache = buildCache(removalListener, randomIntBetween(1, 4))) {
+            int numberOfKeys = randomIntBetween(10, 100);
+            for (int i = 0; i < numberOfKeys; i++) {
+                cache.put(getICacheKey("key_" + i), "value_" + i);
+            }
+            List<String> keys = new ArrayList<>();
+            Iterator<ICacheKey<String>> iterator = cache.keys().iterator();
+            while (iterator.hasNext()) {
+                keys.add(iterator.next().key);
+                iterator.remove();
+            }
+            assertEquals(numberOfKeys, keys.size());
+            for (int i = 0; i < numberOfKeys; i++) {
+                assertTrue(keys.contains("key_" + i));
+            }
+            assertEquals(0, cache.count());
+            assertEquals(numberOfKeys, removalListener.notifications.size());
+            assertFalse(cache.keys().iterator().hasNext());
+        }
+    }
+
+    public void testEvictsOldestLogFile() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (MappedDiskCache<String, String> cache = buildCache(removalListener, 1)) {
+            String value = randomAlphaOfLength(1000);
+            int numberOfKeys = 500; // about four times the size of the cache
+            for (int i = 0; i < numberOfKeys; i++) {
+                cache.put(getICacheKey("key_" + i), value);
+            }
+            assertTrue(cache.numberOfLogFiles() <= CACHE_SIZE_IN_BYTES / cache.getLogFileSize());
+            assertFalse(removalListener.notifications.isEmpty());
+            for (RemovalNotification<ICacheKey<String>, String> notification : removalListener.notifications) {
+                assertEquals(RemovalReason.EVICTED, notification.getRemovalReason());
+                assertEquals(value, notification.getValue());
+            }
+            assertEquals(removalListener.notifications.size(), cache.stats().getTotalEvictions());
+            assertEquals(numberOfKeys - removalListener.notifications.size(), cache.count());
+            long expectedSize = 0;
+            for (ICacheKey<String> key : cache.keys()) {
+                expectedSize += getWeigher().applyAsLong(key, value);
+            }
+            assertEquals(expectedSize, cache.stats().getTotalSizeInBytes());
+            // the oldest entries got evicted first
+            assertNull(cache.get(getICacheKey("key_0")));
+            assertEquals(value, cache.get(getICacheKey("key_" + (numberOfKeys - 1))));
+        }
+    }
+
+    public void testCompactionOnRefresh() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (MappedDiskCache<String, String> cache = buildCache(removalListener, 1)) {
+            String value = randomAlphaOfLength(1000);
+            int numberOfKeys = 100;
+            for (int i = 0; i < numberOfKeys; i++) {
+                cache.put(getICacheKey("key_" + i), value);
+            }
+            int logFilesBeforeCompaction = cache.numberOfLogFiles();
+            assertTrue(logFilesBeforeCompaction > 1);
+            // leave one in ten entries alive
+            for (int i = 0; i < numberOfKeys; i++) {
+                if (i % 10 != 0) {
+                    cache.invalidate(getICacheKey("key_" + i));
+                }
+            }
+            cache.refresh();
+            assertBusy(() -> assertTrue(cache.numberOfLogFiles() < logFilesBeforeCompaction));
+            assertEquals(numberOfKeys / 10, cache.count());
+            for (int i = 0; i < numberOfKeys; i += 10) {
+                assertEquals(value, cache.get(getICacheKey("key_" + i)));
+            }
+            // compaction does not notify about the entries it moves
+            for (RemovalNotification<ICacheKey<String>, String> notification : removalListener.notifications) {
+                assertEquals(RemovalReason.EXPLICIT, notification.getRemovalReason());
+            }
+        }
+    }
+
+    public void testLogFilesAreSizedFromSegmentCapacity() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        long cacheSize = 1024 * 1024;
+        try (
+            MappedDiskCache<String, String> cache = (MappedDiskCache<String, String>) new MappedDiskCache.Builder<String, String>()
+                .setStoragePath(createTempDir().toString())
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new StringSerializer())
+                .setDimensionNames(List.of(DIMENSION_NAME))
+                .setLogFileSize(MappedDiskCacheSettings.DEFAULT_LOG_FILE_SIZE)
+                .setWeigher(getWeigher())
+                .setRemovalListener(removalListener)
+                .setStatsTrackingEnabled(true)
+                .setNumberOfSegments(1)
+                .setMaximumWeightInBytes(cacheSize)
+                .setSettings(Settings.EMPTY)
+                .build()
+        ) {
+            assertEquals(cacheSize / MappedDiskCache.MIN_LOG_FILES_PER_SEGMENT, cache.getLogFileSize());
+            String value = randomAlphaOfLength(1000);
+            int entryBytes = MappedDiskCache.HEADER_BYTES + value.length() + 10;
+            // write about three times the size of the cache, so that it rolls over many times
+            for (int i = 0; i < 3 * cacheSize / entryBytes; i++) {
+                cache.put(getICacheKey("key_" + i), value);
+            }
+            assertFalse(removalListener.notifications.isEmpty());
+            // a rollover only drops the oldest log file rather than all the entries of the segment
+            assertTrue(cache.count() * entryBytes >= cacheSize / 2);
+            assertTrue(cache.numberOfLogFiles() <= MappedDiskCache.MIN_LOG_FILES_PER_SEGMENT);
+        }
+    }
+
+    public void testTooManySegmentsForSize() {
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> new MappedDiskCache.Builder<String, String>().setStoragePath(createTempDir().toString())
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new StringSerializer())
+                .setDimensionNames(List.of(DIMENSION_NAME))
+                .setWeigher(getWeigher())
+                .setRemovalListener(new MockRemovalListener<>())
+                .setNumberOfSegments(16)
+                .setMaximumWeightInBytes(200 * 1024)
+                .build()
+        );
+        assertTrue(e.getMessage(), e.getMessage().contains("is too small for [16] segments"));
+    }
+
+    public void testDroppedLogFilesAreDeleted() throws Exception {
+        Path storagePath = createTempDir();
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (
+            MappedDiskCache<String, String> cache = (MappedDiskCache<String, String>) new MappedDiskCache.Builder<String, String>()
+                .setStoragePath(storagePath.toString())
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new StringSerializer())
+                .setDimensionNames(List.of(DIMENSION_NAME))
+                .setLogFileSize(LOG_FILE_SIZE)
+                .setWeigher(getWeigher())
+                .setRemovalListener(removalListener)
+                .setNumberOfSegments(randomIntBetween(1, 2))
+                .setMaximumWeightInBytes(CACHE_SIZE_IN_BYTES)
+                .setSettings(Settings.EMPTY)
+                .build()
+        ) {
+            String value = randomAlphaOfLength(1000);
+            for (int i = 0; i < 500; i++) {
+                cache.put(getICacheKey("key_" + i), value);
+            }
+            assertFalse(removalListener.notifications.isEmpty());
+            Path directory = storagePath.resolve(MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME);
+            try (Stream<Path> files = Files.list(directory)) {
+                assertEquals(cache.numberOfLogFiles(), files.count());
+            }
+        }
+    }
+
+    public void testConcurrentReadsWritesAndRollover() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (MappedDiskCache<String, String> cache = buildCache(removalListener, randomIntBetween(1, 4))) {
+            int numberOfKeys = 500; // about four times the size of the cache
+            int numberOfWriters = randomIntBetween(2, 4);
+            int numberOfReaders = randomIntBetween(2, 4);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger writersDone = new AtomicInteger();
+            List<Throwable> failures = new CopyOnWriteArrayList<>();
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < numberOfWriters; i++) {
+                threads.add(new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int iteration = 0; iteration < 3; iteration++) {
+                            for (int key = 0; key < numberOfKeys; key++) {
+                                if (key % 7 == 0) {
+                                    cache.invalidate(getICacheKey("key_" + key));
+                                } else {
+                                    cache.put(getICacheKey("key_" + key), valueOf(key));
+                                }
+                            }
+                            cache.refresh();
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    } finally {
+                        writersDone.incrementAndGet();
+                    }
+                }));
+            }
+            for (int i = 0; i < numberOfReaders; i++) {
+                Random random = new Random(randomLong());
+                threads.add(new Thread(() -> {
+                    try {
+                        start.await();
+                        while (writersDone.get() < numberOfWriters) {
+                            int key = random.nextInt(numberOfKeys);
+                            String value = cache.get(getICacheKey("key_" + key));
+                            // an entry is either gone or read in full, even while its log file is compacted or dropped
+                            if (value != null) {
+                                assertEquals(valueOf(key), value);
+                            }
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                }));
+            }
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertTrue(failures.toString(), failures.isEmpty());
+            cache.compact();
+            assertTrue(cache.numberOfLogFiles() <= CACHE_SIZE_IN_BYTES / cache.getLogFileSize());
+            for (int key = 0; key < numberOfKeys; key++) {
+                String value = cache.get(getICacheKey("key_" + key));
+                if (value != null) {
+                    assertEquals(valueOf(key), value);
+                }
+            }
+        }
+    }
+
+    public void testEntryLargerThanLogFileIsNotCached() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (MappedDiskCache<String, String> cache = buildCache(removalListener, 1)) {
+            ICacheKey<String> key = getICacheKey("key");
+            cache.put(key, randomAlphaOfLength((int) cache.getLogFileSize()));
+            assertNull(cache.get(key));
+            assertEquals(0, cache.count());
+        }
+    }
+
+    public void testComputeIfAbsentConcurrently() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (MappedDiskCache<String, String> cache = buildCache(removalListener, randomIntBetween(1, 4))) {
+            ICacheKey<String> key = getICacheKey("key");
+            AtomicInteger loads = new AtomicInteger();
+            int numberOfThreads = randomIntBetween(2, 8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            List<String> values = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < numberOfThreads; i++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        values.add(cache.computeIfAbsent(key, new LoadAwareCacheLoader<>() {
+                            boolean isLoaded;
+
+                            @Override
+                            public boolean isLoaded() {
+                                return isLoaded;
+                            }
+
+                            @Override
+                            public String load(ICacheKey<String> key) throws Exception {
+                                isLoaded = true;
+                                loads.incrementAndGet();
+                                Thread.sleep(10);
+                                return "value";
+                            }
+                        }));
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(numberOfThreads, values.size());
+            for (String value : values) {
+                assertEquals("value", value);
+            }
+            assertTrue(loads.get() >= 1);
+            assertEquals(1, cache.count());
+        }
+    }
+
+    public void testComputeIfAbsentWithLoaderException() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (MappedDiskCache<String, String> cache = buildCache(removalListener, 1)) {
+            LoadAwareCacheLoader<ICacheKey<String>, String> loader = new LoadAwareCacheLoader<>() {
+                @Override
+                public boolean isLoaded() {
+                    return false;
+                }
+
+                @Override
+                public String load(ICacheKey<String> key) {
+                    throw new IllegalStateException("failed to load");
+                }
+            };
+            ExecutionException e = expectThrows(ExecutionException.class, () -> cache.computeIfAbsent(getICacheKey("key"), loader));
+            assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+            assertEquals(0, cache.count());
+        }
+    }
+
+    public void testInvalidateAll() throws Exception {
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        try (MappedDiskCache<String, String> cache = buildCache(removalListener, randomIntBetween(1, 4))) {
+            for (int i = 0; i < 100; i++) {
+                cache.put(getICacheKey("key_" + i), "value_" + i);
+            }
+            cache.invalidateAll();
+            assertEquals(0, cache.count());
+            assertEquals(0, cache.numberOfLogFiles());
+            assertNull(cache.get(getICacheKey("key_0")));
+            cache.put(getICacheKey("key_0"), "value_0");
+            assertEquals("value_0", cache.get(getICacheKey("key_0")));
+        }
+    }
+
+    public void testCreateUsingFactoryAndClose() throws Exception {
+        Path storagePath = createTempDir();
+        MockRemovalListener<String, String> removalListener = new MockRemovalListener<>();
+        Map<String, Setting<?>> settingList = MappedDiskCacheSettings.getSettingListForCacheType(
+            CacheType.INDICES_REQUEST_CACHE
+        );
+        ICache.Factory factory = new MappedDiskCache.MappedDiskCacheFactory();
+        ICache<String, String> cache = factory.create(
+            new CacheConfig.Builder<String, String>().setValueType(String.class)
+                .setKeyType(String.class)
+                .setRemovalListener(removalListener)
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new StringSerializer())
+                .setDimensionNames(List.of(DIMENSION_NAME))
+                .setWeigher(getWeigher())
+                .setSettings(
+                    Settings.builder()
+                        .put(settingList.get(DISK_MAX_SIZE_IN_BYTES_KEY).getKey(), CACHE_SIZE_IN_BYTES)
+                        .put(settingList.get(DISK_SEGMENTS_KEY).getKey(), 2)
+                        .put(settingList.get(DISK_LOG_FILE_SIZE_KEY).getKey(), LOG_FILE_SIZE)
+                        .put(settingList.get(DISK_STORAGE_PATH_KEY).getKey(), storagePath.toString())
+                        .build()
+                )
+                .build(),
+            CacheType.INDICES_REQUEST_CACHE,
+            Map.of()
+        );
+        assertThat(cache, instanceOf(MappedDiskCache.class));
+        assertEquals(LOG_FILE_SIZE.getBytes(), ((MappedDiskCache<String, String>) cache).getLogFileSize());
+        cache.put(getICacheKey("key"), "value");
+        assertEquals("value", cache.get(getICacheKey("key")));
+
+        Path directory = storagePath.resolve(MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME);
+        assertTrue(Files.exists(directory));
+        cache.close();
+        assertFalse(Files.exists(directory));
+    }
+
+    public void testInvalidSize() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new MappedDiskCache.Builder<String, String>().setStoragePath(createTempDir().toString())
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new StringSerializer())
+                .setDimensionNames(List.of(DIMENSION_NAME))
+                .setWeigher(getWeigher())
+                .setRemovalListener(new MockRemovalListener<>())
+                .setMaximumWeightInBytes(MappedDiskCache.MINIMUM_MAX_SIZE_IN_BYTES)
+                .build()
+        );
+    }
+
+    private MappedDiskCache<String, String> buildCache(RemovalListener<ICacheKey<String>, String> removalListener, int segments) {
+        return (MappedDiskCache<String, String>) new MappedDiskCache.Builder<String, String>().setStoragePath(createTempDir().toString())
+            .setDiskCacheAlias(randomAlphaOfLength(5))
+            .setKeySerializer(new StringSerializer())
+            .setValueSerializer(new StringSerializer())
+            .setDimensionNames(List.of(DIMENSION_NAME))
+            .setLogFileSize(LOG_FILE_SIZE)
+            .setWeigher(getWeigher())
+            .setRemovalListener(removalListener)
+            .setStatsTrackingEnabled(true)
+            .setNumberOfSegments(segments)
+            .setMaximumWeightInBytes(CACHE_SIZE_IN_BYTES)
+            .setSettings(Settings.EMPTY)
+            .build();
+    }
+
+    private static String valueOf(int key) {
+        return String.valueOf((char) ('a' + key % 26)).repeat(200 + key % 800);
+    }
+
+    private ICacheKey<String> getICacheKey(String key) {
+        return new ICacheKey<>(key, List.of("0"));
+    }
+
+    private ToLongBiFunction<ICacheKey<String>, String> getWeigher() {
+        return (key, value) -> key.key.length() + value.length();
+    }
+
+    static class MockRemovalListener<K, V> implements RemovalListener<ICacheKey<K>, V> {
+        final List<RemovalNotification<ICacheKey<K>, V>> notifications = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onRemoval(RemovalNotification<ICacheKey<K>, V> notification) {
+            notifications.add(notification);
+        }
+    }
+
+    static class StringSerializer implements Serializer<String, byte[]> {
+        @Override
+        public byte[] serialize(String object) {
+            return object.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) {
+            if (bytes == null) {
+                return null;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean equals(String object, byte[] bytes) {
+            return object.equals(deserialize(bytes));
+        }
+    }
+}
@@ -9,6 +9,7 @@
 package org.opensearch.cache.common.tier;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.cache.common.disk.MappedDiskCache;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.cache.CacheType;
 import org.opensearch.common.cache.ICache;
@@ -303,6 +304,91 @@ public class TieredSpilloverCacheTests extends OpenSearchTestCase {
         assertEquals(expectedDiskEntries * keyValueSize, getSizeInBytesForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK));
     }
 
+    public void testComputeIfAbsentWithMappedDiskCache() throws Exception {
+        int onHeapCacheSize = 10;
+        int valueLength = 8 * 1024;
+        long diskCacheSize = MIN_DISK_CACHE_SIZE_IN_BYTES;
+        Settings settings = Settings.builder()
+            .put(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_ONHEAP_STORE_NAME.getConcreteSettingForNamespace(
+                    CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
+                ).getKey(),
+                OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME
+            )
+            .put(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_STORE_NAME.getConcreteSettingForNamespace(
+                    CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
+                ).getKey(),
+                MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME
+            )
+            .put(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_ONHEAP_STORE_SIZE.getConcreteSettingForNamespace(
+                    CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
+                ).getKey(),
+                onHeapCacheSize * valueLength + "b"
+            )
+            .put(
+                TieredSpilloverCacheSettings.TIERED_SPILLOVER_DISK_STORE_SIZE.getConcreteSettingForNamespace(
+                    CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()
+                ).getKey(),
+                diskCacheSize
+            )
+            .put(
+                CacheSettings.getConcreteStoreNameSettingForCacheType(CacheType.INDICES_REQUEST_CACHE).getKey(),
+                TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME
+            )
+            .put(TIERED_SPILLOVER_SEGMENTS.getConcreteSettingForNamespace(CacheType.INDICES_REQUEST_CACHE.getSettingPrefix()).getKey(), 1)
+            .build();
+        ICache<String, String> tieredSpilloverICache = new TieredSpilloverCache.TieredSpilloverCacheFactory().create(
+            new CacheConfig.Builder<String, String>().setKeyType(String.class)
+                .setValueType(String.class)
+                .setWeigher((k, v) -> valueLength)
+                .setRemovalListener(new MockCacheRemovalListener<>())
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new StringSerializer())
+                .setSettings(settings)
+                .setDimensionNames(dimensionNames)
+                // Values will always appear to have taken 2x the took time threshold to compute, so they will be admitted
+                .setCachedResultParser(s -> new CachedQueryResult.PolicyValues(DEFAULT_TOOK_TIME_DISK_THRESHOLD.getNanos() * 2))
+                .setClusterSettings(clusterSettings)
+                .setStoragePath(getStoragePath(settings))
+                .build(),
+            CacheType.INDICES_REQUEST_CACHE,
+            Map.of(
+                OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory.NAME,
+                new OpenSearchOnHeapCache.OpenSearchOnHeapCacheFactory(),
+                MappedDiskCache.MappedDiskCacheFactory.MAPPED_DISK_CACHE_NAME,
+                new MappedDiskCache.MappedDiskCacheFactory()
+            )
+        );
+        TieredSpilloverCache<String, String> tieredSpilloverCache = (TieredSpilloverCache<String, String>) tieredSpilloverICache;
+        Map<String, Tuple<String, Boolean>> keyValueMap = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        // spill about three times the size of the disk tier, so that the disk cache rolls over to new log files many times
+        int numberOfKeys = (int) (3 * diskCacheSize / valueLength);
+        for (int i = 0; i < numberOfKeys; i++) {
+            String key = UUID.randomUUID().toString();
+            keyValueMap.put(key, new Tuple<>(randomAlphaOfLength(valueLength), false));
+            keys.add(key);
+            tieredSpilloverCache.computeIfAbsent(getICacheKey(key), getLoadAwareCacheLoader(keyValueMap));
+            if (i % 100 == 0) {
+                tieredSpilloverCache.refresh();
+            }
+        }
+
+        assertEquals(numberOfKeys - onHeapCacheSize, getEvictionsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_ON_HEAP));
+        assertTrue(getEvictionsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK) > 0);
+        // a rollover only drops the oldest log file of the disk cache, most of the disk tier stays cached
+        assertTrue(getItemsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK) * valueLength >= diskCacheSize / 2);
+        // the most recently spilled entries are served from the disk tier
+        for (int i = numberOfKeys - onHeapCacheSize - 100; i < numberOfKeys - onHeapCacheSize; i++) {
+            String key = keys.get(i);
+            assertEquals(keyValueMap.get(key).v1(), tieredSpilloverCache.get(getICacheKey(key)));
+        }
+        assertTrue(getHitsForTier(tieredSpilloverCache, TIER_DIMENSION_VALUE_DISK) >= 100);
+        tieredSpilloverCache.close();
+    }
+
     public void testComputeIfAbsentWithSegmentedCache() throws Exception {
         int onHeapCacheSize = randomIntBetween(300, 600);
         int diskCacheSize = randomIntBetween(700, 1200);
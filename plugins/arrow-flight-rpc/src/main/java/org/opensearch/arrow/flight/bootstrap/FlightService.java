@@ -16,6 +16,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.arrow.flight.bootstrap.tls.DefaultSslContextProvider;
 import org.opensearch.arrow.flight.bootstrap.tls.SslContextProvider;
+import org.opensearch.arrow.flight.bulk.ArrowBulkPutHandler;
+import org.opensearch.arrow.flight.bulk.BulkPutAuthenticator;
+import org.opensearch.arrow.flight.bulk.BulkPutContextMiddleware;
 import org.opensearch.arrow.flight.impl.BaseFlightProducer;
 import org.opensearch.arrow.flight.impl.FlightStreamManager;
 import org.opensearch.arrow.spi.StreamManager;
@@ -54,6 +57,8 @@ public class FlightService extends AuxTransport {
     private SecureTransportSettingsProvider secureTransportSettingsProvider;
     private BufferAllocator allocator;
     private ThreadPool threadPool;
+    private BulkPutAuthenticator bulkPutAuthenticator;
+    private final boolean allowUnauthenticatedBulkPuts;
 
     /**
      * Constructor for FlightService.
@@ -62,6 +67,7 @@ public class FlightService extends AuxTransport {
     public FlightService(Settings settings) {
         Objects.requireNonNull(settings, "Settings cannot be null");
         this.serverComponents = new ServerComponents(settings);
+        this.allowUnauthenticatedBulkPuts = ArrowBulkPutHandler.ALLOW_UNAUTHENTICATED_SETTING.get(settings);
         this.streamManager = new FlightStreamManager();
     }
 
@@ -106,6 +112,14 @@ public class FlightService extends AuxTransport {
         this.client = client;
     }
 
+    /**
+     * Sets the authenticator of the callers of bulk puts.
+     * @param bulkPutAuthenticator The authenticator, bulk puts are rejected without one unless unauthenticated puts are allowed
+     */
+    public void setBulkPutAuthenticator(BulkPutAuthenticator bulkPutAuthenticator) {
+        this.bulkPutAuthenticator = bulkPutAuthenticator;
+    }
+
     /**
      * Sets the secure transport settings provider for the Flight service.
      * @param secureTransportSettingsProvider The secure transport settings provider
@@ -138,7 +152,13 @@ public class FlightService extends AuxTransport {
                 client
             );
             initializeStreamManager(clientManager);
-            serverComponents.setFlightProducer(new BaseFlightProducer(clientManager, streamManager, allocator));
+            final ArrowBulkPutHandler bulkPutHandler = client == null
+                ? null
+                : new ArrowBulkPutHandler(client, allocator, allowUnauthenticatedBulkPuts);
+            serverComponents.setBulkPutContextFactory(
+                new BulkPutContextMiddleware.Factory(threadPool.getThreadContext(), bulkPutAuthenticator)
+            );
+            serverComponents.setFlightProducer(new BaseFlightProducer(clientManager, streamManager, allocator, bulkPutHandler));
             serverComponents.start();
         } catch (Exception e) {
             logger.error("Failed to start Flight server", e);
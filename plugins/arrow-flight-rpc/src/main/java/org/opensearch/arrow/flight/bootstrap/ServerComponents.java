@@ -17,6 +17,7 @@ import org.apache.arrow.util.AutoCloseables;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.arrow.flight.bootstrap.tls.SslContextProvider;
+import org.opensearch.arrow.flight.bulk.BulkPutContextMiddleware;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.network.NetworkService;
@@ -131,6 +132,7 @@ public final class ServerComponents implements AutoCloseable {
     private ThreadPool threadPool;
     private SslContextProvider sslContextProvider;
     private FlightProducer flightProducer;
+    private BulkPutContextMiddleware.Factory bulkPutContextFactory;
 
     private EventLoopGroup bossEventLoopGroup;
     EventLoopGroup workerEventLoopGroup;
@@ -172,8 +174,12 @@ public final class ServerComponents implements AutoCloseable {
         this.flightProducer = Objects.requireNonNull(flightProducer);
     }
 
+    void setBulkPutContextFactory(BulkPutContextMiddleware.Factory bulkPutContextFactory) {
+        this.bulkPutContextFactory = bulkPutContextFactory;
+    }
+
     private FlightServer buildAndStartServer(Location location, FlightProducer producer) throws IOException {
-        FlightServer server = OSFlightServer.builder()
+        OSFlightServer.Builder builder = OSFlightServer.builder()
             .allocator(allocator)
             .location(location)
             .producer(producer)
@@ -181,8 +187,11 @@ public final class ServerComponents implements AutoCloseable {
             .channelType(ServerConfig.serverChannelType())
             .bossEventLoopGroup(bossEventLoopGroup)
             .workerEventLoopGroup(workerEventLoopGroup)
-            .executor(grpcExecutor)
-            .build();
+            .executor(grpcExecutor);
+        if (bulkPutContextFactory != null) {
+            builder.middleware(BulkPutContextMiddleware.KEY, bulkPutContextFactory);
+        }
+        FlightServer server = builder.build();
         AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
             try {
                 server.start();
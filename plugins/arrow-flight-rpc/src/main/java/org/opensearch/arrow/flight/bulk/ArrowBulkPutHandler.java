@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.flight.CallStatus;
+import org.apache.arrow.flight.FlightDescriptor;
+import org.apache.arrow.flight.FlightProducer.CallContext;
+import org.apache.arrow.flight.FlightProducer.StreamListener;
+import org.apache.arrow.flight.FlightRuntimeException;
+import org.apache.arrow.flight.FlightStream;
+import org.apache.arrow.flight.PutResult;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentHelper;
+import org.opensearch.transport.client.Client;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+
+/**
+ * Indexes the record batches of bulk puts whose descriptor has the path {@code [_bulk, <index>]}.
+ * <p>
+ * The bulk requests of a put run in the thread context that {@link BulkPutContextMiddleware} captured once the installed
+ * {@link BulkPutAuthenticator} authenticated the caller, so they are authorized like any other request of that caller. Puts are
+ * rejected when no authenticator is installed, unless {@link #ALLOW_UNAUTHENTICATED_SETTING} is set on a node without security.
+ * <p>
+ * Every record batch is converted into a bulk request, see {@link ArrowBulkRequestConverter}, and indexed asynchronously while the
+ * next batch is read and converted. Arrow Flight closes the stream of a put once the producer returns, so the thread reading the
+ * stream only waits for the oldest batch when {@link #MAX_IN_FLIGHT_BATCHES} batches are being indexed, which back pressures the
+ * client by the indexing throughput. The JSON bulk response of each batch is sent back in order as the application metadata of a
+ * {@link PutResult}.
+ */
+public final class ArrowBulkPutHandler {
+
+    private static final Logger logger = LogManager.getLogger(ArrowBulkPutHandler.class);
+
+    /** Whether bulk puts are accepted when no {@link BulkPutAuthenticator} is installed, only meant for nodes without security. */
+    public static final Setting<Boolean> ALLOW_UNAUTHENTICATED_SETTING = Setting.boolSetting(
+        "flight.bulk.allow_unauthenticated",
+        false,
+        Setting.Property.NodeScope
+    );
+
+    static final int MAX_IN_FLIGHT_BATCHES = 2;
+
+    private final Client client;
+    private final BufferAllocator allocator;
+    private final boolean allowUnauthenticated;
+
+    /**
+     * Creates the handler of bulk puts.
+     * @param client the client indexing the record batches
+     * @param allocator the allocator of the acknowledgement buffers
+     * @param allowUnauthenticated whether puts are accepted from callers that no authenticator authenticated
+     */
+    public ArrowBulkPutHandler(Client client, BufferAllocator allocator, boolean allowUnauthenticated) {
+        this.client = Objects.requireNonNull(client);
+        this.allocator = Objects.requireNonNull(allocator);
+        this.allowUnauthenticated = allowUnauthenticated;
+    }
+
+    /**
+     * Indexes the record batches of a put and completes its acknowledgement stream, it returns once the put is completed.
+     * @param context the call context
+     * @param flightStream the stream of record batches to index
+     * @param ackStream the stream receiving the bulk response of each batch
+     */
+    public void handle(CallContext context, FlightStream flightStream, StreamListener<PutResult> ackStream) {
+        try {
+            final BulkPutContextMiddleware callContext = context.getMiddleware(BulkPutContextMiddleware.KEY);
+            if (callContext == null || (callContext.isAuthenticated() == false && allowUnauthenticated == false)) {
+                throw CallStatus.UNAUTHENTICATED.withDescription("Bulk puts require an authenticated caller").toRuntimeException();
+            }
+            final ArrowBulkRequestConverter converter = parseBulkDescriptor(flightStream.getDescriptor());
+            final Deque<PlainActionFuture<BulkResponse>> inFlight = new ArrayDeque<>(MAX_IN_FLIGHT_BATCHES);
+            while (flightStream.next()) {
+                if (context.isCancelled()) {
+                    throw CallStatus.CANCELLED.withDescription("Bulk put cancelled by client").toRuntimeException();
+                }
+                final BulkRequest bulkRequest = convertBatch(converter, flightStream.getRoot());
+                if (bulkRequest.numberOfActions() == 0) {
+                    continue;
+                }
+                final PlainActionFuture<BulkResponse> response = PlainActionFuture.newFuture();
+                try (ThreadContext.StoredContext ignored = callContext.restoreCallContext()) {
+                    client.bulk(bulkRequest, response);
+                }
+                inFlight.add(response);
+                if (inFlight.size() == MAX_IN_FLIGHT_BATCHES) {
+                    acknowledge(inFlight.poll().actionGet(), ackStream);
+                }
+            }
+            while (inFlight.isEmpty() == false) {
+                acknowledge(inFlight.poll().actionGet(), ackStream);
+            }
+            ackStream.onCompleted();
+        } catch (FlightRuntimeException ex) {
+            ackStream.onError(ex);
+        } catch (Exception ex) {
+            logger.error("Unexpected error during bulk put", ex);
+            ackStream.onError(
+                CallStatus.INTERNAL.withCause(ex).withDescription("Bulk put failed: " + ex.getMessage()).toRuntimeException()
+            );
+        }
+    }
+
+    private void acknowledge(BulkResponse bulkResponse, StreamListener<PutResult> ackStream) throws IOException {
+        final BytesReference bytes = XContentHelper.toXContent(bulkResponse, XContentType.JSON, ToXContent.EMPTY_PARAMS, false);
+        final byte[] metadata = BytesReference.toBytes(bytes);
+        final ArrowBuf buffer = allocator.buffer(metadata.length);
+        buffer.writeBytes(metadata);
+        try (PutResult result = PutResult.metadata(buffer)) {
+            ackStream.onNext(result);
+        }
+    }
+
+    private static ArrowBulkRequestConverter parseBulkDescriptor(FlightDescriptor descriptor) {
+        try {
+            return ArrowBulkRequestConverter.fromDescriptor(descriptor);
+        } catch (IllegalArgumentException e) {
+            throw CallStatus.INVALID_ARGUMENT.withCause(e).withDescription(e.getMessage()).toRuntimeException();
+        }
+    }
+
+    private static BulkRequest convertBatch(ArrowBulkRequestConverter converter, VectorSchemaRoot root) throws IOException {
+        try {
+            return converter.convert(root);
+        } catch (IllegalArgumentException e) {
+            throw CallStatus.INVALID_ARGUMENT.withCause(e).withDescription(e.getMessage()).toRuntimeException();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.flight.FlightDescriptor;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateMilliVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.LargeVarCharVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.TimeStampMilliVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Converts Arrow record batches into bulk index requests.
+ * <p>
+ * The batch is walked column by column: every column is read once with the accessor of its vector type and its values are appended
+ * to the binary (SMILE) sources of all rows. This saves producing JSON text on the client and splitting a bulk body into lines on the
+ * node, it is not zero copy though: the SMILE sources are still parsed by the document parser when the documents are indexed.
+ * The top level columns of the schema are the fields of the documents, null values are omitted. The reserved columns {@link #ID_COLUMN}
+ * and {@link #ROUTING_COLUMN} are not part of the source, they hold the id and routing of each document instead.
+ */
+public final class ArrowBulkRequestConverter {
+
+    /** The first path element of the {@link FlightDescriptor} of a bulk put, the second one is the target index. */
+    public static final String BULK_PATH = "_bulk";
+
+    /** Optional utf8 column holding the id of each document, documents with a null id get an auto-generated one. */
+    public static final String ID_COLUMN = "_id";
+
+    /** Optional utf8 column holding the routing of each document. */
+    public static final String ROUTING_COLUMN = "_routing";
+
+    private final String index;
+
+    /**
+     * Creates a converter of record batches into index requests for the given index.
+     * @param index the target index
+     */
+    public ArrowBulkRequestConverter(String index) {
+        this.index = Objects.requireNonNull(index, "index must not be null");
+    }
+
+    /**
+     * Creates a converter for the index targeted by a bulk put descriptor of the form {@code [_bulk, <index>]}.
+     * @param descriptor the descriptor of the put
+     * @return the converter for the target index
+     */
+    public static ArrowBulkRequestConverter fromDescriptor(FlightDescriptor descriptor) {
+        if (descriptor.isCommand()) {
+            throw new IllegalArgumentException("bulk puts must use a path descriptor of the form [" + BULK_PATH + ", <index>]");
+        }
+        final List<String> path = descriptor.getPath();
+        if (path.size() != 2 || BULK_PATH.equals(path.get(0)) == false || path.get(1).isEmpty()) {
+            throw new IllegalArgumentException(
+                "bulk puts must use a path descriptor of the form [" + BULK_PATH + ", <index>], got " + path
+            );
+        }
+        return new ArrowBulkRequestConverter(path.get(1));
+    }
+
+    /**
+     * Returns the target index of the converted requests.
+     * @return the index name
+     */
+    public String index() {
+        return index;
+    }
+
+    /**
+     * Converts the current record batch of the given root into a bulk request holding one index request per row.
+     * @param root the root holding the record batch
+     * @return the bulk request
+     * @throws IOException if a source cannot be built
+     */
+    public BulkRequest convert(VectorSchemaRoot root) throws IOException {
+        final int rows = root.getRowCount();
+        final XContentBuilder[] sources = new XContentBuilder[rows];
+        for (int row = 0; row < rows; row++) {
+            sources[row] = XContentFactory.smileBuilder().startObject();
+        }
+
+        VarCharVector ids = null;
+        VarCharVector routings = null;
+        for (FieldVector vector : root.getFieldVectors()) {
+            final String name = vector.getName();
+            if (ID_COLUMN.equals(name)) {
+                ids = metadataColumn(vector);
+            } else if (ROUTING_COLUMN.equals(name)) {
+                routings = metadataColumn(vector);
+            } else {
+                final ColumnWriter writer = writer(vector);
+                for (int row = 0; row < rows; row++) {
+                    if (vector.isNull(row) == false) {
+                        writer.write(sources[row].field(name), row);
+                    }
+                }
+            }
+        }
+
+        final BulkRequest bulkRequest = new BulkRequest();
+        for (int row = 0; row < rows; row++) {
+            final IndexRequest indexRequest = new IndexRequest(index).source(sources[row].endObject());
+            if (ids != null && ids.isNull(row) == false) {
+                indexRequest.id(new String(ids.get(row), StandardCharsets.UTF_8));
+            }
+            if (routings != null && routings.isNull(row) == false) {
+                indexRequest.routing(new String(routings.get(row), StandardCharsets.UTF_8));
+            }
+            bulkRequest.add(indexRequest);
+        }
+        return bulkRequest;
+    }
+
+    private static VarCharVector metadataColumn(FieldVector vector) {
+        if (vector instanceof VarCharVector == false) {
+            throw new IllegalArgumentException(
+                "column [" + vector.getName() + "] must be of type [Utf8] but was [" + vector.getField().getType() + "]"
+            );
+        }
+        return (VarCharVector) vector;
+    }
+
+    /**
+     * Appends the value of a single row of a column to a source.
+     */
+    @FunctionalInterface
+    private interface ColumnWriter {
+        void write(XContentBuilder builder, int row) throws IOException;
+    }
+
+    private static ColumnWriter writer(FieldVector vector) {
+        if (vector instanceof BitVector bits) {
+            return (builder, row) -> builder.value(bits.get(row) != 0);
+        } else if (vector instanceof TinyIntVector tinyInts) {
+            return (builder, row) -> builder.value(tinyInts.get(row));
+        } else if (vector instanceof SmallIntVector smallInts) {
+            return (builder, row) -> builder.value(smallInts.get(row));
+        } else if (vector instanceof IntVector ints) {
+            return (builder, row) -> builder.value(ints.get(row));
+        } else if (vector instanceof BigIntVector longs) {
+            return (builder, row) -> builder.value(longs.get(row));
+        } else if (vector instanceof Float4Vector floats) {
+            return (builder, row) -> builder.value(floats.get(row));
+        } else if (vector instanceof Float8Vector doubles) {
+            return (builder, row) -> builder.value(doubles.get(row));
+        } else if (vector instanceof VarCharVector strings) {
+            return (builder, row) -> {
+                final byte[] bytes = strings.get(row);
+                builder.utf8Value(bytes, 0, bytes.length);
+            };
+        } else if (vector instanceof LargeVarCharVector strings) {
+            return (builder, row) -> {
+                final byte[] bytes = strings.get(row);
+                builder.utf8Value(bytes, 0, bytes.length);
+            };
+        } else if (vector instanceof VarBinaryVector binaries) {
+            return (builder, row) -> builder.value(binaries.get(row));
+        } else if (vector instanceof TimeStampMilliVector timestamps) {
+            // epoch millis are accepted by the default format of date fields
+            return (builder, row) -> builder.value(timestamps.get(row));
+        } else if (vector instanceof TimeStampMilliTZVector timestamps) {
+            return (builder, row) -> builder.value(timestamps.get(row));
+        } else if (vector instanceof DateMilliVector dates) {
+            return (builder, row) -> builder.value(dates.get(row));
+        }
+        throw new IllegalArgumentException("column [" + vector.getName() + "] has unsupported type [" + vector.getField().getType() + "]");
+    }
+}
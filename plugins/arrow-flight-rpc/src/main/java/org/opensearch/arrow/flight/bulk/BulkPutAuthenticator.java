@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.flight.CallHeaders;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+/**
+ * Authenticates the callers of Arrow Flight bulk puts. Security plugins provide an implementation as an extension of the
+ * arrow-flight-rpc plugin, at most one implementation may be installed.
+ */
+public interface BulkPutAuthenticator {
+
+    /**
+     * Authenticates the caller of a bulk put from the headers of its call and puts what identifies the caller, like the authenticated
+     * user, into the given thread context. It is called with an empty thread context when the call starts, the bulk requests of the
+     * put are executed in the resulting context.
+     * @param headers the headers of the put call
+     * @param threadContext the thread context the bulk requests of the put are executed in
+     * @throws org.apache.arrow.flight.FlightRuntimeException with the status {@code UNAUTHENTICATED} if the caller cannot be
+     * authenticated
+     */
+    void authenticate(CallHeaders headers, ThreadContext threadContext);
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.flight.CallHeaders;
+import org.apache.arrow.flight.CallInfo;
+import org.apache.arrow.flight.CallStatus;
+import org.apache.arrow.flight.FlightMethod;
+import org.apache.arrow.flight.FlightServerMiddleware;
+import org.apache.arrow.flight.RequestContext;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Captures the thread context of a put call once its caller was authenticated by the {@link BulkPutAuthenticator}, so that the bulk
+ * requests of the put run as the caller rather than in the context of the thread that happens to read the stream.
+ */
+public final class BulkPutContextMiddleware implements FlightServerMiddleware {
+
+    /** The key of this middleware, the producer retrieves the middleware of a call with it. */
+    public static final Key<BulkPutContextMiddleware> KEY = Key.of("opensearch-bulk-put-context");
+
+    // the middleware of calls that are not puts, they do not execute requests in the context of the caller
+    private static final BulkPutContextMiddleware NOT_A_PUT = new BulkPutContextMiddleware(() -> {
+        throw new IllegalStateException("only put calls capture the context of their caller");
+    }, false);
+
+    private final Supplier<ThreadContext.StoredContext> callContext;
+    private final boolean authenticated;
+
+    private BulkPutContextMiddleware(Supplier<ThreadContext.StoredContext> callContext, boolean authenticated) {
+        this.callContext = callContext;
+        this.authenticated = authenticated;
+    }
+
+    /**
+     * Returns whether the caller was authenticated.
+     * @return {@code true} if an authenticator accepted the caller
+     */
+    public boolean isAuthenticated() {
+        return authenticated;
+    }
+
+    /**
+     * Restores the thread context of the call, the returned context restores the context of the current thread once closed.
+     * @return the context to close once the request is sent
+     */
+    public ThreadContext.StoredContext restoreCallContext() {
+        return callContext.get();
+    }
+
+    @Override
+    public void onBeforeSendingHeaders(CallHeaders outgoingHeaders) {}
+
+    @Override
+    public void onCallCompleted(CallStatus status) {}
+
+    @Override
+    public void onCallErrored(Throwable err) {}
+
+    /**
+     * Creates the middleware of calls, only put calls capture the context of their caller.
+     */
+    public static final class Factory implements FlightServerMiddleware.Factory<BulkPutContextMiddleware> {
+
+        private final ThreadContext threadContext;
+        private final BulkPutAuthenticator authenticator;
+
+        /**
+         * Creates the factory.
+         * @param threadContext the thread context of the node
+         * @param authenticator the authenticator of the callers, {@code null} if none is installed
+         */
+        public Factory(ThreadContext threadContext, @Nullable BulkPutAuthenticator authenticator) {
+            this.threadContext = Objects.requireNonNull(threadContext);
+            this.authenticator = authenticator;
+        }
+
+        @Override
+        public BulkPutContextMiddleware onCallStarted(CallInfo info, CallHeaders incomingHeaders, RequestContext context) {
+            if (info.method() != FlightMethod.DO_PUT) {
+                return NOT_A_PUT;
+            }
+            // an authenticator that throws rejects the call before the producer sees it
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                if (authenticator != null) {
+                    authenticator.authenticate(incomingHeaders, threadContext);
+                }
+                return new BulkPutContextMiddleware(threadContext.newRestorableContext(false), authenticator != null);
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+/**
+ * Columnar bulk ingestion of Arrow record batches received through Arrow Flight puts.
+ */
+package org.opensearch.arrow.flight.bulk;
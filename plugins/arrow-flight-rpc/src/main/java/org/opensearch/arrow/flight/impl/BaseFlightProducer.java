@@ -18,12 +18,14 @@ import org.apache.arrow.flight.FlightRuntimeException;
 import org.apache.arrow.flight.FlightStream;
 import org.apache.arrow.flight.Location;
 import org.apache.arrow.flight.NoOpFlightProducer;
+import org.apache.arrow.flight.PutResult;
 import org.apache.arrow.flight.Ticket;
 import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.arrow.flight.bootstrap.FlightClientManager;
+import org.opensearch.arrow.flight.bulk.ArrowBulkPutHandler;
 import org.opensearch.arrow.spi.StreamProducer;
 import org.opensearch.arrow.spi.StreamTicket;
 
@@ -47,18 +49,37 @@ public class BaseFlightProducer extends NoOpFlightProducer {
     private final FlightClientManager flightClientManager;
     private final FlightStreamManager streamManager;
     private final BufferAllocator allocator;
+    private final ArrowBulkPutHandler bulkPutHandler;
 
     /**
-     * Constructs a new BaseFlightProducer.
+     * Constructs a new BaseFlightProducer that does not accept bulk puts.
      *
      * @param flightClientManager The manager for handling client connections
      * @param streamManager The manager for stream operations
      * @param allocator The buffer allocator for Arrow memory management
      */
     public BaseFlightProducer(FlightClientManager flightClientManager, FlightStreamManager streamManager, BufferAllocator allocator) {
+        this(flightClientManager, streamManager, allocator, null);
+    }
+
+    /**
+     * Constructs a new BaseFlightProducer.
+     *
+     * @param flightClientManager The manager for handling client connections
+     * @param streamManager The manager for stream operations
+     * @param allocator The buffer allocator for Arrow memory management
+     * @param bulkPutHandler The handler indexing the record batches of bulk puts, bulk puts are rejected if null
+     */
+    public BaseFlightProducer(
+        FlightClientManager flightClientManager,
+        FlightStreamManager streamManager,
+        BufferAllocator allocator,
+        ArrowBulkPutHandler bulkPutHandler
+    ) {
         this.flightClientManager = flightClientManager;
         this.streamManager = streamManager;
         this.allocator = allocator;
+        this.bulkPutHandler = bulkPutHandler;
     }
 
     /**
@@ -89,6 +110,25 @@ public class BaseFlightProducer extends NoOpFlightProducer {
         }
     }
 
+    /**
+     * Indexes the record batches of a bulk put whose descriptor has the path {@code [_bulk, <index>]}, see
+     * {@link ArrowBulkPutHandler}. Puts are rejected if the producer has no bulk put handler.
+     * @param context The call context
+     * @param flightStream The stream of record batches to index
+     * @param ackStream The stream receiving the bulk response of each batch
+     * @return the runnable indexing the stream
+     */
+    @Override
+    public Runnable acceptPut(CallContext context, FlightStream flightStream, StreamListener<PutResult> ackStream) {
+        return () -> {
+            if (bulkPutHandler == null) {
+                ackStream.onError(CallStatus.UNIMPLEMENTED.withDescription("Bulk puts are not supported").toRuntimeException());
+            } else {
+                bulkPutHandler.handle(context, flightStream, ackStream);
+            }
+        };
+    }
+
     /**
      * Retrieves FlightInfo for a given descriptor, handling both local and remote cases.
      * The descriptor's command is expected to contain a serialized StreamTicket.
@@ -17,6 +17,8 @@ import org.opensearch.arrow.flight.bootstrap.ServerComponents;
 import org.opensearch.arrow.flight.bootstrap.ServerConfig;
 import org.opensearch.arrow.flight.bootstrap.tls.DefaultSslContextProvider;
 import org.opensearch.arrow.flight.bootstrap.tls.SslContextProvider;
+import org.opensearch.arrow.flight.bulk.ArrowBulkPutHandler;
+import org.opensearch.arrow.flight.bulk.BulkPutAuthenticator;
 import org.opensearch.arrow.flight.stats.FlightStatsAction;
 import org.opensearch.arrow.flight.stats.FlightStatsCollector;
 import org.opensearch.arrow.flight.stats.FlightStatsRestHandler;
@@ -335,6 +337,21 @@ public class FlightStreamPlugin extends Plugin
         return isArrowStreamsEnabled ? Optional.ofNullable(flightService.getStreamManager()) : Optional.empty();
     }
 
+    /**
+     * Loads the {@link BulkPutAuthenticator} a security plugin may provide for Arrow bulk puts.
+     * @param loader The extension loader
+     */
+    @Override
+    public void loadExtensions(ExtensionLoader loader) {
+        List<BulkPutAuthenticator> authenticators = loader.loadExtensions(BulkPutAuthenticator.class);
+        if (authenticators.size() > 1) {
+            throw new IllegalStateException("At most one BulkPutAuthenticator may be installed, found " + authenticators.size());
+        }
+        if (isArrowStreamsEnabled && authenticators.isEmpty() == false) {
+            flightService.setBulkPutAuthenticator(authenticators.get(0));
+        }
+    }
+
     /**
      * Gets the list of ExecutorBuilder instances for building thread pools used for FlightServer.
      * @param settings The settings for the plugin
@@ -364,7 +381,8 @@ public class FlightStreamPlugin extends Plugin
                 ServerComponents.SETTING_FLIGHT_PORTS,
                 ServerComponents.SETTING_FLIGHT_HOST,
                 ServerComponents.SETTING_FLIGHT_BIND_HOST,
-                ServerComponents.SETTING_FLIGHT_PUBLISH_HOST
+                ServerComponents.SETTING_FLIGHT_PUBLISH_HOST,
+                ArrowBulkPutHandler.ALLOW_UNAUTHENTICATED_SETTING
             )
         ) {
             {
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.flight.CallHeaders;
+import org.apache.arrow.flight.CallStatus;
+import org.apache.arrow.flight.FlightCallHeaders;
+import org.apache.arrow.flight.FlightClient;
+import org.apache.arrow.flight.FlightDescriptor;
+import org.apache.arrow.flight.FlightRuntimeException;
+import org.apache.arrow.flight.FlightServer;
+import org.apache.arrow.flight.FlightStatusCode;
+import org.apache.arrow.flight.HeaderCallOption;
+import org.apache.arrow.flight.Location;
+import org.apache.arrow.flight.PutResult;
+import org.apache.arrow.flight.SyncPutListener;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.bulk.BulkAction;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.arrow.flight.bootstrap.FlightClientManager;
+import org.opensearch.arrow.flight.impl.BaseFlightProducer;
+import org.opensearch.arrow.flight.impl.FlightStreamManager;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.client.NoOpClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.mockito.Mockito.mock;
+
+public class ArrowBulkPutHandlerTests extends OpenSearchTestCase {
+
+    private static final String USER_TRANSIENT = "_test_user";
+    private static final String TOKEN = "secret-token";
+
+    private BufferAllocator allocator;
+    private RecordingClient client;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        allocator = new RootAllocator(Long.MAX_VALUE);
+        client = new RecordingClient(getTestName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        client.close();
+        allocator.close();
+        super.tearDown();
+    }
+
+    public void testPutIndexesBatchesAsAuthenticatedCaller() throws Exception {
+        final int batches = randomIntBetween(1, 5);
+        try (FlightServer server = startServer(new TokenAuthenticator(), false); FlightClient flightClient = connect(server)) {
+            final List<String> acks = put(flightClient, TOKEN, batches);
+            assertEquals(batches, acks.size());
+            for (String ack : acks) {
+                assertTrue(ack, ack.contains("\"errors\":false"));
+            }
+        }
+        assertEquals(batches, client.requests.size());
+        for (BulkRequest request : client.requests) {
+            assertEquals(3, request.numberOfActions());
+            assertEquals("logs", request.requests().get(0).index());
+        }
+        assertEquals(batches, client.users.size());
+        for (String user : client.users) {
+            assertEquals("alice", user);
+        }
+        // the context of the caller must not leak into the context of the threads reading the streams
+        assertNull(client.threadPool().getThreadContext().getTransient(USER_TRANSIENT));
+    }
+
+    public void testPutRejectedByAuthenticator() throws Exception {
+        try (FlightServer server = startServer(new TokenAuthenticator(), false); FlightClient flightClient = connect(server)) {
+            FlightRuntimeException e = expectThrows(FlightRuntimeException.class, () -> put(flightClient, "wrong-token", 1));
+            assertEquals(FlightStatusCode.UNAUTHENTICATED, e.status().code());
+        }
+        assertTrue(client.requests.isEmpty());
+    }
+
+    public void testPutRejectedWithoutAuthenticator() throws Exception {
+        try (FlightServer server = startServer(null, false); FlightClient flightClient = connect(server)) {
+            FlightRuntimeException e = expectThrows(FlightRuntimeException.class, () -> put(flightClient, TOKEN, 1));
+            assertEquals(FlightStatusCode.UNAUTHENTICATED, e.status().code());
+        }
+        assertTrue(client.requests.isEmpty());
+    }
+
+    public void testUnauthenticatedPutWhenAllowed() throws Exception {
+        try (FlightServer server = startServer(null, true); FlightClient flightClient = connect(server)) {
+            assertEquals(1, put(flightClient, null, 1).size());
+        }
+        assertEquals(1, client.requests.size());
+        assertNull(client.users.get(0));
+    }
+
+    private FlightServer startServer(BulkPutAuthenticator authenticator, boolean allowUnauthenticated) throws Exception {
+        final ArrowBulkPutHandler handler = new ArrowBulkPutHandler(client, allocator, allowUnauthenticated);
+        final BaseFlightProducer producer = new BaseFlightProducer(
+            mock(FlightClientManager.class),
+            mock(FlightStreamManager.class),
+            allocator,
+            handler
+        );
+        final ThreadContext threadContext = client.threadPool().getThreadContext();
+        return FlightServer.builder(allocator, Location.forGrpcInsecure("localhost", 0), producer)
+            .middleware(BulkPutContextMiddleware.KEY, new BulkPutContextMiddleware.Factory(threadContext, authenticator))
+            .build()
+            .start();
+    }
+
+    private FlightClient connect(FlightServer server) {
+        return FlightClient.builder(allocator, Location.forGrpcInsecure("localhost", server.getPort())).build();
+    }
+
+    private List<String> put(FlightClient flightClient, String token, int batches) throws Exception {
+        final FlightCallHeaders headers = new FlightCallHeaders();
+        if (token != null) {
+            headers.insert("authorization", token);
+        }
+        final List<String> acks = new CopyOnWriteArrayList<>();
+        try (
+            VarCharVector messages = new VarCharVector("message", allocator);
+            VectorSchemaRoot root = VectorSchemaRoot.of(messages);
+            SyncPutListener listener = new SyncPutListener()
+        ) {
+            final FlightClient.ClientStreamListener writer = flightClient.startPut(
+                FlightDescriptor.path(ArrowBulkRequestConverter.BULK_PATH, "logs"),
+                root,
+                listener,
+                new HeaderCallOption(headers)
+            );
+            for (int batch = 0; batch < batches; batch++) {
+                messages.allocateNew(3);
+                for (int row = 0; row < 3; row++) {
+                    messages.setSafe(row, ("message " + batch + "-" + row).getBytes(StandardCharsets.UTF_8));
+                }
+                root.setRowCount(3);
+                writer.putNext();
+            }
+            writer.completed();
+            writer.getResult();
+            PutResult result;
+            while ((result = listener.poll()) != null) {
+                try (PutResult ack = result) {
+                    final ArrowBuf metadata = ack.getApplicationMetadata();
+                    final byte[] bytes = new byte[(int) metadata.readableBytes()];
+                    metadata.getBytes(metadata.readerIndex(), bytes);
+                    acks.add(new String(bytes, StandardCharsets.UTF_8));
+                }
+            }
+        }
+        return acks;
+    }
+
+    /**
+     * Authenticates callers presenting {@link #TOKEN} as user {@code alice}.
+     */
+    private static class TokenAuthenticator implements BulkPutAuthenticator {
+        @Override
+        public void authenticate(CallHeaders headers, ThreadContext threadContext) {
+            if (TOKEN.equals(headers.get("authorization")) == false) {
+                throw CallStatus.UNAUTHENTICATED.withDescription("invalid token").toRuntimeException();
+            }
+            threadContext.putTransient(USER_TRANSIENT, "alice");
+        }
+    }
+
+    /**
+     * Records the bulk requests it executes and the user of the thread context they are executed in.
+     */
+    private static class RecordingClient extends NoOpClient {
+        final List<BulkRequest> requests = new CopyOnWriteArrayList<>();
+        final List<String> users = new CopyOnWriteArrayList<>();
+
+        RecordingClient(String testName) {
+            super(testName);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <Request extends ActionRequest, Response extends ActionResponse> void doExecute(
+            ActionType<Response> action,
+            Request request,
+            ActionListener<Response> listener
+        ) {
+            assertSame(BulkAction.INSTANCE, action);
+            requests.add((BulkRequest) request);
+            users.add(threadPool().getThreadContext().getTransient(USER_TRANSIENT));
+            listener.onResponse((Response) new BulkResponse(new BulkItemResponse[0], 1));
+        }
+    }
+}
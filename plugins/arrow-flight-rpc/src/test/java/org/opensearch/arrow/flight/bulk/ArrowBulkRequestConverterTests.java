@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.arrow.flight.bulk;
+
+import org.apache.arrow.flight.FlightDescriptor;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+public class ArrowBulkRequestConverterTests extends OpenSearchTestCase {
+
+    private RootAllocator allocator;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        allocator = new RootAllocator(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        allocator.close();
+        super.tearDown();
+    }
+
+    public void testConvertRecordBatch() throws IOException {
+        try (
+            VarCharVector ids = new VarCharVector(ArrowBulkRequestConverter.ID_COLUMN, allocator);
+            VarCharVector messages = new VarCharVector("message", allocator);
+            BigIntVector timestamps = new BigIntVector("timestamp", allocator);
+            IntVector statuses = new IntVector("status", allocator);
+            Float8Vector latencies = new Float8Vector("latency", allocator);
+            BitVector errors = new BitVector("error", allocator)
+        ) {
+            final int rows = randomIntBetween(1, 50);
+            ids.allocateNew(rows);
+            messages.allocateNew(rows);
+            timestamps.allocateNew(rows);
+            statuses.allocateNew(rows);
+            latencies.allocateNew(rows);
+            errors.allocateNew(rows);
+            for (int row = 0; row < rows; row++) {
+                if (row % 3 == 0) {
+                    ids.setNull(row);
+                } else {
+                    ids.setSafe(row, ("id-" + row).getBytes(StandardCharsets.UTF_8));
+                }
+                messages.setSafe(row, ("message " + row).getBytes(StandardCharsets.UTF_8));
+                timestamps.set(row, 1_700_000_000_000L + row);
+                if (row % 2 == 0) {
+                    statuses.setNull(row);
+                } else {
+                    statuses.set(row, 200 + row);
+                }
+                latencies.set(row, row / 2.0);
+                errors.set(row, row % 5 == 0 ? 1 : 0);
+            }
+            try (VectorSchemaRoot root = VectorSchemaRoot.of(ids, messages, timestamps, statuses, latencies, errors)) {
+                root.setRowCount(rows);
+                final BulkRequest bulkRequest = new ArrowBulkRequestConverter("logs").convert(root);
+                assertEquals(rows, bulkRequest.numberOfActions());
+                for (int row = 0; row < rows; row++) {
+                    final DocWriteRequest<?> request = bulkRequest.requests().get(row);
+                    assertTrue(request instanceof IndexRequest);
+                    final IndexRequest indexRequest = (IndexRequest) request;
+                    assertEquals("logs", indexRequest.index());
+                    assertEquals(XContentType.SMILE, indexRequest.getContentType());
+                    assertEquals(row % 3 == 0 ? null : "id-" + row, indexRequest.id());
+
+                    final Map<String, Object> source = indexRequest.sourceAsMap();
+                    assertFalse(source.containsKey(ArrowBulkRequestConverter.ID_COLUMN));
+                    assertEquals("message " + row, source.get("message"));
+                    assertEquals(1_700_000_000_000L + row, ((Number) source.get("timestamp")).longValue());
+                    if (row % 2 == 0) {
+                        assertFalse(source.containsKey("status"));
+                    } else {
+                        assertEquals(200 + row, ((Number) source.get("status")).intValue());
+                    }
+                    assertEquals(row / 2.0, ((Number) source.get("latency")).doubleValue(), 0.0d);
+                    assertEquals(row % 5 == 0, source.get("error"));
+                }
+            }
+        }
+    }
+
+    public void testUnsupportedColumnType() {
+        try (ListVector tags = ListVector.empty("tags", allocator); VectorSchemaRoot root = VectorSchemaRoot.of(tags)) {
+            root.setRowCount(0);
+            IllegalArgumentException e = expectThrows(
+                IllegalArgumentException.class,
+                () -> new ArrowBulkRequestConverter("logs").convert(root)
+            );
+            assertTrue(e.getMessage(), e.getMessage().contains("column [tags] has unsupported type"));
+        }
+    }
+
+    public void testIdColumnMustBeUtf8() {
+        try (
+            IntVector ids = new IntVector(ArrowBulkRequestConverter.ID_COLUMN, allocator);
+            VectorSchemaRoot root = VectorSchemaRoot.of(ids)
+        ) {
+            root.setRowCount(0);
+            IllegalArgumentException e = expectThrows(
+                IllegalArgumentException.class,
+                () -> new ArrowBulkRequestConverter("logs").convert(root)
+            );
+            assertTrue(e.getMessage(), e.getMessage().contains("column [_id] must be of type [Utf8]"));
+        }
+    }
+
+    public void testFromDescriptor() {
+        assertEquals("logs", ArrowBulkRequestConverter.fromDescriptor(FlightDescriptor.path("_bulk", "logs")).index());
+        expectThrows(IllegalArgumentException.class, () -> ArrowBulkRequestConverter.fromDescriptor(FlightDescriptor.path("logs")));
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> ArrowBulkRequestConverter.fromDescriptor(FlightDescriptor.path("_search", "logs"))
+        );
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> ArrowBulkRequestConverter.fromDescriptor(FlightDescriptor.command("logs".getBytes(StandardCharsets.UTF_8)))
+        );
+    }
+}
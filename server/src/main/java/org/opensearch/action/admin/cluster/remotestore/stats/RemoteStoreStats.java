@@ -174,7 +174,8 @@ public class RemoteStoreStats implements Writeable, ToXContentFragment {
             .field(UploadStatsFields.REFRESH_LAG, remoteSegmentShardStats.localRefreshNumber - remoteSegmentShardStats.remoteRefreshNumber)
             .field(UploadStatsFields.BYTES_LAG, remoteSegmentShardStats.bytesLag)
             .field(UploadStatsFields.BACKPRESSURE_REJECTION_COUNT, remoteSegmentShardStats.rejectionCount)
-            .field(UploadStatsFields.CONSECUTIVE_FAILURE_COUNT, remoteSegmentShardStats.consecutiveFailuresCount);
+            .field(UploadStatsFields.CONSECUTIVE_FAILURE_COUNT, remoteSegmentShardStats.consecutiveFailuresCount)
+            .field(UploadStatsFields.INFLIGHT_UPLOAD_BYTES, remoteSegmentShardStats.inflightUploadBytes);
         builder.startObject(UploadStatsFields.TOTAL_UPLOADS)
             .field(SubFields.STARTED, remoteSegmentShardStats.totalUploadsStarted)
             .field(SubFields.SUCCEEDED, remoteSegmentShardStats.totalUploadsSucceeded)
@@ -195,6 +196,9 @@ public class RemoteStoreStats implements Writeable, ToXContentFragment {
         builder.startObject(UploadStatsFields.REMOTE_REFRESH_LATENCY_IN_MILLIS)
             .field(SubFields.MOVING_AVG, remoteSegmentShardStats.uploadTimeMovingAverage);
         builder.endObject();
+        builder.startObject(UploadStatsFields.UPLOAD_QUEUE_TIME_IN_MILLIS)
+            .field(SubFields.MOVING_AVG, remoteSegmentShardStats.uploadQueueTimeMovingAverage);
+        builder.endObject();
     }
 
     private void buildSegmentDownloadStats(XContentBuilder builder) throws IOException {
@@ -322,6 +326,16 @@ public class RemoteStoreStats implements Writeable, ToXContentFragment {
          * Time taken by a remote store upload
          */
         static final String UPLOAD_TIME_IN_MILLIS = "upload_time_in_millis";
+
+        /**
+         * Bytes of segment files whose upload has started and not completed yet
+         */
+        static final String INFLIGHT_UPLOAD_BYTES = "inflight_upload_bytes";
+
+        /**
+         * Time a segment file waits for its upload to start
+         */
+        static final String UPLOAD_QUEUE_TIME_IN_MILLIS = "upload_queue_time_in_millis";
     }
 
     static final class DownloadStatsFields {
@@ -42,6 +42,7 @@ import org.opensearch.action.support.TransportActions;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.routing.FailAwareWeightedRouting;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.cluster.routing.WeightedRoutingUtils;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.lease.Releasable;
@@ -63,6 +64,7 @@ import org.opensearch.telemetry.tracing.Span;
 import org.opensearch.telemetry.tracing.SpanCreationContext;
 import org.opensearch.telemetry.tracing.SpanScope;
 import org.opensearch.telemetry.tracing.Tracer;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.transport.Transport;
 
 import java.util.ArrayDeque;
@@ -122,6 +124,8 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     private final boolean throttleConcurrentRequests;
     private final SearchRequestContext searchRequestContext;
     private final Tracer tracer;
+    // null if the shard requests are not hedged
+    private SearchRequestHedging requestHedging;
 
     private SearchPhase currentPhase;
     private boolean currentPhaseHasLifecycle;
@@ -187,6 +191,14 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         this.tracer = tracer;
     }
 
+    /**
+     * Hedges the requests of the shards of this phase: a shard request that takes longer than the delay the given hedging decides on
+     * is also sent to the next copy of the shard, the first response wins. Must be called before the phase starts.
+     */
+    void setRequestHedging(SearchRequestHedging requestHedging) {
+        this.requestHedging = requestHedging;
+    }
+
     @Override
     public void addReleasable(Releasable releasable) {
         releasables.add(releasable);
@@ -266,7 +278,16 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
             for (int index = 0; index < shardsIts.size(); index++) {
                 final SearchShardIterator shardRoutings = shardsIts.get(index);
                 assert shardRoutings.skip() == false;
-                performPhaseOnShard(index, shardRoutings, shardRoutings.nextOrNull());
+                final SearchShardTarget shard = shardRoutings.nextOrNull();
+                final long hedgeDelayNanos = requestHedging == null || shard == null
+                    ? -1
+                    : requestHedging.startShardRequest(clusterState, shardRoutings);
+                performPhaseOnShard(
+                    index,
+                    shardRoutings,
+                    shard,
+                    hedgeDelayNanos < 0 ? null : new HedgedShardRequest(index, shardRoutings, hedgeDelayNanos)
+                );
             }
         }
     }
@@ -279,6 +300,15 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     }
 
     private void performPhaseOnShard(final int shardIndex, final SearchShardIterator shardIt, final SearchShardTarget shard) {
+        performPhaseOnShard(shardIndex, shardIt, shard, null);
+    }
+
+    private void performPhaseOnShard(
+        final int shardIndex,
+        final SearchShardIterator shardIt,
+        final SearchShardTarget shard,
+        @Nullable final HedgedShardRequest hedgedRequest
+    ) {
         /*
          * We capture the thread that this phase is starting on. When we are called back after executing the phase, we are either on the
          * same thread (because we never went async, or the same thread was selected from the thread pool) or a different thread. If we
@@ -294,6 +324,7 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                 : null;
             Runnable r = () -> {
                 final Thread thread = Thread.currentThread();
+                HedgedShardRequest.Attempt attempt = null;
                 try {
                     final SearchPhase phase = this;
                     SearchActionListener<Result> listener = createShardActionListener(
@@ -304,14 +335,23 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                         pendingExecutions,
                         thread
                     );
-                    executePhaseOnShard(shardIt, shard, listener);
+                    if (hedgedRequest != null) {
+                        attempt = hedgedRequest.startAttempt(shard, listener, () -> executeNext(pendingExecutions, thread));
+                        executePhaseOnShard(shardIt, shard, attempt.task, attempt.listener);
+                    } else {
+                        executePhaseOnShard(shardIt, shard, listener);
+                    }
                 } catch (final Exception e) {
+                    final HedgedShardRequest.Attempt failedAttempt = attempt;
                     try {
                         /*
                          * It is possible to run into connection exceptions here because we are getting the connection early and might
                          * run into nodes that are not connected. In this case, on shard failure will move us to the next shard copy.
                          */
                         fork(() -> {
+                            if (hedgedRequest != null && hedgedRequest.onAttemptFailure(failedAttempt, shard, e) == false) {
+                                return;
+                            }
                             // It only happens when onPhaseDone() is called and executePhaseOnShard() fails hard with an exception.
                             // In this case calling onShardFailure() would overflow the operations counter, so the best we could do
                             // here is to fail the phase and move on to the next one.
@@ -394,6 +434,23 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         SearchActionListener<Result> listener
     );
 
+    /**
+     * Sends the request to the actual shard as a child of the given task, which is the search task unless the request is hedged: each
+     * request of a hedged shard is the child of its own task so that the request that loses can be cancelled on its own.
+     * @param shardIt the shards iterator
+     * @param shard the shard routing to send the request for
+     * @param parentTask the task to send the request as a child of
+     * @param listener the listener to notify on response
+     */
+    protected void executePhaseOnShard(
+        SearchShardIterator shardIt,
+        SearchShardTarget shard,
+        SearchTask parentTask,
+        SearchActionListener<Result> listener
+    ) {
+        executePhaseOnShard(shardIt, shard, listener);
+    }
+
     private void fork(final Runnable runnable) {
         executor.execute(new AbstractRunnable() {
             @Override
@@ -920,6 +977,212 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         }
     }
 
+    /**
+     * The requests of a shard whose first request is hedged: once the first copy of the shard took longer than the delay to respond,
+     * the request is also sent to the next copy of the shard and the first response wins. Each request is sent as the child of its own
+     * task, the request that did not win is cancelled through its task and the reader context of its response, if any, is released.
+     * Each of the two requests accounts for one operation of the shard like a request that failed over to the next copy does, the
+     * cancelled one at the time the other one wins or fails.
+     */
+    private final class HedgedShardRequest {
+        private final int shardIndex;
+        private final SearchShardIterator shardIt;
+        private final long delayNanos;
+        // the requests that did not respond yet, guarded by this
+        private int pending;
+        // the requests that were sent and did not respond yet, guarded by this
+        private final List<Attempt> inFlight = new ArrayList<>(2);
+        // whether a request won or all requests failed, guarded by this
+        private boolean done;
+        private boolean hedged;
+        private Scheduler.ScheduledCancellable scheduledHedge;
+
+        HedgedShardRequest(int shardIndex, SearchShardIterator shardIt, long delayNanos) {
+            this.shardIndex = shardIndex;
+            this.shardIt = shardIt;
+            this.delayNanos = delayNanos;
+        }
+
+        /**
+         * Starts a request to the given copy of the shard, the request must be sent as a child of the task of the returned attempt.
+         */
+        Attempt startAttempt(SearchShardTarget shard, SearchActionListener<Result> delegate, Runnable onAbandoned) {
+            final boolean hedge;
+            synchronized (this) {
+                hedge = hedged;
+                if (hedge == false) {
+                    // the hedged request is counted when it is issued
+                    pending++;
+                    scheduledHedge = requestHedging.schedule(() -> fork(this::hedge), delayNanos);
+                }
+            }
+            final SearchTask attemptTask = requestHedging.registerAttemptTask(getTask(), shard);
+            final long startNanos = System.nanoTime();
+            final Attempt attempt = new Attempt(attemptTask, shard, hedge, delegate, onAbandoned, startNanos);
+            final boolean lost;
+            synchronized (this) {
+                lost = done;
+                if (lost == false) {
+                    inFlight.add(attempt);
+                }
+            }
+            if (lost) {
+                // the other request won while this one was starting, the cancelled task fails the request right away
+                requestHedging.cancelAttemptTask(attemptTask);
+            }
+            return attempt;
+        }
+
+        private void hedge() {
+            final SearchShardTarget next;
+            synchronized (this) {
+                if (done || hedged || shardIt.remaining() == 0 || requestHedging.tryAcquireHedge() == false) {
+                    return;
+                }
+                next = nextCopy();
+                if (next == null) {
+                    return;
+                }
+                hedged = true;
+                pending++;
+            }
+            logger.trace("{}: hedging the request after [{}ms]", next, TimeUnit.NANOSECONDS.toMillis(delayNanos));
+            performPhaseOnShard(shardIndex, shardIt, next, this);
+        }
+
+        private SearchShardTarget nextCopy() {
+            SearchShardTarget next = shardIt.nextOrNull();
+            // skipped copies account for an operation each, like they do on failover
+            while (next != null && WeightedRoutingUtils.isWeighedAway(next.getNodeId(), clusterState)) {
+                totalOps.incrementAndGet();
+                next = shardIt.nextOrNull();
+            }
+            return next;
+        }
+
+        /**
+         * Returns whether the response is the first one of the shard and must be consumed.
+         */
+        private boolean onAttemptResponse(Attempt attempt) {
+            final List<Attempt> losers;
+            synchronized (this) {
+                pending--;
+                inFlight.remove(attempt);
+                if (done) {
+                    return false;
+                }
+                done = true;
+                cancelScheduledHedge();
+                if (pending > 0) {
+                    totalOps.incrementAndGet();
+                }
+                losers = new ArrayList<>(inFlight);
+            }
+            for (Attempt loser : losers) {
+                requestHedging.cancelAttemptTask(loser.task);
+            }
+            return true;
+        }
+
+        /**
+         * Returns whether the failure must be handled like the failure of a request that was not hedged, which is the case unless a
+         * request of the shard won already or the other request may still succeed.
+         *
+         * @param attempt the failed attempt, or {@code null} if the request failed before its attempt started
+         */
+        boolean onAttemptFailure(@Nullable Attempt attempt, SearchShardTarget shard, Exception e) {
+            if (attempt != null) {
+                attempt.unregisterTask();
+            }
+            synchronized (this) {
+                pending--;
+                if (attempt != null) {
+                    inFlight.remove(attempt);
+                }
+                if (done) {
+                    return false;
+                }
+                if (pending > 0) {
+                    logger.debug(() -> new ParameterizedMessage("{}: hedged request failed, waiting for the other copy", shard), e);
+                    totalOps.incrementAndGet();
+                    return false;
+                }
+                done = true;
+                cancelScheduledHedge();
+                return true;
+            }
+        }
+
+        private void cancelScheduledHedge() {
+            if (scheduledHedge != null) {
+                scheduledHedge.cancel();
+            }
+        }
+
+        private void releaseAbandoned(SearchShardTarget shard, Result result) {
+            // we don't release persistent readers (point in time).
+            if (result.getContextId() != null && request.pointInTimeBuilder() == null) {
+                try {
+                    final Transport.Connection connection = getConnection(shard.getClusterAlias(), shard.getNodeId());
+                    sendReleaseSearchContext(result.getContextId(), connection, shard.getOriginalIndices());
+                } catch (Exception e) {
+                    logger.trace("failed to release context", e);
+                }
+            }
+        }
+
+        /**
+         * A request to a single copy of the shard and the task it is sent as a child of.
+         */
+        final class Attempt {
+            final SearchTask task;
+            final SearchActionListener<Result> listener;
+            private final AtomicBoolean taskUnregistered = new AtomicBoolean();
+
+            Attempt(
+                SearchTask task,
+                SearchShardTarget shard,
+                boolean hedge,
+                SearchActionListener<Result> delegate,
+                Runnable onAbandoned,
+                long startNanos
+            ) {
+                this.task = task;
+                this.listener = new SearchActionListener<Result>(shard, shardIndex) {
+                    @Override
+                    protected void innerOnResponse(Result result) {
+                        unregisterTask();
+                        requestHedging.onShardResponse(shardIt.shardId(), System.nanoTime() - startNanos);
+                        if (onAttemptResponse(Attempt.this)) {
+                            if (hedge) {
+                                requestHedging.onHedgeWon();
+                            }
+                            delegate.onResponse(result);
+                        } else {
+                            releaseAbandoned(shard, result);
+                            onAbandoned.run();
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        if (onAttemptFailure(Attempt.this, shard, e)) {
+                            delegate.onFailure(e);
+                        } else {
+                            onAbandoned.run();
+                        }
+                    }
+                };
+            }
+
+            void unregisterTask() {
+                if (taskUnregistered.compareAndSet(false, true)) {
+                    requestHedging.unregisterAttemptTask(task);
+                }
+            }
+        }
+    }
+
     /**
      * Pending Executions
      *
@@ -68,6 +68,12 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is handled if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * Results are normally buffered until {@code batched_reduce_size} of them can be reduced at once. Once the usage of the breaker
+ * reaches the eager reduce threshold, every new result is instead merged into the previously reduced aggregations as soon as it
+ * arrives, which keeps at most a couple of shard results buffered while the breaker is under pressure. This only bounds the
+ * buffered shard results: the reduced aggregations are kept on heap and nothing is spilled to disk, so a reduce whose result does
+ * not fit in the breaker still fails with a {@link CircuitBreakingException}.
  *
  * @opensearch.internal
  */
@@ -89,6 +95,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     final PendingReduces pendingReduces;
     private final Consumer<Exception> cancelTaskOnFailure;
     private final BooleanSupplier isTaskCancelled;
+    private final double eagerReduceBreakerThreshold;
 
     public QueryPhaseResultConsumer(
         SearchRequest request,
@@ -127,6 +134,37 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int expectedResultSize,
         Consumer<Exception> cancelTaskOnFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            progressListener,
+            namedWriteableRegistry,
+            expectedResultSize,
+            cancelTaskOnFailure,
+            isTaskCancelled,
+            1.0d
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed and reduces every new result eagerly once the usage of the circuit breaker
+     * reaches the given fraction of its limit. A threshold of {@code 1.0} disables eager reduces.
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        SearchProgressListener progressListener,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int expectedResultSize,
+        Consumer<Exception> cancelTaskOnFailure,
+        BooleanSupplier isTaskCancelled,
+        double eagerReduceBreakerThreshold
     ) {
         super(expectedResultSize);
         this.executor = executor;
@@ -145,6 +183,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int batchReduceSize = getBatchReduceSize(request.getBatchedReduceSize(), expectedResultSize);
         this.pendingReduces = new PendingReduces(batchReduceSize, request.resolveTrackTotalHitsUpTo());
         this.isTaskCancelled = isTaskCancelled;
+        this.eagerReduceBreakerThreshold = eagerReduceBreakerThreshold;
     }
 
     int getBatchReduceSize(int requestBatchedReduceSize, int minBatchReduceSize) {
@@ -302,6 +341,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
      * @opensearch.internal
      */
     class PendingReduces implements Releasable {
+        // an eager reduce needs at least two results, or a result and the previously reduced aggregations, to merge
+        private static final int MIN_EAGER_REDUCE_SIZE = 2;
         private final int batchReduceSize;
         private final List<QuerySearchResult> buffer = new ArrayList<>();
         private final List<SearchShard> emptyResults = new ArrayList<>();
@@ -378,6 +419,18 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             }
         }
 
+        /**
+         * Returns true if the aggregations held by the buffer should be reduced without waiting for a full batch
+         * because the usage of the circuit breaker reached the eager reduce threshold.
+         */
+        private boolean isBreakerUnderPressure() {
+            if (hasAggs == false || eagerReduceBreakerThreshold >= 1.0d) {
+                return false;
+            }
+            final long limit = circuitBreaker.getLimit();
+            return limit > 0 && circuitBreaker.getUsed() >= limit * eagerReduceBreakerThreshold;
+        }
+
         /**
          * Returns the size of the serialized aggregation that is contained in the
          * provided {@link QuerySearchResult}.
@@ -432,7 +485,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             }
             // Process non-empty results
             int size = buffer.size() + (hasPartialReduce ? 1 : 0);
-            if (size >= batchReduceSize) {
+            if (size >= batchReduceSize || (size >= MIN_EAGER_REDUCE_SIZE && isBreakerUnderPressure())) {
                 hasPartialReduce = true;
                 // the callback must wait for the new reduce task to complete to maintain proper result processing order
                 QuerySearchResult[] clone = buffer.toArray(QuerySearchResult[]::new);
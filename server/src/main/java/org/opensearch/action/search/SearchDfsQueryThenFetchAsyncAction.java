@@ -119,11 +119,21 @@ final class SearchDfsQueryThenFetchAsyncAction extends AbstractSearchAsyncAction
         final SearchShardIterator shardIt,
         final SearchShardTarget shard,
         final SearchActionListener<DfsSearchResult> listener
+    ) {
+        executePhaseOnShard(shardIt, shard, getTask(), listener);
+    }
+
+    @Override
+    protected void executePhaseOnShard(
+        final SearchShardIterator shardIt,
+        final SearchShardTarget shard,
+        final SearchTask parentTask,
+        final SearchActionListener<DfsSearchResult> listener
     ) {
         getSearchTransport().sendExecuteDfs(
             getConnection(shard.getClusterAlias(), shard.getNodeId()),
             buildShardSearchRequest(shardIt),
-            getTask(),
+            parentTask,
             listener
         );
     }
@@ -93,7 +93,15 @@ public final class SearchExecutionStatsCollector implements ActionListener<Searc
             final long responseDuration = System.nanoTime() - startNanos;
             // EWMA/queue size may be -1 if the query node doesn't support capturing it
             if (serviceTimeEWMA > 0 && queueSize >= 0) {
-                collector.addNodeStatistics(nodeId, queueSize, responseDuration, serviceTimeEWMA);
+                collector.addNodeStatistics(
+                    nodeId,
+                    queueSize,
+                    queryResult.nodeActiveThreads(),
+                    queryResult.nodeThreadPoolSize(),
+                    queryResult.nodeSearcherQueueSize(),
+                    responseDuration,
+                    serviceTimeEWMA
+                );
             }
         }
         listener.onResponse(response);
@@ -0,0 +1,302 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.opensearch.OpenSearchException;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.telemetry.metrics.Counter;
+import org.opensearch.telemetry.metrics.MetricsRegistry;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides when the request of a shard is also sent to another copy of the shard because the first copy takes longer to respond than
+ * most requests of the index do. The delay is the percentile of the recent response times of the shards of the index that
+ * {@link #HEDGING_LATENCY_PERCENTILE_SETTING} configures, indices that do not configure it are not hedged. The hedged requests are
+ * limited to the percentage of the shard requests that {@link #HEDGING_BUDGET_SETTING} configures: every shard request of a hedged
+ * index adds a fraction of a token to a budget that every hedged request takes a whole token from.
+ * <p>
+ * Each request to a copy of a hedged shard is sent as the child of its own task, see {@link #registerAttemptTask}, so that the request
+ * that loses can be cancelled without cancelling the requests to the other shards of the search.
+ *
+ * @opensearch.internal
+ */
+public class SearchRequestHedging {
+
+    public static final Setting<Double> HEDGING_LATENCY_PERCENTILE_SETTING = Setting.doubleSetting(
+        "index.search.hedged_requests.latency_percentile",
+        0.0,
+        0.0,
+        100.0,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    public static final Setting<Double> HEDGING_BUDGET_SETTING = Setting.doubleSetting(
+        "search.hedged_requests.budget",
+        5.0,
+        0.0,
+        100.0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // the number of response times of an index that are needed to estimate the percentile
+    static final int MIN_SAMPLES = 100;
+    // the budget is kept in millionths of a token so that it adds up exactly
+    private static final long TOKEN = 1_000_000;
+    // the tokens saved up while nothing is hedged, bounds the burst of hedged requests when a node pauses
+    private static final long MAX_BUDGET = 100 * TOKEN;
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    static final String HEDGED_SHARD_ACTION_NAME = SearchAction.NAME + "[hedged_shard]";
+
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final Cache<String, IndexResponseTimes> responseTimes;
+    // the latency percentile of every index, parsed once per version of the settings of the index rather than once per shard request
+    private final Cache<String, LatencyPercentile> latencyPercentiles;
+    private final Counter hedgedRequests;
+    private final Counter wonHedgedRequests;
+    private final Counter rejectedHedgedRequests;
+    private long budget; // guarded by this
+
+    SearchRequestHedging(ClusterService clusterService, ThreadPool threadPool, TaskManager taskManager, MetricsRegistry metricsRegistry) {
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.responseTimes = CacheBuilder.<String, IndexResponseTimes>builder()
+            .setExpireAfterAccess(TimeValue.timeValueMinutes(10))
+            .build();
+        this.latencyPercentiles = CacheBuilder.<String, LatencyPercentile>builder()
+            .setExpireAfterAccess(TimeValue.timeValueMinutes(10))
+            .build();
+        this.hedgedRequests = metricsRegistry.createCounter(
+            "search.hedged_requests.issued",
+            "Counter for the number of shard requests sent to another copy of the shard because the first copy was slow.",
+            "1"
+        );
+        this.wonHedgedRequests = metricsRegistry.createCounter(
+            "search.hedged_requests.won",
+            "Counter for the number of hedged shard requests that responded before the request they hedged.",
+            "1"
+        );
+        this.rejectedHedgedRequests = metricsRegistry.createCounter(
+            "search.hedged_requests.rejected",
+            "Counter for the number of shard requests that were not hedged because the hedging budget was used up.",
+            "1"
+        );
+    }
+
+    /**
+     * Called when the request of a shard is sent to the first copy of the shard. Returns the delay in nanoseconds after which the
+     * request should be hedged, or {@code -1} if it should not be hedged.
+     */
+    long startShardRequest(ClusterState clusterState, SearchShardIterator shardIt) {
+        if (shardIt.getClusterAlias() != null || shardIt.getSearchContextId() != null || shardIt.remaining() == 0) {
+            return -1;
+        }
+        final IndexMetadata indexMetadata = clusterState.metadata().index(shardIt.shardId().getIndex());
+        if (indexMetadata == null) {
+            return -1;
+        }
+        final double percentile = latencyPercentile(indexMetadata);
+        if (percentile <= 0) {
+            return -1;
+        }
+        final long deposit = Math.round(clusterService.getClusterSettings().get(HEDGING_BUDGET_SETTING) * TOKEN / 100);
+        synchronized (this) {
+            budget = Math.min(MAX_BUDGET, budget + deposit);
+        }
+        try {
+            return responseTimes.computeIfAbsent(indexMetadata.getIndexUUID(), uuid -> new IndexResponseTimes())
+                .valueAtPercentile(percentile, System.nanoTime());
+        } catch (ExecutionException e) {
+            throw new OpenSearchException("failed to track the response times of " + shardIt.shardId().getIndex(), e.getCause());
+        }
+    }
+
+    private double latencyPercentile(IndexMetadata indexMetadata) {
+        final LatencyPercentile cached = latencyPercentiles.get(indexMetadata.getIndexUUID());
+        if (cached != null && cached.settingsVersion == indexMetadata.getSettingsVersion()) {
+            return cached.percentile;
+        }
+        final double percentile = HEDGING_LATENCY_PERCENTILE_SETTING.get(indexMetadata.getSettings());
+        latencyPercentiles.put(indexMetadata.getIndexUUID(), new LatencyPercentile(indexMetadata.getSettingsVersion(), percentile));
+        return percentile;
+    }
+
+    /**
+     * Records the time the copy of a shard took to respond to a request, if the requests of its index are hedged.
+     */
+    void onShardResponse(ShardId shardId, long tookNanos) {
+        final IndexResponseTimes indexResponseTimes = responseTimes.get(shardId.getIndex().getUUID());
+        if (indexResponseTimes != null) {
+            indexResponseTimes.record(tookNanos);
+        }
+    }
+
+    /**
+     * Takes a token from the budget for a hedged request. Returns {@code false} if the request must not be hedged because the budget
+     * is used up.
+     */
+    boolean tryAcquireHedge() {
+        synchronized (this) {
+            if (budget < TOKEN) {
+                rejectedHedgedRequests.add(1);
+                return false;
+            }
+            budget -= TOKEN;
+        }
+        hedgedRequests.add(1);
+        return true;
+    }
+
+    /**
+     * Called when a hedged request responded before the request it hedged.
+     */
+    void onHedgeWon() {
+        wonHedgedRequests.add(1);
+    }
+
+    Scheduler.ScheduledCancellable schedule(Runnable hedge, long delayNanos) {
+        final TimeValue delay = TimeValue.timeValueMillis(Math.max(1, TimeUnit.NANOSECONDS.toMillis(delayNanos)));
+        return threadPool.schedule(hedge, delay, ThreadPool.Names.SAME);
+    }
+
+    /**
+     * Registers the task that the request to the given copy of a hedged shard is sent as a child of. The task is a child of the search
+     * task, cancelling the search task cancels it and its request too. The task must be unregistered with {@link #unregisterAttemptTask}
+     * once the request completed.
+     */
+    SearchTask registerAttemptTask(SearchTask searchTask, SearchShardTarget shard) {
+        final TaskId searchTaskId = new TaskId(taskManager.localNode().getId(), searchTask.getId());
+        final AttemptRequest request = new AttemptRequest(searchTaskId, shard);
+        final AttemptTask task = (AttemptTask) taskManager.register("transport", HEDGED_SHARD_ACTION_NAME, request);
+        // the search task bans its child tasks on the nodes that it has children on when it is cancelled, this includes the local node
+        // and so the attempt task while the attempt task is registered
+        try {
+            task.searchTaskChildNode = taskManager.registerChildNode(searchTask.getId(), taskManager.localNode());
+        } catch (Exception e) {
+            taskManager.unregister(task);
+            throw e;
+        }
+        return task;
+    }
+
+    /**
+     * Cancels the task of a request to a copy of a hedged shard, which cancels the request on the node of the copy, because the request
+     * to the other copy of the shard won.
+     */
+    void cancelAttemptTask(SearchTask task) {
+        final String reason = "the request to another copy of the shard completed first";
+        taskManager.cancelTaskAndDescendants(task, reason, false, ActionListener.wrap(() -> {}));
+    }
+
+    void unregisterAttemptTask(SearchTask task) {
+        taskManager.unregister(task);
+        ((AttemptTask) task).searchTaskChildNode.close();
+    }
+
+    /**
+     * The task of a request to a single copy of a hedged shard.
+     */
+    private static final class AttemptTask extends SearchTask {
+        private Releasable searchTaskChildNode = () -> {};
+
+        AttemptTask(long id, String type, String action, SearchShardTarget shard, TaskId parentTaskId, Map<String, String> headers) {
+            super(id, type, action, () -> "hedged request to " + shard, parentTaskId, headers);
+        }
+    }
+
+    private static final class AttemptRequest implements TaskAwareRequest {
+        private final TaskId parentTaskId;
+        private final SearchShardTarget shard;
+
+        AttemptRequest(TaskId parentTaskId, SearchShardTarget shard) {
+            this.parentTaskId = parentTaskId;
+            this.shard = shard;
+        }
+
+        @Override
+        public void setParentTask(TaskId taskId) {
+            throw new UnsupportedOperationException("the parent task is set on creation");
+        }
+
+        @Override
+        public TaskId getParentTask() {
+            return parentTaskId;
+        }
+
+        @Override
+        public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+            return new AttemptTask(id, type, action, shard, parentTaskId, headers);
+        }
+    }
+
+    private static final class LatencyPercentile {
+        final long settingsVersion;
+        final double percentile;
+
+        LatencyPercentile(long settingsVersion, double percentile) {
+            this.settingsVersion = settingsVersion;
+            this.percentile = percentile;
+        }
+    }
+
+    /**
+     * The response times of the shards of an index. The percentiles are computed from windows of at least one second and
+     * {@link #MIN_SAMPLES} response times, so that they follow changes of the load without being skewed by a few samples.
+     */
+    static final class IndexResponseTimes {
+        private final Recorder recorder = new Recorder(2);
+        private Histogram pending = new Histogram(2);
+        // null until the first window is complete
+        private Histogram window;
+        private long windowStartNanos = System.nanoTime();
+
+        void record(long tookNanos) {
+            recorder.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(tookNanos)));
+        }
+
+        synchronized long valueAtPercentile(double percentile, long nowNanos) {
+            if (nowNanos - windowStartNanos >= WINDOW_NANOS) {
+                pending.add(recorder.getIntervalHistogram());
+                if (pending.getTotalCount() >= MIN_SAMPLES) {
+                    window = pending;
+                    pending = new Histogram(2);
+                    windowStartNanos = nowNanos;
+                }
+            }
+            return window == null ? -1 : TimeUnit.MICROSECONDS.toNanos(window.getValueAtPercentile(percentile));
+        }
+    }
+}
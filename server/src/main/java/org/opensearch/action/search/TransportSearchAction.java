@@ -170,6 +170,18 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    // fraction of the request circuit breaker limit above which shard aggregation results are reduced on the coordinating node as
+    // soon as they arrive rather than in batches of batched_reduce_size, 1.0 disables eager reduces. This bounds the buffered shard
+    // results only, the reduced aggregations themselves stay on heap.
+    public static final Setting<Double> SEARCH_EAGER_REDUCE_BREAKER_THRESHOLD = Setting.doubleSetting(
+        "search.aggs.eager_reduce.breaker_threshold",
+        1.0d,
+        0.0d,
+        1.0d,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     final NodeClient client;
     private final ThreadPool threadPool;
     final ClusterService clusterService;
@@ -189,6 +201,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
 
     private TaskResourceTrackingService taskResourceTrackingService;
 
+    private final SearchRequestHedging requestHedging;
+
     @Inject
     public TransportSearchAction(
         NodeClient client,
@@ -231,6 +245,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         this.tracer = tracer;
         this.taskResourceTrackingService = taskResourceTrackingService;
         this.indicesService = indicesService;
+        this.requestHedging = new SearchRequestHedging(clusterService, threadPool, taskManager, metricsRegistry);
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(
@@ -1320,7 +1335,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 searchRequest,
                 shardIterators.size(),
                 exc -> cancelTask(task, exc),
-                task::isCancelled
+                task::isCancelled,
+                clusterService.getClusterSettings().get(SEARCH_EAGER_REDUCE_BREAKER_THRESHOLD)
             );
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
@@ -1371,6 +1387,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 default:
                     throw new IllegalStateException("Unknown search type: [" + searchRequest.searchType() + "]");
             }
+            searchAsyncAction.setRequestHedging(requestHedging);
             return searchAsyncAction;
         }
     }
@@ -33,12 +33,15 @@ public final class ClusterManagerMetrics {
     public final Histogram rerouteHistogram;
     public final Histogram clusterStateComputeHistogram;
     public final Histogram clusterStatePublishHistogram;
+    public final Histogram allocationDeciderHistogram;
+    public final Histogram clusterStateUpdateBatchSizeHistogram;
 
     public final Counter leaderCheckFailureCounter;
     public final Counter followerChecksFailureCounter;
     public final Counter asyncFetchFailureCounter;
     public final Counter asyncFetchSuccessCounter;
     public final Counter nodeLeftCounter;
+    public final Counter clusterStatePublicationCounter;
 
     public ClusterManagerMetrics(MetricsRegistry metricsRegistry) {
         clusterStateAppliersHistogram = metricsRegistry.createHistogram(
@@ -66,6 +69,16 @@ public final class ClusterManagerMetrics {
             "Histogram for recording time taken to publish a new cluster state",
             LATENCY_METRIC_UNIT_MS
         );
+        allocationDeciderHistogram = metricsRegistry.createHistogram(
+            "allocation.decider.latency",
+            "Histogram for recording the time spent in an allocation decider during shard re-routing",
+            LATENCY_METRIC_UNIT_MS
+        );
+        clusterStateUpdateBatchSizeHistogram = metricsRegistry.createHistogram(
+            "cluster.state.update.batch.size",
+            "Histogram for recording the number of tasks computed into one cluster state update",
+            COUNTER_METRICS_UNIT
+        );
         followerChecksFailureCounter = metricsRegistry.createCounter(
             "followers.checker.failure.count",
             "Counter for number of failed follower checks",
@@ -87,6 +100,11 @@ public final class ClusterManagerMetrics {
             COUNTER_METRICS_UNIT
         );
         nodeLeftCounter = metricsRegistry.createCounter("node.left.count", "Counter for node left operation", COUNTER_METRICS_UNIT);
+        clusterStatePublicationCounter = metricsRegistry.createCounter(
+            "cluster.state.publication.count",
+            "Counter for number of cluster state publications",
+            COUNTER_METRICS_UNIT
+        );
     }
 
     public void recordLatency(Histogram histogram, Double value) {
@@ -107,6 +107,7 @@ import org.opensearch.search.pipeline.SearchPipelineMetadata;
 import org.opensearch.snapshots.SnapshotsInfoService;
 import org.opensearch.tasks.Task;
 import org.opensearch.tasks.TaskResultsService;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -515,4 +516,8 @@ public class ClusterModule extends AbstractModule {
     public void setRerouteServiceForAllocator(RerouteService rerouteService) {
         shardsAllocator.setRerouteService(rerouteService);
     }
+
+    public void setThreadPoolForAllocator(ThreadPool threadPool) {
+        shardsAllocator.setThreadPool(threadPool);
+    }
 }
@@ -59,6 +59,16 @@ public interface ClusterStateTaskExecutor<T> {
         return true;
     }
 
+    /**
+     * Indicates whether the tasks of this executor can be computed into the same cluster state as the pending tasks of other
+     * executors that support it, and published together with them, see
+     * {@link org.opensearch.cluster.service.ClusterManagerService#CLUSTER_MANAGER_TASK_COALESCING_ENABLED_SETTING}. The executor
+     * must not rely on the cluster state it executes on having been published.
+     */
+    default boolean coalesceWithOtherExecutors() {
+        return false;
+    }
+
     /**
      * Callback invoked after new cluster state is published. Note that
      * this method is not invoked if the cluster state was not updated.
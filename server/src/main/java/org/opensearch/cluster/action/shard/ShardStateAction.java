@@ -824,6 +824,11 @@ public class ShardStateAction {
             }
         }
 
+        @Override
+        public boolean coalesceWithOtherExecutors() {
+            return true;
+        }
+
         @Override
         public void clusterStatePublished(ClusterChangedEvent clusterChangedEvent) {
             rerouteService.reroute(
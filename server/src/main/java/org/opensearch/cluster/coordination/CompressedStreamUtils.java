@@ -12,7 +12,11 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.Version;
 import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.Streams;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.InputStreamStreamInput;
 import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
@@ -37,14 +41,51 @@ public final class CompressedStreamUtils {
     public static BytesReference createCompressedStream(Version version, CheckedConsumer<StreamOutput, IOException> outputConsumer)
         throws IOException {
         final BytesStreamOutput bStream = new BytesStreamOutput();
-        try (StreamOutput stream = new OutputStreamStreamOutput(CompressorRegistry.defaultCompressor().threadLocalOutputStream(bStream))) {
+        writeCompressed(bStream, version, outputConsumer);
+        final BytesReference serializedByteRef = bStream.bytes();
+        logger.trace("serialized writable object for node version [{}] with size [{}]", version, serializedByteRef.length());
+        return serializedByteRef;
+    }
+
+    /**
+     * Like {@link #createCompressedStream(Version, CheckedConsumer)} but writes to pages of the given {@link BigArrays}. The returned
+     * reference must be released once it is no longer used.
+     */
+    public static ReleasableBytesReference createCompressedStream(
+        Version version,
+        BigArrays bigArrays,
+        CheckedConsumer<StreamOutput, IOException> outputConsumer
+    ) throws IOException {
+        final ReleasableBytesStreamOutput bStream = new ReleasableBytesStreamOutput(bigArrays);
+        boolean success = false;
+        try {
+            writeCompressed(bStream, version, outputConsumer);
+            final ReleasableBytesReference serializedByteRef = new ReleasableBytesReference(bStream.bytes(), bStream);
+            logger.trace("serialized writable object for node version [{}] with size [{}]", version, serializedByteRef.length());
+            success = true;
+            return serializedByteRef;
+        } finally {
+            if (success == false) {
+                bStream.close();
+            }
+        }
+    }
+
+    private static void writeCompressed(
+        BytesStreamOutput bStream,
+        Version version,
+        CheckedConsumer<StreamOutput, IOException> outputConsumer
+    ) throws IOException {
+        // closing the compressed stream must not release the pages of the underlying stream
+        try (
+            StreamOutput stream = new OutputStreamStreamOutput(
+                CompressorRegistry.defaultCompressor().threadLocalOutputStream(Streams.flushOnCloseStream(bStream))
+            )
+        ) {
             // Version is set for performing serialization but is not transmitted over the wire.
             stream.setVersion(version);
             outputConsumer.accept(stream);
         }
-        final BytesReference serializedByteRef = bStream.bytes();
-        logger.trace("serialized writable object for node version [{}] with size [{}]", version, serializedByteRef.length());
-        return serializedByteRef;
     }
 
     public static StreamInput decompressBytes(BytesTransportRequest request, NamedWriteableRegistry namedWriteableRegistry)
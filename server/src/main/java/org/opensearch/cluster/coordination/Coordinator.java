@@ -50,6 +50,7 @@ import org.opensearch.cluster.coordination.CoordinationMetadata.VotingConfigurat
 import org.opensearch.cluster.coordination.CoordinationState.VoteCollection;
 import org.opensearch.cluster.coordination.FollowersChecker.FollowerCheckRequest;
 import org.opensearch.cluster.coordination.JoinHelper.InitialJoinAccumulator;
+import org.opensearch.cluster.metadata.LazyIndexSettings;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
@@ -69,6 +70,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.ListenableFuture;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.xcontent.XContentHelper;
@@ -212,6 +214,7 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
         ClusterSettings clusterSettings,
         TransportService transportService,
         NamedWriteableRegistry namedWriteableRegistry,
+        BigArrays bigArrays,
         AllocationService allocationService,
         ClusterManagerService clusterManagerService,
         Supplier<CoordinationState.PersistedState> persistedStateSupplier,
@@ -278,6 +281,8 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
         this.publicationHandler = new PublicationTransportHandler(
             transportService,
             namedWriteableRegistry,
+            bigArrays,
+            newLazyIndexSettings(settings),
             this::handlePublishRequest,
             this::handleApplyCommit,
             remoteClusterStateService
@@ -335,6 +340,16 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
         this.publishTimeout = publishTimeout;
     }
 
+    /**
+     * Only nodes that are not cluster-manager eligible keep the settings of the indices serialized, cluster-manager eligible nodes
+     * compute the cluster state updates and read the settings of all indices.
+     */
+    @Nullable
+    private static LazyIndexSettings newLazyIndexSettings(Settings settings) {
+        final boolean enabled = LazyIndexSettings.LAZY_INDEX_SETTINGS_ENABLED_SETTING.get(settings);
+        return enabled && DiscoveryNode.isClusterManagerNode(settings) == false ? new LazyIndexSettings() : null;
+    }
+
     private ClusterFormationState getClusterFormationState() {
         return new ClusterFormationState(
             settings,
@@ -1401,25 +1416,30 @@ public class Coordinator extends AbstractLifecycleComponent implements Discovery
                 );
                 logger.debug("initialized PublicationContext using class: {}", publicationContext.getClass().toString());
 
-                final PublishRequest publishRequest = coordinationState.get().handleClientValue(clusterState);
-                final CoordinatorPublication publication = new CoordinatorPublication(
-                    publishRequest,
-                    publicationContext,
-                    new ListenableFuture<>(),
-                    ackListener,
-                    publishListener
-                );
-                currentPublication = Optional.of(publication);
-
-                final DiscoveryNodes publishNodes = publishRequest.getAcceptedState().nodes();
-                // marking pending disconnects before publish
-                // if a nodes tries to send a joinRequest while it is pending disconnect, it should fail
-                nodeConnectionsService.setPendingDisconnections(new HashSet<>(clusterChangedEvent.nodesDelta().removedNodes()));
-                leaderChecker.setCurrentNodes(publishNodes);
-                followersChecker.setCurrentNodes(publishNodes);
-                lagDetector.setTrackedNodes(publishNodes);
-                coordinationState.get().handlePrePublish(clusterState);
-                publication.start(followersChecker.getFaultyNodes());
+                try {
+                    final PublishRequest publishRequest = coordinationState.get().handleClientValue(clusterState);
+                    final CoordinatorPublication publication = new CoordinatorPublication(
+                        publishRequest,
+                        publicationContext,
+                        new ListenableFuture<>(),
+                        ackListener,
+                        publishListener
+                    );
+                    currentPublication = Optional.of(publication);
+
+                    final DiscoveryNodes publishNodes = publishRequest.getAcceptedState().nodes();
+                    // marking pending disconnects before publish
+                    // if a nodes tries to send a joinRequest while it is pending disconnect, it should fail
+                    nodeConnectionsService.setPendingDisconnections(new HashSet<>(clusterChangedEvent.nodesDelta().removedNodes()));
+                    leaderChecker.setCurrentNodes(publishNodes);
+                    followersChecker.setCurrentNodes(publishNodes);
+                    lagDetector.setTrackedNodes(publishNodes);
+                    coordinationState.get().handlePrePublish(clusterState);
+                    publication.start(followersChecker.getFaultyNodes());
+                } finally {
+                    // the publish requests in flight hold on to the serialized states until they complete
+                    publicationContext.decRef();
+                }
             }
         } catch (Exception e) {
             logger.debug(() -> new ParameterizedMessage("[{}] publishing failed", clusterChangedEvent.source()), e);
@@ -41,9 +41,15 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.Diff;
 import org.opensearch.cluster.IncompatibleClusterStateVersionException;
 import org.opensearch.cluster.coordination.PersistedStateRegistry.PersistedStateType;
+import org.opensearch.cluster.metadata.LazyIndexSettings;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.TriConsumer;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
@@ -84,6 +90,9 @@ public class PublicationTransportHandler {
 
     private final TransportService transportService;
     private final NamedWriteableRegistry namedWriteableRegistry;
+    private final BigArrays bigArrays;
+    @Nullable
+    private final LazyIndexSettings lazyIndexSettings;
     private final Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest;
 
     private final AtomicReference<ClusterState> lastSeenClusterState = new AtomicReference<>();
@@ -109,12 +118,16 @@ public class PublicationTransportHandler {
     public PublicationTransportHandler(
         TransportService transportService,
         NamedWriteableRegistry namedWriteableRegistry,
+        BigArrays bigArrays,
+        @Nullable LazyIndexSettings lazyIndexSettings,
         Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
         TriConsumer<ApplyCommitRequest, Consumer<ClusterState>, ActionListener<Void>> handleApplyCommit,
         RemoteClusterStateService remoteClusterStateService
     ) {
         this.transportService = transportService;
         this.namedWriteableRegistry = namedWriteableRegistry;
+        this.bigArrays = bigArrays;
+        this.lazyIndexSettings = lazyIndexSettings;
         this.handlePublishRequest = handlePublishRequest;
         this.remoteClusterStateService = remoteClusterStateService;
 
@@ -184,7 +197,7 @@ public class PublicationTransportHandler {
             if (in.readBoolean()) {
                 // Close early to release resources used by the de-compression as early as possible
                 try (StreamInput input = in) {
-                    incomingState = ClusterState.readFrom(input, transportService.getLocalNode());
+                    incomingState = keepIndexSettingsSerialized(ClusterState.readFrom(input, transportService.getLocalNode()));
                 } catch (Exception e) {
                     logger.warn("unexpected error while deserializing an incoming cluster state", e);
                     throw e;
@@ -208,6 +221,7 @@ public class PublicationTransportHandler {
                             diff = ClusterState.readDiffFrom(input, lastSeen.nodes().getLocalNode());
                         }
                         incomingState = diff.apply(lastSeen); // might throw IncompatibleClusterStateVersionException
+                        incomingState = keepIndexSettingsSerialized(incomingState);
                     } catch (IncompatibleClusterStateVersionException e) {
                         incompatibleClusterStateDiffReceivedCount.incrementAndGet();
                         throw e;
@@ -266,11 +280,13 @@ public class PublicationTransportHandler {
                         manifest.getStateUUID()
                     )
                 );
-                ClusterState clusterState = remoteClusterStateService.getClusterStateForManifest(
-                    request.getClusterName(),
-                    manifest,
-                    transportService.getLocalNode().getId(),
-                    true
+                ClusterState clusterState = keepIndexSettingsSerialized(
+                    remoteClusterStateService.getClusterStateForManifest(
+                        request.getClusterName(),
+                        manifest,
+                        transportService.getLocalNode().getId(),
+                        true
+                    )
                 );
                 fullClusterStateReceivedCount.incrementAndGet();
                 final PublishWithJoinResponse response = acceptState(clusterState, manifest);
@@ -286,10 +302,8 @@ public class PublicationTransportHandler {
                         manifest.getStateUUID()
                     )
                 );
-                ClusterState clusterState = remoteClusterStateService.getClusterStateUsingDiff(
-                    manifest,
-                    lastSeen,
-                    transportService.getLocalNode().getId()
+                ClusterState clusterState = keepIndexSettingsSerialized(
+                    remoteClusterStateService.getClusterStateUsingDiff(manifest, lastSeen, transportService.getLocalNode().getId())
                 );
                 compatibleClusterStateDiffReceivedCount.incrementAndGet();
                 final PublishWithJoinResponse response = acceptState(clusterState, manifest);
@@ -306,6 +320,14 @@ public class PublicationTransportHandler {
         }
     }
 
+    /**
+     * Keeps the settings of the indices of an incoming cluster state that have no shards on this node serialized if enabled, see
+     * {@link LazyIndexSettings}. Indices that did not change since the last seen state are serialized already.
+     */
+    private ClusterState keepIndexSettingsSerialized(ClusterState incomingState) throws IOException {
+        return lazyIndexSettings == null ? incomingState : lazyIndexSettings.apply(incomingState);
+    }
+
     private PublishWithJoinResponse acceptState(ClusterState incomingState, ClusterMetadataManifest manifest) {
         // if the state is coming from the current node, use original request instead (see currentPublishRequestToSelf for explanation)
         if (transportService.getLocalNode().equals(incomingState.nodes().getClusterManagerNode())) {
@@ -341,6 +363,11 @@ public class PublicationTransportHandler {
         return publishWithJoinResponse;
     }
 
+    /**
+     * Creates the context to publish the given cluster state with. The serialized states are held on to until the returned context and
+     * all the publish requests sent with it are released, the caller must {@link PublicationContext#decRef()} it once it has sent the
+     * publish requests.
+     */
     public PublicationContext newPublicationContext(
         ClusterChangedEvent clusterChangedEvent,
         boolean isRemotePublicationEnabled,
@@ -362,7 +389,15 @@ public class PublicationTransportHandler {
         // Build the serializations we expect to need now, early in the process, so that an error during serialization fails the publication
         // straight away. This isn't watertight since we send diffs on a best-effort basis and may fall back to sending a full state (and
         // therefore serializing it) if the diff-based publication fails.
-        publicationContext.buildDiffAndSerializeStates();
+        boolean success = false;
+        try {
+            publicationContext.buildDiffAndSerializeStates();
+            success = true;
+        } finally {
+            if (success == false) {
+                publicationContext.decRef();
+            }
+        }
         return publicationContext;
     }
 
@@ -390,8 +425,8 @@ public class PublicationTransportHandler {
         this.lastSeenClusterState.set(clusterState);
     }
 
-    private static BytesReference serializeFullClusterState(ClusterState clusterState, Version nodeVersion) throws IOException {
-        final BytesReference serializedState = CompressedStreamUtils.createCompressedStream(nodeVersion, stream -> {
+    private ReleasableBytesReference serializeFullClusterState(ClusterState clusterState, Version nodeVersion) throws IOException {
+        final ReleasableBytesReference serializedState = CompressedStreamUtils.createCompressedStream(nodeVersion, bigArrays, stream -> {
             stream.writeBoolean(true);
             clusterState.writeTo(stream);
         });
@@ -404,8 +439,8 @@ public class PublicationTransportHandler {
         return serializedState;
     }
 
-    private static BytesReference serializeDiffClusterState(Diff<ClusterState> diff, Version nodeVersion) throws IOException {
-        return CompressedStreamUtils.createCompressedStream(nodeVersion, stream -> {
+    private ReleasableBytesReference serializeDiffClusterState(Diff<ClusterState> diff, Version nodeVersion) throws IOException {
+        return CompressedStreamUtils.createCompressedStream(nodeVersion, bigArrays, stream -> {
             stream.writeBoolean(false);
             diff.writeTo(stream);
         });
@@ -415,20 +450,24 @@ public class PublicationTransportHandler {
      * Publishing a cluster state typically involves sending the same cluster state (or diff) to every node, so the work of diffing,
      * serializing, and compressing the state can be done once and the results shared across publish requests. The
      * {@code PublicationContext} implements this sharing.
+     * <p>
+     * The serialized states are written to recycled pages and are sent to every node without copying them. The context is reference
+     * counted, every publish request in flight holds a reference so that the pages are only released once the last node responded.
      *
      * @opensearch.internal
      */
-    public class PublicationContext {
+    public class PublicationContext extends AbstractRefCounted {
 
         protected final DiscoveryNodes discoveryNodes;
         protected final ClusterState newState;
         protected final ClusterState previousState;
         protected final boolean sendFullVersion;
-        private final Map<Version, BytesReference> serializedStates = new HashMap<>();
-        private final Map<Version, BytesReference> serializedDiffs = new HashMap<>();
+        private final Map<Version, ReleasableBytesReference> serializedStates = new HashMap<>();
+        private final Map<Version, ReleasableBytesReference> serializedDiffs = new HashMap<>();
         protected final PersistedStateRegistry persistedStateRegistry;
 
         PublicationContext(ClusterChangedEvent clusterChangedEvent, PersistedStateRegistry persistedStateRegistry) {
+            super("publication-context");
             discoveryNodes = clusterChangedEvent.state().nodes();
             newState = clusterChangedEvent.state();
             previousState = clusterChangedEvent.previousState();
@@ -441,16 +480,14 @@ public class PublicationTransportHandler {
             for (DiscoveryNode node : discoveryNodes) {
                 try {
                     if (sendFullVersion || previousState.nodes().nodeExists(node) == false) {
-                        if (serializedStates.containsKey(node.getVersion()) == false) {
-                            serializedStates.put(node.getVersion(), serializeFullClusterState(newState, node.getVersion()));
-                        }
+                        getOrSerializeFullClusterState(node.getVersion());
                     } else {
                         // will send a diff
                         if (diff == null) {
                             diff = newState.diff(previousState);
                         }
                         if (serializedDiffs.containsKey(node.getVersion()) == false) {
-                            final BytesReference serializedDiff = serializeDiffClusterState(diff, node.getVersion());
+                            final ReleasableBytesReference serializedDiff = serializeDiffClusterState(diff, node.getVersion());
                             serializedDiffs.put(node.getVersion(), serializedDiff);
                             logger.trace(
                                 "serialized cluster state diff for version [{}] in for node version [{}] with size [{}]",
@@ -548,23 +585,30 @@ public class PublicationTransportHandler {
         }
 
         private void sendFullClusterState(DiscoveryNode destination, ActionListener<PublishWithJoinResponse> listener) {
-            BytesReference bytes = serializedStates.get(destination.getVersion());
-            if (bytes == null) {
-                try {
-                    bytes = serializeFullClusterState(newState, destination.getVersion());
-                    serializedStates.put(destination.getVersion(), bytes);
-                } catch (Exception e) {
-                    logger.warn(
-                        () -> new ParameterizedMessage("failed to serialize cluster state before publishing it to node {}", destination),
-                        e
-                    );
-                    listener.onFailure(e);
-                    return;
-                }
+            final BytesReference bytes;
+            try {
+                bytes = getOrSerializeFullClusterState(destination.getVersion());
+            } catch (Exception e) {
+                logger.warn(
+                    () -> new ParameterizedMessage("failed to serialize cluster state before publishing it to node {}", destination),
+                    e
+                );
+                listener.onFailure(e);
+                return;
             }
             sendClusterState(destination, bytes, false, listener);
         }
 
+        // synchronized since a full state may be serialized when falling back from a failed diff, on the threads of the responses
+        private synchronized BytesReference getOrSerializeFullClusterState(Version nodeVersion) throws IOException {
+            ReleasableBytesReference bytes = serializedStates.get(nodeVersion);
+            if (bytes == null) {
+                bytes = serializeFullClusterState(newState, nodeVersion);
+                serializedStates.put(nodeVersion, bytes);
+            }
+            return bytes;
+        }
+
         private void sendClusterStateDiff(DiscoveryNode destination, ActionListener<PublishWithJoinResponse> listener) {
             final BytesReference bytes = serializedDiffs.get(destination.getVersion());
             assert bytes != null : "failed to find serialized diff for node "
@@ -581,6 +625,20 @@ public class PublicationTransportHandler {
             boolean retryWithFullClusterStateOnFailure,
             ActionListener<PublishWithJoinResponse> listener
         ) {
+            try {
+                incRef();
+            } catch (Exception e) {
+                logger.warn(() -> new ParameterizedMessage("error sending cluster state to {}", destination), e);
+                listener.onFailure(e);
+                return;
+            }
+            // the serialized state must not be released before the request was sent, so the reference is released once it completed
+            final AtomicBoolean released = new AtomicBoolean();
+            final Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    decRef();
+                }
+            };
             try {
                 final BytesTransportRequest request = new BytesTransportRequest(bytes, destination.getVersion());
                 final Consumer<TransportException> transportExceptionHandler = exp -> {
@@ -602,12 +660,18 @@ public class PublicationTransportHandler {
 
                     @Override
                     public void handleResponse(PublishWithJoinResponse response) {
+                        release.run();
                         listener.onResponse(response);
                     }
 
                     @Override
                     public void handleException(TransportException exp) {
-                        transportExceptionHandler.accept(exp);
+                        // falling back to the full state must happen before releasing, the last release frees the serialized states
+                        try {
+                            transportExceptionHandler.accept(exp);
+                        } finally {
+                            release.run();
+                        }
                     }
 
                     @Override
@@ -617,10 +681,19 @@ public class PublicationTransportHandler {
                 };
                 transportService.sendRequest(destination, PUBLISH_STATE_ACTION_NAME, request, stateRequestOptions, responseHandler);
             } catch (Exception e) {
+                release.run();
                 logger.warn(() -> new ParameterizedMessage("error sending cluster state to {}", destination), e);
                 listener.onFailure(e);
             }
         }
+
+        @Override
+        protected synchronized void closeInternal() {
+            Releasables.close(serializedStates.values());
+            Releasables.close(serializedDiffs.values());
+            serializedStates.clear();
+            serializedDiffs.clear();
+        }
     }
 
     /**
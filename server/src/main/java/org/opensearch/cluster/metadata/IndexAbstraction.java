@@ -46,7 +46,6 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static org.opensearch.cluster.metadata.DataStream.getDefaultBackingIndexName;
-import static org.opensearch.cluster.metadata.IndexMetadata.INDEX_HIDDEN_SETTING;
 
 /**
  * An index abstraction is a reference to one or more concrete indices.
@@ -187,7 +186,7 @@ public interface IndexAbstraction {
 
         @Override
         public boolean isHidden() {
-            return INDEX_HIDDEN_SETTING.get(concreteIndex.getSettings());
+            return concreteIndex.isHidden();
         }
 
         @Override
@@ -1048,7 +1048,10 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
 
     private final Map<String, AliasMetadata> aliases;
 
+    // null if the settings are kept serialized, see #getSettings()
     private final Settings settings;
+    @Nullable
+    private final LazyIndexSettings.Serialized serializedSettings;
 
     private final Map<String, MappingMetadata> mappings;
 
@@ -1069,6 +1072,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
     private final ActiveShardCount waitForActiveShards;
     private final Map<String, RolloverInfo> rolloverInfos;
     private final boolean isSystem;
+    private final boolean isHidden;
     private final boolean isRemoteSnapshot;
 
     private final int indexTotalShardsPerNodeLimit;
@@ -1132,6 +1136,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         this.numberOfSearchOnlyReplicas = numberOfSearchOnlyReplicas;
         this.totalNumberOfShards = numberOfShards * (numberOfReplicas + numberOfSearchOnlyReplicas + 1);
         this.settings = settings;
+        this.serializedSettings = null;
         this.mappings = Collections.unmodifiableMap(mappings);
         this.customData = Collections.unmodifiableMap(customData);
         this.aliases = Collections.unmodifiableMap(aliases);
@@ -1148,6 +1153,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         this.waitForActiveShards = waitForActiveShards;
         this.rolloverInfos = Collections.unmodifiableMap(rolloverInfos);
         this.isSystem = isSystem;
+        this.isHidden = INDEX_HIDDEN_SETTING.get(settings);
         this.isRemoteSnapshot = IndexModule.Type.REMOTE_SNAPSHOT.match(this.settings);
         this.indexTotalShardsPerNodeLimit = indexTotalShardsPerNodeLimit;
         this.indexTotalPrimaryShardsPerNodeLimit = indexTotalPrimaryShardsPerNodeLimit;
@@ -1159,6 +1165,94 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         assert numberOfShards * routingFactor == routingNumShards : routingNumShards + " must be a multiple of " + numberOfShards;
     }
 
+    /**
+     * Copies the given index metadata with either decoded or serialized settings.
+     */
+    private IndexMetadata(IndexMetadata other, Settings settings, LazyIndexSettings.Serialized serializedSettings) {
+        assert (settings == null) != (serializedSettings == null) : "either decoded or serialized settings are required";
+        this.index = other.index;
+        this.version = other.version;
+        this.mappingVersion = other.mappingVersion;
+        this.settingsVersion = other.settingsVersion;
+        this.aliasesVersion = other.aliasesVersion;
+        this.primaryTerms = other.primaryTerms;
+        this.state = other.state;
+        this.numberOfShards = other.numberOfShards;
+        this.numberOfReplicas = other.numberOfReplicas;
+        this.numberOfSearchOnlyReplicas = other.numberOfSearchOnlyReplicas;
+        this.totalNumberOfShards = other.totalNumberOfShards;
+        this.settings = settings;
+        this.serializedSettings = serializedSettings;
+        this.mappings = other.mappings;
+        this.customData = other.customData;
+        this.aliases = other.aliases;
+        this.inSyncAllocationIds = other.inSyncAllocationIds;
+        this.requireFilters = other.requireFilters;
+        this.includeFilters = other.includeFilters;
+        this.excludeFilters = other.excludeFilters;
+        this.initialRecoveryFilters = other.initialRecoveryFilters;
+        this.indexCreatedVersion = other.indexCreatedVersion;
+        this.indexUpgradedVersion = other.indexUpgradedVersion;
+        this.routingNumShards = other.routingNumShards;
+        this.routingFactor = other.routingFactor;
+        this.routingPartitionSize = other.routingPartitionSize;
+        this.waitForActiveShards = other.waitForActiveShards;
+        this.rolloverInfos = other.rolloverInfos;
+        this.isSystem = other.isSystem;
+        this.isHidden = other.isHidden;
+        this.isRemoteSnapshot = other.isRemoteSnapshot;
+        this.indexTotalShardsPerNodeLimit = other.indexTotalShardsPerNodeLimit;
+        this.indexTotalPrimaryShardsPerNodeLimit = other.indexTotalPrimaryShardsPerNodeLimit;
+        this.indexTotalRemoteCapableShardsPerNodeLimit = other.indexTotalRemoteCapableShardsPerNodeLimit;
+        this.indexTotalRemoteCapablePrimaryShardsPerNodeLimit = other.indexTotalRemoteCapablePrimaryShardsPerNodeLimit;
+        this.isAppendOnlyIndex = other.isAppendOnlyIndex;
+        this.context = other.context;
+        this.ingestionStatus = other.ingestionStatus;
+    }
+
+    /**
+     * Returns a copy of this index metadata that keeps its settings serialized and decodes them on access.
+     */
+    IndexMetadata withSerializedSettings() throws IOException {
+        assert serializedSettings == null : "settings of " + index + " are already serialized";
+        return new IndexMetadata(this, null, LazyIndexSettings.serialize(settings));
+    }
+
+    /**
+     * Returns a copy of this index metadata with decoded settings.
+     */
+    IndexMetadata withDecodedSettings() {
+        assert serializedSettings != null : "settings of " + index + " are already decoded";
+        return new IndexMetadata(this, serializedSettings.get(), null);
+    }
+
+    /**
+     * Returns whether the settings are kept serialized, see {@link LazyIndexSettings}.
+     */
+    public boolean hasSerializedSettings() {
+        return serializedSettings != null;
+    }
+
+    @Nullable
+    LazyIndexSettings.Serialized serializedSettings() {
+        return serializedSettings;
+    }
+
+    private boolean settingsEqual(IndexMetadata that) {
+        if (serializedSettings != null && that.serializedSettings != null) {
+            return serializedSettings.equals(that.serializedSettings);
+        }
+        return getSettings().equals(that.getSettings());
+    }
+
+    private void writeSettingsTo(StreamOutput out) throws IOException {
+        if (serializedSettings != null) {
+            serializedSettings.writeTo(out);
+        } else {
+            writeSettingsToStream(settings, out);
+        }
+    }
+
     public Index getIndex() {
         return index;
     }
@@ -1219,26 +1313,27 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
      * @return ingestion source, or null if ingestion source is not enabled
      */
     public IngestionSource getIngestionSource() {
-        final String ingestionSourceType = INGESTION_SOURCE_TYPE_SETTING.get(settings);
+        final Settings indexSettings = getSettings();
+        final String ingestionSourceType = INGESTION_SOURCE_TYPE_SETTING.get(indexSettings);
         if (ingestionSourceType != null && !(NONE_INGESTION_SOURCE_TYPE.equals(ingestionSourceType))) {
             final StreamPoller.ResetState pointerInitResetType = StreamPoller.ResetState.valueOf(
-                INGESTION_SOURCE_POINTER_INIT_RESET_SETTING.get(settings).toUpperCase(Locale.ROOT)
+                INGESTION_SOURCE_POINTER_INIT_RESET_SETTING.get(indexSettings).toUpperCase(Locale.ROOT)
             );
-            final String pointerInitResetValue = INGESTION_SOURCE_POINTER_INIT_RESET_VALUE_SETTING.get(settings);
+            final String pointerInitResetValue = INGESTION_SOURCE_POINTER_INIT_RESET_VALUE_SETTING.get(indexSettings);
             IngestionSource.PointerInitReset pointerInitReset = new IngestionSource.PointerInitReset(
                 pointerInitResetType,
                 pointerInitResetValue
             );
 
-            final IngestionErrorStrategy.ErrorStrategy errorStrategy = INGESTION_SOURCE_ERROR_STRATEGY_SETTING.get(settings);
-            final Map<String, Object> ingestionSourceParams = INGESTION_SOURCE_PARAMS_SETTING.getAsMap(settings);
-            final long maxPollSize = INGESTION_SOURCE_MAX_POLL_SIZE.get(settings);
-            final int pollTimeout = INGESTION_SOURCE_POLL_TIMEOUT.get(settings);
-            final int numProcessorThreads = INGESTION_SOURCE_NUM_PROCESSOR_THREADS_SETTING.get(settings);
-            final int blockingQueueSize = INGESTION_SOURCE_INTERNAL_QUEUE_SIZE_SETTING.get(settings);
-            final boolean allActiveIngestionEnabled = INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING.get(settings);
-            final TimeValue pointerBasedLagUpdateInterval = INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING.get(settings);
-            final IngestionMessageMapper.MapperType mapperType = INGESTION_SOURCE_MAPPER_TYPE_SETTING.get(settings);
+            final IngestionErrorStrategy.ErrorStrategy errorStrategy = INGESTION_SOURCE_ERROR_STRATEGY_SETTING.get(indexSettings);
+            final Map<String, Object> ingestionSourceParams = INGESTION_SOURCE_PARAMS_SETTING.getAsMap(indexSettings);
+            final long maxPollSize = INGESTION_SOURCE_MAX_POLL_SIZE.get(indexSettings);
+            final int pollTimeout = INGESTION_SOURCE_POLL_TIMEOUT.get(indexSettings);
+            final int numProcessorThreads = INGESTION_SOURCE_NUM_PROCESSOR_THREADS_SETTING.get(indexSettings);
+            final int blockingQueueSize = INGESTION_SOURCE_INTERNAL_QUEUE_SIZE_SETTING.get(indexSettings);
+            final boolean allActiveIngestionEnabled = INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING.get(indexSettings);
+            final TimeValue pointerBasedLagUpdateInterval = INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING.get(indexSettings);
+            final IngestionMessageMapper.MapperType mapperType = INGESTION_SOURCE_MAPPER_TYPE_SETTING.get(indexSettings);
 
             return new IngestionSource.Builder(ingestionSourceType).setParams(ingestionSourceParams)
                 .setPointerInitReset(pointerInitReset)
@@ -1256,12 +1351,12 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
     }
 
     public boolean useIngestionSource() {
-        final String ingestionSourceType = INGESTION_SOURCE_TYPE_SETTING.get(settings);
+        final String ingestionSourceType = INGESTION_SOURCE_TYPE_SETTING.get(getSettings());
         return ingestionSourceType != null && !(NONE_INGESTION_SOURCE_TYPE.equals(ingestionSourceType));
     }
 
     public boolean isAllActiveIngestionEnabled() {
-        return INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING.get(settings);
+        return INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING.get(getSettings());
     }
 
     public IngestionStatus getIngestionStatus() {
@@ -1277,7 +1372,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
     }
 
     public long getCreationDate() {
-        return settings.getAsLong(SETTING_CREATION_DATE, -1L);
+        return getSettings().getAsLong(SETTING_CREATION_DATE, -1L);
     }
 
     public State getState() {
@@ -1317,7 +1412,14 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
     }
 
     public Settings getSettings() {
-        return settings;
+        return serializedSettings == null ? settings : serializedSettings.get();
+    }
+
+    /**
+     * Returns whether the index is hidden, see {@link #INDEX_HIDDEN_SETTING}.
+     */
+    public boolean isHidden() {
+        return isHidden;
     }
 
     public Map<String, AliasMetadata> getAliases() {
@@ -1341,8 +1443,9 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
     public static final Setting<String> INDEX_RESIZE_SOURCE_NAME = Setting.simpleString(INDEX_RESIZE_SOURCE_NAME_KEY);
 
     public Index getResizeSourceIndex() {
-        return INDEX_RESIZE_SOURCE_UUID.exists(settings)
-            ? new Index(INDEX_RESIZE_SOURCE_NAME.get(settings), INDEX_RESIZE_SOURCE_UUID.get(settings))
+        final Settings indexSettings = getSettings();
+        return INDEX_RESIZE_SOURCE_UUID.exists(indexSettings)
+            ? new Index(INDEX_RESIZE_SOURCE_NAME.get(indexSettings), INDEX_RESIZE_SOURCE_UUID.get(indexSettings))
             : null;
     }
 
@@ -1431,7 +1534,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         if (!mappings.equals(that.mappings)) {
             return false;
         }
-        if (!settings.equals(that.settings)) {
+        if (settingsEqual(that) == false) {
             return false;
         }
         if (state != that.state) {
@@ -1473,7 +1576,8 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         result = 31 * result + Long.hashCode(version);
         result = 31 * result + state.hashCode();
         result = 31 * result + aliases.hashCode();
-        result = 31 * result + settings.hashCode();
+        // the serialized settings hash as the decoded ones do
+        result = 31 * result + (serializedSettings == null ? settings.hashCode() : serializedSettings.hashCode());
         result = 31 * result + mappings.hashCode();
         result = 31 * result + customData.hashCode();
         result = 31 * result + Long.hashCode(routingFactor);
@@ -1539,7 +1643,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             aliasesVersion = after.aliasesVersion;
             routingNumShards = after.routingNumShards;
             state = after.state;
-            settings = after.settings;
+            settings = after.getSettings();
             primaryTerms = after.primaryTerms;
             mappings = DiffableUtils.diff(before.mappings, after.mappings, DiffableUtils.getStringKeySerializer());
             aliases = DiffableUtils.diff(before.aliases, after.aliases, DiffableUtils.getStringKeySerializer());
@@ -1703,7 +1807,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         out.writeVLong(aliasesVersion);
         out.writeInt(routingNumShards);
         out.writeByte(state.id());
-        writeSettingsToStream(settings, out);
+        writeSettingsTo(out);
         out.writeVLongArray(primaryTerms);
         out.writeVInt(mappings.size());
         for (final MappingMetadata cursor : mappings.values()) {
@@ -1747,7 +1851,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         out.writeVLong(aliasesVersion);
         out.writeInt(routingNumShards);
         out.writeByte(state.id());
-        writeSettingsToStream(settings, out);
+        writeSettingsTo(out);
         out.writeVLongArray(primaryTerms);
         out.writeMapValues(mappings, (stream, val) -> val.writeVerifiableTo((BufferedChecksumStreamOutput) stream));
         out.writeMapValues(aliases, (stream, val) -> val.writeTo(stream));
@@ -1785,7 +1889,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             .append(", aliases=")
             .append(aliases)
             .append(", settings=")
-            .append(settings)
+            .append(getSettings())
             .append(", mappings=")
             .append(mappings)
             .append(", customData=")
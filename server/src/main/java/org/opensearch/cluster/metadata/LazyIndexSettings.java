@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Keeps the settings of the indices in the cluster state serialized on nodes that are not cluster-manager eligible, and decodes them
+ * when they are accessed. Data nodes hold the metadata of every index of the cluster while they mostly read the settings of the
+ * indices they have shards of: the settings of these indices are kept decoded, the settings of the other indices are decoded on
+ * access and released again with the next cluster state unless they were accessed in the meantime.
+ *
+ * @opensearch.internal
+ */
+public final class LazyIndexSettings {
+
+    public static final Setting<Boolean> LAZY_INDEX_SETTINGS_ENABLED_SETTING = Setting.boolSetting(
+        "cluster.metadata.lazy_index_settings.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    /**
+     * Returns the given cluster state with the settings of the indices that have no shards on the local node kept serialized and the
+     * settings of the indices that have shards on the local node decoded, or the given cluster state if there is nothing to change.
+     */
+    public ClusterState apply(ClusterState clusterState) throws IOException {
+        final Metadata metadata = clusterState.metadata();
+        final String localNodeId = clusterState.nodes().getLocalNodeId();
+        Metadata.Builder builder = null;
+        boolean incomingSerialized = false;
+        for (IndexMetadata indexMetadata : metadata.indices().values()) {
+            final boolean local = hasLocalShards(clusterState.routingTable().index(indexMetadata.getIndex()), localNodeId);
+            final IndexMetadata updated;
+            if (indexMetadata.hasSerializedSettings()) {
+                incomingSerialized = true;
+                if (local) {
+                    updated = indexMetadata.withDecodedSettings();
+                } else {
+                    indexMetadata.serializedSettings().releaseIfUnused();
+                    continue;
+                }
+            } else if (local == false) {
+                updated = indexMetadata.withSerializedSettings();
+            } else {
+                continue;
+            }
+            if (builder == null) {
+                builder = Metadata.builder(metadata);
+            }
+            builder.put(updated, false);
+        }
+        if (builder == null) {
+            return clusterState;
+        }
+        // Only the settings of the indices change, so the indices lookups of the incoming state are still valid. They refer to the
+        // decoded instances of the indices that changed with the incoming diff until the next diff changes them. The lookups of a full
+        // state refer to the decoded instances of all indices though and are recomputed, which is rare.
+        final Metadata updatedMetadata = incomingSerialized
+            ? builder.buildWithPreviousIndicesLookups()
+            : builder.buildWithRecomputedIndicesLookups();
+        return ClusterState.builder(clusterState).metadata(updatedMetadata).build();
+    }
+
+    private static boolean hasLocalShards(@Nullable IndexRoutingTable indexRoutingTable, @Nullable String localNodeId) {
+        if (indexRoutingTable == null || localNodeId == null) {
+            return false;
+        }
+        for (IndexShardRoutingTable shardRoutingTable : indexRoutingTable) {
+            for (ShardRouting shardRouting : shardRoutingTable) {
+                if (localNodeId.equals(shardRouting.currentNodeId()) || localNodeId.equals(shardRouting.relocatingNodeId())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static Serialized serialize(Settings settings) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            Settings.writeSettingsToStream(settings, out);
+            return new Serialized(BytesReference.toBytes(out.bytes()), settings.hashCode());
+        }
+    }
+
+    /**
+     * The serialized settings of one index. The decoded settings are kept until a cluster state is applied in which they were not
+     * accessed since the previous one.
+     *
+     * @opensearch.internal
+     */
+    static final class Serialized {
+        private final byte[] bytes;
+        private final int settingsHashCode;
+        private volatile Settings decoded;
+        private volatile boolean accessed;
+
+        private Serialized(byte[] bytes, int settingsHashCode) {
+            this.bytes = bytes;
+            this.settingsHashCode = settingsHashCode;
+        }
+
+        Settings get() {
+            accessed = true;
+            Settings settings = decoded;
+            if (settings == null) {
+                settings = decode();
+                decoded = settings;
+            }
+            return settings;
+        }
+
+        boolean isDecoded() {
+            return decoded != null;
+        }
+
+        /**
+         * Releases the decoded settings if they were not accessed since the previous call.
+         */
+        void releaseIfUnused() {
+            if (accessed) {
+                accessed = false;
+            } else {
+                decoded = null;
+            }
+        }
+
+        /**
+         * Writes the settings as {@link Settings#writeSettingsToStream} does, the format is the same for all versions.
+         */
+        void writeTo(StreamOutput out) throws IOException {
+            out.writeBytes(bytes);
+        }
+
+        private Settings decode() {
+            try (StreamInput in = new BytesArray(bytes).streamInput()) {
+                return Settings.readSettingsFromStream(in);
+            } catch (IOException e) {
+                throw new OpenSearchException("failed to decode index settings", e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Serialized that = (Serialized) o;
+            // settings are written in the order of their keys, equal settings have equal bytes
+            return settingsHashCode == that.settingsHashCode && Arrays.equals(bytes, that.bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return settingsHashCode;
+        }
+    }
+}
@@ -1625,6 +1625,25 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
                 : buildMetadataWithRecomputedIndicesLookups();
         }
 
+        /**
+         * Builds the metadata without re-using the indices lookups of the previous metadata, even if its indices are equal. The
+         * lookups of the previous metadata refer to its instances of the index metadata, which would otherwise be kept alive.
+         */
+        Metadata buildWithRecomputedIndicesLookups() {
+            buildSystemTemplatesLookup();
+            return buildMetadataWithRecomputedIndicesLookups();
+        }
+
+        /**
+         * Builds the metadata re-using the indices lookups of the previous metadata without comparing the indices, which the caller
+         * guarantees to resolve the same.
+         */
+        Metadata buildWithPreviousIndicesLookups() {
+            assert previousMetadata != null : "no previous metadata to re-use the indices lookups of";
+            buildSystemTemplatesLookup();
+            return buildMetadataWithPreviousIndicesLookups();
+        }
+
         private void buildSystemTemplatesLookup() {
             if (previousMetadata != null
                 && Objects.equals(
@@ -1692,7 +1711,7 @@ public class Metadata implements Iterable<IndexMetadata>, Diffable<Metadata>, To
                 final String name = indexMetadata.getIndex().getName();
                 boolean added = allIndices.add(name);
                 assert added : "double index named [" + name + "]";
-                final boolean visible = IndexMetadata.INDEX_HIDDEN_SETTING.get(indexMetadata.getSettings()) == false;
+                final boolean visible = indexMetadata.isHidden() == false;
                 if (visible) {
                     visibleIndices.add(name);
                 }
@@ -390,6 +390,11 @@ public class MetadataCreateIndexService {
                     return createIndexTaskKey;
                 }
 
+                @Override
+                public boolean coalesceWithOtherExecutors() {
+                    return true;
+                }
+
                 @Override
                 public ClusterState execute(ClusterState currentState) throws Exception {
                     return applyCreateIndexRequest(currentState, request, false);
@@ -259,6 +259,11 @@ public class MetadataMappingService {
             return putMappingTaskKey;
         }
 
+        @Override
+        public boolean coalesceWithOtherExecutors() {
+            return true;
+        }
+
         private ClusterState applyRequest(
             ClusterState currentState,
             PutMappingClusterStateUpdateRequest request,
@@ -482,11 +482,15 @@ public class IndexShardRoutingTable extends AbstractDiffable<IndexShardRoutingTa
         final Map<String, Long> nodeSearchCounts
     ) {
         final Map<String, Double> nodeRanks = new HashMap<>(nodeStats.size());
+        // ranks of different models are not comparable, so all nodes are ranked with the same one
+        final ResponseCollectorService.RankingModel model = ResponseCollectorService.rankingModel(
+            nodeStats.values().stream().flatMap(Optional::stream).collect(Collectors.toList())
+        );
         for (Map.Entry<String, Optional<ResponseCollectorService.ComputedNodeStats>> entry : nodeStats.entrySet()) {
             Optional<ResponseCollectorService.ComputedNodeStats> maybeStats = entry.getValue();
             maybeStats.ifPresent(stats -> {
                 final String nodeId = entry.getKey();
-                nodeRanks.put(nodeId, stats.rank(nodeSearchCounts.getOrDefault(nodeId, 1L)));
+                nodeRanks.put(nodeId, stats.rank(nodeSearchCounts.getOrDefault(nodeId, 1L), model));
             });
         }
         return nodeRanks;
@@ -56,8 +56,10 @@ import org.opensearch.cluster.routing.UnassignedInfo;
 import org.opensearch.cluster.routing.UnassignedInfo.AllocationStatus;
 import org.opensearch.cluster.routing.allocation.allocator.ShardsAllocator;
 import org.opensearch.cluster.routing.allocation.command.AllocationCommands;
+import org.opensearch.cluster.routing.allocation.decider.AllocationDeciderTimings;
 import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
 import org.opensearch.cluster.routing.allocation.decider.Decision;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.gateway.GatewayAllocator;
@@ -65,6 +67,7 @@ import org.opensearch.gateway.PriorityComparator;
 import org.opensearch.gateway.ShardsBatchGatewayAllocator;
 import org.opensearch.snapshots.SnapshotsInfoService;
 import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
+import org.opensearch.telemetry.metrics.tags.Tags;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -96,6 +99,16 @@ public class AllocationService {
 
     private static final Logger logger = LogManager.getLogger(AllocationService.class);
 
+    /**
+     * Whether to record the time spent in every allocation decider during a reroute, which is reported as the
+     * {@code allocation.decider.latency} metric tagged with the decider.
+     */
+    public static final Setting<Boolean> ALLOCATION_DECIDER_TIMING_ENABLED_SETTING = Setting.boolSetting(
+        "cluster.routing.allocation.decider_timing.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
     private final AllocationDeciders allocationDeciders;
     private Settings settings;
     private Map<String, ExistingShardsAllocator> existingShardsAllocators;
@@ -103,6 +116,7 @@ public class AllocationService {
     private final ClusterInfoService clusterInfoService;
     private SnapshotsInfoService snapshotsInfoService;
     private final ClusterManagerMetrics clusterManagerMetrics;
+    private final boolean deciderTimingEnabled;
 
     // only for tests that use the GatewayAllocator as the unique ExistingShardsAllocator
     public AllocationService(
@@ -146,6 +160,7 @@ public class AllocationService {
         this.snapshotsInfoService = snapshotsInfoService;
         this.settings = settings;
         this.clusterManagerMetrics = clusterManagerMetrics;
+        this.deciderTimingEnabled = ALLOCATION_DECIDER_TIMING_ENABLED_SETTING.get(settings);
     }
 
     /**
@@ -596,6 +611,9 @@ public class AllocationService {
 
         assert assertInitialized();
         long rerouteStartTimeNS = System.nanoTime();
+        if (deciderTimingEnabled) {
+            allocation.setDeciderTimings(new AllocationDeciderTimings(allocationDeciders));
+        }
         removeDelayMarkers(allocation);
 
         allocateExistingUnassignedShards(allocation);  // try to allocate existing shard copies first
@@ -604,9 +622,25 @@ public class AllocationService {
             clusterManagerMetrics.rerouteHistogram,
             (double) Math.max(0, TimeValue.nsecToMSec(System.nanoTime() - rerouteStartTimeNS))
         );
+        if (allocation.deciderTimings() != null) {
+            recordDeciderTimings(allocation.deciderTimings());
+        }
         assert RoutingNodes.assertShardStats(allocation.routingNodes());
     }
 
+    private void recordDeciderTimings(AllocationDeciderTimings deciderTimings) {
+        for (Map.Entry<String, Long> took : deciderTimings.tookInNanos().entrySet()) {
+            clusterManagerMetrics.recordLatency(
+                clusterManagerMetrics.allocationDeciderHistogram,
+                (double) TimeValue.nsecToMSec(took.getValue()),
+                Optional.of(Tags.create().addTag("Operation", took.getKey()))
+            );
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("time spent in allocation deciders in nanoseconds: {}", deciderTimings.tookInNanos());
+        }
+    }
+
     private void allocateExistingUnassignedShards(RoutingAllocation allocation) {
         allocation.routingNodes().unassigned().sort(PriorityComparator.getAllocationComparator(allocation)); // sort for priority ordering
 
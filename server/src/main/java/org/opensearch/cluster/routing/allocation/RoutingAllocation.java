@@ -41,8 +41,10 @@ import org.opensearch.cluster.routing.RoutingChangesObserver;
 import org.opensearch.cluster.routing.RoutingNodes;
 import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.allocation.decider.AllocationDeciderTimings;
 import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
 import org.opensearch.cluster.routing.allocation.decider.Decision;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.snapshots.RestoreService.RestoreInProgressUpdater;
@@ -91,6 +93,8 @@ public class RoutingAllocation {
 
     private boolean hasPendingAsyncFetch = false;
 
+    private AllocationDeciderTimings deciderTimings = null;
+
     private final long currentNanoTime;
 
     private final IndexMetadataUpdater indexMetadataUpdater = new IndexMetadataUpdater();
@@ -320,6 +324,21 @@ public class RoutingAllocation {
         this.hasPendingAsyncFetch = true;
     }
 
+    /**
+     * Returns the timings the deciders record the time they take into, or {@code null} if they are not timed.
+     */
+    @Nullable
+    public AllocationDeciderTimings deciderTimings() {
+        return deciderTimings;
+    }
+
+    /**
+     * Sets the timings the deciders record the time they take into during this allocation.
+     */
+    public void setDeciderTimings(AllocationDeciderTimings deciderTimings) {
+        this.deciderTimings = deciderTimings;
+    }
+
     /**
      * Debug mode.
      *
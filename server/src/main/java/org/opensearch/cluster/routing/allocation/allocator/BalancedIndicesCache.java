@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.opensearch.cluster.metadata.IndexMetadata;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Remembers across reroutes which indices the {@link LocalShardsBalancer} found to be balanced, so that the next balancing round
+ * does not need to compute the weights of all nodes for all indices again.
+ * <p>
+ * The weight delta of an index between its lightest and its heaviest node only depends on the number of shards of the index on
+ * every node, on the number of shards of the index and on the total number of shards of every node. While the shards of an index
+ * stay where they are, a change of the total number of shards of the nodes by at most {@code spread} shards increases its delta
+ * by at most {@link BalancedShardsAllocator.WeightFunction#maxDeltaIncrease(int)}. An index whose cached delta, increased by that
+ * bound, is still below the threshold is balanced and is not re-computed. All the other indices are re-computed and cached again
+ * if they are balanced.
+ * <p>
+ * The rebalance constraints depend on more than these inputs, the cache is not used while any of them is enabled.
+ *
+ * @opensearch.internal
+ */
+final class BalancedIndicesCache {
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Drops the cached indices.
+     */
+    void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * Starts a balancing round over the given nodes of the model.
+     */
+    Round startRound(
+        Collection<BalancedShardsAllocator.ModelNode> modelNodes,
+        BalancedShardsAllocator.WeightFunction weight,
+        float threshold
+    ) {
+        return new Round(snapshot, modelNodes, weight, threshold);
+    }
+
+    /**
+     * The cached indices and the model they were cached for.
+     */
+    private static final class Snapshot {
+        private final BalancedShardsAllocator.WeightFunction weight;
+        private final float threshold;
+        private final String[] nodeIds;
+        private final int[] nodeShards;
+        private final Map<String, BalancedIndex> indices;
+
+        private Snapshot(
+            BalancedShardsAllocator.WeightFunction weight,
+            float threshold,
+            String[] nodeIds,
+            int[] nodeShards,
+            Map<String, BalancedIndex> indices
+        ) {
+            this.weight = weight;
+            this.threshold = threshold;
+            this.nodeIds = nodeIds;
+            this.nodeShards = nodeShards;
+            this.indices = indices;
+        }
+    }
+
+    /**
+     * A balanced index with the number of shards it has on every node and an upper bound of its weight delta.
+     */
+    private static final class BalancedIndex {
+        private final int[] distribution;
+        private final int totalShards;
+        private final int primaryShards;
+        private final float delta;
+
+        private BalancedIndex(int[] distribution, int totalShards, int primaryShards, float delta) {
+            this.distribution = distribution;
+            this.totalShards = totalShards;
+            this.primaryShards = primaryShards;
+            this.delta = delta;
+        }
+
+        private boolean sameShards(int[] otherDistribution, IndexMetadata indexMetadata) {
+            return totalShards == indexMetadata.getTotalNumberOfShards()
+                && primaryShards == indexMetadata.getNumberOfShards()
+                && Arrays.equals(distribution, otherDistribution);
+        }
+    }
+
+    /**
+     * Collects the number of shards of an index on the nodes it has shards on.
+     */
+    private static final class Distribution {
+        private int[] values = new int[3];
+        private int size;
+
+        private void add(int ordinal, BalancedShardsAllocator.ModelIndex index) {
+            values = ArrayUtil.grow(values, size + 3);
+            values[size++] = ordinal;
+            values[size++] = index.numShards();
+            values[size++] = index.numPrimaryShards();
+        }
+
+        private int[] toArray() {
+            return ArrayUtil.copyOfSubArray(values, 0, size);
+        }
+    }
+
+    /**
+     * A balancing round, that looks up the cached indices for the current model and caches the balanced indices for the next round.
+     */
+    final class Round {
+        private final Snapshot previous;
+        private final BalancedShardsAllocator.WeightFunction weight;
+        private final float threshold;
+        private final String[] nodeIds;
+        private final int[] nodeShards;
+        // the number of shards of every index on every node it has shards on, as triples of node ordinal, shards and primaries
+        private final Map<String, int[]> distributions = new HashMap<>();
+        private final Map<String, BalancedIndex> balancedIndices = new HashMap<>();
+        // by how much the weight delta of the cached indices can have grown, NaN if they can not be used
+        private final float maxDeltaIncrease;
+
+        private Round(
+            Snapshot previous,
+            Collection<BalancedShardsAllocator.ModelNode> modelNodes,
+            BalancedShardsAllocator.WeightFunction weight,
+            float threshold
+        ) {
+            this.previous = previous;
+            this.weight = weight;
+            this.threshold = threshold;
+            final BalancedShardsAllocator.ModelNode[] nodes = modelNodes.toArray(new BalancedShardsAllocator.ModelNode[0]);
+            Arrays.sort(nodes, (a, b) -> a.getNodeId().compareTo(b.getNodeId()));
+            nodeIds = new String[nodes.length];
+            nodeShards = new int[nodes.length];
+            final Map<String, Distribution> builders = new HashMap<>();
+            for (int ordinal = 0; ordinal < nodes.length; ordinal++) {
+                nodeIds[ordinal] = nodes[ordinal].getNodeId();
+                nodeShards[ordinal] = nodes[ordinal].numShards();
+                for (BalancedShardsAllocator.ModelIndex index : nodes[ordinal]) {
+                    builders.computeIfAbsent(index.getIndexId(), k -> new Distribution()).add(ordinal, index);
+                }
+            }
+            for (Map.Entry<String, Distribution> entry : builders.entrySet()) {
+                distributions.put(entry.getKey(), entry.getValue().toArray());
+            }
+            maxDeltaIncrease = computeMaxDeltaIncrease();
+        }
+
+        private float computeMaxDeltaIncrease() {
+            if (previous == null
+                || previous.weight != weight
+                || previous.threshold != threshold
+                || nodeIds.length == 0
+                || Arrays.equals(previous.nodeIds, nodeIds) == false) {
+                return Float.NaN;
+            }
+            int minChange = Integer.MAX_VALUE;
+            int maxChange = Integer.MIN_VALUE;
+            for (int i = 0; i < nodeShards.length; i++) {
+                final int change = nodeShards[i] - previous.nodeShards[i];
+                minChange = Math.min(minChange, change);
+                maxChange = Math.max(maxChange, change);
+            }
+            return weight.maxDeltaIncrease(maxChange - minChange);
+        }
+
+        /**
+         * Returns an upper bound of the weight delta of the index if it is still balanced, {@code NaN} if it has to be re-computed.
+         */
+        float balancedDelta(String index, IndexMetadata indexMetadata) {
+            if (Float.isNaN(maxDeltaIncrease)) {
+                return Float.NaN;
+            }
+            final BalancedIndex balancedIndex = previous.indices.get(index);
+            final int[] distribution = distributions.getOrDefault(index, new int[0]);
+            if (balancedIndex == null || balancedIndex.sameShards(distribution, indexMetadata) == false) {
+                return Float.NaN;
+            }
+            final float delta = balancedIndex.delta + maxDeltaIncrease;
+            if (LocalShardsBalancer.lessThan(delta, threshold) == false) {
+                return Float.NaN;
+            }
+            balancedIndices.put(index, new BalancedIndex(distribution, balancedIndex.totalShards, balancedIndex.primaryShards, delta));
+            return delta;
+        }
+
+        /**
+         * Caches the index if the weight delta computed for it is below the threshold.
+         */
+        void computedDelta(String index, IndexMetadata indexMetadata, float delta) {
+            if (LocalShardsBalancer.lessThan(delta, threshold)) {
+                balancedIndices.put(
+                    index,
+                    new BalancedIndex(
+                        distributions.getOrDefault(index, new int[0]),
+                        indexMetadata.getTotalNumberOfShards(),
+                        indexMetadata.getNumberOfShards(),
+                        delta
+                    )
+                );
+            }
+        }
+
+        /**
+         * Caches the balanced indices of this round for the next one.
+         */
+        void finish() {
+            snapshot = new Snapshot(weight, threshold, nodeIds, nodeShards, balancedIndices);
+        }
+    }
+}
@@ -58,6 +58,7 @@ import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -141,6 +142,32 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         Property.NodeScope
     );
 
+    /**
+     * Whether to keep the indices that were found to be balanced across reroutes, so that balancing only re-computes the weights
+     * of the indices whose shards moved, or whose balance may have been tipped by shards moving between nodes. Indices that are
+     * balanced may be visited in a different order than when computing the weights of all of them, which only matters if shards
+     * of earlier indices are relocated in the same round.
+     */
+    public static final Setting<Boolean> INCREMENTAL_BALANCE_SETTING = Setting.boolSetting(
+        "cluster.routing.allocation.balance.incremental",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The number of threads that take the allocation decisions of a shard for the candidate nodes concurrently, {@code 1} takes
+     * them on the allocating thread. The built-in allocation deciders are safe to call concurrently, only enable it if the deciders
+     * of the installed plugins are too.
+     */
+    public static final Setting<Integer> DECIDER_PARALLELISM_SETTING = Setting.intSetting(
+        "cluster.routing.allocation.balance.decider_parallelism",
+        1,
+        1,
+        64,
+        Property.NodeScope
+    );
+
     public static final Setting<Long> PRIMARY_CONSTRAINT_THRESHOLD_SETTING = Setting.longSetting(
         "cluster.routing.allocation.primary_constraint.threshold",
         10,
@@ -242,6 +269,10 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     private volatile boolean ignoreThrottleInRestore;
     private volatile TimeValue allocatorTimeout;
     private volatile Priority followUpRerouteTaskPriority;
+    private volatile boolean incrementalBalance;
+    private final BalancedIndicesCache balancedIndicesCache = new BalancedIndicesCache();
+    private final int deciderParallelism;
+    private volatile ParallelNodeDecisions parallelNodeDecisions;
     private long startTime;
     private RerouteService rerouteService;
 
@@ -263,6 +294,8 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         setShardMovementStrategy(SHARD_MOVEMENT_STRATEGY_SETTING.get(settings));
         setAllocatorTimeout(ALLOCATOR_TIMEOUT_SETTING.get(settings));
         setFollowUpRerouteTaskPriority(FOLLOW_UP_REROUTE_PRIORITY_SETTING.get(settings));
+        setIncrementalBalance(INCREMENTAL_BALANCE_SETTING.get(settings));
+        deciderParallelism = DECIDER_PARALLELISM_SETTING.get(settings);
         clusterSettings.addSettingsUpdateConsumer(PREFER_PRIMARY_SHARD_BALANCE, this::setPreferPrimaryShardBalance);
         clusterSettings.addSettingsUpdateConsumer(SHARD_MOVE_PRIMARY_FIRST_SETTING, this::setMovePrimaryFirst);
         clusterSettings.addSettingsUpdateConsumer(SHARD_MOVEMENT_STRATEGY_SETTING, this::setShardMovementStrategy);
@@ -275,6 +308,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         clusterSettings.addSettingsUpdateConsumer(IGNORE_THROTTLE_FOR_REMOTE_RESTORE, this::setIgnoreThrottleInRestore);
         clusterSettings.addSettingsUpdateConsumer(ALLOCATOR_TIMEOUT_SETTING, this::setAllocatorTimeout);
         clusterSettings.addSettingsUpdateConsumer(FOLLOW_UP_REROUTE_PRIORITY_SETTING, this::setFollowUpRerouteTaskPriority);
+        clusterSettings.addSettingsUpdateConsumer(INCREMENTAL_BALANCE_SETTING, this::setIncrementalBalance);
     }
 
     @Override
@@ -283,6 +317,18 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         this.rerouteService = rerouteService;
     }
 
+    /**
+     * Takes the allocation decisions for the candidate nodes concurrently on the generic thread pool if
+     * {@link #DECIDER_PARALLELISM_SETTING} is greater than 1. Decisions are taken one node after the other until the thread pool is set.
+     */
+    @Override
+    public void setThreadPool(ThreadPool threadPool) {
+        assert this.parallelNodeDecisions == null : "ThreadPool is already set";
+        if (deciderParallelism > 1) {
+            this.parallelNodeDecisions = new ParallelNodeDecisions(deciderParallelism, threadPool.generic());
+        }
+    }
+
     /**
      * Changes in deprecated setting SHARD_MOVE_PRIMARY_FIRST_SETTING affect value of its replacement setting SHARD_MOVEMENT_STRATEGY_SETTING.
      */
@@ -379,6 +425,13 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         this.followUpRerouteTaskPriority = followUpRerouteTaskPriority;
     }
 
+    private void setIncrementalBalance(boolean incrementalBalance) {
+        this.incrementalBalance = incrementalBalance;
+        if (incrementalBalance == false) {
+            balancedIndicesCache.invalidate();
+        }
+    }
+
     protected boolean allocatorTimedOut() {
         if (allocatorTimeout.equals(TimeValue.MINUS_ONE)) {
             if (logger.isTraceEnabled()) {
@@ -404,7 +457,9 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             preferPrimaryShardBalance,
             preferPrimaryShardRebalance,
             ignoreThrottleInRestore,
-            this::allocatorTimedOut
+            this::allocatorTimedOut,
+            incrementalBalance ? balancedIndicesCache : null,
+            parallelNodeDecisions
         );
         this.startTime = System.nanoTime();
         localShardsBalancer.allocateUnassigned();
@@ -598,6 +653,14 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             return theta0 * weightShard + theta1 * weightIndex;
         }
 
+        /**
+         * Returns by how much the weight delta between two nodes for an index can grow at most if the number of shards of the
+         * nodes changes by at most the given spread between the nodes, while their shards of the index stay the same.
+         */
+        float maxDeltaIncrease(int shardCountSpread) {
+            return theta0 * shardCountSpread;
+        }
+
         void updateAllocationConstraint(String constraint, boolean enable) {
             this.constraints.updateAllocationConstraint(constraint, enable);
         }
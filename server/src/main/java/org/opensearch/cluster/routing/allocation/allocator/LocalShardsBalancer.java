@@ -75,7 +75,13 @@ public class LocalShardsBalancer extends ShardsBalancer {
     private final BalancedShardsAllocator.NodeSorter sorter;
     private final Set<RoutingNode> inEligibleTargetNode;
     private final Supplier<Boolean> timedOutFunc;
+    private final BalancedIndicesCache balancedIndicesCache;
+    private final ParallelNodeDecisions parallelNodeDecisions;
+    // rebalance decisions of the shards, which do not change until a shard is relocated on the routing nodes
+    private final Map<ShardRouting, Decision> rebalanceDecisions = new HashMap<>();
     private int totalShardCount = 0;
+    // whether balancing moved a shard on the model, which changes the weights computed for ordering the indices
+    private boolean movedShardsOnModel = false;
 
     public LocalShardsBalancer(
         Logger logger,
@@ -87,6 +93,39 @@ public class LocalShardsBalancer extends ShardsBalancer {
         boolean preferPrimaryRebalance,
         boolean ignoreThrottleInRestore,
         Supplier<Boolean> timedOutFunc
+    ) {
+        this(
+            logger,
+            allocation,
+            shardMovementStrategy,
+            weight,
+            threshold,
+            preferPrimaryBalance,
+            preferPrimaryRebalance,
+            ignoreThrottleInRestore,
+            timedOutFunc,
+            null,
+            null
+        );
+    }
+
+    /**
+     * Creates a balancer that skips re-computing the weights of the indices that the given cache knows to be balanced, and that
+     * takes the allocation decisions for many nodes on the given {@link ParallelNodeDecisions} if it is not {@code null}. The cache
+     * is not used while any of the rebalance constraints is enabled.
+     */
+    LocalShardsBalancer(
+        Logger logger,
+        RoutingAllocation allocation,
+        ShardMovementStrategy shardMovementStrategy,
+        BalancedShardsAllocator.WeightFunction weight,
+        float threshold,
+        boolean preferPrimaryBalance,
+        boolean preferPrimaryRebalance,
+        boolean ignoreThrottleInRestore,
+        Supplier<Boolean> timedOutFunc,
+        BalancedIndicesCache balancedIndicesCache,
+        ParallelNodeDecisions parallelNodeDecisions
     ) {
         this.logger = logger;
         this.allocation = allocation;
@@ -105,6 +144,8 @@ public class LocalShardsBalancer extends ShardsBalancer {
         this.shardMovementStrategy = shardMovementStrategy;
         this.ignoreThrottleInRestore = ignoreThrottleInRestore;
         this.timedOutFunc = timedOutFunc;
+        this.balancedIndicesCache = preferPrimaryBalance || preferPrimaryRebalance ? null : balancedIndicesCache;
+        this.parallelNodeDecisions = parallelNodeDecisions;
     }
 
     /**
@@ -162,7 +203,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
      * Returns {@code true} iff the weight delta between two nodes is under a defined threshold.
      * See {@link BalancedShardsAllocator#THRESHOLD_SETTING} for defining the threshold.
      */
-    private static boolean lessThan(float delta, float threshold) {
+    static boolean lessThan(float delta, float threshold) {
         /* deltas close to the threshold are "rounded" to the threshold manually
            to prevent floating point problems if the delta is very close to the
            threshold ie. 1.000000002 which can trigger unnecessary balance actions*/
@@ -349,7 +390,11 @@ public class LocalShardsBalancer extends ShardsBalancer {
         final AllocationDeciders deciders = allocation.deciders();
         final BalancedShardsAllocator.ModelNode[] modelNodes = sorter.modelNodes;
         final float[] weights = sorter.weights;
-        for (String index : buildWeightOrderedIndices()) {
+        final Tuple<String[], float[]> weightOrderedIndices = buildWeightOrderedIndices();
+        final String[] indices = weightOrderedIndices.v1();
+        final float[] deltas = weightOrderedIndices.v2();
+        for (int indexOrdinal = 0; indexOrdinal < indices.length; indexOrdinal++) {
+            final String index = indices[indexOrdinal];
             // Terminate if the time allocated to the balanced shards allocator has elapsed
             if (timedOutFunc != null && timedOutFunc.get()) {
                 logger.info(
@@ -358,15 +403,35 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 );
                 return;
             }
+            // The indices are ordered by descending weight delta over all nodes, which is an upper bound of the delta over the nodes
+            // that are relevant for the index. Unless a shard moved on the model since computing them, the remaining indices are
+            // balanced and there is no need to ask the deciders which of their nodes are relevant.
+            if (movedShardsOnModel == false && lessThan(deltas[indexOrdinal], threshold)) {
+                logger.trace("Stop balancing as the remaining [{}] indices are balanced", indices.length - indexOrdinal);
+                return;
+            }
             IndexMetadata indexMetadata = metadata.index(index);
+            final Decision[] indexDecisions = parallelNodeDecisions == null
+                ? null
+                : parallelNodeDecisions.decide(
+                    modelNodes,
+                    0,
+                    modelNodes.length,
+                    modelNode -> modelNode.getIndex(index) != null
+                        ? Decision.ALWAYS
+                        : deciders.canAllocate(indexMetadata, modelNode.getRoutingNode(), allocation)
+                );
 
             // find nodes that have a shard of this index or where shards of this index are allowed to be allocated to,
             // move these nodes to the front of modelNodes so that we can only balance based on these nodes
             int relevantNodes = 0;
             for (int i = 0; i < modelNodes.length; i++) {
                 BalancedShardsAllocator.ModelNode modelNode = modelNodes[i];
-                if (modelNode.getIndex(index) != null
-                    || deciders.canAllocate(indexMetadata, modelNode.getRoutingNode(), allocation).type() != Decision.Type.NO) {
+                final boolean relevant = indexDecisions != null
+                    ? indexDecisions[i].type() != Decision.Type.NO
+                    : modelNode.getIndex(index) != null
+                        || deciders.canAllocate(indexMetadata, modelNode.getRoutingNode(), allocation).type() != Decision.Type.NO;
+                if (relevant) {
                     // swap nodes at position i and relevantNodes
                     modelNodes[i] = modelNodes[relevantNodes];
                     modelNodes[relevantNodes] = modelNode;
@@ -494,8 +559,11 @@ public class LocalShardsBalancer extends ShardsBalancer {
      * has no shards yet and global balance for the node is way below
      * average. To re-balance we need to move shards back eventually likely
      * to the nodes we relocated them from.
+     * <p>
+     * Returns the ordered indices along with their weight deltas, or an upper bound of it for the indices that the
+     * {@link BalancedIndicesCache} knows to be balanced.
      */
-    private String[] buildWeightOrderedIndices() {
+    private Tuple<String[], float[]> buildWeightOrderedIndices() {
 
         final List<String> localIndices = new ArrayList<>();
         for (String index : allocation.routingTable().indicesRouting().keySet().toArray(new String[0])) {
@@ -506,9 +574,25 @@ public class LocalShardsBalancer extends ShardsBalancer {
         final String[] indices = localIndices.toArray(new String[0]);
 
         final float[] deltas = new float[indices.length];
+        final BalancedIndicesCache.Round round = balancedIndicesCache == null
+            ? null
+            : balancedIndicesCache.startRound(nodes.values(), weight, threshold);
         for (int i = 0; i < deltas.length; i++) {
+            if (round != null) {
+                final float balancedDelta = round.balancedDelta(indices[i], metadata.index(indices[i]));
+                if (Float.isNaN(balancedDelta) == false) {
+                    deltas[i] = balancedDelta;
+                    continue;
+                }
+            }
             sorter.reset(indices[i]);
             deltas[i] = sorter.delta();
+            if (round != null) {
+                round.computedDelta(indices[i], metadata.index(indices[i]), deltas[i]);
+            }
+        }
+        if (round != null) {
+            round.finish();
         }
         new IntroSorter() {
 
@@ -540,7 +624,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
             }
         }.sort(0, deltas.length);
 
-        return indices;
+        return Tuple.tuple(indices, deltas);
     }
 
     /**
@@ -974,6 +1058,12 @@ public class LocalShardsBalancer extends ShardsBalancer {
          * iteration order is different for each run and makes testing hard */
         Map<String, NodeAllocationResult> nodeExplanationMap = explain ? new HashMap<>() : null;
         List<Tuple<String, Float>> nodeWeights = explain ? new ArrayList<>() : null;
+        // For REMOTE_STORE recoveries, THROTTLE is as good as NO as we want faster recoveries
+        // The side effect of this are increased relocations post these allocations.
+        final boolean considerThrottleAsNo = ignoreThrottleInRestore
+            && shard.recoverySource().getType() == RecoverySource.Type.REMOTE_STORE
+            && shard.primary();
+        final Map<String, Decision> prefetchedDecisions = explain ? null : prefetchAllocationDecisions(shard, considerThrottleAsNo);
         for (BalancedShardsAllocator.ModelNode node : nodes.values()) {
             if (node.containsShard(shard) && explain == false) {
                 // decision is NO without needing to check anything further, so short circuit
@@ -987,20 +1077,22 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 continue;
             }
 
-            Decision currentDecision = allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
+            final Decision currentDecision;
+            if (prefetchedDecisions == null) {
+                currentDecision = allocation.deciders().canAllocate(shard, node.getRoutingNode(), allocation);
+            } else {
+                currentDecision = prefetchedDecisions.get(node.getNodeId());
+                if (currentDecision == null) {
+                    // heavier than the lightest node the shard can be allocated to, so this node can not end up being picked
+                    continue;
+                }
+            }
             if (explain) {
                 nodeExplanationMap.put(node.getNodeId(), new NodeAllocationResult(node.getRoutingNode().node(), currentDecision, 0));
                 nodeWeights.add(Tuple.tuple(node.getNodeId(), currentWeight));
             }
 
-            // For REMOTE_STORE recoveries, THROTTLE is as good as NO as we want faster recoveries
-            // The side effect of this are increased relocations post these allocations.
-            boolean considerThrottleAsNo = ignoreThrottleInRestore
-                && shard.recoverySource().getType() == RecoverySource.Type.REMOTE_STORE
-                && shard.primary();
-
-            if (currentDecision.type() == Decision.Type.YES
-                || (currentDecision.type() == Decision.Type.THROTTLE && considerThrottleAsNo == false)) {
+            if (isAllocatable(currentDecision, considerThrottleAsNo)) {
                 final boolean updateMinNode;
                 if (currentWeight == minWeight) {
                     /*  we have an equal weight tie breaking:
@@ -1051,6 +1143,85 @@ public class LocalShardsBalancer extends ShardsBalancer {
         return AllocateUnassignedDecision.fromDecision(decision, minNode != null ? minNode.getRoutingNode().node() : null, nodeDecisions);
     }
 
+    private static boolean isAllocatable(Decision decision, boolean considerThrottleAsNo) {
+        return decision.type() == Decision.Type.YES || (decision.type() == Decision.Type.THROTTLE && considerThrottleAsNo == false);
+    }
+
+    /**
+     * Takes the allocation decisions of the given unassigned shard concurrently, for the nodes in ascending order of their weight
+     * until the lightest node the shard can be allocated to is found, and for all nodes that are at most as heavy as that one. The
+     * other nodes can not be picked to allocate the shard to, so {@link #decideAllocateUnassigned} picks the same node with these
+     * decisions as when taking the decisions one node after the other. Returns {@code null} if the decisions are not to be taken
+     * concurrently.
+     */
+    private Map<String, Decision> prefetchAllocationDecisions(ShardRouting shard, boolean considerThrottleAsNo) {
+        if (parallelNodeDecisions == null || nodes.size() < 2 * ParallelNodeDecisions.MIN_NODES_PER_TASK) {
+            return null;
+        }
+        final BalancedShardsAllocator.ModelNode[] candidates = new BalancedShardsAllocator.ModelNode[nodes.size()];
+        final float[] candidateWeights = new float[nodes.size()];
+        int numCandidates = 0;
+        for (BalancedShardsAllocator.ModelNode node : nodes.values()) {
+            if (node.containsShard(shard) == false) {
+                candidates[numCandidates] = node;
+                candidateWeights[numCandidates] = weight.weightWithAllocationConstraints(this, node, shard.getIndexName());
+                numCandidates++;
+            }
+        }
+        new IntroSorter() {
+
+            float pivotWeight;
+
+            @Override
+            protected void swap(int i, int j) {
+                final BalancedShardsAllocator.ModelNode tmpNode = candidates[i];
+                candidates[i] = candidates[j];
+                candidates[j] = tmpNode;
+                final float tmpWeight = candidateWeights[i];
+                candidateWeights[i] = candidateWeights[j];
+                candidateWeights[j] = tmpWeight;
+            }
+
+            @Override
+            protected int compare(int i, int j) {
+                return Float.compare(candidateWeights[i], candidateWeights[j]);
+            }
+
+            @Override
+            protected void setPivot(int i) {
+                pivotWeight = candidateWeights[i];
+            }
+
+            @Override
+            protected int comparePivot(int j) {
+                return Float.compare(pivotWeight, candidateWeights[j]);
+            }
+        }.sort(0, numCandidates);
+
+        final AllocationDeciders deciders = allocation.deciders();
+        final Map<String, Decision> decisions = new HashMap<>();
+        float maxWeight = Float.POSITIVE_INFINITY;
+        int from = 0;
+        while (from < numCandidates && candidateWeights[from] <= maxWeight) {
+            final int to = Math.min(numCandidates, from + parallelNodeDecisions.batchSize());
+            final Decision[] batch = parallelNodeDecisions.decide(
+                candidates,
+                from,
+                to,
+                node -> deciders.canAllocate(shard, node.getRoutingNode(), allocation)
+            );
+            for (int i = from; i < to; i++) {
+                final Decision decision = batch[i - from];
+                decisions.put(candidates[i].getNodeId(), decision);
+                if (isAllocatable(decision, considerThrottleAsNo)) {
+                    maxWeight = Math.min(maxWeight, candidateWeights[i]);
+                }
+            }
+            from = to;
+        }
+        return decisions;
+    }
+
     private static final Comparator<ShardRouting> BY_DESCENDING_SHARD_ID = Comparator.comparing(ShardRouting::shardId).reversed();
     private static final Comparator<ShardRouting> PRIMARY_FIRST = Comparator.comparing(ShardRouting::primary).reversed();
 
@@ -1075,7 +1246,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
             final Iterable<ShardRouting> shardRoutings = routingStream::iterator;
             final AllocationDeciders deciders = allocation.deciders();
             for (ShardRouting shard : shardRoutings) {
-                final Decision rebalanceDecision = deciders.canRebalance(shard, allocation);
+                final Decision rebalanceDecision = rebalanceDecisions.computeIfAbsent(shard, s -> deciders.canRebalance(s, allocation));
                 if (rebalanceDecision.type() == Decision.Type.NO) {
                     continue;
                 }
@@ -1097,6 +1268,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
                     continue;
                 }
                 final Decision decision = new Decision.Multi().add(allocationDecision).add(rebalanceDecision);
+                movedShardsOnModel = true;
                 maxNode.removeShard(shard);
                 --totalShardCount;
                 long shardSize = allocation.clusterInfo().getShardSize(shard, ShardRouting.UNAVAILABLE_EXPECTED_SHARD_SIZE);
@@ -1104,6 +1276,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 if (decision.type() == Decision.Type.YES) {
                     /* only allocate on the cluster if we are not throttled */
                     logger.debug("Relocate [{}] from [{}] to [{}]", shard, maxNode.getNodeId(), minNode.getNodeId());
+                    rebalanceDecisions.clear();
                     minNode.addShard(routingNodes.relocateShard(shard, minNode.getNodeId(), shardSize, allocation.changes()).v1());
                     ++totalShardCount;
                     return true;
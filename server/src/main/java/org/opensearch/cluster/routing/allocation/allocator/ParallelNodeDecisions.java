@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.cluster.routing.allocation.decider.Decision;
+import org.opensearch.common.util.concurrent.FutureUtils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Takes allocation decisions for many nodes concurrently on an executor of the node's thread pool. Decisions are only fanned out
+ * while the routing nodes and the model of the balancer are not modified, so that the deciders read the same state from every
+ * thread. The calling thread takes part of the decisions itself and then takes those that no thread of the executor picked up yet,
+ * so at most {@code parallelism} threads take decisions at once and the decisions complete even if the executor is busy.
+ *
+ * @opensearch.internal
+ */
+final class ParallelNodeDecisions {
+
+    /**
+     * The minimum number of nodes a task takes the decisions for, below that forking a task costs more than it saves.
+     */
+    static final int MIN_NODES_PER_TASK = 8;
+
+    private final int parallelism;
+    private final Executor executor;
+
+    ParallelNodeDecisions(int parallelism, Executor executor) {
+        assert parallelism > 1 : "parallelism must be greater than 1 but was " + parallelism;
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the number of nodes that is worth taking the decisions for in one go.
+     */
+    int batchSize() {
+        return parallelism * MIN_NODES_PER_TASK;
+    }
+
+    /**
+     * Takes the decisions for the nodes between {@code from}, inclusive, and {@code to}, exclusive. The returned decisions are in the
+     * order of the nodes.
+     */
+    <T> Decision[] decide(T[] nodes, int from, int to, Function<T, Decision> decider) {
+        final Decision[] decisions = new Decision[to - from];
+        final int tasks = Math.min(parallelism, decisions.length / MIN_NODES_PER_TASK);
+        if (tasks < 2) {
+            for (int i = from; i < to; i++) {
+                decisions[i - from] = decider.apply(nodes[i]);
+            }
+            return decisions;
+        }
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final FutureTask<Void>[] chunks = new FutureTask[tasks];
+        for (int task = 0; task < tasks; task++) {
+            final int chunkFrom = from + (int) ((long) decisions.length * task / tasks);
+            final int chunkTo = from + (int) ((long) decisions.length * (task + 1) / tasks);
+            chunks[task] = new FutureTask<>(() -> {
+                for (int i = chunkFrom; i < chunkTo; i++) {
+                    decisions[i - from] = decider.apply(nodes[i]);
+                }
+                return null;
+            });
+        }
+        for (int task = 1; task < tasks; task++) {
+            try {
+                executor.execute(chunks[task]);
+            } catch (RejectedExecutionException e) {
+                // the chunk is run by the calling thread below
+                break;
+            }
+        }
+        // a chunk only runs once, running it here is a no-op if a thread of the executor already started it
+        for (FutureTask<Void> chunk : chunks) {
+            chunk.run();
+        }
+        for (FutureTask<Void> chunk : chunks) {
+            FutureUtils.get(chunk);
+        }
+        return decisions;
+    }
+}
@@ -38,6 +38,7 @@ import org.opensearch.cluster.routing.allocation.AllocateUnassignedDecision;
 import org.opensearch.cluster.routing.allocation.MoveDecision;
 import org.opensearch.cluster.routing.allocation.RoutingAllocation;
 import org.opensearch.cluster.routing.allocation.ShardAllocationDecision;
+import org.opensearch.threadpool.ThreadPool;
 
 /**
  * <p>
@@ -76,4 +77,9 @@ public interface ShardsAllocator {
     ShardAllocationDecision decideShardAllocation(ShardRouting shard, RoutingAllocation allocation);
 
     default void setRerouteService(RerouteService rerouteService) {}
+
+    /**
+     * Sets the thread pool of the node, for allocators that take allocation decisions concurrently.
+     */
+    default void setThreadPool(ThreadPool threadPool) {}
 }
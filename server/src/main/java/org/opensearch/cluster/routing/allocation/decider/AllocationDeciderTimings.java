@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.decider;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Collects the time the {@link AllocationDeciders} spend in each of their deciders during one {@link
+ * org.opensearch.cluster.routing.allocation.RoutingAllocation}. Decisions may be taken concurrently, the timings are safe to
+ * record from multiple threads.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class AllocationDeciderTimings {
+
+    private final List<AllocationDecider> deciders;
+    private final Map<AllocationDecider, LongAdder> tookInNanos;
+
+    public AllocationDeciderTimings(AllocationDeciders allocationDeciders) {
+        final Collection<AllocationDecider> deciders = allocationDeciders.deciders();
+        final Map<AllocationDecider, LongAdder> tookInNanos = new IdentityHashMap<>();
+        for (AllocationDecider decider : deciders) {
+            tookInNanos.put(decider, new LongAdder());
+        }
+        this.deciders = List.copyOf(deciders);
+        this.tookInNanos = Collections.unmodifiableMap(tookInNanos);
+    }
+
+    /**
+     * Takes a decision with the given decider and records the time it took.
+     */
+    Decision time(AllocationDecider decider, Function<AllocationDecider, Decision> decision) {
+        final long startTime = System.nanoTime();
+        try {
+            return decision.apply(decider);
+        } finally {
+            final LongAdder took = tookInNanos.get(decider);
+            if (took != null) {
+                took.add(System.nanoTime() - startTime);
+            }
+        }
+    }
+
+    /**
+     * Returns the cumulative time in nanoseconds spent in the deciders, by the simple class name of the decider.
+     */
+    public Map<String, Long> tookInNanos() {
+        final Map<String, Long> result = new LinkedHashMap<>();
+        for (AllocationDecider decider : deciders) {
+            result.merge(decider.getClass().getSimpleName(), tookInNanos.get(decider).sum(), Long::sum);
+        }
+        return result;
+    }
+}
@@ -61,11 +61,21 @@ public class AllocationDeciders extends AllocationDecider {
         this.allocations = Collections.unmodifiableCollection(allocations);
     }
 
+    /**
+     * Returns the deciders this instance combines.
+     */
+    Collection<AllocationDecider> deciders() {
+        return allocations;
+    }
+
     @Override
     public Decision canRebalance(ShardRouting shardRouting, RoutingAllocation allocation) {
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider allocationDecider : allocations) {
-            Decision decision = allocationDecider.canRebalance(shardRouting, allocation);
+            Decision decision = timings == null
+                ? allocationDecider.canRebalance(shardRouting, allocation)
+                : timings.time(allocationDecider, d -> d.canRebalance(shardRouting, allocation));
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (allocation.debugDecision() == false) {
@@ -85,9 +95,12 @@ public class AllocationDeciders extends AllocationDecider {
         if (allocation.shouldIgnoreShardForNode(shardRouting.shardId(), node.nodeId())) {
             return Decision.NO;
         }
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider allocationDecider : allocations) {
-            Decision decision = allocationDecider.canAllocate(shardRouting, node, allocation);
+            Decision decision = timings == null
+                ? allocationDecider.canAllocate(shardRouting, node, allocation)
+                : timings.time(allocationDecider, d -> d.canAllocate(shardRouting, node, allocation));
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (logger.isTraceEnabled()) {
@@ -119,9 +132,12 @@ public class AllocationDeciders extends AllocationDecider {
             }
             return Decision.NO;
         }
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider allocationDecider : allocations) {
-            Decision decision = allocationDecider.canRemain(shardRouting, node, allocation);
+            Decision decision = timings == null
+                ? allocationDecider.canRemain(shardRouting, node, allocation)
+                : timings.time(allocationDecider, d -> d.canRemain(shardRouting, node, allocation));
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (logger.isTraceEnabled()) {
@@ -146,9 +162,12 @@ public class AllocationDeciders extends AllocationDecider {
 
     @Override
     public Decision canAllocate(IndexMetadata indexMetadata, RoutingNode node, RoutingAllocation allocation) {
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider allocationDecider : allocations) {
-            Decision decision = allocationDecider.canAllocate(indexMetadata, node, allocation);
+            Decision decision = timings == null
+                ? allocationDecider.canAllocate(indexMetadata, node, allocation)
+                : timings.time(allocationDecider, d -> d.canAllocate(indexMetadata, node, allocation));
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (allocation.debugDecision() == false) {
@@ -165,9 +184,12 @@ public class AllocationDeciders extends AllocationDecider {
 
     @Override
     public Decision shouldAutoExpandToNode(IndexMetadata indexMetadata, DiscoveryNode node, RoutingAllocation allocation) {
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider allocationDecider : allocations) {
-            Decision decision = allocationDecider.shouldAutoExpandToNode(indexMetadata, node, allocation);
+            Decision decision = timings == null
+                ? allocationDecider.shouldAutoExpandToNode(indexMetadata, node, allocation)
+                : timings.time(allocationDecider, d -> d.shouldAutoExpandToNode(indexMetadata, node, allocation));
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (allocation.debugDecision() == false) {
@@ -184,9 +206,12 @@ public class AllocationDeciders extends AllocationDecider {
 
     @Override
     public Decision canAllocate(ShardRouting shardRouting, RoutingAllocation allocation) {
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider allocationDecider : allocations) {
-            Decision decision = allocationDecider.canAllocate(shardRouting, allocation);
+            Decision decision = timings == null
+                ? allocationDecider.canAllocate(shardRouting, allocation)
+                : timings.time(allocationDecider, d -> d.canAllocate(shardRouting, allocation));
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (allocation.debugDecision() == false) {
@@ -203,9 +228,12 @@ public class AllocationDeciders extends AllocationDecider {
 
     @Override
     public Decision canRebalance(RoutingAllocation allocation) {
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider allocationDecider : allocations) {
-            Decision decision = allocationDecider.canRebalance(allocation);
+            Decision decision = timings == null
+                ? allocationDecider.canRebalance(allocation)
+                : timings.time(allocationDecider, d -> d.canRebalance(allocation));
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (allocation.debugDecision() == false) {
@@ -227,9 +255,12 @@ public class AllocationDeciders extends AllocationDecider {
         if (allocation.shouldIgnoreShardForNode(shardRouting.shardId(), node.nodeId())) {
             return Decision.NO;
         }
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider decider : allocations) {
-            Decision decision = decider.canForceAllocatePrimary(shardRouting, node, allocation);
+            Decision decision = timings == null
+                ? decider.canForceAllocatePrimary(shardRouting, node, allocation)
+                : timings.time(decider, d -> d.canForceAllocatePrimary(shardRouting, node, allocation));
             // short track if a NO is returned.
             if (decision == Decision.NO) {
                 if (logger.isTraceEnabled()) {
@@ -254,9 +285,12 @@ public class AllocationDeciders extends AllocationDecider {
 
     @Override
     public Decision canAllocateAnyShardToNode(RoutingNode node, RoutingAllocation allocation) {
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider decider : allocations) {
-            Decision decision = decider.canAllocateAnyShardToNode(node, allocation);
+            Decision decision = timings == null
+                ? decider.canAllocateAnyShardToNode(node, allocation)
+                : timings.time(decider, d -> d.canAllocateAnyShardToNode(node, allocation));
             if (decision.type().canPreemptivelyReturn()) {
                 if (logger.isTraceEnabled()) {
                     logger.trace("Shard can not be allocated on node [{}] due to [{}]", node.nodeId(), decider.getClass().getSimpleName());
@@ -275,9 +309,12 @@ public class AllocationDeciders extends AllocationDecider {
 
     @Override
     public Decision canMoveAway(ShardRouting shardRouting, RoutingAllocation allocation) {
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider decider : allocations) {
-            Decision decision = decider.canMoveAway(shardRouting, allocation);
+            Decision decision = timings == null
+                ? decider.canMoveAway(shardRouting, allocation)
+                : timings.time(decider, d -> d.canMoveAway(shardRouting, allocation));
             // short track if a NO is returned.
             if (decision.type().canPreemptivelyReturn()) {
                 if (logger.isTraceEnabled()) {
@@ -297,9 +334,12 @@ public class AllocationDeciders extends AllocationDecider {
 
     @Override
     public Decision canMoveAnyShard(RoutingAllocation allocation) {
+        final AllocationDeciderTimings timings = allocation.deciderTimings();
         Decision.Multi ret = new Decision.Multi();
         for (AllocationDecider decider : allocations) {
-            Decision decision = decider.canMoveAnyShard(allocation);
+            Decision decision = timings == null
+                ? decider.canMoveAnyShard(allocation)
+                : timings.time(decider, d -> d.canMoveAnyShard(allocation));
             // short track if a NO is returned.
             if (decision.type().canPreemptivelyReturn()) {
                 if (allocation.debugDecision() == false) {
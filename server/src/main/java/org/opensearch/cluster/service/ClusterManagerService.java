@@ -77,8 +77,10 @@ import org.opensearch.telemetry.metrics.tags.Tags;
 import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -109,6 +111,39 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Whether batches of different executors that support it are computed into one cluster state and published together, see
+     * {@link ClusterStateTaskExecutor#coalesceWithOtherExecutors()}.
+     */
+    public static final Setting<Boolean> CLUSTER_MANAGER_TASK_COALESCING_ENABLED_SETTING = Setting.boolSetting(
+        "cluster.service.task_coalescing.enabled",
+        false,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Once computing a cluster state took that long, no more batches are coalesced into it.
+     */
+    public static final Setting<TimeValue> CLUSTER_MANAGER_TASK_COALESCING_MAX_BATCH_LATENCY_SETTING = Setting.positiveTimeSetting(
+        "cluster.service.task_coalescing.max_batch_latency",
+        TimeValue.timeValueMillis(200),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * The maximum number of batches of the same task type, by throttling key, that are coalesced into one cluster state, so that a
+     * storm of one type of tasks does not take the whole latency budget.
+     */
+    public static final Setting<Integer> CLUSTER_MANAGER_TASK_COALESCING_MAX_BATCHES_PER_TYPE_SETTING = Setting.intSetting(
+        "cluster.service.task_coalescing.max_batches_per_type",
+        8,
+        1,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     static final String CLUSTER_MANAGER_UPDATE_THREAD_NAME = "clusterManagerService#updateTask";
 
     ClusterStatePublisher clusterStatePublisher;
@@ -119,6 +154,10 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
 
     private volatile TimeValue slowTaskLoggingThreshold;
 
+    private volatile boolean taskCoalescingEnabled;
+    private volatile TimeValue taskCoalescingMaxBatchLatency;
+    private volatile int taskCoalescingMaxBatchesPerType;
+
     protected final ThreadPool threadPool;
 
     private volatile PrioritizedOpenSearchThreadPoolExecutor threadPoolExecutor;
@@ -145,6 +184,18 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
             CLUSTER_MANAGER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING,
             this::setSlowTaskLoggingThreshold
         );
+        this.taskCoalescingEnabled = CLUSTER_MANAGER_TASK_COALESCING_ENABLED_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(CLUSTER_MANAGER_TASK_COALESCING_ENABLED_SETTING, this::setTaskCoalescingEnabled);
+        this.taskCoalescingMaxBatchLatency = CLUSTER_MANAGER_TASK_COALESCING_MAX_BATCH_LATENCY_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(
+            CLUSTER_MANAGER_TASK_COALESCING_MAX_BATCH_LATENCY_SETTING,
+            this::setTaskCoalescingMaxBatchLatency
+        );
+        this.taskCoalescingMaxBatchesPerType = CLUSTER_MANAGER_TASK_COALESCING_MAX_BATCHES_PER_TYPE_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(
+            CLUSTER_MANAGER_TASK_COALESCING_MAX_BATCHES_PER_TYPE_SETTING,
+            this::setTaskCoalescingMaxBatchesPerType
+        );
 
         this.throttlingStats = new ClusterManagerThrottlingStats();
         this.clusterManagerTaskThrottler = new ClusterManagerTaskThrottler(
@@ -162,6 +213,18 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
         this.slowTaskLoggingThreshold = slowTaskLoggingThreshold;
     }
 
+    private void setTaskCoalescingEnabled(boolean taskCoalescingEnabled) {
+        this.taskCoalescingEnabled = taskCoalescingEnabled;
+    }
+
+    private void setTaskCoalescingMaxBatchLatency(TimeValue taskCoalescingMaxBatchLatency) {
+        this.taskCoalescingMaxBatchLatency = taskCoalescingMaxBatchLatency;
+    }
+
+    private void setTaskCoalescingMaxBatchesPerType(int taskCoalescingMaxBatchesPerType) {
+        this.taskCoalescingMaxBatchesPerType = taskCoalescingMaxBatchesPerType;
+    }
+
     public synchronized void setClusterStatePublisher(ClusterStatePublisher publisher) {
         clusterStatePublisher = publisher;
     }
@@ -271,37 +334,45 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
     }
 
     private void runTasks(TaskInputs taskInputs) {
-        final String summary;
+        final String batchSummary;
         if (logger.isTraceEnabled()) {
-            summary = taskInputs.taskSummaryGenerator.apply(true);
+            batchSummary = taskInputs.taskSummaryGenerator.apply(true);
         } else {
-            summary = taskInputs.taskSummaryGenerator.apply(false);
+            batchSummary = taskInputs.taskSummaryGenerator.apply(false);
         }
 
         if (!lifecycle.started()) {
-            logger.debug("processing [{}]: ignoring, cluster-manager service not started", summary);
+            logger.debug("processing [{}]: ignoring, cluster-manager service not started", batchSummary);
             return;
         }
 
         if (logger.isTraceEnabled()) {
-            logger.trace("executing cluster state update for [{}]", summary);
+            logger.trace("executing cluster state update for [{}]", batchSummary);
         } else {
-            logger.debug("executing cluster state update for [{}]", summary);
+            logger.debug("executing cluster state update for [{}]", batchSummary);
         }
 
         final ClusterState previousClusterState = state();
 
         if (!previousClusterState.nodes().isLocalNodeElectedClusterManager() && taskInputs.runOnlyWhenClusterManager()) {
-            logger.debug("failing [{}]: local node is no longer cluster-manager", summary);
+            logger.debug("failing [{}]: local node is no longer cluster-manager", batchSummary);
             taskInputs.onNoLongerClusterManager();
             return;
         }
 
         final long computationStartTime = threadPool.preciseRelativeTimeInNanos();
-        final TaskOutputs taskOutputs = calculateTaskOutputs(taskInputs, previousClusterState, summary);
+        TaskOutputs taskOutputs = calculateTaskOutputs(taskInputs, previousClusterState, batchSummary);
         taskOutputs.notifyFailedTasks();
+        if (taskCoalescingEnabled
+            && taskInputs.executor.coalesceWithOtherExecutors()
+            && previousClusterState.nodes().isLocalNodeElectedClusterManager()) {
+            taskOutputs = coalescePendingTasks(taskOutputs, computationStartTime);
+        }
+        taskOutputs = taskOutputs.withNewClusterState(patchVersions(previousClusterState, taskOutputs.newClusterState));
+        final String summary = taskOutputs.summary;
         final TimeValue computationTime = getTimeSince(computationStartTime);
         logExecutionTime(computationTime, "compute cluster state update", summary);
+        clusterManagerMetrics.recordLatency(clusterManagerMetrics.clusterStateUpdateBatchSizeHistogram, (double) taskOutputs.numberOfTasks);
 
         clusterManagerMetrics.recordLatency(
             clusterManagerMetrics.clusterStateComputeHistogram,
@@ -340,6 +411,7 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
                 }
 
                 logger.debug("publishing cluster state version [{}]", newClusterState.version());
+                clusterManagerMetrics.incrementCounter(clusterManagerMetrics.clusterStatePublicationCounter, 1.0);
                 publish(clusterChangedEvent, taskOutputs, publicationStartTime);
             } catch (Exception e) {
                 handleException(summary, publicationStartTime, newClusterState, e);
@@ -437,21 +509,69 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
         // TODO: do we want to call updateTask.onFailure here?
     }
 
+    /**
+     * Executes the tasks, the versions of the resulting cluster state are not incremented yet, see {@link #patchVersions}.
+     */
     private TaskOutputs calculateTaskOutputs(TaskInputs taskInputs, ClusterState previousClusterState, String taskSummary) {
         ClusterTasksResult<Object> clusterTasksResult = executeTasks(taskInputs, previousClusterState, taskSummary);
-        ClusterState newClusterState = patchVersions(previousClusterState, clusterTasksResult);
         return new TaskOutputs(
             taskInputs,
             previousClusterState,
-            newClusterState,
+            clusterTasksResult.resultingState,
             getNonFailedTasks(taskInputs, clusterTasksResult),
-            clusterTasksResult.executionResults
+            clusterTasksResult.executionResults,
+            taskSummary
         );
     }
 
-    private ClusterState patchVersions(ClusterState previousClusterState, ClusterTasksResult<?> executionResult) {
-        ClusterState newClusterState = executionResult.resultingState;
+    /**
+     * Executes the pending batches of other executors on top of the cluster state computed for the given outputs, so that all of
+     * them are published with a single cluster state. Batches are taken in the order in which the executor would run them, which
+     * is by priority and then by age. Coalescing stops at the first batch that cannot be coalesced, because its executor does not
+     * support coalescing or its task type already has {@link #CLUSTER_MANAGER_TASK_COALESCING_MAX_BATCHES_PER_TYPE_SETTING}
+     * batches in this cluster state, so that later batches never overtake it, or once computing the cluster state took longer than
+     * {@link #CLUSTER_MANAGER_TASK_COALESCING_MAX_BATCH_LATENCY_SETTING}.
+     */
+    @SuppressWarnings("unchecked")
+    private TaskOutputs coalescePendingTasks(TaskOutputs taskOutputs, long computationStartTime) {
+        final long maxBatchLatencyNanos = taskCoalescingMaxBatchLatency.nanos();
+        final int maxBatchesPerType = taskCoalescingMaxBatchesPerType;
+        final Map<String, Integer> batchesPerType = new HashMap<>();
+        batchesPerType.put(taskOutputs.taskInputs.executor.getClusterManagerThrottlingKey().getTaskThrottlingKey(), 1);
+        for (TaskBatcher.BatchedTask queuedTask : taskBatcher.queuedTasks()) {
+            if (threadPool.preciseRelativeTimeInNanos() - computationStartTime >= maxBatchLatencyNanos) {
+                break;
+            }
+            if (queuedTask.processed.get()) {
+                // already taken along with an earlier batch of the same executor
+                continue;
+            }
+            final ClusterStateTaskExecutor<Object> executor = (ClusterStateTaskExecutor<Object>) queuedTask.batchingKey;
+            final String taskType = executor.getClusterManagerThrottlingKey().getTaskThrottlingKey();
+            if (executor.coalesceWithOtherExecutors() == false || batchesPerType.getOrDefault(taskType, 0) >= maxBatchesPerType) {
+                // the batches after this one have at most its priority, they must not run before it
+                break;
+            }
+            final List<TaskBatcher.BatchedTask> tasks = taskBatcher.takePendingTasks(executor);
+            if (tasks.isEmpty()) {
+                continue;
+            }
+            batchesPerType.merge(taskType, 1, Integer::sum);
+            final TaskInputs taskInputs = new TaskInputs(
+                executor,
+                (List<Batcher.UpdateTask>) (List<?>) tasks,
+                taskBatcher.taskSummaryGenerator(queuedTask, tasks)
+            );
+            final String summary = taskInputs.taskSummaryGenerator.apply(logger.isTraceEnabled());
+            logger.debug("coalescing cluster state update for [{}]", summary);
+            final TaskOutputs coalescedOutputs = calculateTaskOutputs(taskInputs, taskOutputs.newClusterState, summary);
+            coalescedOutputs.notifyFailedTasks();
+            taskOutputs = taskOutputs.coalesce(coalescedOutputs);
+        }
+        return taskOutputs;
+    }
 
+    private ClusterState patchVersions(ClusterState previousClusterState, ClusterState newClusterState) {
         if (previousClusterState != newClusterState) {
             // only the cluster-manager controls the version numbers
             Builder builder = incrementVersion(newClusterState);
@@ -526,19 +646,86 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
         final ClusterState newClusterState;
         final List<Batcher.UpdateTask> nonFailedTasks;
         final Map<Object, ClusterStateTaskExecutor.TaskResult> executionResults;
+        final String summary;
+        // the executors of the batches that were computed into the new cluster state, and the number of their tasks
+        final List<ClusterStateTaskExecutor<Object>> executors;
+        final int numberOfTasks;
 
         TaskOutputs(
             TaskInputs taskInputs,
             ClusterState previousClusterState,
             ClusterState newClusterState,
             List<Batcher.UpdateTask> nonFailedTasks,
-            Map<Object, ClusterStateTaskExecutor.TaskResult> executionResults
+            Map<Object, ClusterStateTaskExecutor.TaskResult> executionResults,
+            String summary
+        ) {
+            this(
+                taskInputs,
+                previousClusterState,
+                newClusterState,
+                nonFailedTasks,
+                executionResults,
+                summary,
+                Collections.singletonList(taskInputs.executor),
+                taskInputs.updateTasks.size()
+            );
+        }
+
+        private TaskOutputs(
+            TaskInputs taskInputs,
+            ClusterState previousClusterState,
+            ClusterState newClusterState,
+            List<Batcher.UpdateTask> nonFailedTasks,
+            Map<Object, ClusterStateTaskExecutor.TaskResult> executionResults,
+            String summary,
+            List<ClusterStateTaskExecutor<Object>> executors,
+            int numberOfTasks
         ) {
             this.taskInputs = taskInputs;
             this.previousClusterState = previousClusterState;
             this.newClusterState = newClusterState;
             this.nonFailedTasks = nonFailedTasks;
             this.executionResults = executionResults;
+            this.summary = summary;
+            this.executors = executors;
+            this.numberOfTasks = numberOfTasks;
+        }
+
+        TaskOutputs withNewClusterState(ClusterState newClusterState) {
+            return new TaskOutputs(
+                taskInputs,
+                previousClusterState,
+                newClusterState,
+                nonFailedTasks,
+                executionResults,
+                summary,
+                executors,
+                numberOfTasks
+            );
+        }
+
+        /**
+         * Returns the outputs of these tasks followed by the given outputs, which were computed on top of the cluster state of these
+         * outputs. The failed tasks of both must have been notified already.
+         */
+        TaskOutputs coalesce(TaskOutputs next) {
+            assert next.previousClusterState == newClusterState : "outputs must be computed on top of each other";
+            final List<Batcher.UpdateTask> coalescedNonFailedTasks = new ArrayList<>(nonFailedTasks);
+            coalescedNonFailedTasks.addAll(next.nonFailedTasks);
+            final List<ClusterStateTaskExecutor<Object>> coalescedExecutors = new ArrayList<>(executors);
+            if (coalescedExecutors.contains(next.taskInputs.executor) == false) {
+                coalescedExecutors.add(next.taskInputs.executor);
+            }
+            return new TaskOutputs(
+                taskInputs,
+                previousClusterState,
+                next.newClusterState,
+                coalescedNonFailedTasks,
+                executionResults,
+                summary + ", " + next.summary,
+                coalescedExecutors,
+                numberOfTasks + next.numberOfTasks
+            );
         }
 
         void publishingFailed(FailedToCommitClusterStateException t) {
@@ -550,7 +737,9 @@ public class ClusterManagerService extends AbstractLifecycleComponent {
         }
 
         void clusterStatePublished(ClusterChangedEvent clusterChangedEvent) {
-            taskInputs.executor.clusterStatePublished(clusterChangedEvent);
+            for (ClusterStateTaskExecutor<Object> executor : executors) {
+                executor.clusterStatePublished(clusterChangedEvent);
+            }
         }
 
         Discovery.AckListener createAckListener(ThreadPool threadPool, ClusterState newClusterState) {
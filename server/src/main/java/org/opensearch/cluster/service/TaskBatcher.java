@@ -41,6 +41,7 @@ import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
@@ -176,36 +177,67 @@ public abstract class TaskBatcher {
         // if this task is already processed, it shouldn't execute other tasks with same batching key that arrived later,
         // to give other tasks with different batching key a chance to execute.
         if (updateTask.processed.get() == false) {
-            final List<BatchedTask> toExecute = new ArrayList<>();
-            // While removing task, need to remove task first from taskMap and then remove identity from identityMap.
-            // Changing this order might lead to duplicate task during submission.
-            LinkedHashSet<BatchedTask> pending = tasksPerBatchingKey.remove(updateTask.batchingKey);
-            taskIdentityPerBatchingKey.remove(updateTask.batchingKey);
-            if (pending != null) {
-                for (BatchedTask task : pending) {
-                    if (task.processed.getAndSet(true) == false) {
-                        logger.trace("will process {}", task);
-                        toExecute.add(task);
-                    } else {
-                        logger.trace("skipping {}, already processed", task);
-                    }
+            final List<BatchedTask> toExecute = takePendingTasks(updateTask.batchingKey);
+            if (toExecute.isEmpty() == false) {
+                run(updateTask.batchingKey, toExecute, taskSummaryGenerator(updateTask, toExecute));
+            }
+        }
+    }
+
+    /**
+     * Takes the pending tasks of the given batching key that were not processed yet, so that the caller executes them. The tasks
+     * that are still queued in the executor for this batching key do nothing once they run.
+     */
+    List<BatchedTask> takePendingTasks(Object batchingKey) {
+        final List<BatchedTask> toExecute = new ArrayList<>();
+        // While removing task, need to remove task first from taskMap and then remove identity from identityMap.
+        // Changing this order might lead to duplicate task during submission.
+        LinkedHashSet<BatchedTask> pending = tasksPerBatchingKey.remove(batchingKey);
+        taskIdentityPerBatchingKey.remove(batchingKey);
+        if (pending != null) {
+            for (BatchedTask task : pending) {
+                if (task.processed.getAndSet(true) == false) {
+                    logger.trace("will process {}", task);
+                    toExecute.add(task);
+                } else {
+                    logger.trace("skipping {}, already processed", task);
                 }
             }
+        }
+        if (toExecute.isEmpty() == false) {
+            taskBatcherListener.onBeginProcessing(toExecute);
+        }
+        return toExecute;
+    }
 
-            if (toExecute.isEmpty() == false) {
-                Function<Boolean, String> taskSummaryGenerator = (longSummaryRequired) -> {
-                    if (longSummaryRequired == null || !longSummaryRequired) {
-                        final List<BatchedTask> sampleTasks = toExecute.stream()
-                            .limit(Math.min(1000, toExecute.size()))
-                            .collect(Collectors.toList());
-                        return buildShortSummary(updateTask.batchingKey, toExecute.size(), getSummary(updateTask, sampleTasks));
-                    }
-                    return getSummary(updateTask, toExecute);
-                };
-                taskBatcherListener.onBeginProcessing(toExecute);
-                run(updateTask.batchingKey, toExecute, taskSummaryGenerator);
+    /**
+     * Returns the tasks that are queued in the executor and were not processed yet, in the order in which the executor runs them.
+     * Every queued task stands for the pending tasks of its batching key that were submitted together with it.
+     */
+    List<BatchedTask> queuedTasks() {
+        final List<PrioritizedOpenSearchThreadPoolExecutor.Pending> pending = new ArrayList<>();
+        for (PrioritizedOpenSearchThreadPoolExecutor.Pending task : threadExecutor.getPending()) {
+            if (task.executing == false && task.task instanceof BatchedTask && ((BatchedTask) task.task).processed.get() == false) {
+                pending.add(task);
             }
         }
+        pending.sort(
+            Comparator.comparing((PrioritizedOpenSearchThreadPoolExecutor.Pending task) -> task.priority)
+                .thenComparingLong(task -> task.insertionOrder)
+        );
+        return pending.stream().map(task -> (BatchedTask) task.task).collect(Collectors.toList());
+    }
+
+    Function<Boolean, String> taskSummaryGenerator(BatchedTask updateTask, List<BatchedTask> toExecute) {
+        return (longSummaryRequired) -> {
+            if (longSummaryRequired == null || !longSummaryRequired) {
+                final List<BatchedTask> sampleTasks = toExecute.stream()
+                    .limit(Math.min(1000, toExecute.size()))
+                    .collect(Collectors.toList());
+                return buildShortSummary(updateTask.batchingKey, toExecute.size(), getSummary(updateTask, sampleTasks));
+            }
+            return getSummary(updateTask, toExecute);
+        };
     }
 
     private String getSummary(final BatchedTask updateTask, final List<BatchedTask> toExecute) {
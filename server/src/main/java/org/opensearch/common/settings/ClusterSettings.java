@@ -35,6 +35,7 @@ import org.apache.logging.log4j.LogManager;
 import org.opensearch.action.admin.cluster.configuration.TransportAddVotingConfigExclusionsAction;
 import org.opensearch.action.admin.indices.close.TransportCloseIndexAction;
 import org.opensearch.action.search.CreatePitController;
+import org.opensearch.action.search.SearchRequestHedging;
 import org.opensearch.action.search.SearchRequestSlowLog;
 import org.opensearch.action.search.SearchRequestStats;
 import org.opensearch.action.search.StreamSearchTransportService;
@@ -61,8 +62,10 @@ import org.opensearch.cluster.coordination.LeaderChecker;
 import org.opensearch.cluster.coordination.NoClusterManagerBlockService;
 import org.opensearch.cluster.coordination.Reconfigurator;
 import org.opensearch.cluster.metadata.IndexGraveyard;
+import org.opensearch.cluster.metadata.LazyIndexSettings;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.routing.OperationRouting;
+import org.opensearch.cluster.routing.allocation.AllocationService;
 import org.opensearch.cluster.routing.allocation.AwarenessReplicaBalance;
 import org.opensearch.cluster.routing.allocation.DiskThresholdSettings;
 import org.opensearch.cluster.routing.allocation.ExistingShardsAllocator;
@@ -121,15 +124,18 @@ import org.opensearch.index.ShardIndexingPressureSettings;
 import org.opensearch.index.ShardIndexingPressureStore;
 import org.opensearch.index.autoforcemerge.ForceMergeManagerSettings;
 import org.opensearch.index.compositeindex.CompositeIndexSettings;
+import org.opensearch.index.remote.RemoteSegmentUploadScheduler;
 import org.opensearch.index.remote.RemoteStorePressureSettings;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.store.remote.filecache.FileCacheSettings;
+import org.opensearch.index.translog.TranslogGroupCommitService;
 import org.opensearch.indices.ClusterMergeSchedulerConfig;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.RemoteStoreSettings;
+import org.opensearch.indices.SegmentAggregationCache;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.indices.analysis.HunspellService;
 import org.opensearch.indices.breaker.BreakerSettings;
@@ -148,6 +154,7 @@ import org.opensearch.monitor.process.ProcessService;
 import org.opensearch.node.Node;
 import org.opensearch.node.Node.DiscoverySettings;
 import org.opensearch.node.NodeRoleSettings;
+import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.node.remotestore.RemoteStoreNodeService;
 import org.opensearch.node.resource.tracker.ResourceTrackerSettings;
 import org.opensearch.persistent.PersistentTasksClusterService;
@@ -177,6 +184,7 @@ import org.opensearch.tasks.TaskManager;
 import org.opensearch.tasks.TaskResourceTrackingService;
 import org.opensearch.tasks.consumer.TopNSearchTasksLogger;
 import org.opensearch.telemetry.TelemetrySettings;
+import org.opensearch.threadpool.AdaptiveThreadPoolSizer;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.AuxTransport;
 import org.opensearch.transport.ProxyConnectionStrategy;
@@ -287,6 +295,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 BalancedShardsAllocator.ALLOCATOR_TIMEOUT_SETTING,
                 BalancedShardsAllocator.FOLLOW_UP_REROUTE_PRIORITY_SETTING,
                 BalancedShardsAllocator.PRIMARY_CONSTRAINT_THRESHOLD_SETTING,
+                BalancedShardsAllocator.INCREMENTAL_BALANCE_SETTING,
+                BalancedShardsAllocator.DECIDER_PARALLELISM_SETTING,
                 BreakerSettings.CIRCUIT_BREAKER_LIMIT_SETTING,
                 BreakerSettings.CIRCUIT_BREAKER_OVERHEAD_SETTING,
                 BreakerSettings.CIRCUIT_BREAKER_TYPE,
@@ -297,6 +307,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 EnableAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ENABLE_SETTING,
                 EnableAllocationDecider.CLUSTER_ROUTING_REBALANCE_ENABLE_SETTING,
                 ExistingShardsAllocator.EXISTING_SHARDS_ALLOCATOR_BATCH_MODE,
+                AllocationService.ALLOCATION_DECIDER_TIMING_ENABLED_SETTING,
                 FilterAllocationDecider.CLUSTER_ROUTING_INCLUDE_GROUP_SETTING,
                 FilterAllocationDecider.CLUSTER_ROUTING_EXCLUDE_GROUP_SETTING,
                 FilterAllocationDecider.CLUSTER_ROUTING_REQUIRE_GROUP_SETTING,
@@ -438,6 +449,9 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ClusterApplierService.CLUSTER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING,
                 ClusterService.USER_DEFINED_METADATA,
                 ClusterManagerService.CLUSTER_MANAGER_SERVICE_SLOW_TASK_LOGGING_THRESHOLD_SETTING,
+                ClusterManagerService.CLUSTER_MANAGER_TASK_COALESCING_ENABLED_SETTING,
+                ClusterManagerService.CLUSTER_MANAGER_TASK_COALESCING_MAX_BATCH_LATENCY_SETTING,
+                ClusterManagerService.CLUSTER_MANAGER_TASK_COALESCING_MAX_BATCHES_PER_TYPE_SETTING,
                 IngestService.MAX_NUMBER_OF_INGEST_PROCESSORS,
                 IngestService.SYSTEM_INGEST_PIPELINE_ENABLED,
                 SearchService.DEFAULT_SEARCH_TIMEOUT_SETTING,
@@ -446,6 +460,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
                 TransportSearchAction.SEARCH_CANCEL_AFTER_TIME_INTERVAL_SETTING,
                 TransportSearchAction.SEARCH_PHASE_TOOK_ENABLED,
+                TransportSearchAction.SEARCH_EAGER_REDUCE_BREAKER_THRESHOLD,
+                SearchRequestHedging.HEDGING_BUDGET_SETTING,
                 SearchRequestStats.SEARCH_REQUEST_STATS_ENABLED,
                 RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
                 SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -484,6 +500,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 TransportSettings.PUBLISH_PORT_PROFILE,
                 TransportSettings.OLD_TRANSPORT_COMPRESS,
                 TransportSettings.TRANSPORT_COMPRESS,
+                TransportSettings.TRANSPORT_COMPRESSION_SCHEME,
                 TransportSettings.PING_SCHEDULE,
                 TransportSettings.TCP_CONNECT_TIMEOUT,
                 TransportSettings.CONNECT_TIMEOUT,
@@ -548,6 +565,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndicesService.INDICES_CACHE_CLEAN_INTERVAL_SETTING,
                 IndicesFieldDataCache.INDICES_FIELDDATA_CACHE_SIZE_KEY,
                 IndicesRequestCache.INDICES_CACHE_QUERY_SIZE,
+                SegmentAggregationCache.INDICES_SEGMENT_AGGREGATIONS_CACHE_SIZE,
                 IndicesRequestCache.INDICES_CACHE_QUERY_EXPIRE,
                 IndicesRequestCache.INDICES_REQUEST_CACHE_CLEANUP_INTERVAL_SETTING,
                 IndicesRequestCache.INDICES_REQUEST_CACHE_STALENESS_THRESHOLD_SETTING,
@@ -639,14 +657,22 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 IndexingMemoryController.MAX_INDEX_BUFFER_SIZE_SETTING,
                 IndexingMemoryController.SHARD_INACTIVE_TIME_SETTING,
                 IndexingMemoryController.SHARD_MEMORY_INTERVAL_TIME_SETTING,
+                TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_ENABLED_SETTING,
+                TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_WINDOW_SETTING,
                 ResourceWatcherService.ENABLED,
                 ResourceWatcherService.RELOAD_INTERVAL_HIGH,
                 ResourceWatcherService.RELOAD_INTERVAL_MEDIUM,
                 ResourceWatcherService.RELOAD_INTERVAL_LOW,
                 ThreadPool.ESTIMATED_TIME_INTERVAL_SETTING,
+                AdaptiveThreadPoolSizer.ADAPTIVE_SIZING_ENABLED_SETTING,
+                AdaptiveThreadPoolSizer.ADAPTIVE_SIZING_INTERVAL_SETTING,
+                AdaptiveThreadPoolSizer.CPU_THRESHOLD_SETTING,
+                AdaptiveThreadPoolSizer.QUEUE_LATENCY_THRESHOLD_SETTING,
+                AdaptiveThreadPoolSizer.SIZE_FACTOR_SETTING,
                 FastVectorHighlighter.SETTING_TV_HIGHLIGHT_MULTI_VALUE,
                 Node.BREAKER_TYPE_KEY,
                 OperationRouting.USE_ADAPTIVE_REPLICA_SELECTION_SETTING,
+                ResponseCollectorService.ADAPTIVE_REPLICA_SELECTION_MODEL_SETTING,
                 OperationRouting.IGNORE_AWARENESS_ATTRIBUTES_SETTING,
                 OperationRouting.WEIGHTED_ROUTING_DEFAULT_WEIGHT,
                 OperationRouting.WEIGHTED_ROUTING_FAILOPEN_ENABLED,
@@ -666,6 +692,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ElectionSchedulerFactory.ELECTION_DURATION_SETTING,
                 Coordinator.PUBLISH_TIMEOUT_SETTING,
                 Coordinator.PUBLISH_INFO_TIMEOUT_SETTING,
+                LazyIndexSettings.LAZY_INDEX_SETTINGS_ENABLED_SETTING,
                 JoinHelper.JOIN_TIMEOUT_SETTING,
                 FollowersChecker.FOLLOWER_CHECK_TIMEOUT_SETTING,
                 FollowersChecker.FOLLOWER_CHECK_INTERVAL_SETTING,
@@ -751,6 +778,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
 
                 // Settings related to Searchable Snapshots
                 Node.NODE_SEARCH_CACHE_SIZE_SETTING,
+                Node.NODE_SEARCH_CACHE_ADMISSION_FILTER_ENABLED_SETTING,
                 FileCacheSettings.DATA_TO_FILE_CACHE_SIZE_RATIO_SETTING,
 
                 // Settings related to Remote Refresh Segment Pressure
@@ -759,6 +787,10 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 RemoteStorePressureSettings.UPLOAD_TIME_LAG_VARIANCE_FACTOR,
                 RemoteStorePressureSettings.MIN_CONSECUTIVE_FAILURES_LIMIT,
 
+                // Settings related to the scheduling of remote segment uploads
+                RemoteSegmentUploadScheduler.MAX_CONCURRENT_UPLOADS_SETTING,
+                RemoteSegmentUploadScheduler.SMALL_FILE_THRESHOLD_SETTING,
+
                 // Settings related to Remote Store stats
                 RemoteStoreStatsTrackerFactory.MOVING_AVERAGE_WINDOW_SIZE,
 
@@ -808,6 +840,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 // Concurrent segment search settings
                 SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING, // deprecated
                 SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_SETTING,
+                SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_SETTING,
+                SearchService.CONCURRENT_SEGMENT_SEARCH_PARTITION_MIN_DOCS_SETTING,
                 SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE,
 
                 RemoteStoreSettings.CLUSTER_REMOTE_INDEX_SEGMENT_METADATA_RETENTION_MAX_COUNT_SETTING,
@@ -491,6 +491,13 @@ public class BigArrays {
         return this.circuitBreakingInstance;
     }
 
+    /**
+     * Return an instance of this BigArrays class that only accounts allocations against the circuit breaker, without tripping it
+     */
+    public BigArrays withoutCircuitBreaking() {
+        return checkBreaker ? new BigArrays(recycler, breakerService, breakerName, false) : this;
+    }
+
     public CircuitBreakerService breakerService() {
         return this.circuitBreakingInstance.breakerService;
     }
@@ -28,4 +28,10 @@ public interface EWMATrackingThreadPoolExecutor {
      * Returns the current queue size (operations that are queued)
      */
     int getCurrentQueueSize();
+
+    /**
+     * Returns the number of threads that are running tasks. Unlike {@link java.util.concurrent.ThreadPoolExecutor#getActiveCount()}
+     * it does not take the lock of the pool, so that it can be sampled on every request.
+     */
+    int getActiveThreadCount();
 }
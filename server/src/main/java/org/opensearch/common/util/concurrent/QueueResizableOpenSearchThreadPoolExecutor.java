@@ -11,8 +11,11 @@ package org.opensearch.common.util.concurrent;
 import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.metrics.CounterMetric;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 /**
@@ -25,10 +28,18 @@ public final class QueueResizableOpenSearchThreadPoolExecutor extends OpenSearch
     implements
         EWMATrackingThreadPoolExecutor {
 
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
     private final ResizableBlockingQueue<Runnable> workQueue;
     private final Function<Runnable, WrappedRunnable> runnableWrapper;
     private final ExponentiallyWeightedMovingAverage executionEWMA;
     private final CounterMetric poolWaitTime;
+    private final CounterMetric trackedExecutionTime;
+    private final CounterMetric trackedCpuTime;
+    private final AtomicInteger activeThreads = new AtomicInteger();
+    // the CPU time of the current thread when it started the task, or -1 if the task is not tracked
+    private final ThreadLocal<long[]> taskStartCpuTime = ThreadLocal.withInitial(() -> new long[] { -1 });
+    private volatile boolean cpuTimeTracking;
 
     /**
      * Create new resizable at runtime thread pool executor
@@ -104,6 +115,8 @@ public final class QueueResizableOpenSearchThreadPoolExecutor extends OpenSearch
         this.runnableWrapper = runnableWrapper;
         this.executionEWMA = new ExponentiallyWeightedMovingAverage(ewmaAlpha, 0);
         this.poolWaitTime = new CounterMetric();
+        this.trackedExecutionTime = new CounterMetric();
+        this.trackedCpuTime = new CounterMetric();
     }
 
     @Override
@@ -137,8 +150,21 @@ public final class QueueResizableOpenSearchThreadPoolExecutor extends OpenSearch
         return workQueue.size();
     }
 
+    @Override
+    public int getActiveThreadCount() {
+        return activeThreads.get();
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        activeThreads.incrementAndGet();
+        taskStartCpuTime.get()[0] = cpuTimeTracking ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : -1;
+    }
+
     @Override
     protected void afterExecute(Runnable r, Throwable t) {
+        activeThreads.decrementAndGet();
         super.afterExecute(r, t);
         // A task has been completed, it has left the building. We should now be able to get the
         // total time as a combination of the time in the queue and time spent running the task. We
@@ -160,6 +186,14 @@ public final class QueueResizableOpenSearchThreadPoolExecutor extends OpenSearch
             executionEWMA.addValue(taskExecutionNanos);
         }
         poolWaitTime.inc(timedRunnable.getWaitTimeNanos());
+
+        final long[] startCpuTime = taskStartCpuTime.get();
+        if (startCpuTime[0] != -1 && taskExecutionNanos != -1) {
+            final long cpuNanos = THREAD_MX_BEAN.getCurrentThreadCpuTime() - startCpuTime[0];
+            trackedExecutionTime.inc(taskExecutionNanos);
+            trackedCpuTime.inc(Math.max(0, Math.min(cpuNanos, taskExecutionNanos)));
+        }
+        startCpuTime[0] = -1;
     }
 
     /**
@@ -182,4 +216,28 @@ public final class QueueResizableOpenSearchThreadPoolExecutor extends OpenSearch
     public long getPoolWaitTimeNanos() {
         return poolWaitTime.count();
     }
+
+    /**
+     * Starts or stops measuring the CPU time of the tasks, the rest of their execution time is spent waiting, mostly on I/O.
+     * Returns {@code false} if the JVM cannot measure the CPU time of threads.
+     */
+    public boolean setCpuTimeTracking(boolean enabled) {
+        final boolean supported = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+        cpuTimeTracking = enabled && supported;
+        return supported;
+    }
+
+    /**
+     * Returns the total execution time of the tasks whose CPU time was measured
+     */
+    public long getTrackedExecutionTimeNanos() {
+        return trackedExecutionTime.count();
+    }
+
+    /**
+     * Returns the total CPU time of the tasks whose CPU time was measured
+     */
+    public long getTrackedCpuTimeNanos() {
+        return trackedCpuTime.count();
+    }
 }
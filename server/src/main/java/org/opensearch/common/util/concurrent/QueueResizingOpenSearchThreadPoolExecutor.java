@@ -71,6 +71,7 @@ public final class QueueResizingOpenSearchThreadPoolExecutor extends OpenSearchT
 
     private final AtomicLong totalTaskNanos = new AtomicLong(0);
     private final AtomicInteger taskCount = new AtomicInteger(0);
+    private final AtomicInteger activeThreads = new AtomicInteger();
 
     private long startNs;
 
@@ -170,8 +171,20 @@ public final class QueueResizingOpenSearchThreadPoolExecutor extends OpenSearchT
         return workQueue.size();
     }
 
+    @Override
+    public int getActiveThreadCount() {
+        return activeThreads.get();
+    }
+
+    @Override
+    protected void beforeExecute(Thread t, Runnable r) {
+        super.beforeExecute(t, r);
+        activeThreads.incrementAndGet();
+    }
+
     @Override
     protected void afterExecute(Runnable r, Throwable t) {
+        activeThreads.decrementAndGet();
         super.afterExecute(r, t);
         // A task has been completed, it has left the building. We should now be able to get the
         // total time as a combination of the time in the queue and time spent running the task. We
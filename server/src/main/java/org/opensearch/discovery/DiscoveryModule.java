@@ -50,6 +50,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.gateway.GatewayMetaState;
@@ -124,6 +125,7 @@ public class DiscoveryModule {
         ThreadPool threadPool,
         TransportService transportService,
         NamedWriteableRegistry namedWriteableRegistry,
+        BigArrays bigArrays,
         NetworkService networkService,
         ClusterManagerService clusterManagerService,
         ClusterApplier clusterApplier,
@@ -204,6 +206,7 @@ public class DiscoveryModule {
                 clusterSettings,
                 transportService,
                 namedWriteableRegistry,
+                bigArrays,
                 allocationService,
                 clusterManagerService,
                 gatewayMetaState::getPersistedState,
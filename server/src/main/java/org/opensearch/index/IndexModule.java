@@ -206,6 +206,16 @@ public final class IndexModule {
         Property.NodeScope
     );
 
+    /** How many blocks to download ahead of sequential reads of files that are fetched block by block from the remote store, 0
+     *  disables read ahead. Blocks read ahead take file cache space and remote store bandwidth that may never be used. */
+    public static final Setting<Integer> INDEX_STORE_READ_AHEAD_BLOCKS_SETTING = Setting.intSetting(
+        "index.store.read_ahead_blocks",
+        0,
+        0,
+        Property.IndexScope,
+        Property.NodeScope
+    );
+
     public static final Setting<String> INDEX_TIERING_STATE = new Setting<>(
         "index.tiering.state",
         TieringState.HOT.name(),
@@ -189,6 +189,27 @@ public final class IndexSettings {
         Property.IndexScope,
         Property.Dynamic
     );
+    /**
+     * If enabled, a scheduled refresh only happens if the shard was searched since its last refresh, a refresh listener waits for
+     * it, or the last refresh is older than {@link #INDEX_REFRESH_SEARCH_DEMAND_MAX_STALENESS}. Only applies to shards that support
+     * search idle.
+     */
+    public static final Setting<Boolean> INDEX_REFRESH_SEARCH_DEMAND_ENABLED = Setting.boolSetting(
+        "index.refresh.search_demand.enabled",
+        false,
+        Property.IndexScope,
+        Property.Dynamic
+    );
+    /**
+     * The maximum age of the last refresh of a shard that refreshes on search demand, whether or not it was searched.
+     */
+    public static final Setting<TimeValue> INDEX_REFRESH_SEARCH_DEMAND_MAX_STALENESS = Setting.timeSetting(
+        "index.refresh.search_demand.max_staleness",
+        TimeValue.timeValueSeconds(30),
+        TimeValue.timeValueSeconds(1),
+        Property.IndexScope,
+        Property.Dynamic
+    );
     public static final Setting<Translog.Durability> INDEX_TRANSLOG_DURABILITY_SETTING = new Setting<>(
         "index.translog.durability",
         Translog.Durability.REQUEST.name(),
@@ -968,6 +989,8 @@ public final class IndexSettings {
     private volatile int maxNgramDiff;
     private volatile int maxShingleDiff;
     private volatile TimeValue searchIdleAfter;
+    private volatile boolean searchDemandRefreshEnabled;
+    private volatile TimeValue searchDemandRefreshMaxStaleness;
     private volatile int maxAnalyzedOffset;
     private volatile int maxTermsCount;
 
@@ -1171,6 +1194,8 @@ public final class IndexSettings {
         this.logByteSizeMergePolicyProvider = new LogByteSizeMergePolicyProvider(logger, this);
         this.indexSortConfig = new IndexSortConfig(this);
         searchIdleAfter = scopedSettings.get(INDEX_SEARCH_IDLE_AFTER);
+        searchDemandRefreshEnabled = scopedSettings.get(INDEX_REFRESH_SEARCH_DEMAND_ENABLED);
+        searchDemandRefreshMaxStaleness = scopedSettings.get(INDEX_REFRESH_SEARCH_DEMAND_MAX_STALENESS);
         defaultPipeline = scopedSettings.get(DEFAULT_PIPELINE);
         setTranslogRetentionAge(scopedSettings.get(INDEX_TRANSLOG_RETENTION_AGE_SETTING));
         setTranslogRetentionSize(scopedSettings.get(INDEX_TRANSLOG_RETENTION_SIZE_SETTING));
@@ -1298,6 +1323,8 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_SLICES_PER_PIT, this::setMaxSlicesPerPit);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_FIELD_SETTING, this::setDefaultFields);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SEARCH_IDLE_AFTER, this::setSearchIdleAfter);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_SEARCH_DEMAND_ENABLED, this::setSearchDemandRefreshEnabled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_REFRESH_SEARCH_DEMAND_MAX_STALENESS, this::setSearchDemandRefreshMaxStaleness);
         scopedSettings.addSettingsUpdateConsumer(MAX_REGEX_LENGTH_SETTING, this::setMaxRegexLength);
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_PIPELINE, this::setDefaultPipeline);
         scopedSettings.addSettingsUpdateConsumer(FINAL_PIPELINE, this::setRequiredPipeline);
@@ -1353,6 +1380,14 @@ public final class IndexSettings {
         this.searchIdleAfter = searchIdleAfter;
     }
 
+    private void setSearchDemandRefreshEnabled(boolean searchDemandRefreshEnabled) {
+        this.searchDemandRefreshEnabled = searchDemandRefreshEnabled;
+    }
+
+    private void setSearchDemandRefreshMaxStaleness(TimeValue searchDemandRefreshMaxStaleness) {
+        this.searchDemandRefreshMaxStaleness = searchDemandRefreshMaxStaleness;
+    }
+
     private void setTranslogFlushThresholdSize(ByteSizeValue byteSizeValue) {
         this.flushThresholdSize = byteSizeValue;
     }
@@ -2077,6 +2112,20 @@ public final class IndexSettings {
         return searchIdleAfter;
     }
 
+    /**
+     * Returns true iff scheduled refreshes are skipped while the shard is not searched, see {@link #INDEX_REFRESH_SEARCH_DEMAND_ENABLED}
+     */
+    public boolean isSearchDemandRefreshEnabled() {
+        return searchDemandRefreshEnabled;
+    }
+
+    /**
+     * Returns the maximum age of the last refresh of a shard that refreshes on search demand
+     */
+    public TimeValue getSearchDemandRefreshMaxStaleness() {
+        return searchDemandRefreshMaxStaleness;
+    }
+
     public String getDefaultPipeline() {
         return defaultPipeline;
     }
@@ -8,6 +8,7 @@
 
 package org.opensearch.index;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
@@ -37,6 +38,10 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
     // doesn't include time taken by primary to upload data to remote store.
     private final long currentReplicationTimeMillis;
     private final long lastCompletedReplicationTimeMillis;
+    // Total bytes of merged segments copied to the replica before they became visible on the primary.
+    private final long preCopiedBytes;
+    // Total time the replica did not spend copying merged segments once they became visible, because they had been pre-copied.
+    private final long savedReplicationLagMillis;
 
     @Nullable
     private SegmentReplicationState currentReplicationState;
@@ -48,6 +53,28 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         long currentReplicationTimeMillis,
         long currentReplicationLagMillis,
         long lastCompletedReplicationTime
+    ) {
+        this(
+            allocationId,
+            checkpointsBehindCount,
+            bytesBehindCount,
+            currentReplicationTimeMillis,
+            currentReplicationLagMillis,
+            lastCompletedReplicationTime,
+            0,
+            0
+        );
+    }
+
+    public SegmentReplicationShardStats(
+        String allocationId,
+        long checkpointsBehindCount,
+        long bytesBehindCount,
+        long currentReplicationTimeMillis,
+        long currentReplicationLagMillis,
+        long lastCompletedReplicationTime,
+        long preCopiedBytes,
+        long savedReplicationLagMillis
     ) {
         this.allocationId = allocationId;
         this.checkpointsBehindCount = checkpointsBehindCount;
@@ -55,6 +82,8 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         this.currentReplicationTimeMillis = currentReplicationTimeMillis;
         this.currentReplicationLagMillis = currentReplicationLagMillis;
         this.lastCompletedReplicationTimeMillis = lastCompletedReplicationTime;
+        this.preCopiedBytes = preCopiedBytes;
+        this.savedReplicationLagMillis = savedReplicationLagMillis;
     }
 
     public SegmentReplicationShardStats(StreamInput in) throws IOException {
@@ -64,6 +93,13 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         this.currentReplicationTimeMillis = in.readVLong();
         this.lastCompletedReplicationTimeMillis = in.readVLong();
         this.currentReplicationLagMillis = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            this.preCopiedBytes = in.readVLong();
+            this.savedReplicationLagMillis = in.readVLong();
+        } else {
+            this.preCopiedBytes = 0;
+            this.savedReplicationLagMillis = 0;
+        }
     }
 
     public String getAllocationId() {
@@ -99,6 +135,23 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         return lastCompletedReplicationTimeMillis;
     }
 
+    /**
+     * Total bytes of merged segments copied to the replica before they became visible on the primary.
+     * @return preCopiedBytes
+     */
+    public long getPreCopiedBytes() {
+        return preCopiedBytes;
+    }
+
+    /**
+     * Total time the replica did not spend copying merged segments once they became visible on the primary, because they had
+     * already been copied.
+     * @return savedReplicationLagMillis
+     */
+    public long getSavedReplicationLagMillis() {
+        return savedReplicationLagMillis;
+    }
+
     public void setCurrentReplicationState(SegmentReplicationState currentReplicationState) {
         this.currentReplicationState = currentReplicationState;
     }
@@ -117,6 +170,8 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         builder.field("current_replication_time", new TimeValue(currentReplicationTimeMillis));
         builder.field("current_replication_lag", new TimeValue(currentReplicationLagMillis));
         builder.field("last_completed_replication_time", new TimeValue(lastCompletedReplicationTimeMillis));
+        builder.field("pre_copied_bytes", new ByteSizeValue(preCopiedBytes).toString());
+        builder.field("saved_replication_lag", new TimeValue(savedReplicationLagMillis));
         if (currentReplicationState != null) {
             builder.startObject();
             currentReplicationState.toXContent(builder, params);
@@ -134,6 +189,10 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         out.writeVLong(currentReplicationTimeMillis);
         out.writeVLong(lastCompletedReplicationTimeMillis);
         out.writeVLong(currentReplicationLagMillis);
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeVLong(preCopiedBytes);
+            out.writeVLong(savedReplicationLagMillis);
+        }
     }
 
     @Override
@@ -151,6 +210,10 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
             + currentReplicationTimeMillis
             + ", lastCompletedReplicationTimeMillis="
             + lastCompletedReplicationTimeMillis
+            + ", preCopiedBytes="
+            + preCopiedBytes
+            + ", savedReplicationLagMillis="
+            + savedReplicationLagMillis
             + ", currentReplicationState="
             + currentReplicationState
             + '}';
@@ -48,6 +48,7 @@ import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.unit.MemorySizeValue;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
@@ -247,6 +248,23 @@ public final class EngineConfig {
         Property.IndexScope
     );
 
+    /**
+     * Selects how the engine stores the versions of documents that were indexed since the last refresh. {@code heap} keeps one
+     * object graph per document id, {@code paged} packs ids and versions into pages recycled through {@link BigArrays}, which reduces
+     * allocation and GC pressure for update heavy indices. The setting takes effect when the engine is (re)opened.
+     */
+    public static final Setting<String> INDEX_VERSION_MAP_STORAGE_SETTING = new Setting<>("index.version_map.storage", "heap", s -> {
+        switch (s) {
+            case "heap":
+            case "paged":
+                return s;
+            default:
+                throw new IllegalArgumentException(
+                    "unknown value for [index.version_map.storage] must be one of [heap, paged] but was: " + s
+                );
+        }
+    }, Property.IndexScope);
+
     private final TranslogConfig translogConfig;
 
     private final TranslogFactory translogFactory;
@@ -37,6 +37,9 @@ import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.KeyedLock;
 
@@ -44,6 +47,7 @@ import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -55,20 +59,121 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
 
+    /**
+     * Storage for the live entries of a single {@link VersionLookup} generation. Implementations must be safe for concurrent access to
+     * distinct keys; access to a single key is serialized by the keyed lock of the version map. Writes are never issued once the
+     * storage is closed.
+     *
+     * @opensearch.internal
+     */
+    interface Storage extends Releasable {
+
+        VersionValue get(BytesRef uid);
+
+        /**
+         * Stores the given value and returns the change in bytes accounted against this storage.
+         */
+        long put(BytesRef uid, VersionValue value);
+
+        /**
+         * Removes the value for the given uid and returns the change in bytes accounted against this storage.
+         */
+        long remove(BytesRef uid);
+
+        int size();
+
+        /**
+         * Returns the entries of this storage as a map. Heap storage returns a live view, other implementations may copy.
+         */
+        Map<BytesRef, VersionValue> asMap();
+
+        /**
+         * Creates an empty storage of the same kind for the next refresh cycle.
+         */
+        Storage newStorage(int expectedSize);
+    }
+
+    /**
+     * Default {@link Storage} holding one {@link BytesRef} and {@link VersionValue} object per live entry in a concurrent hash map.
+     *
+     * @opensearch.internal
+     */
+    static final class HeapStorage implements Storage {
+
+        private static final HeapStorage EMPTY = new HeapStorage(Collections.emptyMap());
+
+        private final Map<BytesRef, VersionValue> map;
+
+        HeapStorage() {
+            this(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency());
+        }
+
+        private HeapStorage(Map<BytesRef, VersionValue> map) {
+            this.map = map;
+        }
+
+        @Override
+        public VersionValue get(BytesRef uid) {
+            return map.get(uid);
+        }
+
+        @Override
+        public long put(BytesRef uid, VersionValue value) {
+            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + value.ramBytesUsed() + uidRAMBytesUsed;
+            VersionValue previousValue = map.put(uid, value);
+            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            return ramAccounting;
+        }
+
+        @Override
+        public long remove(BytesRef uid) {
+            VersionValue previousValue = map.remove(uid);
+            if (previousValue != null) {
+                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+                return -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            }
+            return 0;
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public Map<BytesRef, VersionValue> asMap() {
+            return map;
+        }
+
+        @Override
+        public Storage newStorage(int expectedSize) {
+            return new HeapStorage(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(expectedSize));
+        }
+
+        @Override
+        public void close() {
+            // nothing to release, entries are garbage collected with the map
+        }
+    }
+
     /**
      * Looks up document version
      *
      * @opensearch.internal
      */
-    private static final class VersionLookup {
+    private static final class VersionLookup implements Releasable {
 
         /** Tracks bytes used by current map, i.e. what is freed on refresh. For deletes, which are also added to tombstones,
          *  we only account for the CHM entry here, and account for BytesRef/VersionValue against the tombstones, since refresh would not
          *  clear this RAM. */
         final AtomicLong ramBytesUsed = new AtomicLong();
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
-        private final Map<BytesRef, VersionValue> map;
+        private static final VersionLookup EMPTY = new VersionLookup(HeapStorage.EMPTY);
+        private final Storage storage;
+        // writers hold a reference while they write so that the storage is only released once they are done with it
+        private final AbstractRefCounted refCounted;
+        private final AtomicBoolean closed = new AtomicBoolean();
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -86,24 +191,30 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
-            this.map = map;
+        private VersionLookup(Storage storage) {
+            this.storage = storage;
+            this.refCounted = new AbstractRefCounted("version_lookup") {
+                @Override
+                protected void closeInternal() {
+                    storage.close();
+                }
+            };
         }
 
         VersionValue get(BytesRef key) {
-            return map.get(key);
+            return storage.get(key);
         }
 
-        VersionValue put(BytesRef key, VersionValue value) {
-            return map.put(key, value);
+        long put(BytesRef key, VersionValue value) {
+            return storage.put(key, value);
         }
 
         boolean isEmpty() {
-            return map.isEmpty();
+            return storage.size() == 0;
         }
 
         int size() {
-            return map.size();
+            return storage.size();
         }
 
         boolean isUnsafe() {
@@ -114,8 +225,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             unsafe = true;
         }
 
-        public VersionValue remove(BytesRef uid) {
-            return map.remove(uid);
+        public long remove(BytesRef uid) {
+            return storage.remove(uid);
         }
 
         public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
@@ -123,6 +234,27 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             minDeleteTimestamp.updateAndGet(prev -> Math.min(time, prev));
         }
 
+        VersionLookup newLookup() {
+            return new VersionLookup(storage.newStorage(size()));
+        }
+
+        /**
+         * Acquires a reference that keeps the storage open until {@link #decRef()}, returns false if this lookup was already closed.
+         */
+        boolean tryIncRef() {
+            return refCounted.tryIncRef();
+        }
+
+        void decRef() {
+            refCounted.decRef();
+        }
+
+        @Override
+        public void close() {
+            if (this != EMPTY && closed.compareAndSet(false, true)) {
+                refCounted.decRef();
+            }
+        }
     }
 
     /**
@@ -149,8 +281,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+        Maps(Storage storage) {
+            this(new VersionLookup(storage), VersionLookup.EMPTY, false);
         }
 
         boolean isSafeAccessMode() {
@@ -168,11 +300,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
-                current,
-                shouldInheritSafeAccess()
-            );
+            return new Maps(current.newLookup(), current, shouldInheritSafeAccess());
         }
 
         /**
@@ -182,12 +310,20 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
         }
 
-        void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
-            VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
-            adjustRam(ramAccounting);
+        /**
+         * Puts the value into the current lookup, returns false without writing if the current lookup was closed in the meantime, in
+         * which case these maps were already replaced.
+         */
+        boolean tryPut(BytesRef uid, VersionValue version) {
+            if (current.tryIncRef() == false) {
+                return false;
+            }
+            try {
+                adjustRam(current.put(uid, version));
+            } finally {
+                current.decRef();
+            }
+            return true;
         }
 
         void adjustRam(long value) {
@@ -197,18 +333,31 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             }
         }
 
-        void remove(BytesRef uid, DeleteVersionValue deleted) {
-            VersionValue previousValue = current.remove(uid);
-            current.updateMinDeletedTimestamp(deleted);
-            if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
+        /**
+         * Removes the value from the current and old lookups, returns false without writing if the current lookup was closed in the
+         * meantime, in which case these maps were already replaced.
+         */
+        boolean tryRemove(BytesRef uid, DeleteVersionValue deleted) {
+            if (current.tryIncRef() == false) {
+                return false;
             }
-            if (old != VersionLookup.EMPTY) {
-                // we also need to remove it from the old map here to make sure we don't read this stale value while
-                // we are in the middle of a refresh. Most of the time the old map is an empty map so we can skip it there.
-                old.remove(uid);
+            try {
+                adjustRam(current.remove(uid));
+                current.updateMinDeletedTimestamp(deleted);
+            } finally {
+                current.decRef();
+            }
+            // we also need to remove it from the old map here to make sure we don't read this stale value while
+            // we are in the middle of a refresh. Most of the time the old map is an empty map so we can skip it there.
+            // Once the old map is closed its values are visible through the searcher and there is nothing stale to remove anymore.
+            if (old != VersionLookup.EMPTY && old.tryIncRef()) {
+                try {
+                    old.remove(uid);
+                } finally {
+                    old.decRef();
+                }
             }
+            return true;
         }
 
         long getMinDeleteTimestamp() {
@@ -219,10 +368,27 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap = new Maps(new HeapStorage());
+
+    LiveVersionMap() {
+        this(new HeapStorage());
+    }
+
+    /**
+     * Creates a version map that packs its live entries into pages allocated from the given {@link BigArrays} rather than keeping
+     * one object graph per document id on the heap. Tombstones are unaffected and remain on heap. The pages are only accounted against
+     * the circuit breaker without tripping it, since entries are put after the operation was already written to Lucene.
+     */
+    LiveVersionMap(BigArrays bigArrays) {
+        this(new PagedVersionStorage(bigArrays.withoutCircuitBreaking()));
+    }
+
+    private LiveVersionMap(Storage storage) {
+        this.maps = new Maps(storage);
+    }
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -285,8 +451,12 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // reopen, and so any concurrent indexing requests can still sneak in a few additions to that current map that are in fact
         // reflected in the previous reader. We don't touch tombstones here: they expire on their own index.gc_deletes timeframe:
 
+        final VersionLookup refreshed = maps.old;
         maps = maps.invalidateOldMap();
         assert (unsafeKeysMap = unsafeKeysMap.invalidateOldMap()) != null;
+        // entries of the refreshed lookup are now visible through the searcher, lookups that still race with the close see no value
+        // and fall back to the tombstones and the index just like they would once the map reference is swapped
+        refreshed.close();
 
     }
 
@@ -354,14 +524,18 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     void putIndexUnderLock(BytesRef uid, IndexVersionValue version) {
         assert assertKeyedLockHeldByCurrentThread(uid);
         assert uid.bytes.length == uid.length : "Oversized _uid! UID length: " + uid.length + ", bytes length: " + uid.bytes.length;
-        maps.put(uid, version);
+        while (maps.tryPut(uid, version) == false) {
+            // a lookup is only closed after a refresh or clear swapped it out, retry with the maps that replaced it
+        }
         removeTombstoneUnderLock(uid);
     }
 
     private boolean putAssertionMap(BytesRef uid, IndexVersionValue version) {
         assert assertKeyedLockHeldByCurrentThread(uid);
         assert uid.bytes.length == uid.length : "Oversized _uid! UID length: " + uid.length + ", bytes length: " + uid.bytes.length;
-        unsafeKeysMap.put(uid, version);
+        while (unsafeKeysMap.tryPut(uid, version) == false) {
+            // a lookup is only closed after a refresh or clear swapped it out, retry with the maps that replaced it
+        }
         return true;
     }
 
@@ -369,7 +543,9 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         assert assertKeyedLockHeldByCurrentThread(uid);
         assert uid.bytes.length == uid.length : "Oversized _uid! UID length: " + uid.length + ", bytes length: " + uid.bytes.length;
         putTombstone(uid, version);
-        maps.remove(uid, version);
+        while (maps.tryRemove(uid, version) == false) {
+            // a lookup is only closed after a refresh or clear swapped it out, retry with the maps that replaced it
+        }
     }
 
     private void putTombstone(BytesRef uid, DeleteVersionValue version) {
@@ -443,7 +619,11 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        final Maps previous = maps;
+        // the engine is closing, so the version map falls back to heap storage that needs no release rather than allocating pages
+        // that nothing would release anymore
+        maps = new Maps(new HeapStorage());
+        Releasables.close(previous.current, previous.old);
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip. Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -482,7 +662,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Returns the current internal versions as a point in time snapshot
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        return maps.current.storage.asMap();
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
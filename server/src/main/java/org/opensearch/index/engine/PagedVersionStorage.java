@@ -0,0 +1,294 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BytesRefHash;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link LiveVersionMap.Storage} that keeps document ids and their versions in pages allocated from {@link BigArrays} instead of
+ * one {@link BytesRef} / {@link VersionValue} / {@link Translog.Location} object graph per entry.
+ * <p>
+ * Keys are stored in open-addressing {@link BytesRefHash} tables and the values are packed column-wise into a single {@link LongArray}
+ * indexed by the ordinal of the key. Since the live map only ever holds index operations (deletes go to the tombstones), a value is
+ * fully described by its version, seq#, primary term and optional translog location. Removed entries keep their ordinal and are marked
+ * as such; they are no longer accounted for but their pages are only reclaimed in bulk when the storage is released after the refresh
+ * that made them visible.
+ * <p>
+ * Each stripe keeps the values of its most recently written or read entries in a small direct-mapped cache, so that looking up a
+ * recently indexed id returns the existing value instead of allocating a new one from the packed columns.
+ * <p>
+ * The tables are split into stripes guarded by their own monitor so that indexing threads working on different ids rarely contend.
+ * Once closed, a stripe answers every lookup with {@code null}: the only closed storage that can still be reached by a lookup is the
+ * one that was just refreshed, whose entries are visible through the searcher. Writes must never reach a closed storage, the version
+ * map holds a reference on the storage while writing to it, and they fail with an {@link AlreadyClosedException} otherwise.
+ *
+ * @opensearch.internal
+ */
+final class PagedVersionStorage implements LiveVersionMap.Storage {
+
+    private static final int STRIPES = 16;
+    private static final int STRIPE_MASK = STRIPES - 1;
+
+    // value columns of a single entry
+    private static final int VERSION = 0;
+    private static final int SEQ_NO = 1;
+    private static final int TERM = 2;
+    private static final int LOCATION_GENERATION = 3;
+    private static final int LOCATION_OFFSET = 4;
+    private static final int LOCATION_SIZE = 5;
+    private static final int STATE = 6;
+    private static final int STRIDE = 7;
+
+    // values of the STATE column
+    private static final long REMOVED = 0;
+    private static final long NO_LOCATION = 1;
+    private static final long WITH_LOCATION = 2;
+
+    /**
+     * Approximate number of bytes an entry occupies in the pages, excluding the key bytes: the packed value columns plus the
+     * hash table slot (assuming the default load factor of 60%), key offset and cached hash kept by {@link BytesRefHash}.
+     */
+    static final long BYTES_PER_ENTRY = STRIDE * Long.BYTES + 2 * Long.BYTES + 2 * Long.BYTES;
+
+    private static final long MIN_STRIPE_CAPACITY = 32;
+
+    // number of values cached per stripe, must be a power of two
+    private static final int CACHE_SIZE = 32;
+    private static final int CACHE_MASK = CACHE_SIZE - 1;
+
+    private final BigArrays bigArrays;
+    private final Stripe[] stripes;
+
+    PagedVersionStorage(BigArrays bigArrays) {
+        this(bigArrays, 0);
+    }
+
+    private PagedVersionStorage(BigArrays bigArrays, int expectedSize) {
+        this.bigArrays = bigArrays;
+        final long stripeCapacity = Math.max(MIN_STRIPE_CAPACITY, expectedSize / STRIPES);
+        this.stripes = new Stripe[STRIPES];
+        boolean success = false;
+        try {
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new Stripe(bigArrays, stripeCapacity);
+            }
+            success = true;
+        } finally {
+            if (success == false) {
+                close();
+            }
+        }
+    }
+
+    private Stripe stripe(BytesRef uid) {
+        return stripes[uid.hashCode() & STRIPE_MASK];
+    }
+
+    @Override
+    public VersionValue get(BytesRef uid) {
+        return stripe(uid).get(uid);
+    }
+
+    @Override
+    public long put(BytesRef uid, VersionValue value) {
+        assert value.isDelete() == false : "deletes are tracked by the tombstones only, got " + value;
+        return stripe(uid).put(uid, value);
+    }
+
+    @Override
+    public long remove(BytesRef uid) {
+        return stripe(uid).remove(uid);
+    }
+
+    @Override
+    public int size() {
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.liveCount();
+        }
+        return Math.toIntExact(size);
+    }
+
+    @Override
+    public Map<BytesRef, VersionValue> asMap() {
+        final Map<BytesRef, VersionValue> map = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.copyTo(map);
+        }
+        return map;
+    }
+
+    @Override
+    public LiveVersionMap.Storage newStorage(int expectedSize) {
+        return new PagedVersionStorage(bigArrays, expectedSize);
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(stripes);
+    }
+
+    /**
+     * A single hash table and its value columns.
+     */
+    private static final class Stripe implements Releasable {
+        private final BigArrays bigArrays;
+        private final BytesRefHash ids;
+        private LongArray values;
+        private long live;
+        private boolean closed;
+        private final long[] cachedOrdinals = new long[CACHE_SIZE];
+        private final VersionValue[] cachedValues = new VersionValue[CACHE_SIZE];
+
+        Stripe(BigArrays bigArrays, long initialCapacity) {
+            this.bigArrays = bigArrays;
+            boolean success = false;
+            final BytesRefHash ids = new BytesRefHash(initialCapacity, bigArrays);
+            try {
+                this.values = bigArrays.newLongArray(initialCapacity * STRIDE, false);
+                success = true;
+            } finally {
+                if (success == false) {
+                    ids.close();
+                }
+            }
+            this.ids = ids;
+            Arrays.fill(cachedOrdinals, -1);
+        }
+
+        synchronized VersionValue get(BytesRef uid) {
+            if (closed) {
+                return null;
+            }
+            final long ordinal = ids.find(uid);
+            if (ordinal < 0) {
+                return null;
+            }
+            final int slot = (int) (ordinal & CACHE_MASK);
+            if (cachedOrdinals[slot] == ordinal) {
+                return cachedValues[slot];
+            }
+            final VersionValue value = read(ordinal);
+            if (value != null) {
+                cache(slot, ordinal, value);
+            }
+            return value;
+        }
+
+        synchronized long put(BytesRef uid, VersionValue value) {
+            ensureOpen();
+            long ordinal = ids.add(uid);
+            long ramAccounting = 0;
+            if (ordinal < 0) {
+                ordinal = -1 - ordinal;
+                if (values.get(ordinal * STRIDE + STATE) == REMOVED) {
+                    ramAccounting = BYTES_PER_ENTRY + uid.length;
+                    live++;
+                }
+            } else {
+                values = bigArrays.grow(values, (ordinal + 1) * STRIDE);
+                ramAccounting = BYTES_PER_ENTRY + uid.length;
+                live++;
+            }
+            final long base = ordinal * STRIDE;
+            values.set(base + VERSION, value.version);
+            values.set(base + SEQ_NO, value.seqNo);
+            values.set(base + TERM, value.term);
+            final Translog.Location location = value.getLocation();
+            if (location == null) {
+                values.set(base + STATE, NO_LOCATION);
+            } else {
+                values.set(base + LOCATION_GENERATION, location.generation);
+                values.set(base + LOCATION_OFFSET, location.translogLocation);
+                values.set(base + LOCATION_SIZE, location.size);
+                values.set(base + STATE, WITH_LOCATION);
+            }
+            cache((int) (ordinal & CACHE_MASK), ordinal, value);
+            return ramAccounting;
+        }
+
+        synchronized long remove(BytesRef uid) {
+            ensureOpen();
+            final long ordinal = ids.find(uid);
+            if (ordinal < 0 || values.set(ordinal * STRIDE + STATE, REMOVED) == REMOVED) {
+                return 0;
+            }
+            live--;
+            final int slot = (int) (ordinal & CACHE_MASK);
+            if (cachedOrdinals[slot] == ordinal) {
+                cache(slot, -1, null);
+            }
+            // the key and its value columns stay allocated until the whole storage is released on refresh
+            return -(BYTES_PER_ENTRY + uid.length);
+        }
+
+        private void cache(int slot, long ordinal, VersionValue value) {
+            cachedOrdinals[slot] = ordinal;
+            cachedValues[slot] = value;
+        }
+
+        private void ensureOpen() {
+            if (closed) {
+                throw new AlreadyClosedException("version map storage is already closed");
+            }
+        }
+
+        synchronized long liveCount() {
+            return closed ? 0 : live;
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> map) {
+            if (closed) {
+                return;
+            }
+            for (long ordinal = 0; ordinal < ids.size(); ordinal++) {
+                final VersionValue value = read(ordinal);
+                if (value != null) {
+                    map.put(BytesRef.deepCopyOf(ids.get(ordinal, new BytesRef())), value);
+                }
+            }
+        }
+
+        private VersionValue read(long ordinal) {
+            final long base = ordinal * STRIDE;
+            final long state = values.get(base + STATE);
+            if (state == REMOVED) {
+                return null;
+            }
+            final Translog.Location location = state == NO_LOCATION
+                ? null
+                : new Translog.Location(
+                    values.get(base + LOCATION_GENERATION),
+                    values.get(base + LOCATION_OFFSET),
+                    (int) values.get(base + LOCATION_SIZE)
+                );
+            return new IndexVersionValue(location, values.get(base + VERSION), values.get(base + SEQ_NO), values.get(base + TERM));
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed == false) {
+                closed = true;
+                Arrays.fill(cachedValues, null);
+                Releasables.close(ids, values);
+            }
+        }
+    }
+}
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.refresh;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -64,6 +65,20 @@ public class RefreshStats implements Writeable, ToXContentFragment {
      */
     private int listeners;
 
+    /**
+     * Number of scheduled refreshes that were skipped because the shard was not searched since its last refresh.
+     */
+    private long searchDemandSkipped;
+
+    /**
+     * Number of scheduled refreshes of shards that refresh on search demand, by the reason they happened.
+     */
+    private long searchDemandForSearches;
+
+    private long searchDemandForListeners;
+
+    private long searchDemandForFreshness;
+
     public RefreshStats() {}
 
     public RefreshStats(StreamInput in) throws IOException {
@@ -72,6 +87,12 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         externalTotal = in.readVLong();
         externalTotalTimeInMillis = in.readVLong();
         listeners = in.readVInt();
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            searchDemandSkipped = in.readVLong();
+            searchDemandForSearches = in.readVLong();
+            searchDemandForListeners = in.readVLong();
+            searchDemandForFreshness = in.readVLong();
+        }
     }
 
     @Override
@@ -81,6 +102,12 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         out.writeVLong(externalTotal);
         out.writeVLong(externalTotalTimeInMillis);
         out.writeVInt(listeners);
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeVLong(searchDemandSkipped);
+            out.writeVLong(searchDemandForSearches);
+            out.writeVLong(searchDemandForListeners);
+            out.writeVLong(searchDemandForFreshness);
+        }
     }
 
     /**
@@ -109,6 +136,10 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.externalTotal += refreshStats.externalTotal;
         this.externalTotalTimeInMillis += refreshStats.externalTotalTimeInMillis;
         this.listeners += refreshStats.listeners;
+        this.searchDemandSkipped += refreshStats.searchDemandSkipped;
+        this.searchDemandForSearches += refreshStats.searchDemandForSearches;
+        this.searchDemandForListeners += refreshStats.searchDemandForListeners;
+        this.searchDemandForFreshness += refreshStats.searchDemandForFreshness;
     }
 
     /**
@@ -160,6 +191,34 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         return listeners;
     }
 
+    /**
+     * The number of scheduled refreshes that were skipped because the shard was not searched since its last refresh.
+     */
+    public long getSearchDemandSkipped() {
+        return searchDemandSkipped;
+    }
+
+    /**
+     * The number of scheduled refreshes that happened because the shard was searched since its last refresh.
+     */
+    public long getSearchDemandForSearches() {
+        return searchDemandForSearches;
+    }
+
+    /**
+     * The number of scheduled refreshes of a shard that refreshes on search demand that happened because refresh listeners waited.
+     */
+    public long getSearchDemandForListeners() {
+        return searchDemandForListeners;
+    }
+
+    /**
+     * The number of scheduled refreshes that happened because the last refresh of a shard that was not searched was too old.
+     */
+    public long getSearchDemandForFreshness() {
+        return searchDemandForFreshness;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("refresh");
@@ -168,6 +227,12 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         builder.field("external_total", externalTotal);
         builder.humanReadableField("external_total_time_in_millis", "external_total_time", getExternalTotalTime());
         builder.field("listeners", listeners);
+        builder.startObject("search_demand");
+        builder.field("skipped", searchDemandSkipped);
+        builder.field("refreshed_for_searches", searchDemandForSearches);
+        builder.field("refreshed_for_listeners", searchDemandForListeners);
+        builder.field("refreshed_for_freshness", searchDemandForFreshness);
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -183,6 +248,10 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         this.externalTotal = builder.externalTotal;
         this.externalTotalTimeInMillis = builder.externalTotalTimeInMillis;
         this.listeners = builder.listeners;
+        this.searchDemandSkipped = builder.searchDemandSkipped;
+        this.searchDemandForSearches = builder.searchDemandForSearches;
+        this.searchDemandForListeners = builder.searchDemandForListeners;
+        this.searchDemandForFreshness = builder.searchDemandForFreshness;
     }
 
     /**
@@ -195,6 +264,10 @@ public class RefreshStats implements Writeable, ToXContentFragment {
         private long externalTotal = 0;
         private long externalTotalTimeInMillis = 0;
         private int listeners = 0;
+        private long searchDemandSkipped = 0;
+        private long searchDemandForSearches = 0;
+        private long searchDemandForListeners = 0;
+        private long searchDemandForFreshness = 0;
 
         public Builder() {}
 
@@ -223,6 +296,26 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder searchDemandSkipped(long skipped) {
+            this.searchDemandSkipped = skipped;
+            return this;
+        }
+
+        public Builder searchDemandForSearches(long refreshes) {
+            this.searchDemandForSearches = refreshes;
+            return this;
+        }
+
+        public Builder searchDemandForListeners(long refreshes) {
+            this.searchDemandForListeners = refreshes;
+            return this;
+        }
+
+        public Builder searchDemandForFreshness(long refreshes) {
+            this.searchDemandForFreshness = refreshes;
+            return this;
+        }
+
         /**
          * Creates a {@link RefreshStats} object from the builder's current state.
          * @return A new RefreshStats instance.
@@ -242,11 +335,25 @@ public class RefreshStats implements Writeable, ToXContentFragment {
             && totalTimeInMillis == rhs.totalTimeInMillis
             && externalTotal == rhs.externalTotal
             && externalTotalTimeInMillis == rhs.externalTotalTimeInMillis
-            && listeners == rhs.listeners;
+            && listeners == rhs.listeners
+            && searchDemandSkipped == rhs.searchDemandSkipped
+            && searchDemandForSearches == rhs.searchDemandForSearches
+            && searchDemandForListeners == rhs.searchDemandForListeners
+            && searchDemandForFreshness == rhs.searchDemandForFreshness;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(total, totalTimeInMillis, externalTotal, externalTotalTimeInMillis, listeners);
+        return Objects.hash(
+            total,
+            totalTimeInMillis,
+            externalTotal,
+            externalTotalTimeInMillis,
+            listeners,
+            searchDemandSkipped,
+            searchDemandForSearches,
+            searchDemandForListeners,
+            searchDemandForFreshness
+        );
     }
 }
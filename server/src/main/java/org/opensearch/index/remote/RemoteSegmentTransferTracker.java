@@ -10,9 +10,11 @@ package org.opensearch.index.remote;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.Version;
 import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.logging.Loggers;
+import org.opensearch.common.util.MovingAverage;
 import org.opensearch.common.util.Streak;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -30,6 +32,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static org.opensearch.index.shard.RemoteStoreRefreshListener.EXCLUDE_FILES;
@@ -126,6 +129,17 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
      */
     private final DirectoryFileTransferTracker directoryFileTransferTracker;
 
+    /**
+     * Provides moving average over the last N time in millis that segment files waited in the
+     * {@link RemoteSegmentUploadScheduler} before their upload started.
+     */
+    private final AtomicReference<MovingAverage> uploadQueueTimeMsMovingAverageReference;
+
+    /**
+     * This lock object is used for making sure we do not miss any data.
+     */
+    private final Object uploadQueueTimeMsMutex = new Object();
+
     public RemoteSegmentTransferTracker(
         ShardId shardId,
         DirectoryFileTransferTracker directoryFileTransferTracker,
@@ -143,6 +157,7 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
         localRefreshClockTimeMs = currentClockTimeMs;
         remoteRefreshClockTimeMs = currentClockTimeMs;
         this.directoryFileTransferTracker = directoryFileTransferTracker;
+        this.uploadQueueTimeMsMovingAverageReference = new AtomicReference<>(new MovingAverage(movingAverageWindowSize));
     }
 
     public static long currentTimeMsUsingSystemNanos() {
@@ -278,6 +293,23 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
         return totalUploadsStarted.get() - totalUploadsFailed.get() - totalUploadsSucceeded.get();
     }
 
+    double getUploadQueueTimeMovingAverage() {
+        return uploadQueueTimeMsMovingAverageReference.get().getAverage();
+    }
+
+    /**
+     * Records the time that a segment file waited in the {@link RemoteSegmentUploadScheduler} before its upload started.
+     */
+    public void updateUploadQueueTimeMovingAverage(long queueTimeMs) {
+        updateMovingAverage(queueTimeMs, uploadQueueTimeMsMutex, uploadQueueTimeMsMovingAverageReference);
+    }
+
+    @Override
+    void updateMovingAverageWindowSize(int updatedSize) {
+        super.updateMovingAverageWindowSize(updatedSize);
+        updateMovingAverageWindowSize(updatedSize, uploadQueueTimeMsMutex, uploadQueueTimeMsMovingAverageReference);
+    }
+
     public long getRejectionCount() {
         return rejectionCount.get();
     }
@@ -392,6 +424,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             .bytesLag(getBytesLag())
             .totalUploadTimeInMs(totalUploadTimeInMillis.get())
             .directoryFileTransferTrackerStats(directoryFileTransferTracker.stats())
+            .inflightUploadBytes(getInflightUploadBytes())
+            .uploadQueueTimeMovingAverage(getUploadQueueTimeMovingAverage())
             .build();
     }
 
@@ -424,6 +458,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
         public final double uploadTimeMovingAverage;
         public final long bytesLag;
         public final DirectoryFileTransferTracker.Stats directoryFileTransferTrackerStats;
+        public final long inflightUploadBytes;
+        public final double uploadQueueTimeMovingAverage;
 
         private Stats(Builder builder) {
             this.shardId = builder.shardId;
@@ -447,6 +483,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             this.uploadTimeMovingAverage = builder.uploadTimeMovingAverage;
             this.bytesLag = builder.bytesLag;
             this.directoryFileTransferTrackerStats = builder.directoryFileTransferTrackerStats;
+            this.inflightUploadBytes = builder.inflightUploadBytes;
+            this.uploadQueueTimeMovingAverage = builder.uploadQueueTimeMovingAverage;
         }
 
         /**
@@ -498,6 +536,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             this.bytesLag = bytesLag;
             this.totalUploadTimeInMs = totalUploadTimeInMs;
             this.directoryFileTransferTrackerStats = directoryFileTransferTrackerStats;
+            this.inflightUploadBytes = 0;
+            this.uploadQueueTimeMovingAverage = 0;
         }
 
         public Stats(StreamInput in) throws IOException {
@@ -523,6 +563,13 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 this.bytesLag = in.readLong();
                 this.totalUploadTimeInMs = in.readLong();
                 this.directoryFileTransferTrackerStats = in.readOptionalWriteable(DirectoryFileTransferTracker.Stats::new);
+                if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+                    this.inflightUploadBytes = in.readLong();
+                    this.uploadQueueTimeMovingAverage = in.readDouble();
+                } else {
+                    this.inflightUploadBytes = 0;
+                    this.uploadQueueTimeMovingAverage = 0;
+                }
             } catch (IOException e) {
                 throw e;
             }
@@ -554,6 +601,8 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             private double uploadTimeMovingAverage = 0;
             private long bytesLag = 0;
             private DirectoryFileTransferTracker.Stats directoryFileTransferTrackerStats = null;
+            private long inflightUploadBytes = 0;
+            private double uploadQueueTimeMovingAverage = 0;
 
             public Builder() {}
 
@@ -662,6 +711,16 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 return this;
             }
 
+            public Builder inflightUploadBytes(long bytes) {
+                this.inflightUploadBytes = bytes;
+                return this;
+            }
+
+            public Builder uploadQueueTimeMovingAverage(double average) {
+                this.uploadQueueTimeMovingAverage = average;
+                return this;
+            }
+
             /**
              * Creates a {@link Stats} object from the builder's current state.
              * @return A new Stats instance.
@@ -694,6 +753,10 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
             out.writeLong(bytesLag);
             out.writeLong(totalUploadTimeInMs);
             out.writeOptionalWriteable(directoryFileTransferTrackerStats);
+            if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+                out.writeLong(inflightUploadBytes);
+                out.writeDouble(uploadQueueTimeMovingAverage);
+            }
         }
 
         @Override
@@ -722,7 +785,9 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 && Double.compare(this.uploadTimeMovingAverage, other.uploadTimeMovingAverage) == 0
                 && this.bytesLag == other.bytesLag
                 && this.totalUploadTimeInMs == other.totalUploadTimeInMs
-                && this.directoryFileTransferTrackerStats.equals(other.directoryFileTransferTrackerStats);
+                && this.directoryFileTransferTrackerStats.equals(other.directoryFileTransferTrackerStats)
+                && this.inflightUploadBytes == other.inflightUploadBytes
+                && Double.compare(this.uploadQueueTimeMovingAverage, other.uploadQueueTimeMovingAverage) == 0;
         }
 
         @Override
@@ -748,7 +813,9 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 uploadTimeMovingAverage,
                 bytesLag,
                 totalUploadTimeInMs,
-                directoryFileTransferTrackerStats
+                directoryFileTransferTrackerStats,
+                inflightUploadBytes,
+                uploadQueueTimeMovingAverage
             );
         }
 
@@ -797,6 +864,10 @@ public class RemoteSegmentTransferTracker extends RemoteTransferTracker {
                 + bytesLag
                 + ", directoryFileTransferTrackerStats="
                 + directoryFileTransferTrackerStats
+                + ", inflightUploadBytes="
+                + inflightUploadBytes
+                + ", uploadQueueTimeMovingAverage="
+                + uploadQueueTimeMovingAverage
                 + '}';
         }
     }
@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.remote;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Limits the number of segment files that the shards of a node upload to the remote store at the same time. The uploads of all
+ * shards wait in the same queues, so a merge storm on one shard does not hold back the refreshes of the others: files that are
+ * not larger than {@link #SMALL_FILE_THRESHOLD_SETTING} and are not uploaded with low priority start before larger files, which
+ * are usually merged segments. Every {@link #LARGE_UPLOAD_INTERVAL}th upload that starts while both kinds of files wait is a large
+ * one, so that merged segments are not starved by a steady stream of refreshes.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class RemoteSegmentUploadScheduler {
+
+    private static final Logger logger = LogManager.getLogger(RemoteSegmentUploadScheduler.class);
+
+    public static final Setting<Integer> MAX_CONCURRENT_UPLOADS_SETTING = Setting.intSetting(
+        "remote_store.segment.upload.max_concurrent_uploads",
+        64,
+        1,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> SMALL_FILE_THRESHOLD_SETTING = Setting.byteSizeSetting(
+        "remote_store.segment.upload.small_file_threshold",
+        new ByteSizeValue(16, ByteSizeUnit.MB),
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
+    static final int LARGE_UPLOAD_INTERVAL = 4;
+
+    private final Deque<Upload> smallUploads = new ArrayDeque<>();
+    private final Deque<Upload> largeUploads = new ArrayDeque<>();
+    // counts the requests to start uploads, so that only one thread starts them and uploads that complete while they are being
+    // started do not recurse into starting the next ones
+    private final AtomicInteger startRequests = new AtomicInteger();
+    private volatile int maxConcurrentUploads;
+    private volatile long smallFileThresholdBytes;
+    private int inFlight; // guarded by this
+    private int startedSinceLargeUpload; // guarded by this
+
+    public RemoteSegmentUploadScheduler(Settings settings, ClusterSettings clusterSettings) {
+        this.maxConcurrentUploads = MAX_CONCURRENT_UPLOADS_SETTING.get(settings);
+        this.smallFileThresholdBytes = SMALL_FILE_THRESHOLD_SETTING.get(settings).getBytes();
+        clusterSettings.addSettingsUpdateConsumer(MAX_CONCURRENT_UPLOADS_SETTING, this::setMaxConcurrentUploads);
+        clusterSettings.addSettingsUpdateConsumer(SMALL_FILE_THRESHOLD_SETTING, value -> smallFileThresholdBytes = value.getBytes());
+    }
+
+    /**
+     * Queues the upload of a file. The upload is started on the thread that calls this method or on the thread that completes
+     * another upload, must not throw, and must close the given {@link Releasable} once the file is uploaded or failed to upload.
+     *
+     * @param sizeInBytes the size of the file
+     * @param lowPriority whether the file is uploaded with low priority, like the files of a shard that is recovering
+     * @param upload starts the upload
+     */
+    public void schedule(long sizeInBytes, boolean lowPriority, Consumer<Releasable> upload) {
+        final Upload queued = new Upload(upload);
+        synchronized (this) {
+            if (lowPriority || sizeInBytes > smallFileThresholdBytes) {
+                largeUploads.add(queued);
+            } else {
+                smallUploads.add(queued);
+            }
+        }
+        startUploads();
+    }
+
+    /**
+     * Returns the number of uploads that have been started and not completed yet.
+     */
+    public synchronized int getInFlightUploads() {
+        return inFlight;
+    }
+
+    /**
+     * Returns the number of uploads that wait to be started.
+     */
+    public synchronized int getQueuedUploads() {
+        return smallUploads.size() + largeUploads.size();
+    }
+
+    private void setMaxConcurrentUploads(int maxConcurrentUploads) {
+        this.maxConcurrentUploads = maxConcurrentUploads;
+        startUploads();
+    }
+
+    private void startUploads() {
+        int requests = startRequests.incrementAndGet();
+        if (requests != 1) {
+            return;
+        }
+        do {
+            Upload upload;
+            while ((upload = nextUpload()) != null) {
+                upload.start();
+            }
+            requests = startRequests.addAndGet(-requests);
+        } while (requests != 0);
+    }
+
+    private synchronized Upload nextUpload() {
+        if (inFlight >= maxConcurrentUploads) {
+            return null;
+        }
+        final Upload upload;
+        if (largeUploads.isEmpty() == false && (smallUploads.isEmpty() || startedSinceLargeUpload >= LARGE_UPLOAD_INTERVAL - 1)) {
+            upload = largeUploads.poll();
+            startedSinceLargeUpload = 0;
+        } else {
+            upload = smallUploads.poll();
+            if (upload != null) {
+                startedSinceLargeUpload++;
+            }
+        }
+        if (upload != null) {
+            inFlight++;
+        }
+        return upload;
+    }
+
+    private void onUploadCompleted() {
+        synchronized (this) {
+            assert inFlight > 0 : "an upload completed but none was in flight";
+            inFlight--;
+        }
+        startUploads();
+    }
+
+    /**
+     * An upload that waits in the queue, or is in flight.
+     */
+    private final class Upload implements Releasable {
+        private final Consumer<Releasable> upload;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Upload(Consumer<Releasable> upload) {
+            this.upload = upload;
+        }
+
+        private void start() {
+            try {
+                upload.accept(this);
+            } catch (Exception e) {
+                // the upload is expected to report its own failures, this only keeps the other uploads going
+                logger.warn("failed to start segment upload", e);
+                close();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (completed.compareAndSet(false, true)) {
+                onUploadCompleted();
+            }
+        }
+    }
+}
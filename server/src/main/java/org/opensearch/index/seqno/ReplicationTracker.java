@@ -59,6 +59,8 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.ReplicationGroup;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.replication.checkpoint.MergedSegmentCheckpoint;
+import org.opensearch.indices.replication.checkpoint.ReferencedSegmentsCheckpoint;
 import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.common.SegmentReplicationLagTimer;
 
@@ -734,6 +736,24 @@ public class ReplicationTracker extends AbstractIndexShardComponent implements L
          */
         long lastCompletedReplicationLag;
 
+        /**
+         * Map of merged segments that were copied to the replica before they became visible on the primary to the time the copy
+         * took. Segments are added when the copy completes, and removed when the replica is caught up to a checkpoint that contains
+         * them or the primary no longer references them.
+         */
+        Map<MergedSegmentCheckpoint, Long> preCopiedMergedSegments;
+
+        /**
+         * The total number of bytes of merged segments copied to the replica before they became visible on the primary.
+         */
+        long preCopiedBytes;
+
+        /**
+         * The total time the replica did not spend copying merged segments once they became visible on the primary, because they
+         * had already been copied.
+         */
+        long savedReplicationLag;
+
         public CheckpointState(long localCheckpoint, long globalCheckpoint, boolean inSync, boolean tracked, boolean replicated) {
             this.localCheckpoint = localCheckpoint;
             this.globalCheckpoint = globalCheckpoint;
@@ -741,6 +761,7 @@ public class ReplicationTracker extends AbstractIndexShardComponent implements L
             this.tracked = tracked;
             this.replicated = replicated;
             this.checkpointTimers = ConcurrentCollections.newConcurrentMap();
+            this.preCopiedMergedSegments = ConcurrentCollections.newConcurrentMap();
         }
 
         public CheckpointState(StreamInput in) throws IOException {
@@ -1220,6 +1241,17 @@ public class ReplicationTracker extends AbstractIndexShardComponent implements L
             });
             cps.lastCompletedReplicationLag = lastFinished.get();
         }
+        if (cps.preCopiedMergedSegments.isEmpty() == false) {
+            // the replica did not have to copy the merged segments that are visible now, count the time their copy took as saved.
+            final Map<String, StoreFileMetadata> visibleFiles = visibleCheckpoint.getMetadataMap();
+            cps.preCopiedMergedSegments.entrySet().removeIf(entry -> {
+                boolean result = visibleFiles.keySet().containsAll(entry.getKey().getMetadataMap().keySet());
+                if (result) {
+                    cps.savedReplicationLag += entry.getValue();
+                }
+                return result;
+            });
+        }
         logger.trace(
             () -> new ParameterizedMessage(
                 "updated local knowledge for [{}] on the primary of the visible checkpoint from [{}] to [{}], active timers {}",
@@ -1233,6 +1265,60 @@ public class ReplicationTracker extends AbstractIndexShardComponent implements L
         assert invariant();
     }
 
+    /**
+     * After a merged segment was copied to the replicas before it became visible on the primary, record it for each replica that
+     * copied it, so that the replication stats can report the bytes and the time the copy saved once the segment is visible.
+     *
+     * @param checkpoint    the {@link MergedSegmentCheckpoint} of the merged segment
+     * @param failedNodeIds the ids of the nodes of the replicas that failed to copy the merged segment
+     * @param copyTimeMillis the time the copy took
+     */
+    public synchronized void updatePreCopiedMergedSegment(
+        final MergedSegmentCheckpoint checkpoint,
+        final Set<String> failedNodeIds,
+        final long copyTimeMillis
+    ) {
+        assert indexSettings.isSegRepEnabledOrRemoteNode();
+        if (primaryMode == false) {
+            return;
+        }
+        for (Map.Entry<String, CheckpointState> entry : checkpoints.entrySet()) {
+            final String allocationId = entry.getKey();
+            final CheckpointState cps = entry.getValue();
+            if (allocationId.equals(this.shardAllocationId)
+                || cps.inSync == false
+                || replicationGroup.getUnavailableInSyncShards().contains(allocationId)
+                || shouldSkipReplicationTimer(allocationId)) {
+                continue;
+            }
+            final ShardRouting shardRouting = routingTable.getByAllocationId(allocationId);
+            if (shardRouting != null && failedNodeIds.contains(shardRouting.currentNodeId())) {
+                continue;
+            }
+            if (cps.preCopiedMergedSegments.putIfAbsent(checkpoint, copyTimeMillis) == null) {
+                cps.preCopiedBytes += checkpoint.getLength();
+            }
+        }
+    }
+
+    /**
+     * Stops tracking the merged segments that were copied to the replicas but merged away before they became visible on the primary.
+     * A merged segment is dropped when the primary no longer references it and the referenced segments are ahead of it, the same way
+     * the replicas clean up their pending merged segments.
+     *
+     * @param referencedSegmentsCheckpoint the segments the primary references
+     */
+    public synchronized void pruneRedundantPreCopiedMergedSegments(final ReferencedSegmentsCheckpoint referencedSegmentsCheckpoint) {
+        assert indexSettings.isSegRepEnabledOrRemoteNode();
+        for (CheckpointState cps : checkpoints.values()) {
+            cps.preCopiedMergedSegments.keySet()
+                .removeIf(
+                    mergedSegment -> referencedSegmentsCheckpoint.getSegmentNames().contains(mergedSegment.getSegmentName()) == false
+                        && referencedSegmentsCheckpoint.isAheadOf(mergedSegment)
+                );
+        }
+    }
+
     /**
      * After a new checkpoint is published, create a timer for each replica to the checkpoint.
      * @param checkpoint {@link ReplicationCheckpoint}
@@ -1366,7 +1452,9 @@ public class ReplicationTracker extends AbstractIndexShardComponent implements L
             bytesBehind > 0L
                 ? cps.checkpointTimers.values().stream().mapToLong(SegmentReplicationLagTimer::totalElapsedTime).max().orElse(0)
                 : 0,
-            cps.lastCompletedReplicationLag
+            cps.lastCompletedReplicationLag,
+            cps.preCopiedBytes,
+            cps.savedReplicationLag
         );
     }
 
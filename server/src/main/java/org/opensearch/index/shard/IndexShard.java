@@ -190,6 +190,7 @@ import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogFactory;
 import org.opensearch.index.translog.TranslogRecoveryRunner;
+import org.opensearch.index.translog.TranslogGroupCommitService;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
@@ -365,6 +366,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final AtomicLong lastSearcherAccess = new AtomicLong();
     private final AtomicReference<Translog.Location> pendingRefreshLocation = new AtomicReference<>();
     private final RefreshPendingLocationListener refreshPendingLocationListener;
+    private final SearchDemandRefreshPolicy searchDemandRefreshPolicy;
     private volatile boolean useRetentionLeasesInPeerRecovery;
     private final Store remoteStore;
     private final BiFunction<IndexSettings, ShardRouting, TranslogFactory> translogFactorySupplier;
@@ -434,7 +436,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         final Object refreshMutex,
         final ClusterApplierService clusterApplierService,
         @Nullable final MergedSegmentPublisher mergedSegmentPublisher,
-        @Nullable final ReferencedSegmentsPublisher referencedSegmentsPublisher
+        @Nullable final ReferencedSegmentsPublisher referencedSegmentsPublisher,
+        @Nullable final TranslogGroupCommitService translogGroupCommitService
     ) throws IOException {
         super(shardRouting.shardId(), indexSettings);
         assert shardRouting.initializing();
@@ -457,6 +460,20 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             indexSettings.isAssignedOnRemoteNode(),
             () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
         );
+        // remote translogs already buffer their syncs, see createTranslogSyncProcessor
+        if (translogGroupCommitService != null && indexSettings.isAssignedOnRemoteNode() == false) {
+            this.translogGroupCommitService = translogGroupCommitService;
+            this.translogGroupCommitParticipant = translogGroupCommitService.register(path.getRootDataPath(), locations -> {
+                try {
+                    getEngine().translogManager().ensureTranslogSynced(locations.stream());
+                } catch (AlreadyClosedException ex) {
+                    // that's fine since we already synced everything on engine close
+                }
+            });
+        } else {
+            this.translogGroupCommitService = null;
+            this.translogGroupCommitParticipant = null;
+        }
         this.mergedSegmentTransferTracker = new MergedSegmentTransferTracker();
         this.mapperService = mapperService;
         this.indexCache = indexCache;
@@ -532,6 +549,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
         refreshListeners = buildRefreshListeners();
         lastSearcherAccess.set(threadPool.relativeTimeInMillis());
+        this.searchDemandRefreshPolicy = new SearchDemandRefreshPolicy(shardId, threadPool::relativeTimeInMillis);
         persistMetadata(path, indexSettings, shardRouting, null, logger);
         this.useRetentionLeasesInPeerRecovery = replicationTracker.hasAllPeerRecoveryRetentionLeases();
         this.refreshPendingLocationListener = new RefreshPendingLocationListener();
@@ -1505,12 +1523,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     public RefreshStats refreshStats() {
         int listeners = refreshListeners.pendingCount();
-        return new RefreshStats.Builder().total(refreshMetric.count())
+        final RefreshStats.Builder builder = new RefreshStats.Builder().total(refreshMetric.count())
             .totalTimeInMillis(TimeUnit.NANOSECONDS.toMillis(refreshMetric.sum()))
             .externalTotal(externalRefreshMetric.count())
             .externalTotalTimeInMillis(TimeUnit.NANOSECONDS.toMillis(externalRefreshMetric.sum()))
-            .listeners(listeners)
-            .build();
+            .listeners(listeners);
+        searchDemandRefreshPolicy.addStats(builder);
+        return builder.build();
     }
 
     public FlushStats flushStats() {
@@ -1615,6 +1634,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 new RemoteTranslogStats(remoteStoreStatsTrackerFactory.getRemoteTranslogTransferTracker(shardId).stats())
             );
         }
+        if (translogGroupCommitParticipant != null) {
+            translogStats.addGroupCommitStats(translogGroupCommitParticipant.stats());
+        }
 
         return translogStats;
     }
@@ -1974,7 +1996,11 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     public void publishReferencedSegments() throws IOException {
         assert referencedSegmentsPublisher != null;
-        referencedSegmentsPublisher.publish(this, computeReferencedSegmentsCheckpoint());
+        final ReferencedSegmentsCheckpoint referencedSegmentsCheckpoint = computeReferencedSegmentsCheckpoint();
+        if (this.isPrimaryMode()) {
+            replicationTracker.pruneRedundantPreCopiedMergedSegments(referencedSegmentsCheckpoint);
+        }
+        referencedSegmentsPublisher.publish(this, referencedSegmentsCheckpoint);
     }
 
     /**
@@ -2194,6 +2220,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
 
     private void markSearcherAccessed() {
         lastSearcherAccess.lazySet(threadPool.relativeTimeInMillis());
+        searchDemandRefreshPolicy.onSearcherAccess();
     }
 
     private Engine.Searcher acquireSearcher(String source, Engine.SearcherScope scope) {
@@ -3493,6 +3520,23 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * Update the local knowledge of the merged segments that were copied to the replicas before they became visible.
+     *
+     * @param checkpoint     the merged segment that was copied
+     * @param failedNodeIds  the ids of the nodes of the replicas that failed to copy the merged segment
+     * @param copyTimeMillis the time the copy took
+     */
+    public void updatePreCopiedMergedSegment(
+        final MergedSegmentCheckpoint checkpoint,
+        final Set<String> failedNodeIds,
+        final long copyTimeMillis
+    ) {
+        if (this.isPrimaryMode()) {
+            replicationTracker.updatePreCopiedMergedSegment(checkpoint, failedNodeIds, copyTimeMillis);
+        }
+    }
+
     /**
      * Fetch stats on segment replication.
      * @return {@link Tuple} V1 - TimeValue in ms - mean replication lag for this primary to its entire group,
@@ -4335,7 +4379,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             cachingPolicy,
             translogConfig,
             IndexingMemoryController.SHARD_INACTIVE_TIME_SETTING.get(indexSettings.getSettings()),
-            Arrays.asList(refreshListeners, refreshPendingLocationListener),
+            Arrays.asList(refreshListeners, refreshPendingLocationListener, searchDemandRefreshPolicy),
             internalRefreshListener,
             indexSort,
             circuitBreakerService,
@@ -4746,6 +4790,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    @Nullable
+    private final TranslogGroupCommitService translogGroupCommitService;
+    @Nullable
+    private final TranslogGroupCommitService.Participant translogGroupCommitParticipant;
 
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(
         Logger logger,
@@ -4796,12 +4844,18 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      * the transaction log the caller thread will be hijacked to run the fsync for all pending fsync operations.
      * This method allows indexing threads to continue indexing without blocking on fsync calls. We ensure that there is only
      * one thread blocking on the sync an all others can continue indexing.
+     * If translog group commit is enabled on the node, the location is instead synced by the next group commit of the shard's data path,
+     * see {@link TranslogGroupCommitService}.
      * NOTE: if the syncListener throws an exception when it's processed the exception will only be logged. Users should make sure that the
      * listener handles all exception cases internally.
      */
     public final void sync(Translog.Location location, Consumer<Exception> syncListener) {
         verifyNotClosed();
-        translogSyncProcessor.put(location, syncListener);
+        if (translogGroupCommitParticipant != null && translogGroupCommitService.isEnabled()) {
+            translogGroupCommitService.sync(translogGroupCommitParticipant, location, syncListener);
+        } else {
+            translogSyncProcessor.put(location, syncListener);
+        }
     }
 
     public void sync() throws IOException {
@@ -4962,6 +5016,20 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 engine.maybePruneDeletes(); // try to prune the deletes in the engine if we accumulated some
                 setRefreshPending(engine);
                 return false;
+            } else if (indexSettings.isSearchDemandRefreshEnabled()
+                && isSearchIdleSupported()
+                && active.get()
+                && searchDemandRefreshPolicy.shouldRefresh(
+                    listenerNeedsRefresh,
+                    indexSettings.getSearchDemandRefreshMaxStaleness()
+                ) == false) {
+                // nobody searched the shard since its last refresh and the last refresh is recent enough. as with search idle, the
+                // next searcher access will register a refreshListener for the pending refresh and that will cause the next schedule
+                // to refresh.
+                final Engine engine = getEngine();
+                engine.maybePruneDeletes(); // try to prune the deletes in the engine if we accumulated some
+                setRefreshPending(engine);
+                return false;
             } else {
                 if (logger.isTraceEnabled()) {
                     logger.trace("refresh with source [schedule]");
@@ -15,19 +15,25 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FilterDirectory;
 import org.apache.lucene.store.IOContext;
 import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.util.UploadListener;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.remote.RemoteSegmentTransferTracker;
+import org.opensearch.index.remote.RemoteSegmentUploadScheduler;
 import org.opensearch.index.store.CompositeDirectory;
 import org.opensearch.index.store.RemoteSegmentStoreDirectory;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
  * The service essentially acts as a bridge between local segment storage and remote storage,
  * ensuring efficient and reliable segment synchronization while providing comprehensive monitoring and error handling.
+ * When the remote store uploads files in the background, the uploads wait in the {@link RemoteSegmentUploadScheduler} of the
+ * node, which bounds the uploads of all shards and starts the small files of refreshes before large merged segments.
  */
 public class RemoteStoreUploaderService implements RemoteStoreUploader {
 
@@ -36,12 +42,28 @@ public class RemoteStoreUploaderService implements RemoteStoreUploader {
     private final IndexShard indexShard;
     private final Directory storeDirectory;
     private final RemoteSegmentStoreDirectory remoteDirectory;
+    @Nullable
+    private final RemoteSegmentUploadScheduler uploadScheduler;
+    @Nullable
+    private final RemoteSegmentTransferTracker segmentTracker;
 
     public RemoteStoreUploaderService(IndexShard indexShard, Directory storeDirectory, RemoteSegmentStoreDirectory remoteDirectory) {
+        this(indexShard, storeDirectory, remoteDirectory, null, null);
+    }
+
+    public RemoteStoreUploaderService(
+        IndexShard indexShard,
+        Directory storeDirectory,
+        RemoteSegmentStoreDirectory remoteDirectory,
+        @Nullable RemoteSegmentUploadScheduler uploadScheduler,
+        @Nullable RemoteSegmentTransferTracker segmentTracker
+    ) {
         logger = Loggers.getLogger(getClass(), indexShard.shardId());
         this.indexShard = indexShard;
         this.storeDirectory = storeDirectory;
         this.remoteDirectory = remoteDirectory;
+        this.uploadScheduler = uploadScheduler;
+        this.segmentTracker = segmentTracker;
     }
 
     @Override
@@ -62,6 +84,8 @@ public class RemoteStoreUploaderService implements RemoteStoreUploader {
         ActionListener<Collection<Void>> mappedListener = ActionListener.map(listener, resp -> null);
         GroupedActionListener<Void> batchUploadListener = new GroupedActionListener<>(mappedListener, localSegments.size());
         Directory directory = ((FilterDirectory) (((FilterDirectory) storeDirectory).getDelegate())).getDelegate();
+        // files that are uploaded on the calling thread are not scheduled, the scheduler would upload them one after the other
+        boolean scheduled = uploadScheduler != null && remoteDirectory.isAsyncUploadSupported();
 
         for (String localSegment : localSegments) {
             // Initializing listener here to ensure that the stats increment operations are thread-safe
@@ -81,9 +105,29 @@ public class RemoteStoreUploaderService implements RemoteStoreUploader {
                 statsListener.onFailure(localSegment);
                 batchUploadListener.onFailure(ex);
             });
-            statsListener.beforeUpload(localSegment);
-            // Place where the actual upload is happening
-            remoteDirectory.copyFrom(storeDirectory, localSegment, IOContext.DEFAULT, aggregatedListener, isLowPriorityUpload);
+            if (scheduled == false) {
+                uploadSegment(localSegment, statsListener, aggregatedListener, isLowPriorityUpload);
+                continue;
+            }
+            long queuedAtNanos = System.nanoTime();
+            uploadScheduler.schedule(localSegmentsSizeMap.getOrDefault(localSegment, 0L), isLowPriorityUpload, permit -> {
+                if (segmentTracker != null) {
+                    segmentTracker.updateUploadQueueTimeMovingAverage(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - queuedAtNanos));
+                }
+                ActionListener<Void> releasingListener = ActionListener.runBefore(aggregatedListener, permit::close);
+                uploadSegment(localSegment, statsListener, releasingListener, isLowPriorityUpload);
+            });
         }
     }
+
+    private void uploadSegment(
+        String localSegment,
+        UploadListener statsListener,
+        ActionListener<Void> listener,
+        boolean isLowPriorityUpload
+    ) {
+        statsListener.beforeUpload(localSegment);
+        // Place where the actual upload is happening
+        remoteDirectory.copyFrom(storeDirectory, localSegment, IOContext.DEFAULT, listener, isLowPriorityUpload);
+    }
 }
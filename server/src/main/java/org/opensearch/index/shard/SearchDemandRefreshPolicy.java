@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.apache.lucene.search.ReferenceManager;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.refresh.RefreshStats;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether a scheduled refresh of a shard that refreshes on search demand happens, see
+ * {@link IndexSettings#INDEX_REFRESH_SEARCH_DEMAND_ENABLED}. A refresh only makes new documents visible to searches, so a shard that
+ * was not searched since its last refresh skips the scheduled refresh unless refresh listeners wait for it or its last refresh is
+ * older than the maximum staleness. Every shard lowers the maximum staleness by its own fraction of up to
+ * {@link #MAX_STAGGER_PERCENT}, so that the shards of an index that are not searched do not all refresh on the same schedule.
+ * The indexing buffer needs no check of its own, {@link org.opensearch.indices.IndexingMemoryController} writes it out when the
+ * shards of the node use too much memory.
+ *
+ * @opensearch.internal
+ */
+final class SearchDemandRefreshPolicy implements ReferenceManager.RefreshListener {
+
+    static final int MAX_STAGGER_PERCENT = 25;
+
+    private final LongSupplier relativeTimeInMillis;
+    private final int staggerPercent;
+    private final CounterMetric skipped = new CounterMetric();
+    private final CounterMetric forSearches = new CounterMetric();
+    private final CounterMetric forListeners = new CounterMetric();
+    private final CounterMetric forFreshness = new CounterMetric();
+    private volatile boolean searchedSinceRefresh;
+    private volatile long lastRefreshMillis;
+
+    SearchDemandRefreshPolicy(ShardId shardId, LongSupplier relativeTimeInMillis) {
+        this.relativeTimeInMillis = relativeTimeInMillis;
+        this.staggerPercent = Math.floorMod(shardId.hashCode(), MAX_STAGGER_PERCENT + 1);
+        this.lastRefreshMillis = relativeTimeInMillis.getAsLong();
+    }
+
+    /**
+     * Called whenever a searcher of the shard is acquired.
+     */
+    void onSearcherAccess() {
+        // only write once per refresh, searchers are acquired far more often than the shard refreshes
+        if (searchedSinceRefresh == false) {
+            searchedSinceRefresh = true;
+        }
+    }
+
+    /**
+     * Returns whether the scheduled refresh should happen, and records the decision.
+     *
+     * @param listenersWaiting whether refresh listeners wait for the next refresh
+     * @param maxStaleness     the maximum age of the last refresh
+     */
+    boolean shouldRefresh(boolean listenersWaiting, TimeValue maxStaleness) {
+        if (listenersWaiting) {
+            forListeners.inc();
+        } else if (searchedSinceRefresh) {
+            forSearches.inc();
+        } else if (relativeTimeInMillis.getAsLong() - lastRefreshMillis >= maxStaleness.millis() * (100 - staggerPercent) / 100) {
+            forFreshness.inc();
+        } else {
+            skipped.inc();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void beforeRefresh() {
+        // searches that acquire a searcher while the refresh runs may not see its documents, so they count towards the next one
+        searchedSinceRefresh = false;
+        lastRefreshMillis = relativeTimeInMillis.getAsLong();
+    }
+
+    @Override
+    public void afterRefresh(boolean didRefresh) {}
+
+    void addStats(RefreshStats.Builder builder) {
+        builder.searchDemandSkipped(skipped.count())
+            .searchDemandForSearches(forSearches.count())
+            .searchDemandForListeners(forListeners.count())
+            .searchDemandForFreshness(forFreshness.count());
+    }
+}
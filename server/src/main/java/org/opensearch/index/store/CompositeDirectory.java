@@ -21,6 +21,7 @@ import org.apache.lucene.util.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.lucene.store.InputStreamIndexInput;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.store.remote.file.AbstractBlockIndexInput;
 import org.opensearch.index.store.remote.file.OnDemandBlockSnapshotIndexInput;
 import org.opensearch.index.store.remote.filecache.CachedFullFileIndexInput;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
@@ -61,6 +62,7 @@ public class CompositeDirectory extends FilterDirectory {
     protected final FileCache fileCache;
     protected final TransferManager transferManager;
     protected final ThreadPool threadPool;
+    private final int readAheadBlocks;
 
     /**
      * Constructor to initialise the composite directory
@@ -69,12 +71,30 @@ public class CompositeDirectory extends FilterDirectory {
      * @param fileCache used to cache the remote files locally
      */
     public CompositeDirectory(Directory localDirectory, Directory remoteDirectory, FileCache fileCache, ThreadPool threadPool) {
+        this(localDirectory, remoteDirectory, fileCache, threadPool, AbstractBlockIndexInput.Builder.DEFAULT_READ_AHEAD_BLOCKS);
+    }
+
+    /**
+     * Constructor to initialise the composite directory
+     * @param localDirectory corresponding to the local FSDirectory
+     * @param remoteDirectory corresponding to the remote directory
+     * @param fileCache used to cache the remote files locally
+     * @param readAheadBlocks number of blocks downloaded ahead of sequential reads of remote files, 0 disables read ahead
+     */
+    public CompositeDirectory(
+        Directory localDirectory,
+        Directory remoteDirectory,
+        FileCache fileCache,
+        ThreadPool threadPool,
+        int readAheadBlocks
+    ) {
         super(localDirectory);
         validate(localDirectory, remoteDirectory, fileCache);
         this.localDirectory = localDirectory;
         this.remoteDirectory = (RemoteSegmentStoreDirectory) remoteDirectory;
         this.fileCache = fileCache;
         this.threadPool = threadPool;
+        this.readAheadBlocks = readAheadBlocks;
         transferManager = new TransferManager(
             (name, position, length) -> new InputStreamIndexInput(
                 CompositeDirectory.this.remoteDirectory.openBlockInput(name, position, length, IOContext.DEFAULT),
@@ -345,7 +365,7 @@ public class CompositeDirectory extends FilterDirectory {
                 new StoreFileMetadata(name, uploadedSegmentMetadata.getLength(), uploadedSegmentMetadata.getChecksum(), Version.LATEST),
                 null
             );
-            return new OnDemandBlockSnapshotIndexInput(fileInfo, getLocalFSDirectory(), transferManager);
+            return new OnDemandBlockSnapshotIndexInput(fileInfo, getLocalFSDirectory(), transferManager, readAheadBlocks);
         }
     }
 
@@ -11,6 +11,7 @@ package org.opensearch.index.store;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.store.Directory;
+import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.ShardPath;
 import org.opensearch.index.store.remote.filecache.FileCache;
@@ -37,6 +38,7 @@ public class DefaultCompositeDirectoryFactory implements IndexStorePlugin.Compos
     ) throws IOException {
         logger.trace("Creating composite directory from core - Default CompositeDirectoryFactory");
         Directory localDirectory = localDirectoryFactory.newDirectory(indexSettings, shardPath);
-        return new CompositeDirectory(localDirectory, remoteDirectory, fileCache, threadPool);
+        final int readAheadBlocks = indexSettings.getValue(IndexModule.INDEX_STORE_READ_AHEAD_BLOCKS_SETTING);
+        return new CompositeDirectory(localDirectory, remoteDirectory, fileCache, threadPool, readAheadBlocks);
     }
 }
@@ -28,6 +28,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.annotation.InternalApi;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.blobstore.AsyncMultiStreamBlobContainer;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.VersionedCodecStreamWrapper;
 import org.opensearch.common.logging.Loggers;
@@ -620,6 +621,14 @@ public final class RemoteSegmentStoreDirectory extends FilterDirectory implement
         }
     }
 
+    /**
+     * Returns whether {@link #copyFrom(Directory, String, IOContext, ActionListener, boolean)} uploads the segment files in the
+     * background, rather than on the calling thread.
+     */
+    public boolean isAsyncUploadSupported() {
+        return remoteDataDirectory.getBlobContainer() instanceof AsyncMultiStreamBlobContainer;
+    }
+
     /**
      * This acquires a lock on a given commit by creating a lock file in lock directory using {@code FileLockInfo}
      *
@@ -41,13 +41,20 @@ public final class RemoteSnapshotDirectory extends Directory {
     private final Map<String, BlobStoreIndexShardSnapshot.FileInfo> fileInfoMap;
     private final FSDirectory localStoreDir;
     private final TransferManager transferManager;
-
-    public RemoteSnapshotDirectory(BlobStoreIndexShardSnapshot snapshot, FSDirectory localStoreDir, TransferManager transferManager) {
+    private final int readAheadBlocks;
+
+    public RemoteSnapshotDirectory(
+        BlobStoreIndexShardSnapshot snapshot,
+        FSDirectory localStoreDir,
+        TransferManager transferManager,
+        int readAheadBlocks
+    ) {
         this.fileInfoMap = snapshot.indexFiles()
             .stream()
             .collect(Collectors.toMap(BlobStoreIndexShardSnapshot.FileInfo::physicalName, f -> f));
         this.localStoreDir = localStoreDir;
         this.transferManager = transferManager;
+        this.readAheadBlocks = readAheadBlocks;
     }
 
     @Override
@@ -70,7 +77,7 @@ public final class RemoteSnapshotDirectory extends Directory {
         if (fileInfo.name().startsWith(VIRTUAL_FILE_PREFIX)) {
             return new ByteArrayIndexInput(fileInfo.physicalName(), fileInfo.metadata().hash().bytes);
         }
-        return new OnDemandBlockSnapshotIndexInput(fileInfo, localStoreDir, transferManager);
+        return new OnDemandBlockSnapshotIndexInput(fileInfo, localStoreDir, transferManager, readAheadBlocks);
     }
 
     @Override
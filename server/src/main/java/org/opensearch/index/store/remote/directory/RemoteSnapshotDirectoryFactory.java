@@ -12,6 +12,7 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.LockFactory;
 import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.remote.RemoteStoreEnums.PathType;
 import org.opensearch.index.shard.ShardPath;
@@ -90,6 +91,7 @@ public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.Di
             IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME.get(indexSettings.getSettings()),
             IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.get(indexSettings.getSettings())
         );
+        final int readAheadBlocks = indexSettings.getValue(IndexModule.INDEX_STORE_READ_AHEAD_BLOCKS_SETTING);
         Path localStorePath = localShardPath.getDataPath().resolve(LOCAL_STORE_LOCATION);
         FSDirectory localStoreDir = FSDirectory.open(Files.createDirectories(localStorePath));
         // make sure directory is flushed to persistent storage
@@ -108,7 +110,7 @@ public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.Di
                 : "indexShardSnapshot should be an instance of BlobStoreIndexShardSnapshot";
             final BlobStoreIndexShardSnapshot snapshot = (BlobStoreIndexShardSnapshot) indexShardSnapshot;
             TransferManager transferManager = new TransferManager(blobContainer::readBlob, remoteStoreFileCache, threadPool);
-            return new RemoteSnapshotDirectory(snapshot, localStoreDir, transferManager);
+            return new RemoteSnapshotDirectory(snapshot, localStoreDir, transferManager, readAheadBlocks);
         });
     }
 }
@@ -43,6 +43,11 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
 
     public static final String CLEANER_THREAD_NAME_PREFIX = "index-input-cleaner";
 
+    /**
+     * Number of consecutive switches to the next block after which the file is considered to be read sequentially
+     */
+    static final int SEQUENTIAL_BLOCK_SWITCHES_BEFORE_READ_AHEAD = 2;
+
     /**
      * A single static Cleaner instance to ensure any unclosed clone of an
      * IndexInput is closed. This instance creates a single daemon thread on
@@ -75,11 +80,27 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
     protected final int blockSize;
     protected final int blockMask;
 
+    /**
+     * Maximum number of blocks that are read ahead of the current block once the file is read sequentially, 0 disables read ahead
+     * as well as {@link #prefetch} hints
+     */
+    protected final int readAheadBlocks;
+
     /**
      * ID of the current block
      */
     protected int currentBlockId;
 
+    /**
+     * Number of consecutive block switches that moved to the next block, used to detect sequential reads
+     */
+    private int sequentialBlockSwitches;
+
+    /**
+     * ID of the last block that was read ahead
+     */
+    private int readAheadUntilBlockId = -1;
+
     private final BlockHolder blockHolder = new BlockHolder();
     protected final Cleaner.Cleanable cleanable;
 
@@ -91,6 +112,7 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
         this.blockSizeShift = builder.blockSizeShift;
         this.blockSize = builder.blockSize;
         this.blockMask = builder.blockMask;
+        this.readAheadBlocks = builder.readAheadBlocks;
         this.cleanable = CLEANER.register(this, blockHolder);
     }
 
@@ -106,6 +128,14 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
      */
     protected abstract IndexInput fetchBlock(int blockId) throws IOException;
 
+    /**
+     * Starts fetching the given blocks in the background so that a later {@link #fetchBlock(int)} of them does not wait on the remote
+     * store. This is only a hint, implementations may ignore it and must not fail the read that triggered it.
+     * @param firstBlockId the first block to fetch
+     * @param count the number of consecutive blocks to fetch
+     */
+    protected void prefetchBlocks(int firstBlockId, int count) {}
+
     @Override
     public abstract AbstractBlockIndexInput clone();
 
@@ -136,6 +166,23 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
         currentBlockId = 0;
     }
 
+    @Override
+    public void prefetch(long offset, long length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, length());
+        if (length == 0 || readAheadBlocks == 0) {
+            return;
+        }
+        final long start = this.offset + offset;
+        int firstBlockId = getBlock(start);
+        final int lastBlockId = getBlock(start + length - 1);
+        if (blockHolder.block != null && firstBlockId == currentBlockId) {
+            firstBlockId++;
+        }
+        if (firstBlockId <= lastBlockId) {
+            prefetchBlocks(firstBlockId, lastBlockId - firstBlockId + 1);
+        }
+    }
+
     @Override
     public long getFilePointer() {
         if (blockHolder.block == null) return 0L;
@@ -439,6 +486,10 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
     private void demandBlock(int blockId) throws IOException {
         if (blockHolder.block != null && currentBlockId == blockId) return;
 
+        final boolean sequential = blockHolder.block != null && blockId == currentBlockId + 1;
+        // start reading ahead before fetching the demanded block so that both downloads run concurrently
+        maybeReadAhead(blockId, sequential);
+
         // close the current block before jumping to the new block
         blockHolder.close();
 
@@ -446,6 +497,32 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
         currentBlockId = blockId;
     }
 
+    /**
+     * Reads the next blocks ahead once the last block switches all moved to the next block. The blocks are read ahead in batches, a
+     * new batch is only issued once half of the blocks that were read ahead have been consumed, so that the blocks of a batch can be
+     * fetched together.
+     */
+    private void maybeReadAhead(int blockId, boolean sequential) {
+        if (sequential == false) {
+            sequentialBlockSwitches = 0;
+            readAheadUntilBlockId = -1;
+            return;
+        }
+        sequentialBlockSwitches++;
+        if (readAheadBlocks <= 0 || sequentialBlockSwitches < SEQUENTIAL_BLOCK_SWITCHES_BEFORE_READ_AHEAD) {
+            return;
+        }
+        if (readAheadUntilBlockId - blockId > readAheadBlocks / 2) {
+            return;
+        }
+        final int firstBlockId = Math.max(blockId + 1, readAheadUntilBlockId + 1);
+        final int lastBlockId = Math.min(blockId + readAheadBlocks, getBlock(offset + length - 1));
+        if (firstBlockId <= lastBlockId) {
+            prefetchBlocks(firstBlockId, lastBlockId - firstBlockId + 1);
+            readAheadUntilBlockId = lastBlockId;
+        }
+    }
+
     protected void cloneBlock(AbstractBlockIndexInput other) {
         if (other.blockHolder.block != null) {
             this.blockHolder.set(other.blockHolder.block.clone());
@@ -485,6 +562,8 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
         // Block size shift (default value is 23 == 2^23 == 8MiB)
         public static final int DEFAULT_BLOCK_SIZE_SHIFT = 23;
         public static final int DEFAULT_BLOCK_SIZE = 1 << DEFAULT_BLOCK_SIZE_SHIFT;;
+        // Number of blocks read ahead of sequential reads, read ahead is disabled by default
+        public static final int DEFAULT_READ_AHEAD_BLOCKS = 0;
 
         protected String resourceDescription;
         protected boolean isClone;
@@ -493,6 +572,7 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
         protected int blockSizeShift = DEFAULT_BLOCK_SIZE_SHIFT;
         protected int blockSize = 1 << blockSizeShift;
         protected int blockMask = blockSize - 1;
+        protected int readAheadBlocks = DEFAULT_READ_AHEAD_BLOCKS;
 
         protected Builder() {}
 
@@ -528,6 +608,12 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
             this.blockMask = blockSize - 1;
             return self();
         }
+
+        public T readAheadBlocks(int readAheadBlocks) {
+            assert readAheadBlocks >= 0 : "readAheadBlocks must be >= 0";
+            this.readAheadBlocks = readAheadBlocks;
+            return self();
+        }
     }
 
     /**
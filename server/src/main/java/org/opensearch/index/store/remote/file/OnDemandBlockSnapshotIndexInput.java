@@ -59,21 +59,29 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
     protected final long originalFileSize;
 
     public OnDemandBlockSnapshotIndexInput(FileInfo fileInfo, FSDirectory directory, TransferManager transferManager) {
+        this(fileInfo, directory, transferManager, AbstractBlockIndexInput.Builder.DEFAULT_READ_AHEAD_BLOCKS);
+    }
+
+    public OnDemandBlockSnapshotIndexInput(FileInfo fileInfo, FSDirectory directory, TransferManager transferManager, int readAheadBlocks) {
         this(
-            "BlockedSnapshotIndexInput(path=\""
-                + directory.getDirectory().toString()
-                + "/"
-                + fileInfo.physicalName()
-                + "\", "
-                + "offset="
-                + 0
-                + ", length= "
-                + fileInfo.length()
-                + ")",
+            AbstractBlockIndexInput.builder()
+                .resourceDescription(
+                    "BlockedSnapshotIndexInput(path=\""
+                        + directory.getDirectory().toString()
+                        + "/"
+                        + fileInfo.physicalName()
+                        + "\", "
+                        + "offset="
+                        + 0
+                        + ", length= "
+                        + fileInfo.length()
+                        + ")"
+                )
+                .isClone(false)
+                .offset(0L)
+                .length(fileInfo.length())
+                .readAheadBlocks(readAheadBlocks),
             fileInfo,
-            0L,
-            fileInfo.length(),
-            false,
             directory,
             transferManager
         );
@@ -124,6 +132,7 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
         return new OnDemandBlockSnapshotIndexInput(
             AbstractBlockIndexInput.builder()
                 .blockSizeShift(blockSizeShift)
+                .readAheadBlocks(readAheadBlocks)
                 .isClone(true)
                 .offset(this.offset + offset)
                 .length(length)
@@ -137,6 +146,21 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
     @Override
     protected IndexInput fetchBlock(int blockId) throws IOException {
         logger.trace("fetchBlock called with blockId -> {}", blockId);
+        return transferManager.fetchBlob(createBlobFetchRequest(blockId));
+    }
+
+    @Override
+    protected void prefetchBlocks(int firstBlockId, int count) {
+        logger.trace("prefetchBlocks called with firstBlockId -> {}, count -> {}", firstBlockId, count);
+        final List<BlobFetchRequest> blobFetchRequests = new ArrayList<>(count);
+        for (int blockId = firstBlockId; blockId < firstBlockId + count; blockId++) {
+            blobFetchRequests.add(createBlobFetchRequest(blockId));
+        }
+        // the transfer manager coalesces the requests for adjacent blocks of the same blob part into a single ranged read
+        transferManager.prefetchBlobs(blobFetchRequests);
+    }
+
+    private BlobFetchRequest createBlobFetchRequest(int blockId) {
         final String blockFileName = getBlockFileName(fileName, blockId);
 
         final long blockStart = getBlockStart(blockId);
@@ -152,12 +176,11 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
 
         // Block may be present on multiple chunks of a file, so we need
         // to fetch each chunk/blob part separately to fetch an entire block.
-        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+        return BlobFetchRequest.builder()
             .blobParts(getBlobParts(blockStart, blockEnd))
             .directory(directory)
             .fileName(blockFileName)
             .build();
-        return transferManager.fetchBlob(blobFetchRequest);
     }
 
     /**
@@ -25,7 +25,7 @@ import java.util.EnumSet;
  * to manage cached file data in memory segments.
  * This class aggregates statistics across all cache segments including:
  * - Memory usage (total, active, used)
- * - Cache performance (hits, misses, evictions)
+ * - Cache performance (hits, misses, evictions, admission rejections)
  * - Utilization percentages
  * The statistics are exposed via {@link org.opensearch.action.admin.cluster.node.stats.NodeStats}
  * to provide visibility into cache behavior and performance.
@@ -128,6 +128,10 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         return overallFileCacheStats.getCacheMisses();
     }
 
+    public long getAdmissionRejections() {
+        return overallFileCacheStats.getAdmissionRejections();
+    }
+
     // visible for testing.
     public FileCacheStats getBlockFileCacheStats() {
         return blockFileCacheStats;
@@ -147,6 +151,7 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.USED_PERCENT, getUsedPercent());
         builder.field(Fields.HIT_COUNT, getCacheHits());
         builder.field(Fields.MISS_COUNT, getCacheMisses());
+        builder.field(Fields.ADMISSION_REJECT_COUNT, getAdmissionRejections());
         overallFileCacheStats.toXContent(builder, params);
         fullFileCacheStats.toXContent(builder, params);
         blockFileCacheStats.toXContent(builder, params);
@@ -176,6 +181,7 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
 
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String ADMISSION_REJECT_COUNT = "admission_reject_count";
     }
 
     /**
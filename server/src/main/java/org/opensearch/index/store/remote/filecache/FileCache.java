@@ -260,6 +260,7 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 overallCacheStats.removeWeight(),
                 overallCacheStats.hitCount(),
                 overallCacheStats.missCount(),
+                overallCacheStats.admissionRejectCount(),
                 FileCacheStatsType.OVER_ALL_STATS
             ),
             new FileCacheStats(
@@ -271,6 +272,7 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 fullFileCacheStats.removeWeight(),
                 fullFileCacheStats.hitCount(),
                 fullFileCacheStats.missCount(),
+                fullFileCacheStats.admissionRejectCount(),
                 FileCacheStatsType.FULL_FILE_STATS
             ),
             new FileCacheStats(
@@ -282,6 +284,7 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 blockFileCacheStats.removeWeight(),
                 blockFileCacheStats.hitCount(),
                 blockFileCacheStats.missCount(),
+                blockFileCacheStats.admissionRejectCount(),
                 FileCacheStatsType.BLOCK_FILE_STATS
             ),
             new FileCacheStats(
@@ -293,6 +296,7 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 pinnedFileCacheStats.removeWeight(),
                 pinnedFileCacheStats.hitCount(),
                 pinnedFileCacheStats.missCount(),
+                pinnedFileCacheStats.admissionRejectCount(),
                 FileCacheStatsType.PINNED_FILE_STATS
             )
         );
@@ -9,10 +9,12 @@
 package org.opensearch.index.store.remote.filecache;
 
 import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.index.store.remote.utils.FileTypeUtils;
 import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Set;
 
 import static org.opensearch.ExceptionsHelper.catchAsRuntimeException;
 
@@ -32,10 +34,19 @@ import static org.opensearch.ExceptionsHelper.catchAsRuntimeException;
  * items from cache tail and triggers a callback to clean up the file from disk. The
  * cleanup process also includes closing file’s descriptor.
  *
+ * <p>The TinyLFU variant of the FC additionally keeps track of how often files are accessed, and only
+ * admits a new file once the cache is full if it is accessed more often than the file it would replace.
+ * This prevents a single large scan from evicting the files that are used by most queries.
+ *
  * @opensearch.internal
  */
 public class FileCacheFactory {
 
+    /**
+     * Extensions of the files that most queries read, the terms index and dictionary and the doc values data
+     */
+    private static final Set<String> HOT_FILE_EXTENSIONS = Set.of("tip", "tim", "dvd");
+
     public static FileCache createConcurrentLRUFileCache(long capacity) {
         return new FileCache(createDefaultBuilder().capacity(capacity).build());
     }
@@ -44,6 +55,32 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build());
     }
 
+    public static FileCache createConcurrentTinyLFUFileCache(long capacity) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).admissionPriority(FileCacheFactory::admissionPriority).build());
+    }
+
+    public static FileCache createConcurrentTinyLFUFileCache(long capacity, int concurrencyLevel) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity)
+                .concurrencyLevel(concurrencyLevel)
+                .admissionPriority(FileCacheFactory::admissionPriority)
+                .build()
+        );
+    }
+
+    /**
+     * Favours the blocks of the files that most queries read over the ones that are only read by some of them, such as stored fields.
+     */
+    static int admissionPriority(Path key) {
+        String fileName = key.getFileName().toString();
+        final int blockIdentifier = fileName.indexOf(FileTypeUtils.BLOCK_FILE_IDENTIFIER);
+        if (blockIdentifier >= 0) {
+            fileName = fileName.substring(0, blockIdentifier);
+        }
+        final String extension = fileName.substring(fileName.lastIndexOf('.') + 1);
+        return HOT_FILE_EXTENSIONS.contains(extension) ? 2 : 1;
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
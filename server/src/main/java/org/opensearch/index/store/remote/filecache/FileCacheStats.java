@@ -27,7 +27,7 @@ import static org.opensearch.index.store.remote.filecache.AggregateFileCacheStat
  * Statistics for the file cache system that tracks memory usage and performance metrics.
  * Aggregates statistics across all cache segments including:
  * - Memory usage: active and used bytes.
- * - Cache performance: hit counts and eviction counts.
+ * - Cache performance: hit counts, eviction counts and admission rejections.
  * - Utilization: active percentage of total used memory.
  * The statistics are exposed as part of {@link AggregateFileCacheStats} and via {@link org.opensearch.action.admin.cluster.node.stats.NodeStats}
  * to provide visibility into cache behavior and performance.
@@ -45,6 +45,7 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
     private final long removed;
     private final long hits;
     private final long misses;
+    private final long admissionRejections;
     private final FileCacheStatsType statsType;
 
     @InternalApi
@@ -58,6 +59,22 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         final long hits,
         long misses,
         FileCacheStatsType statsType
+    ) {
+        this(active, total, used, pinned, evicted, removed, hits, misses, 0L, statsType);
+    }
+
+    @InternalApi
+    public FileCacheStats(
+        final long active,
+        long total,
+        final long used,
+        final long pinned,
+        final long evicted,
+        final long removed,
+        final long hits,
+        long misses,
+        long admissionRejections,
+        FileCacheStatsType statsType
     ) {
         this.active = active;
         this.total = total;
@@ -67,6 +84,7 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.removed = removed;
         this.hits = hits;
         this.misses = misses;
+        this.admissionRejections = admissionRejections;
         this.statsType = statsType;
     }
 
@@ -87,6 +105,11 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
             this.removed = 0L;
             this.misses = 0L;
         }
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            this.admissionRejections = in.readLong();
+        } else {
+            this.admissionRejections = 0L;
+        }
     }
 
     @Override
@@ -103,6 +126,9 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
             out.writeLong(removed);
             out.writeLong(misses);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeLong(admissionRejections);
+        }
     }
 
     public long getActive() {
@@ -149,6 +175,13 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         return misses;
     }
 
+    /**
+     * Returns the number of newly cached files that were evicted because the admission policy preferred more frequently used files.
+     */
+    public long getAdmissionRejections() {
+        return admissionRejections;
+    }
+
     static final class Fields {
         static final String ACTIVE = "active";
         static final String ACTIVE_IN_BYTES = "active_in_bytes";
@@ -163,6 +196,7 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         static final String ACTIVE_PERCENT = "active_percent";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String ADMISSION_REJECT_COUNT = "admission_reject_count";
     }
 
     @Override
@@ -180,6 +214,7 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         builder.field(FileCacheStats.Fields.ACTIVE_PERCENT, getActivePercent());
         builder.field(FileCacheStats.Fields.HIT_COUNT, getHits());
         builder.field(FileCacheStats.Fields.MISS_COUNT, getCacheMisses());
+        builder.field(FileCacheStats.Fields.ADMISSION_REJECT_COUNT, getAdmissionRejections());
         builder.endObject();
         return builder;
     }
@@ -10,9 +10,11 @@ package org.opensearch.index.store.remote.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.io.Streams;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCachedIndexInput;
@@ -20,12 +22,15 @@ import org.opensearch.secure_sm.AccessController;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -141,21 +146,138 @@ public class TransferManager {
         }
     }
 
-    private static FileCachedIndexInput createIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
-        try {
-            // This local file cache is ref counted and may not strictly enforce configured capacity.
-            // If we find available capacity is exceeded, deny further BlobFetchRequests.
-            if (fileCache.capacity() < fileCache.usage()) {
-                fileCache.prune();
-                throw new IOException(
-                    "Local file cache capacity ("
-                        + fileCache.capacity()
-                        + ") exceeded ("
-                        + fileCache.usage()
-                        + ") - BlobFetchRequest failed: "
-                        + request.getFilePath()
+    /**
+     * Starts the download of the given blobs in the background so that a later {@link #fetchBlob} of them does not have to wait on the
+     * remote store. Blobs that are already cached or being downloaded are skipped, and requests for blobs that are stored next to each
+     * other in the same remote blob are coalesced into a single ranged read. Failures are only logged, the read that later needs the
+     * blob fetches it again.
+     * <p>
+     * Nothing is prefetched once the cache is full as read ahead is speculative and must not evict blobs that are in use. Downloads
+     * run on the bounded {@link ThreadPool.Names#REMOTE_PREFETCH} pool so that they never compete with recoveries, prefetches
+     * rejected by the pool are dropped.
+     *
+     * @param blobFetchRequests the blobs to prefetch, in the order they are expected to be read
+     */
+    public void prefetchBlobs(List<BlobFetchRequest> blobFetchRequests) {
+        if (fileCache.usage() >= fileCache.capacity()) {
+            logger.trace("Transfer Manager - Skipping prefetch of {} blobs, file cache is full", blobFetchRequests.size());
+            return;
+        }
+        final List<PendingFetch> pendingFetches = new ArrayList<>(blobFetchRequests.size());
+        for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+            final Path key = blobFetchRequest.getFilePath();
+            final CachedIndexInput cacheEntry;
+            try {
+                cacheEntry = AccessController.doPrivileged(
+                    () -> fileCache.compute(
+                        key,
+                        (path, cachedIndexInput) -> cachedIndexInput == null || cachedIndexInput.isClosed()
+                            ? new DelayedCreationCachedIndexInput(fileCache, streamReader, blobFetchRequest)
+                            : cachedIndexInput
+                    )
                 );
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("Transfer Manager - Failed to prefetch {}", key), e);
+                break;
+            }
+            // the reference taken by compute is held until the download completes so that the blob is not evicted meanwhile
+            if (cacheEntry instanceof DelayedCreationCachedIndexInput && ((DelayedCreationCachedIndexInput) cacheEntry).tryStart()) {
+                pendingFetches.add(new PendingFetch(blobFetchRequest, (DelayedCreationCachedIndexInput) cacheEntry));
+            } else {
+                fileCache.decRef(key);
+            }
+        }
+
+        List<PendingFetch> coalesced = new ArrayList<>();
+        for (PendingFetch pendingFetch : pendingFetches) {
+            if (coalesced.isEmpty() == false && canCoalesce(coalesced.get(coalesced.size() - 1).request, pendingFetch.request) == false) {
+                downloadAsync(coalesced);
+                coalesced = new ArrayList<>();
+            }
+            coalesced.add(pendingFetch);
+        }
+        if (coalesced.isEmpty() == false) {
+            downloadAsync(coalesced);
+        }
+    }
+
+    /**
+     * Whether the blob of {@code next} directly follows the blob of {@code previous} in the same remote blob.
+     */
+    private static boolean canCoalesce(BlobFetchRequest previous, BlobFetchRequest next) {
+        if (previous.blobParts().size() != 1 || next.blobParts().size() != 1) {
+            return false;
+        }
+        final BlobFetchRequest.BlobPart previousPart = previous.blobParts().get(0);
+        final BlobFetchRequest.BlobPart nextPart = next.blobParts().get(0);
+        return previousPart.getBlobName().equals(nextPart.getBlobName())
+            && previousPart.getPosition() + previousPart.getLength() == nextPart.getPosition();
+    }
+
+    private void downloadAsync(List<PendingFetch> pendingFetches) {
+        try {
+            threadPool.executor(ThreadPool.Names.REMOTE_PREFETCH).execute(() -> AccessController.doPrivileged(() -> {
+                if (pendingFetches.size() == 1) {
+                    download(pendingFetches.get(0));
+                } else {
+                    downloadCoalesced(pendingFetches);
+                }
+            }));
+        } catch (Exception e) {
+            logger.debug("Transfer Manager - Failed to schedule prefetch", e);
+            for (PendingFetch pendingFetch : pendingFetches) {
+                pendingFetch.onFailure(e);
+            }
+        }
+    }
+
+    private void download(PendingFetch pendingFetch) {
+        try {
+            pendingFetch.onResponse(createIndexInput(fileCache, streamReader, pendingFetch.request));
+        } catch (Exception e) {
+            logger.debug(() -> new ParameterizedMessage("Transfer Manager - Failed to prefetch {}", pendingFetch.request.getFilePath()), e);
+            pendingFetch.onFailure(e);
+        }
+    }
+
+    /**
+     * Downloads blobs that are stored next to each other in the same remote blob with a single ranged read.
+     */
+    private void downloadCoalesced(List<PendingFetch> pendingFetches) {
+        final BlobFetchRequest.BlobPart firstPart = pendingFetches.get(0).request.blobParts().get(0);
+        final long length = pendingFetches.stream().mapToLong(pendingFetch -> pendingFetch.request.getBlobLength()).sum();
+        int completed = 0;
+        try (InputStream inputStream = streamReader.read(firstPart.getBlobName(), firstPart.getPosition(), length)) {
+            for (PendingFetch pendingFetch : pendingFetches) {
+                final BlobFetchRequest request = pendingFetch.request;
+                ensureCapacity(fileCache, request);
+                if (Files.exists(request.getFilePath())) {
+                    inputStream.skipNBytes(request.getBlobLength());
+                } else {
+                    try (
+                        OutputStream fileOutputStream = Files.newOutputStream(request.getFilePath());
+                        OutputStream localFileOutputStream = new BufferedOutputStream(fileOutputStream)
+                    ) {
+                        final long copied = Streams.limitStream(inputStream, request.getBlobLength()).transferTo(localFileOutputStream);
+                        if (copied != request.getBlobLength()) {
+                            throw new EOFException("Expected " + request.getBlobLength() + " bytes but read " + copied + " bytes");
+                        }
+                    }
+                }
+                pendingFetch.onResponse(openIndexInput(fileCache, request));
+                completed++;
+            }
+        } catch (Exception e) {
+            logger.debug(() -> new ParameterizedMessage("Transfer Manager - Failed to prefetch blobs of {}", firstPart.getBlobName()), e);
+            for (PendingFetch pendingFetch : pendingFetches.subList(completed, pendingFetches.size())) {
+                pendingFetch.onFailure(e);
             }
+        }
+    }
+
+    private static FileCachedIndexInput createIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
+        try {
+            ensureCapacity(fileCache, request);
             if (Files.exists(request.getFilePath()) == false) {
                 logger.trace("Fetching from Remote in createIndexInput of Transfer Manager");
                 try (
@@ -175,13 +297,59 @@ public class TransferManager {
                     }
                 }
             }
-            final IndexInput luceneIndexInput = request.getDirectory().openInput(request.getFileName(), IOContext.DEFAULT);
-            return new FileCachedIndexInput(fileCache, request.getFilePath(), luceneIndexInput);
+            return openIndexInput(fileCache, request);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * This local file cache is ref counted and may not strictly enforce configured capacity.
+     * If we find available capacity is exceeded, deny further BlobFetchRequests.
+     */
+    private static void ensureCapacity(FileCache fileCache, BlobFetchRequest request) throws IOException {
+        if (fileCache.capacity() < fileCache.usage()) {
+            fileCache.prune();
+            throw new IOException(
+                "Local file cache capacity ("
+                    + fileCache.capacity()
+                    + ") exceeded ("
+                    + fileCache.usage()
+                    + ") - BlobFetchRequest failed: "
+                    + request.getFilePath()
+            );
+        }
+    }
+
+    private static FileCachedIndexInput openIndexInput(FileCache fileCache, BlobFetchRequest request) throws IOException {
+        final IndexInput luceneIndexInput = request.getDirectory().openInput(request.getFileName(), IOContext.DEFAULT);
+        return new FileCachedIndexInput(fileCache, request.getFilePath(), luceneIndexInput);
+    }
+
+    /**
+     * A prefetched blob whose download was started by {@link #prefetchBlobs} and that still holds a reference on its cache entry.
+     */
+    private final class PendingFetch {
+        private final BlobFetchRequest request;
+        private final DelayedCreationCachedIndexInput cacheEntry;
+
+        private PendingFetch(BlobFetchRequest request, DelayedCreationCachedIndexInput cacheEntry) {
+            this.request = request;
+            this.cacheEntry = cacheEntry;
+        }
+
+        private void onResponse(IndexInput indexInput) {
+            cacheEntry.result.complete(indexInput);
+            fileCache.decRef(request.getFilePath());
+        }
+
+        private void onFailure(Exception e) {
+            cacheEntry.result.completeExceptionally(e instanceof IOException ? new UncheckedIOException((IOException) e) : e);
+            fileCache.remove(request.getFilePath());
+            fileCache.decRef(request.getFilePath());
+        }
+    }
+
     /**
      * Implementation of CachedIndexInput the defers creation of the underlying
      * IndexInput until the first invocation of {@link #getIndexInput()}. This
@@ -229,6 +397,13 @@ public class TransferManager {
             }
         }
 
+        /**
+         * Claims the creation of the underlying IndexInput, returns false if another caller already started it.
+         */
+        private boolean tryStart() {
+            return isClosed.get() == false && isStarted.compareAndSet(false, true);
+        }
+
         @ExperimentalApi
         public CompletableFuture<IndexInput> asyncLoadIndexInput(Executor executor) {
             if (isClosed.get()) {
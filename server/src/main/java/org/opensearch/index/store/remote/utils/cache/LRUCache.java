@@ -26,6 +26,7 @@ import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 /**
  * LRU implementation of {@link RefCountedCache}.
@@ -43,6 +44,10 @@ import java.util.function.Predicate;
  * <li>Supports Cache Pinning.</li>
  * <li>Cache maintains it's capacity using LRU Eviction while ignoring entries with {@link Node#refCount} greater than 0 from eviction</li>
  * </ul>
+ * When created with an admission priority, the cache uses a TinyLFU admission policy to be resistant to scans: it estimates how often
+ * keys are accessed with a {@link FrequencySketch}, and entries that were not admitted yet are kept in a small window. Once the cache
+ * is full, the least recently used entry of the window is only admitted to the main LRU list if it is accessed more often than the
+ * least recently used entry of the main list, weighted by their admission priority, otherwise it is evicted instead.
  * @see RefCountedCache
  *
  * @opensearch.internal
@@ -56,6 +61,21 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     /** the LRU list */
     private final LinkedHashMap<K, Node<K, V>> lru;
 
+    /** the LRU list of the entries that were not admitted to the main LRU list yet, only used with an admission policy */
+    private final LinkedHashMap<K, Node<K, V>> window;
+
+    private final long windowCapacity;
+
+    private long windowWeight;
+
+    /** whether the cache was full since it was created or cleared, only used with an admission policy */
+    private boolean filled;
+
+    /** the access frequencies of the keys, null without admission policy */
+    private final FrequencySketch<K> sketch;
+
+    private final ToIntFunction<K> admissionPriority;
+
     private final RemovalListener<K, V> listener;
 
     private final Weigher<V> weigher;
@@ -75,6 +95,8 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
         boolean pinned;
 
+        boolean admitted;
+
         Node(K key, V value, long weight) {
             this.key = key;
             this.value = value;
@@ -89,21 +111,42 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     }
 
     public LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        this(capacity, listener, weigher, null);
+    }
+
+    /**
+     * @param admissionPriority the priority of the keys, which multiplies their access frequency when deciding whether to admit them,
+     *                          must be at least 1. If null, every entry is admitted and the cache is a plain LRU cache.
+     */
+    public LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher, ToIntFunction<K> admissionPriority) {
         this.capacity = capacity;
         this.listener = listener;
         this.weigher = weigher;
         this.data = new HashMap<>();
         this.lru = new LinkedHashMap<>();
+        this.window = new LinkedHashMap<>();
         this.lock = new ReentrantLock();
         this.statsCounter = new FileStatsCounter<>();
-
+        this.admissionPriority = admissionPriority;
+        if (admissionPriority != null) {
+            // entries are typically blocks of a few MiB, size the sketch for one key per MiB of capacity
+            this.sketch = new FrequencySketch<>(capacity >>> 20);
+            this.windowCapacity = capacity * WINDOW_PERCENTAGE / 100;
+        } else {
+            this.sketch = null;
+            this.windowCapacity = 0;
+        }
     }
 
+    /** the share of the capacity reserved for the window of entries that were not admitted yet */
+    static final int WINDOW_PERCENTAGE = 1;
+
     @Override
     public V get(K key) {
         Objects.requireNonNull(key);
         lock.lock();
         try {
+            recordAccess(key);
             Node<K, V> node = data.get(key);
             // miss
             if (node == null) {
@@ -146,6 +189,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         Objects.requireNonNull(remappingFunction);
         lock.lock();
         try {
+            recordAccess(key);
             final Node<K, V> node = data.get(key);
             if (node == null) {
                 final V newValue = remappingFunction.apply(key, null);
@@ -207,6 +251,9 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         lock.lock();
         try {
             lru.clear();
+            window.clear();
+            windowWeight = 0;
+            filled = false;
             final Iterator<Node<K, V>> iterator = data.values().iterator();
             while (iterator.hasNext()) {
                 Node<K, V> node = iterator.next();
@@ -241,7 +288,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since it become active, we should remove it from eviction list
-                    lru.remove(node.key);
+                    removeFromEvictionList(node);
                 }
 
                 node.refCount++;
@@ -263,7 +310,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    addToEvictionList(node);
                     evict(); // If cache usage is already overflowing trigger evictions
                 }
 
@@ -295,7 +342,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since its pinned, we should remove it from eviction list
-                    lru.remove(node.key, node);
+                    removeFromEvictionList(node);
                 }
 
                 node.pinned = true;
@@ -323,7 +370,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    addToEvictionList(node);
                 }
 
                 statsCounter.recordPinnedUsage(node.value, node.weight, true);
@@ -354,24 +401,34 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         long sum = 0L;
         lock.lock();
         try {
-            final Iterator<Node<K, V>> iterator = lru.values().iterator();
-            while (iterator.hasNext()) {
-                final Node<K, V> node = iterator.next();
-                if (keyPredicate != null && !keyPredicate.test(node.key)) {
-                    continue;
-                }
-                iterator.remove();
-                data.remove(node.key, node);
-                sum += node.weight;
-                statsCounter.recordRemoval(node.value, node.pinned, node.weight);
-                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
-            }
+            sum += prune(window, keyPredicate);
+            sum += prune(lru, keyPredicate);
         } finally {
             lock.unlock();
         }
         return sum;
     }
 
+    private long prune(LinkedHashMap<K, Node<K, V>> evictionList, Predicate<K> keyPredicate) {
+        long sum = 0L;
+        final Iterator<Node<K, V>> iterator = evictionList.values().iterator();
+        while (iterator.hasNext()) {
+            final Node<K, V> node = iterator.next();
+            if (keyPredicate != null && !keyPredicate.test(node.key)) {
+                continue;
+            }
+            iterator.remove();
+            if (evictionList == window) {
+                windowWeight -= node.weight;
+            }
+            data.remove(node.key, node);
+            sum += node.weight;
+            statsCounter.recordRemoval(node.value, node.pinned, node.weight);
+            listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+        }
+        return sum;
+    }
+
     @Override
     public long usage() {
         lock.lock();
@@ -457,6 +514,9 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             // update the value and weight
             node.value = newValue;
             node.weight = newWeight;
+            if (window.containsKey(node.key)) {
+                windowWeight += newWeight - oldWeight;
+            }
 
             // update stats
             statsCounter.recordReplacement(oldValue, newValue, oldWeight, newWeight, node.refCount > 0, node.pinned);
@@ -473,7 +533,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                 statsCounter.recordActiveUsage(node.value, node.weight, node.pinned, true);
             }
             if (node.evictable()) {
-                lru.remove(node.key);
+                removeFromEvictionList(node);
             }
 
             if (node.pinned) {
@@ -489,7 +549,34 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         return statsCounter.usage() >= capacity;
     }
 
+    private void recordAccess(K key) {
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+    }
+
+    private void addToEvictionList(Node<K, V> node) {
+        if (sketch != null && node.admitted == false) {
+            window.put(node.key, node);
+            windowWeight += node.weight;
+        } else {
+            lru.put(node.key, node);
+        }
+    }
+
+    private void removeFromEvictionList(Node<K, V> node) {
+        if (window.remove(node.key, node)) {
+            windowWeight -= node.weight;
+        } else {
+            lru.remove(node.key, node);
+        }
+    }
+
     private void evict() {
+        if (sketch != null) {
+            evictWithAdmission();
+            return;
+        }
         // Attempts to evict entries from the cache if it exceeds the maximum
         // capacity.
         final Iterator<Node<K, V>> iterator = lru.values().iterator();
@@ -502,4 +589,54 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
         }
     }
+
+    /**
+     * Attempts to evict entries from the cache if it exceeds the maximum capacity, using the TinyLFU admission policy to decide
+     * between the least recently used entry of the window and the one of the main LRU list.
+     */
+    private void evictWithAdmission() {
+        while (hasOverflowed()) {
+            filled = true;
+            final Node<K, V> candidate = window.isEmpty() ? null : window.values().iterator().next();
+            final Node<K, V> victim = lru.isEmpty() ? null : lru.values().iterator().next();
+            if (candidate == null && victim == null) {
+                break;
+            } else if (candidate == null) {
+                evictNode(victim);
+            } else if (victim == null) {
+                evictNode(candidate);
+            } else if (admit(candidate, victim)) {
+                promote(candidate);
+                evictNode(victim);
+            } else {
+                evictNode(candidate);
+                statsCounter.recordAdmissionRejection(candidate.value, candidate.weight);
+            }
+        }
+        // until the cache fills up for the first time, the entries that overflow the window are admitted without competing with other
+        // entries. Afterwards they stay in the window until they win against the victim of the main LRU list or get evicted.
+        while (filled == false && windowWeight > windowCapacity) {
+            promote(window.values().iterator().next());
+        }
+    }
+
+    private boolean admit(Node<K, V> candidate, Node<K, V> victim) {
+        final long candidateScore = (long) sketch.frequency(candidate.key) * admissionPriority.applyAsInt(candidate.key);
+        final long victimScore = (long) sketch.frequency(victim.key) * admissionPriority.applyAsInt(victim.key);
+        return candidateScore > victimScore;
+    }
+
+    private void promote(Node<K, V> node) {
+        window.remove(node.key, node);
+        windowWeight -= node.weight;
+        node.admitted = true;
+        lru.put(node.key, node);
+    }
+
+    private void evictNode(Node<K, V> node) {
+        removeFromEvictionList(node);
+        data.remove(node.key, node);
+        statsCounter.recordEviction(node.value, node.weight);
+        listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
+    }
 }
@@ -20,6 +20,7 @@ import org.opensearch.index.store.remote.utils.cache.stats.RefCountedCacheStats;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 
 /**
  * Segmented {@link LRUCache} to offer concurrent access with less contention.
@@ -60,7 +61,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (builder.capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher, builder.admissionPriority);
         }
         this.capacity = perSegmentCapacity * segments;
     }
@@ -297,6 +298,7 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         RemovalListener<K, V> listener;
         Weigher<V> weigher;
+        ToIntFunction<K> admissionPriority;
 
         int concurrencyLevel;
 
@@ -367,6 +369,20 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Enables the TinyLFU admission policy, so that entries that are accessed once, for instance by a scan,
+         * do not evict entries that are accessed more frequently. The priority of a key multiplies its access
+         * frequency when deciding whether to admit it.
+         *
+         * @param admissionPriority the priority of a key, at least 1
+         * @throws NullPointerException if the admissionPriority is null
+         */
+        public Builder<K, V> admissionPriority(ToIntFunction<K> admissionPriority) {
+            Objects.requireNonNull(admissionPriority);
+            this.admissionPriority = admissionPriority;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
@@ -184,6 +184,16 @@ public final class AggregateRefCountedCacheStats implements IRefCountedCacheStat
         return this.overallCacheStats.evictionWeight();
     }
 
+    /**
+     * Returns the number of times a newly added entry was rejected by the admission policy of the cache.
+     *
+     * @return the number of times a newly added entry was rejected by the admission policy
+     */
+    @Override
+    public long admissionRejectCount() {
+        return this.overallCacheStats.admissionRejectCount();
+    }
+
     /**
      * Returns the total weight of the cache.
      *
@@ -21,6 +21,7 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
     private long replaceCount;
     private long evictionCount;
     private long evictionWeight;
+    private long admissionRejectCount;
     /**
      * this tracks cache usage on the system (as long as cache entry is in the cache)
      */
@@ -44,6 +45,7 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
         this.replaceCount = 0L;
         this.evictionCount = 0L;
         this.evictionWeight = 0L;
+        this.admissionRejectCount = 0L;
         this.usage = 0L;
         this.activeUsage = 0L;
     }
@@ -88,6 +90,11 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
         usage -= weight;
     }
 
+    @Override
+    public void recordAdmissionRejection(V value, long weight) {
+        admissionRejectCount++;
+    }
+
     @Override
     public void recordUsage(V value, long weight, boolean pinned, boolean shouldDecrease) {
         weight = shouldDecrease ? -1 * weight : weight;
@@ -162,6 +169,7 @@ public class DefaultStatsCounter<K, V> implements StatsCounter<K, V> {
             replaceCount,
             evictionCount,
             evictionWeight,
+            admissionRejectCount,
             usage,
             activeUsage,
             pinnedUsage
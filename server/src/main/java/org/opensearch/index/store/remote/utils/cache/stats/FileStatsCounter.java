@@ -94,6 +94,13 @@ public class FileStatsCounter<K, V> implements StatsCounter<K, V> {
         else blockFileStatsCounter.recordEviction(value, weight);
     }
 
+    @Override
+    public void recordAdmissionRejection(V value, long weight) {
+        overallStatsCounter.recordAdmissionRejection(value, weight);
+        if (isFullFile(value)) fullFileStatsCounter.recordAdmissionRejection(value, weight);
+        else blockFileStatsCounter.recordAdmissionRejection(value, weight);
+    }
+
     @Override
     public void recordUsage(V value, long weight, boolean pinned, boolean shouldDecrease) {
 
@@ -100,6 +100,14 @@ public interface IRefCountedCacheStats {
      */
     public long evictionWeight();
 
+    /**
+     * Returns the number of times a newly added entry was evicted because the admission policy of the cache
+     * rejected it in favour of a more frequently used entry.
+     *
+     * @return the number of times a newly added entry was rejected by the admission policy
+     */
+    public long admissionRejectCount();
+
     /**
      * Returns the total weight of the cache.
      *
@@ -27,6 +27,7 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
     private long replaceCount;
     private long evictionCount;
     private long evictionWeight;
+    private long admissionRejectCount;
     private long usage;
     private long activeUsage;
     private long pinnedUsage;
@@ -56,6 +57,39 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
         long usage,
         long activeUsage,
         long pinnedUsage
+    ) {
+        this(
+            hitCount,
+            missCount,
+            removeCount,
+            removeWeight,
+            replaceCount,
+            evictionCount,
+            evictionWeight,
+            0L,
+            usage,
+            activeUsage,
+            pinnedUsage
+        );
+    }
+
+    /**
+     * Constructs a new {@code RefCountedCacheStats} instance of a cache with an admission policy.
+     *
+     * @param admissionRejectCount the number of newly added entries rejected by the admission policy
+     */
+    public RefCountedCacheStats(
+        long hitCount,
+        long missCount,
+        long removeCount,
+        long removeWeight,
+        long replaceCount,
+        long evictionCount,
+        long evictionWeight,
+        long admissionRejectCount,
+        long usage,
+        long activeUsage,
+        long pinnedUsage
     ) {
         if ((hitCount < 0)
             || (missCount < 0)
@@ -63,7 +97,8 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
             || (removeWeight < 0)
             || (replaceCount < 0)
             || (evictionCount < 0)
-            || (evictionWeight < 0)) {
+            || (evictionWeight < 0)
+            || (admissionRejectCount < 0)) {
             throw new IllegalArgumentException();
         }
         this.hitCount = hitCount;
@@ -73,6 +108,7 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
         this.replaceCount = replaceCount;
         this.evictionCount = evictionCount;
         this.evictionWeight = evictionWeight;
+        this.admissionRejectCount = admissionRejectCount;
         this.usage = usage;
         this.activeUsage = activeUsage;
         this.pinnedUsage = pinnedUsage;
@@ -195,6 +231,16 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
         return evictionWeight;
     }
 
+    /**
+     * Returns the number of times a newly added entry was rejected by the admission policy of the cache.
+     *
+     * @return the number of times a newly added entry was rejected by the admission policy
+     */
+    @Override
+    public long admissionRejectCount() {
+        return admissionRejectCount;
+    }
+
     /**
      * Returns the total weight of the cache.
      *
@@ -246,6 +292,7 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
         this.replaceCount += otherStats.replaceCount();
         this.evictionCount += otherStats.evictionCount();
         this.evictionWeight += otherStats.evictionWeight();
+        this.admissionRejectCount += otherStats.admissionRejectCount();
         this.usage += otherStats.usage();
         this.activeUsage += otherStats.activeUsage();
 
@@ -262,6 +309,7 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
             replaceCount,
             evictionCount,
             evictionWeight,
+            admissionRejectCount,
             usage,
             activeUsage
         );
@@ -282,6 +330,7 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
             && replaceCount == other.replaceCount
             && evictionCount == other.evictionCount
             && evictionWeight == other.evictionWeight
+            && admissionRejectCount == other.admissionRejectCount
             && usage == other.usage
             && activeUsage == other.activeUsage
             && pinnedUsage == other.pinnedUsage;
@@ -312,6 +361,9 @@ public final class RefCountedCacheStats implements IRefCountedCacheStats {
             + "evictionWeight="
             + evictionWeight
             + ", "
+            + "admissionRejectCount="
+            + admissionRejectCount
+            + ", "
             + "usage="
             + usage
             + ", "
@@ -66,6 +66,14 @@ public interface StatsCounter<K, V> {
      */
     void recordEviction(V value, long weight);
 
+    /**
+     * Records that a newly added entry was evicted because the admission policy of the cache rejected it. The
+     * entry is also recorded as evicted by {@link #recordEviction(Object, long)}.
+     *
+     * @param weight the weight of the rejected entry
+     */
+    void recordAdmissionRejection(V value, long weight);
+
     /**
      * Records the usage of the cache. This should be called when an entry is created/removed/replaced in the cache.
      *
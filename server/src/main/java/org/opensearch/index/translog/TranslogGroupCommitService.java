@@ -0,0 +1,303 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.metrics.MaxMetric;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Node level group commit for translog syncs of shards in {@code request} durability.
+ * <p>
+ * Without group commit every shard syncs its translog from the indexing thread that completes a write request, so a node hosting many
+ * primaries issues many independent fsyncs against the same disk. When enabled, the sync requests of all shards on a data path are
+ * collected for {@link #TRANSLOG_GROUP_COMMIT_WINDOW_SETTING} and then executed by a single task on the
+ * {@link ThreadPool.Names#TRANSLOG_SYNC} pool: each shard of the batch fsyncs once up to the highest requested location and the
+ * listeners of all its requests are completed in bulk. The shards of a group commit sync concurrently as their translogs are distinct
+ * files. Only one group commit runs per data path at a time, requests that arrive while it runs are picked up by the next one.
+ * <p>
+ * Group commit does not merge the fsyncs of different shards: every shard of a batch still fsyncs its own translog file, as the JDK
+ * offers no way to flush several files with a single call. What it saves are the fsyncs of the same shard across requests, and it
+ * bounds the number of concurrent group commits per data path. Its stats are counters and maxima, see
+ * {@link TranslogGroupCommitStats}, there are no batch size or latency histograms.
+ *
+ * @opensearch.internal
+ */
+public class TranslogGroupCommitService {
+
+    private static final Logger logger = LogManager.getLogger(TranslogGroupCommitService.class);
+
+    public static final Setting<Boolean> TRANSLOG_GROUP_COMMIT_ENABLED_SETTING = Setting.boolSetting(
+        "indices.translog.group_commit.enabled",
+        false,
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    public static final Setting<TimeValue> TRANSLOG_GROUP_COMMIT_WINDOW_SETTING = Setting.timeSetting(
+        "indices.translog.group_commit.window",
+        TimeValue.timeValueMillis(1),
+        TimeValue.ZERO,
+        TimeValue.timeValueMillis(100),
+        Property.NodeScope,
+        Property.Dynamic
+    );
+
+    private final ThreadPool threadPool;
+    private final ConcurrentMap<Path, DataPathGroup> groups = ConcurrentCollections.newConcurrentMap();
+    private volatile boolean enabled;
+    private volatile TimeValue window;
+
+    public TranslogGroupCommitService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        this.enabled = TRANSLOG_GROUP_COMMIT_ENABLED_SETTING.get(settings);
+        this.window = TRANSLOG_GROUP_COMMIT_WINDOW_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(TRANSLOG_GROUP_COMMIT_ENABLED_SETTING, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(TRANSLOG_GROUP_COMMIT_WINDOW_SETTING, this::setWindow);
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private void setWindow(TimeValue window) {
+        this.window = window;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Registers the translog of a shard that lives on the given data path.
+     *
+     * @param dataPath the root data path of the shard, requests of shards sharing it are grouped together
+     * @param syncer   syncs the translog of the shard up to the highest of the given locations
+     */
+    public Participant register(Path dataPath, CheckedConsumer<List<Translog.Location>, IOException> syncer) {
+        return new Participant(groups.computeIfAbsent(dataPath, DataPathGroup::new), syncer);
+    }
+
+    /**
+     * Syncs the given location of the shard as part of the next group commit of its data path. The listener is notified with
+     * {@code null} once the location is durable or with the exception that failed the sync.
+     */
+    public void sync(Participant participant, Translog.Location location, Consumer<Exception> listener) {
+        Objects.requireNonNull(location, "location must not be null");
+        Objects.requireNonNull(listener, "listener must not be null");
+        participant.group.add(new PendingSync(participant, location, preserveContext(listener), System.nanoTime()));
+    }
+
+    private Consumer<Exception> preserveContext(Consumer<Exception> listener) {
+        Supplier<ThreadContext.StoredContext> restorableContext = threadPool.getThreadContext().newRestorableContext(false);
+        return e -> {
+            try (ThreadContext.StoredContext ignore = restorableContext.get()) {
+                listener.accept(e);
+            }
+        };
+    }
+
+    /**
+     * The translog of a single shard taking part in the group commits of its data path.
+     *
+     * @opensearch.internal
+     */
+    public static final class Participant {
+        private final DataPathGroup group;
+        private final CheckedConsumer<List<Translog.Location>, IOException> syncer;
+        private final CounterMetric commits = new CounterMetric();
+        private final CounterMetric requests = new CounterMetric();
+        private final MaxMetric maxBatchSize = new MaxMetric();
+        private final CounterMetric totalLatencyNanos = new CounterMetric();
+        private final MaxMetric maxLatencyNanos = new MaxMetric();
+
+        private Participant(DataPathGroup group, CheckedConsumer<List<Translog.Location>, IOException> syncer) {
+            this.group = group;
+            this.syncer = syncer;
+        }
+
+        public TranslogGroupCommitStats stats() {
+            return new TranslogGroupCommitStats(
+                commits.count(),
+                requests.count(),
+                Math.max(0, maxBatchSize.get()),
+                TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.count()),
+                TimeUnit.NANOSECONDS.toMillis(Math.max(0, maxLatencyNanos.get()))
+            );
+        }
+
+        private void onCommit(List<PendingSync> batch, long nowNanos) {
+            commits.inc();
+            requests.inc(batch.size());
+            maxBatchSize.collect(batch.size());
+            for (PendingSync sync : batch) {
+                final long latency = nowNanos - sync.submittedNanos;
+                totalLatencyNanos.inc(latency);
+                maxLatencyNanos.collect(latency);
+            }
+        }
+    }
+
+    private static final class PendingSync {
+        final Participant participant;
+        final Translog.Location location;
+        final Consumer<Exception> listener;
+        final long submittedNanos;
+
+        PendingSync(Participant participant, Translog.Location location, Consumer<Exception> listener, long submittedNanos) {
+            this.participant = participant;
+            this.location = location;
+            this.listener = listener;
+            this.submittedNanos = submittedNanos;
+        }
+    }
+
+    /**
+     * Pending sync requests of all shards on a data path.
+     */
+    private final class DataPathGroup {
+        private final Path dataPath;
+        private final Queue<PendingSync> pending = ConcurrentCollections.newQueue();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        DataPathGroup(Path dataPath) {
+            this.dataPath = dataPath;
+        }
+
+        void add(PendingSync sync) {
+            pending.add(sync);
+            maybeSchedule();
+        }
+
+        private void maybeSchedule() {
+            if (pending.isEmpty() == false && scheduled.compareAndSet(false, true)) {
+                try {
+                    final TimeValue delay = window;
+                    if (delay.nanos() == 0) {
+                        threadPool.executor(ThreadPool.Names.TRANSLOG_SYNC).execute(this::commit);
+                    } else {
+                        threadPool.schedule(this::commit, delay, ThreadPool.Names.TRANSLOG_SYNC);
+                    }
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("failed to schedule translog group commit for [{}]", dataPath), e);
+                    final List<PendingSync> failed = drain();
+                    scheduled.set(false);
+                    for (PendingSync sync : failed) {
+                        notifyListener(sync, e);
+                    }
+                    // make sure requests that were added while failing are not left behind
+                    maybeSchedule();
+                }
+            }
+        }
+
+        private List<PendingSync> drain() {
+            final List<PendingSync> batch = new ArrayList<>();
+            PendingSync sync;
+            while ((sync = pending.poll()) != null) {
+                batch.add(sync);
+            }
+            return batch;
+        }
+
+        private void commit() {
+            final Map<Participant, List<PendingSync>> byShard = new IdentityHashMap<>();
+            for (PendingSync sync : drain()) {
+                byShard.computeIfAbsent(sync.participant, p -> new ArrayList<>()).add(sync);
+            }
+            if (byShard.isEmpty()) {
+                onCommitCompleted();
+                return;
+            }
+            // the shards fsync distinct files, sync them concurrently rather than one after the other so that the group commit takes
+            // as long as the slowest sync instead of the sum of all of them, the next group commit starts once all of them completed
+            final AtomicInteger remaining = new AtomicInteger(byShard.size());
+            final Runnable onShardSynced = () -> {
+                if (remaining.decrementAndGet() == 0) {
+                    onCommitCompleted();
+                }
+            };
+            final Iterator<Map.Entry<Participant, List<PendingSync>>> iterator = byShard.entrySet().iterator();
+            final Map.Entry<Participant, List<PendingSync>> first = iterator.next();
+            while (iterator.hasNext()) {
+                final Map.Entry<Participant, List<PendingSync>> entry = iterator.next();
+                try {
+                    threadPool.executor(ThreadPool.Names.TRANSLOG_SYNC)
+                        .execute(() -> syncShard(entry.getKey(), entry.getValue(), onShardSynced));
+                } catch (Exception e) {
+                    // the pool is saturated or shutting down, sync on this thread instead
+                    syncShard(entry.getKey(), entry.getValue(), onShardSynced);
+                }
+            }
+            syncShard(first.getKey(), first.getValue(), onShardSynced);
+        }
+
+        private void syncShard(Participant participant, List<PendingSync> batch, Runnable onSynced) {
+            try {
+                final List<Translog.Location> locations = new ArrayList<>(batch.size());
+                for (PendingSync sync : batch) {
+                    locations.add(sync.location);
+                }
+                Exception exception = null;
+                try {
+                    participant.syncer.accept(locations);
+                } catch (Exception e) {
+                    logger.debug(() -> new ParameterizedMessage("failed to sync translog as part of group commit for [{}]", dataPath), e);
+                    exception = e;
+                }
+                participant.onCommit(batch, System.nanoTime());
+                for (PendingSync sync : batch) {
+                    notifyListener(sync, exception);
+                }
+            } finally {
+                onSynced.run();
+            }
+        }
+
+        private void onCommitCompleted() {
+            scheduled.set(false);
+            maybeSchedule();
+        }
+
+        private void notifyListener(PendingSync sync, Exception exception) {
+            try {
+                sync.listener.accept(exception);
+            } catch (Exception ex) {
+                logger.warn("failed to notify callback", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Stats of the translog syncs of a shard that were executed as part of a node level group commit, see
+ * {@link TranslogGroupCommitService}.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.5.0")
+public class TranslogGroupCommitStats implements ToXContentFragment, Writeable {
+
+    static final String GROUP_COMMIT = "group_commit";
+
+    /**
+     * Number of group commits the shard took part in, each of them issued at most one fsync for the shard.
+     */
+    private long commits;
+
+    /**
+     * Number of sync requests that were completed by these group commits.
+     */
+    private long requests;
+
+    /**
+     * The largest number of sync requests of the shard that were completed by a single group commit.
+     */
+    private long maxBatchSize;
+
+    /**
+     * Sum of the time the sync requests waited from submission until their completion.
+     */
+    private long totalLatencyInMillis;
+
+    /**
+     * The longest time a single sync request waited from submission until its completion.
+     */
+    private long maxLatencyInMillis;
+
+    public TranslogGroupCommitStats() {}
+
+    public TranslogGroupCommitStats(long commits, long requests, long maxBatchSize, long totalLatencyInMillis, long maxLatencyInMillis) {
+        this.commits = commits;
+        this.requests = requests;
+        this.maxBatchSize = maxBatchSize;
+        this.totalLatencyInMillis = totalLatencyInMillis;
+        this.maxLatencyInMillis = maxLatencyInMillis;
+    }
+
+    public TranslogGroupCommitStats(StreamInput in) throws IOException {
+        this.commits = in.readVLong();
+        this.requests = in.readVLong();
+        this.maxBatchSize = in.readVLong();
+        this.totalLatencyInMillis = in.readVLong();
+        this.maxLatencyInMillis = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(commits);
+        out.writeVLong(requests);
+        out.writeVLong(maxBatchSize);
+        out.writeVLong(totalLatencyInMillis);
+        out.writeVLong(maxLatencyInMillis);
+    }
+
+    public void add(TranslogGroupCommitStats other) {
+        if (other == null) {
+            return;
+        }
+        this.commits += other.commits;
+        this.requests += other.requests;
+        this.maxBatchSize = Math.max(this.maxBatchSize, other.maxBatchSize);
+        this.totalLatencyInMillis += other.totalLatencyInMillis;
+        this.maxLatencyInMillis = Math.max(this.maxLatencyInMillis, other.maxLatencyInMillis);
+    }
+
+    public long getCommits() {
+        return commits;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public long getTotalLatencyInMillis() {
+        return totalLatencyInMillis;
+    }
+
+    public long getMaxLatencyInMillis() {
+        return maxLatencyInMillis;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(GROUP_COMMIT);
+        builder.field("commits", commits);
+        builder.field("requests", requests);
+        builder.field("max_batch_size", maxBatchSize);
+        builder.humanReadableField("total_latency_in_millis", "total_latency", TimeValue.timeValueMillis(totalLatencyInMillis));
+        builder.humanReadableField("max_latency_in_millis", "max_latency", TimeValue.timeValueMillis(maxLatencyInMillis));
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        TranslogGroupCommitStats other = (TranslogGroupCommitStats) obj;
+        return commits == other.commits
+            && requests == other.requests
+            && maxBatchSize == other.maxBatchSize
+            && totalLatencyInMillis == other.totalLatencyInMillis
+            && maxLatencyInMillis == other.maxLatencyInMillis;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(commits, requests, maxBatchSize, totalLatencyInMillis, maxLatencyInMillis);
+    }
+}
@@ -63,8 +63,14 @@ public class TranslogStats implements Writeable, ToXContentFragment {
      */
     private final RemoteTranslogStats remoteTranslogStats;
 
+    /**
+     * Stats related to translog syncs executed as part of node level group commits
+     */
+    private final TranslogGroupCommitStats groupCommitStats;
+
     public TranslogStats() {
         remoteTranslogStats = new RemoteTranslogStats();
+        groupCommitStats = new TranslogGroupCommitStats();
     }
 
     /**
@@ -79,6 +85,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         this.uncommittedOperations = builder.uncommittedOperations;
         this.earliestLastModifiedAge = builder.earliestLastModifiedAge;
         this.remoteTranslogStats = builder.remoteTranslogStats;
+        this.groupCommitStats = builder.groupCommitStats;
     }
 
     public TranslogStats(StreamInput in) throws IOException {
@@ -90,6 +97,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         remoteTranslogStats = in.getVersion().onOrAfter(Version.V_2_10_0)
             ? in.readOptionalWriteable(RemoteTranslogStats::new)
             : new RemoteTranslogStats();
+        groupCommitStats = in.getVersion().onOrAfter(Version.V_3_5_0) ? new TranslogGroupCommitStats(in) : new TranslogGroupCommitStats();
     }
 
     /**
@@ -126,6 +134,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         this.uncommittedOperations = uncommittedOperations;
         this.earliestLastModifiedAge = earliestLastModifiedAge;
         this.remoteTranslogStats = new RemoteTranslogStats();
+        this.groupCommitStats = new TranslogGroupCommitStats();
     }
 
     public void addRemoteTranslogStats(RemoteTranslogStats remoteTranslogStats) {
@@ -134,6 +143,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         }
     }
 
+    public void addGroupCommitStats(TranslogGroupCommitStats groupCommitStats) {
+        this.groupCommitStats.add(groupCommitStats);
+    }
+
     public void add(TranslogStats other) {
         if (other == null) {
             return;
@@ -150,6 +163,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         }
 
         addRemoteTranslogStats(other.remoteTranslogStats);
+        addGroupCommitStats(other.groupCommitStats);
     }
 
     public long getTranslogSizeInBytes() {
@@ -178,6 +192,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         return remoteTranslogStats;
     }
 
+    public TranslogGroupCommitStats getGroupCommitStats() {
+        return groupCommitStats;
+    }
+
     /**
      * Builder for the {@link TranslogStats} class.
      * Provides a fluent API for constructing a TranslogStats object.
@@ -189,6 +207,7 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         private long uncommittedSizeInBytes = 0;
         private long earliestLastModifiedAge = 0;
         private final RemoteTranslogStats remoteTranslogStats = new RemoteTranslogStats();
+        private final TranslogGroupCommitStats groupCommitStats = new TranslogGroupCommitStats();
 
         public Builder() {}
 
@@ -248,6 +267,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (remoteTranslogStats != null) {
             builder = remoteTranslogStats.toXContent(builder, params);
         }
+        // only nodes with group commit enabled report these stats
+        if (groupCommitStats.getCommits() > 0) {
+            builder = groupCommitStats.toXContent(builder, params);
+        }
 
         builder.endObject();
 
@@ -269,6 +292,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_10_0)) {
             out.writeOptionalWriteable(remoteTranslogStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            groupCommitStats.writeTo(out);
+        }
     }
 
     private void addLocalTranslogStatsXContent(XContentBuilder builder) throws IOException {
@@ -16,6 +16,7 @@ import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.remote.RemoteSegmentUploadScheduler;
 import org.opensearch.index.remote.RemoteStoreEnums;
 
 /**
@@ -208,6 +209,7 @@ public class RemoteStoreSettings {
     private static volatile TimeValue pinnedTimestampsLookbackInterval;
     private final String translogPathFixedPrefix;
     private final String segmentsPathFixedPrefix;
+    private final RemoteSegmentUploadScheduler segmentUploadScheduler;
 
     public RemoteStoreSettings(Settings settings, ClusterSettings clusterSettings) {
         clusterRemoteTranslogBufferInterval = CLUSTER_REMOTE_TRANSLOG_BUFFER_INTERVAL_SETTING.get(settings);
@@ -255,6 +257,8 @@ public class RemoteStoreSettings {
 
         translogPathFixedPrefix = CLUSTER_REMOTE_STORE_TRANSLOG_PATH_PREFIX.get(settings);
         segmentsPathFixedPrefix = CLUSTER_REMOTE_STORE_SEGMENTS_PATH_PREFIX.get(settings);
+
+        segmentUploadScheduler = new RemoteSegmentUploadScheduler(settings, clusterSettings);
     }
 
     public TimeValue getClusterRemoteTranslogBufferInterval() {
@@ -355,4 +359,12 @@ public class RemoteStoreSettings {
     public String getSegmentsPathFixedPrefix() {
         return segmentsPathFixedPrefix;
     }
+
+    /**
+     * Returns the scheduler that the uploads of the segment files of all shards of the node wait in.
+     */
+    @ExperimentalApi
+    public RemoteSegmentUploadScheduler getSegmentUploadScheduler() {
+        return segmentUploadScheduler;
+    }
 }
@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.cache.request.ShardRequestCache;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.search.aggregations.InternalAggregations;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Node level cache of the aggregation results of single segments.
+ * <p>
+ * The {@link IndicesRequestCache} keys shard results on the version of the whole reader, so a refresh that adds a single segment
+ * invalidates them. This cache instead holds the partial aggregation results that a request computed for every segment, keyed on the
+ * reader cache key of the segment and on the cache key of the request. On the next refresh only the new or changed segments need to be
+ * aggregated, the results of the other segments are read from this cache and reduced with them on the shard.
+ * <p>
+ * The reader cache key of a segment changes whenever documents of the segment are deleted, entries are invalidated when the segment
+ * reader is closed. The entries count towards the memory size and evictions of the request cache stats of their shard, and are cleared
+ * with the request cache of their shard.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class SegmentAggregationCache implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(SegmentAggregationCache.class);
+
+    /**
+     * Whether requests on the index that can use the request cache also cache the aggregation results of single segments.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_SEGMENT_AGGREGATIONS_ENABLED_SETTING = Setting.boolSetting(
+        "index.requests.cache.segment_aggregations.enable",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    public static final Setting<ByteSizeValue> INDICES_SEGMENT_AGGREGATIONS_CACHE_SIZE = Setting.memorySizeSetting(
+        "indices.requests.cache.segment_aggregations.size",
+        "1%",
+        Property.NodeScope
+    );
+
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final Cache<Key, BytesReference> cache;
+    // the keys of the entries of every segment, so that they can be invalidated when the segment reader is closed
+    private final Map<IndexReader.CacheKey, Set<Key>> keysBySegment = ConcurrentCollections.newConcurrentMap();
+    private final CounterMetric hitCount = new CounterMetric();
+    private final CounterMetric missCount = new CounterMetric();
+
+    public SegmentAggregationCache(Settings settings, NamedWriteableRegistry namedWriteableRegistry) {
+        this.namedWriteableRegistry = namedWriteableRegistry;
+        final long sizeInBytes = INDICES_SEGMENT_AGGREGATIONS_CACHE_SIZE.get(settings).getBytes();
+        this.cache = CacheBuilder.<Key, BytesReference>builder()
+            .setMaximumWeight(sizeInBytes)
+            .weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed())
+            .removalListener(this::onRemoval)
+            .build();
+    }
+
+    /**
+     * Returns the cached aggregation results of the segment for the request, or {@code null} if there are none.
+     */
+    public InternalAggregations get(IndexShard shard, IndexReader.CacheKey segmentKey, BytesReference requestKey) throws IOException {
+        final BytesReference bytes = cache.get(new Key(shard, segmentKey, requestKey));
+        if (bytes == null) {
+            missCount.inc();
+            return null;
+        }
+        hitCount.inc();
+        try (StreamInput in = new NamedWriteableAwareStreamInput(bytes.streamInput(), namedWriteableRegistry)) {
+            return InternalAggregations.readFrom(in);
+        }
+    }
+
+    /**
+     * Caches the aggregation results of the segment for the request.
+     *
+     * @param segmentHelper the reader cache helper of the segment, used to invalidate the entries once the segment is closed
+     */
+    public void put(IndexShard shard, IndexReader.CacheHelper segmentHelper, BytesReference requestKey, InternalAggregations aggregations)
+        throws IOException {
+        final BytesReference bytes;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            aggregations.writeTo(out);
+            bytes = out.bytes();
+        }
+        final Key key = new Key(shard, segmentHelper.getKey(), requestKey);
+        keysBySegment.computeIfAbsent(key.segmentKey, segmentKey -> {
+            segmentHelper.addClosedListener(this::onSegmentClosed);
+            return ConcurrentCollections.newConcurrentSet();
+        }).add(key);
+        cache.put(key, bytes);
+        key.shardRequestCache.onCached(key.ramBytesUsed(), bytes);
+    }
+
+    /**
+     * Invalidates the entries of the shard, as clearing its request cache does.
+     */
+    public void clear(ShardId shardId) {
+        final List<Key> keys = new ArrayList<>();
+        for (Key key : cache.keys()) {
+            if (key.shardId.equals(shardId)) {
+                keys.add(key);
+            }
+        }
+        for (Key key : keys) {
+            cache.invalidate(key);
+        }
+    }
+
+    private void onSegmentClosed(IndexReader.CacheKey segmentKey) {
+        final Set<Key> keys = keysBySegment.remove(segmentKey);
+        if (keys != null) {
+            for (Key key : keys) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    private void onRemoval(RemovalNotification<Key, BytesReference> notification) {
+        final Key key = notification.getKey();
+        final boolean evicted = notification.getRemovalReason() == RemovalReason.EVICTED;
+        key.shardRequestCache.onRemoval(key.ramBytesUsed(), notification.getValue(), evicted);
+        final Set<Key> keys = keysBySegment.get(key.segmentKey);
+        if (keys != null) {
+            keys.remove(key);
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("removed segment aggregation cache entry, reason [{}]", notification.getRemovalReason());
+        }
+    }
+
+    public long count() {
+        return cache.count();
+    }
+
+    public long getHitCount() {
+        return hitCount.count();
+    }
+
+    public long getMissCount() {
+        return missCount.count();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        keysBySegment.clear();
+    }
+
+    /**
+     * Key of a cache entry, the shard, the reader cache key of the segment and the cache key of the shard request.
+     *
+     * @opensearch.internal
+     */
+    static final class Key implements Accountable {
+        private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(Key.class);
+
+        final ShardId shardId;
+        // the request cache stats of the shard that the entry counts towards, not part of the key
+        final ShardRequestCache shardRequestCache;
+        final IndexReader.CacheKey segmentKey;
+        final BytesReference requestKey;
+
+        Key(IndexShard shard, IndexReader.CacheKey segmentKey, BytesReference requestKey) {
+            this.shardId = shard.shardId();
+            this.shardRequestCache = shard.requestCache();
+            this.segmentKey = segmentKey;
+            this.requestKey = requestKey;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return BASE_RAM_BYTES_USED + requestKey.ramBytesUsed();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return shardId.equals(key.shardId) && segmentKey.equals(key.segmentKey) && requestKey.equals(key.requestKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * shardId.hashCode() + segmentKey.hashCode()) + requestKey.hashCode();
+        }
+    }
+}
@@ -379,6 +379,10 @@ public class DefaultStreamPoller implements StreamPoller {
         builder.setTotalProcessorFailedCount(processorMetrics.failedMessageCounter().count());
         builder.setTotalProcessorFailuresDroppedCount(processorMetrics.failedMessageDroppedCounter().count());
         builder.setTotalProcessorThreadInterruptCount(processorMetrics.processorThreadInterruptCounter().count());
+        builder.setTotalBatchCount(processorMetrics.batchCounter().count());
+        builder.setTotalBatchedMessageCount(processorMetrics.batchedMessageCounter().count());
+        builder.setTotalStolenBatchCount(processorMetrics.stolenBatchCounter().count());
+        builder.setPartitionStats(blockingQueueContainer.getPartitionStats());
         // set consumer stats
         builder.setTotalPolledCount(totalPolledCount.count());
         builder.setTotalConsumerErrorCount(totalConsumerErrorCount.count());
@@ -35,18 +35,23 @@ import org.opensearch.index.mapper.VersionFieldMapper;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.opensearch.action.index.IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP;
 import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
 
 /**
  *  A class to process messages from the ingestion stream. It extracts the payload from the message and creates an
- *  engine operation.
+ *  engine operation. Messages are taken from the blocking queue in batches of up to {@link #MAX_BATCH_SIZE} and processed in
+ *  order. The processor either runs on its own thread, or is claimed by one of the processor threads of a
+ *  {@link PartitionedBlockingQueueContainer} at a time to process a batch.
  */
 public class MessageProcessorRunnable implements Runnable, Closeable {
     public static final String ID = "_id";
@@ -56,10 +61,15 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
     private static final Logger logger = LogManager.getLogger(MessageProcessorRunnable.class);
     private static final int MIN_RETRY_COUNT = 2;
     private static final int WAIT_BEFORE_RETRY_DURATION_MS = 2000;
+    static final int MAX_BATCH_SIZE = 100;
 
     private final BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue;
     private final MessageProcessor messageProcessor;
     private final MessageProcessorMetrics messageProcessorMetrics = MessageProcessorMetrics.create();
+    // held by the processor thread that processes the batches of this processor
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final List<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> batch = new ArrayList<>();
+    private int retryCount = 0;
 
     // currentShardPointer tracks the most recent pointer that is being processed
     @Nullable
@@ -296,57 +306,109 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
     }
 
     /**
-     * Polls messages from the blocking queue and processes messages. If message processing fails, the failed message
+     * Polls messages from the blocking queue and processes them in batches. If message processing fails, the failed message
      * is retried indefinitely after a retry wait time, unless a DROP error policy is used to skip the failed message.
      */
     @Override
     public void run() {
-        ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage = null;
-        int retryCount = 0;
-
         while (Thread.currentThread().isInterrupted() == false && closed == false) {
             try {
-                if (shardUpdateMessage == null) {
-                    shardUpdateMessage = blockingQueue.poll(1000, TimeUnit.MILLISECONDS);
+                ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage = blockingQueue.poll(
+                    1000,
+                    TimeUnit.MILLISECONDS
+                );
+                if (shardUpdateMessage != null) {
+                    batch.add(shardUpdateMessage);
+                    processBatch();
                 }
             } catch (InterruptedException e) {
                 messageProcessorMetrics.processorThreadInterruptCounter.inc();
                 logger.debug("MessageProcessorRunnable poll interruptedException", e);
                 Thread.currentThread().interrupt(); // Restore interrupt status
             }
-            if (shardUpdateMessage != null) {
-                try {
-                    messageProcessorMetrics.processedCounter.inc();
-                    currentShardPointer = shardUpdateMessage.pointer();
-                    messageProcessor.process(shardUpdateMessage, messageProcessorMetrics);
-                    shardUpdateMessage = null;
-                    retryCount = 0;
-                } catch (VersionConflictEngineException e) {
-                    // Messages with version conflicts will be dropped. This should not have any impact to data
-                    // correctness as pull-based ingestion does not support partial updates.
-                    messageProcessorMetrics.versionConflictCounter.inc();
-                    logger.debug("Dropping message due to version conflict. ShardPointer: " + shardUpdateMessage.pointer().asString(), e);
-                    shardUpdateMessage = null;
-                } catch (Exception e) {
-                    logger.error("[Message Processor] Error processing message. Index={}, Shard={}, error={}", indexName, shardId, e);
-                    messageProcessorMetrics.failedMessageCounter.inc();
-                    errorStrategy.handleError(e, IngestionErrorStrategy.ErrorStage.PROCESSING);
-                    boolean retriesExhausted = hasExhaustedRetries(e, retryCount);
-                    if (retriesExhausted && errorStrategy.shouldIgnoreError(e, IngestionErrorStrategy.ErrorStage.PROCESSING)) {
-                        logDroppedMessage(shardUpdateMessage);
-                        shardUpdateMessage = null;
-                        retryCount = 0;
-                        messageProcessorMetrics.failedMessageDroppedCounter.inc();
-                    } else {
-                        // failed messages are retried indefinitely until it succeeds or is dropped.
-                        retryCount++;
-                        waitBeforeRetry();
+        }
+    }
+
+    /**
+     * Takes up to {@link #MAX_BATCH_SIZE} messages from the blocking queue without waiting and processes them in order. A failed
+     * message is retried before the messages that follow it, so that the updates of a document are applied in order. Returns
+     * the number of messages of the batch.
+     */
+    int processBatch() {
+        blockingQueue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+        final int batchSize = batch.size();
+        if (batchSize == 0) {
+            return 0;
+        }
+        messageProcessorMetrics.batchCounter.inc();
+        messageProcessorMetrics.batchedMessageCounter.inc(batchSize);
+        try {
+            for (ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage : batch) {
+                while (process(shardUpdateMessage) == false) {
+                    if (Thread.currentThread().isInterrupted() || closed) {
+                        return batchSize;
                     }
                 }
             }
+        } finally {
+            batch.clear();
+        }
+        return batchSize;
+    }
+
+    /**
+     * Processes a message. Returns {@code false} if processing failed and the message must be retried.
+     */
+    private boolean process(ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage) {
+        try {
+            messageProcessorMetrics.processedCounter.inc();
+            currentShardPointer = shardUpdateMessage.pointer();
+            messageProcessor.process(shardUpdateMessage, messageProcessorMetrics);
+            retryCount = 0;
+            return true;
+        } catch (VersionConflictEngineException e) {
+            // Messages with version conflicts will be dropped. This should not have any impact to data
+            // correctness as pull-based ingestion does not support partial updates.
+            messageProcessorMetrics.versionConflictCounter.inc();
+            logger.debug("Dropping message due to version conflict. ShardPointer: " + shardUpdateMessage.pointer().asString(), e);
+            return true;
+        } catch (Exception e) {
+            logger.error("[Message Processor] Error processing message. Index={}, Shard={}, error={}", indexName, shardId, e);
+            messageProcessorMetrics.failedMessageCounter.inc();
+            errorStrategy.handleError(e, IngestionErrorStrategy.ErrorStage.PROCESSING);
+            boolean retriesExhausted = hasExhaustedRetries(e, retryCount);
+            if (retriesExhausted && errorStrategy.shouldIgnoreError(e, IngestionErrorStrategy.ErrorStage.PROCESSING)) {
+                logDroppedMessage(shardUpdateMessage);
+                retryCount = 0;
+                messageProcessorMetrics.failedMessageDroppedCounter.inc();
+                return true;
+            }
+            // failed messages are retried indefinitely until it succeeds or is dropped.
+            retryCount++;
+            waitBeforeRetry();
+            return false;
         }
     }
 
+    /**
+     * Claims this processor for the calling processor thread. Returns {@code false} if another processor thread holds it.
+     */
+    boolean tryClaim() {
+        return claimed.compareAndSet(false, true);
+    }
+
+    /**
+     * Releases this processor so that any processor thread can claim it.
+     */
+    void release() {
+        final boolean wasClaimed = claimed.getAndSet(false);
+        assert wasClaimed : "processor was not claimed";
+    }
+
+    boolean isClaimed() {
+        return claimed.get();
+    }
+
     private void waitBeforeRetry() {
         try {
             Thread.sleep(WAIT_BEFORE_RETRY_DURATION_MS);
@@ -408,7 +470,8 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
      */
     public record MessageProcessorMetrics(CounterMetric processedCounter, CounterMetric invalidMessageCounter,
         CounterMetric versionConflictCounter, CounterMetric failedMessageCounter, CounterMetric failedMessageDroppedCounter,
-        CounterMetric processorThreadInterruptCounter) {
+        CounterMetric processorThreadInterruptCounter, CounterMetric batchCounter, CounterMetric batchedMessageCounter,
+        CounterMetric stolenBatchCounter) {
         public static MessageProcessorMetrics create() {
             return new MessageProcessorMetrics(
                 new CounterMetric(),
@@ -416,6 +479,9 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
                 new CounterMetric(),
                 new CounterMetric(),
                 new CounterMetric(),
+                new CounterMetric(),
+                new CounterMetric(),
+                new CounterMetric(),
                 new CounterMetric()
             );
         }
@@ -432,6 +498,9 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
             combinedMetrics.processorThreadInterruptCounter.inc(
                 this.processorThreadInterruptCounter.count() + other.processorThreadInterruptCounter.count()
             );
+            combinedMetrics.batchCounter.inc(this.batchCounter.count() + other.batchCounter.count());
+            combinedMetrics.batchedMessageCounter.inc(this.batchedMessageCounter.count() + other.batchedMessageCounter.count());
+            combinedMetrics.stolenBatchCounter.inc(this.stolenBatchCounter.count() + other.stolenBatchCounter.count());
 
             return combinedMetrics;
         }
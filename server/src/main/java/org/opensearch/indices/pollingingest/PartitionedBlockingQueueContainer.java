@@ -16,6 +16,7 @@ import org.opensearch.index.Message;
 import org.opensearch.index.engine.IngestionEngine;
 import org.opensearch.index.mapper.IdFieldMapper;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -24,54 +25,62 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A partitioned blocking queue approach is used to support multiple writer threads. This class holds a blocking queue
- * per partition. A processor thread is started for each partition to consume updates and write to the lucene index.
+ * per partition, and a pool of processor threads that consume updates from the partitions and write to the lucene index.
  * Messages/records for the same document (ID) are mapped to the same partition for sequential processing. If ID is
  * missing, a new one is auto-generated and used for mapping, and can result in the message/record mapped to a different
  * partition on a retry.
+ * <p>
+ * There are {@link #PARTITIONS_PER_PROCESSOR_THREAD} partitions per processor thread, and every partition is processed by one
+ * processor thread at a time, a batch of messages per claim. Every processor thread owns a share of the partitions and
+ * processes them first, but claims the partition with the most pending messages of another processor thread when its own
+ * partitions are empty. Skewed document IDs therefore keep all processor threads busy while the updates of a document are
+ * still applied in order.
  */
 public class PartitionedBlockingQueueContainer {
     private static final Logger logger = LogManager.getLogger(PartitionedBlockingQueueContainer.class);
+    static final int PARTITIONS_PER_PROCESSOR_THREAD = 4;
+    private static final long IDLE_WAIT_MILLIS = 1000;
+
     private final int numPartitions;
+    private final int numProcessorThreads;
 
     // partition mappings
     private final Map<Integer, BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>>> partitionToQueueMap;
     private final Map<Integer, MessageProcessorRunnable> partitionToMessageProcessorMap;
-    private final Map<Integer, ExecutorService> partitionToProcessorExecutorMap;
+    private final ExecutorService processorExecutor;
+
+    // processor threads wait on this monitor while none of the partitions they can claim have messages
+    private final Object messagesAvailable = new Object();
+    private final AtomicInteger idleProcessorThreads = new AtomicInteger();
+    private volatile boolean closed = false;
 
     /**
-     * Initialize partitions and processor threads for given number of partitions.
+     * Initialize partitions and processor threads for given number of processor threads.
      */
     public PartitionedBlockingQueueContainer(
-        int numPartitions,
+        int numProcessorThreads,
         int shardId,
         IngestionEngine ingestionEngine,
         IngestionErrorStrategy errorStrategy,
         int blockingQueueSize
     ) {
-        assert numPartitions > 0 : "Number of processor threads / partitions must be greater than 0";
+        assert numProcessorThreads > 0 : "Number of processor threads must be greater than 0";
         partitionToQueueMap = new ConcurrentHashMap<>();
         partitionToMessageProcessorMap = new ConcurrentHashMap<>();
-        partitionToProcessorExecutorMap = new ConcurrentHashMap<>();
-        this.numPartitions = numPartitions;
+        this.numProcessorThreads = numProcessorThreads;
+        this.numPartitions = numProcessorThreads * PARTITIONS_PER_PROCESSOR_THREAD;
 
-        logger.info("Initializing processors for shard {} using {} partitions", shardId, numPartitions);
-        String processorThreadNamePrefix = String.format(
-            Locale.ROOT,
-            "stream-poller-processor-shard-%d-%d",
-            shardId,
-            System.currentTimeMillis()
-        );
+        logger.info("Initializing {} processors for shard {} using {} partitions", numProcessorThreads, shardId, numPartitions);
+        processorExecutor = newProcessorExecutor(numProcessorThreads, shardId);
 
+        // the messages that are queued for the shard are bounded by the queue size per processor thread as before
+        final int partitionQueueSize = Math.max(1, blockingQueueSize / PARTITIONS_PER_PROCESSOR_THREAD);
         for (int partition = 0; partition < numPartitions; partition++) {
-            String processorThreadName = String.format(Locale.ROOT, "%s-partition-%d", processorThreadNamePrefix, partition);
-            ExecutorService executorService = Executors.newSingleThreadExecutor(
-                r -> new Thread(r, String.format(Locale.ROOT, processorThreadName))
-            );
-            partitionToProcessorExecutorMap.put(partition, executorService);
-            partitionToQueueMap.put(partition, new ArrayBlockingQueue<>(blockingQueueSize));
+            partitionToQueueMap.put(partition, new ArrayBlockingQueue<>(partitionQueueSize));
 
             MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
                 partitionToQueueMap.get(partition),
@@ -86,33 +95,46 @@ public class PartitionedBlockingQueueContainer {
      *  Visible for testing. Initialize a single partition for the provided messageProcessorRunnable.
      */
     PartitionedBlockingQueueContainer(MessageProcessorRunnable messageProcessorRunnable, int shardId) {
+        this(List.of(messageProcessorRunnable), 1, shardId);
+    }
+
+    /**
+     *  Visible for testing. Initialize a partition for each of the provided messageProcessorRunnables.
+     */
+    PartitionedBlockingQueueContainer(List<MessageProcessorRunnable> messageProcessorRunnables, int numProcessorThreads, int shardId) {
         partitionToQueueMap = new ConcurrentHashMap<>();
         partitionToMessageProcessorMap = new ConcurrentHashMap<>();
-        partitionToProcessorExecutorMap = new ConcurrentHashMap<>();
-        this.numPartitions = 1;
-
-        partitionToQueueMap.put(0, messageProcessorRunnable.getBlockingQueue());
-        partitionToMessageProcessorMap.put(0, messageProcessorRunnable);
-        ExecutorService executorService = Executors.newSingleThreadExecutor(
-            r -> new Thread(
-                r,
-                String.format(
-                    Locale.ROOT,
-                    String.format(Locale.ROOT, "stream-poller-processor-shard-%d-%d-partition-0", shardId, System.currentTimeMillis())
-                )
-            )
+        this.numPartitions = messageProcessorRunnables.size();
+        this.numProcessorThreads = numProcessorThreads;
+
+        for (int partition = 0; partition < numPartitions; partition++) {
+            partitionToQueueMap.put(partition, messageProcessorRunnables.get(partition).getBlockingQueue());
+            partitionToMessageProcessorMap.put(partition, messageProcessorRunnables.get(partition));
+        }
+        processorExecutor = newProcessorExecutor(numProcessorThreads, shardId);
+    }
+
+    private static ExecutorService newProcessorExecutor(int numProcessorThreads, int shardId) {
+        String processorThreadNamePrefix = String.format(
+            Locale.ROOT,
+            "stream-poller-processor-shard-%d-%d",
+            shardId,
+            System.currentTimeMillis()
+        );
+        AtomicInteger processorThread = new AtomicInteger();
+        return Executors.newFixedThreadPool(
+            numProcessorThreads,
+            r -> new Thread(r, String.format(Locale.ROOT, "%s-thread-%d", processorThreadNamePrefix, processorThread.getAndIncrement()))
         );
-        partitionToProcessorExecutorMap.put(0, executorService);
     }
 
     /**
      * Starts the processor threads to read updates and write to the index.
      */
     public void startProcessorThreads() {
-        for (int partition = 0; partition < numPartitions; partition++) {
-            ExecutorService executorService = partitionToProcessorExecutorMap.get(partition);
-            MessageProcessorRunnable messageProcessorRunnable = partitionToMessageProcessorMap.get(partition);
-            executorService.submit(messageProcessorRunnable);
+        for (int processorThread = 0; processorThread < numProcessorThreads; processorThread++) {
+            final int owner = processorThread;
+            processorExecutor.submit(() -> runProcessorThread(owner));
         }
     }
 
@@ -125,17 +147,21 @@ public class PartitionedBlockingQueueContainer {
 
         int partition = getPartitionFromID(id);
         partitionToQueueMap.get(partition).put(shardUpdateMessage);
+        signalMessagesAvailable();
     }
 
     /**
      * Stop the processor threads and shutdown the executors.
      */
     public void close() {
+        closed = true;
         partitionToMessageProcessorMap.values().forEach(MessageProcessorRunnable::close);
-        partitionToProcessorExecutorMap.values().forEach(ExecutorService::shutdown);
+        synchronized (messagesAvailable) {
+            messagesAvailable.notifyAll();
+        }
+        processorExecutor.shutdown();
         partitionToQueueMap.clear();
         partitionToMessageProcessorMap.clear();
-        partitionToProcessorExecutorMap.clear();
     }
 
     /**
@@ -159,6 +185,34 @@ public class PartitionedBlockingQueueContainer {
             .orElseGet(MessageProcessorRunnable.MessageProcessorMetrics::create);
     }
 
+    /**
+     * Returns the stats of every partition: its pending messages, the age of the oldest of them, and its batches.
+     */
+    public List<PollingIngestStats.PartitionStats> getPartitionStats() {
+        List<PollingIngestStats.PartitionStats> partitionStats = new ArrayList<>(numPartitions);
+        long now = System.currentTimeMillis();
+        for (int partition = 0; partition < numPartitions; partition++) {
+            MessageProcessorRunnable processor = partitionToMessageProcessorMap.get(partition);
+            if (processor == null) {
+                continue;
+            }
+            BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> queue = processor.getBlockingQueue();
+            ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> oldest = queue.peek();
+            Long oldestTimestamp = oldest == null || oldest.originalMessage() == null ? null : oldest.originalMessage().getTimestamp();
+            MessageProcessorRunnable.MessageProcessorMetrics metrics = processor.getMessageProcessorMetrics();
+            partitionStats.add(
+                new PollingIngestStats.PartitionStats(
+                    partition,
+                    queue.size(),
+                    oldestTimestamp == null || oldestTimestamp == 0 ? 0 : Math.max(0, now - oldestTimestamp),
+                    metrics.batchCounter().count(),
+                    metrics.batchedMessageCounter().count()
+                )
+            );
+        }
+        return partitionStats;
+    }
+
     /**
      * Update error strategy in all available message processors.
      */
@@ -173,6 +227,128 @@ public class PartitionedBlockingQueueContainer {
         return partitionToMessageProcessorMap.values().stream().map(MessageProcessorRunnable::getCurrentShardPointer).toList();
     }
 
+    /**
+     * Processes batches of the partitions the processor thread can claim until the container is closed.
+     */
+    private void runProcessorThread(int owner) {
+        int nextOwnedPartition = owner;
+        while (closed == false && Thread.currentThread().isInterrupted() == false) {
+            int partition = claimOwnedPartition(owner, nextOwnedPartition);
+            if (partition != -1) {
+                // the next batch starts at the partition after this one, so that every owned partition gets its turn
+                nextOwnedPartition = nextOwnedPartition(owner, partition);
+            } else {
+                partition = claimBusiestPartition(owner);
+                if (partition == -1) {
+                    awaitMessages();
+                    continue;
+                }
+            }
+            MessageProcessorRunnable processor = partitionToMessageProcessorMap.get(partition);
+            if (processor == null) {
+                // closed concurrently
+                break;
+            }
+            if (partition % numProcessorThreads != owner) {
+                processor.getMessageProcessorMetrics().stolenBatchCounter().inc();
+            }
+            try {
+                processor.processBatch();
+            } catch (Exception e) {
+                logger.error("Unexpected error processing messages of partition {}", partition, e);
+            } finally {
+                processor.release();
+            }
+            if (processor.getBlockingQueue().size() > 0) {
+                signalMessagesAvailable();
+            }
+        }
+    }
+
+    private int nextOwnedPartition(int owner, int partition) {
+        int next = partition + numProcessorThreads;
+        return next < numPartitions ? next : owner;
+    }
+
+    /**
+     * Claims the first partition with pending messages among the partitions owned by the processor thread, starting at the given
+     * partition. Returns {@code -1} if there is none.
+     */
+    private int claimOwnedPartition(int owner, int firstPartition) {
+        int partition = firstPartition;
+        for (int i = 0; i < PARTITIONS_PER_PROCESSOR_THREAD && i < numPartitions; i++) {
+            MessageProcessorRunnable processor = partitionToMessageProcessorMap.get(partition);
+            if (processor != null && processor.getBlockingQueue().size() > 0 && processor.tryClaim()) {
+                return partition;
+            }
+            partition = nextOwnedPartition(owner, partition);
+        }
+        return -1;
+    }
+
+    /**
+     * Claims the unclaimed partition of another processor thread with the most pending messages. Returns {@code -1} if there is
+     * none.
+     */
+    private int claimBusiestPartition(int owner) {
+        while (true) {
+            int busiest = -1;
+            int busiestSize = 0;
+            for (int partition = 0; partition < numPartitions; partition++) {
+                MessageProcessorRunnable processor = partitionToMessageProcessorMap.get(partition);
+                if (partition % numProcessorThreads == owner || processor == null || processor.isClaimed()) {
+                    continue;
+                }
+                int size = processor.getBlockingQueue().size();
+                if (size > busiestSize) {
+                    busiest = partition;
+                    busiestSize = size;
+                }
+            }
+            if (busiest == -1) {
+                return -1;
+            }
+            MessageProcessorRunnable processor = partitionToMessageProcessorMap.get(busiest);
+            if (processor != null && processor.tryClaim()) {
+                return busiest;
+            }
+        }
+    }
+
+    private void signalMessagesAvailable() {
+        if (idleProcessorThreads.get() > 0) {
+            synchronized (messagesAvailable) {
+                messagesAvailable.notify();
+            }
+        }
+    }
+
+    private void awaitMessages() {
+        synchronized (messagesAvailable) {
+            idleProcessorThreads.incrementAndGet();
+            try {
+                // checked after registering as idle so that a message added concurrently either is seen here or notifies
+                if (closed == false && hasUnclaimedMessages() == false) {
+                    messagesAvailable.wait(IDLE_WAIT_MILLIS);
+                }
+            } catch (InterruptedException e) {
+                logger.debug("Processor thread interrupted while waiting for messages", e);
+                Thread.currentThread().interrupt(); // Restore interrupt status
+            } finally {
+                idleProcessorThreads.decrementAndGet();
+            }
+        }
+    }
+
+    private boolean hasUnclaimedMessages() {
+        for (MessageProcessorRunnable processor : partitionToMessageProcessorMap.values()) {
+            if (processor.getBlockingQueue().size() > 0 && processor.isClaimed() == false) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private int getPartitionFromID(String id) {
         if (Strings.isEmpty(id)) {
             return 0;
@@ -184,8 +360,8 @@ public class PartitionedBlockingQueueContainer {
         return partitionToMessageProcessorMap;
     }
 
-    Map<Integer, ExecutorService> getPartitionToProcessorExecutorMap() {
-        return partitionToProcessorExecutorMap;
+    int getNumProcessorThreads() {
+        return numProcessorThreads;
     }
 
     Map<Integer, BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>>> getPartitionToQueueMap() {
@@ -17,6 +17,8 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -26,10 +28,20 @@ import java.util.Objects;
 public class PollingIngestStats implements Writeable, ToXContentFragment {
     private final MessageProcessorStats messageProcessorStats;
     private final ConsumerStats consumerStats;
+    private final List<PartitionStats> partitionStats;
 
     public PollingIngestStats(MessageProcessorStats messageProcessorStats, ConsumerStats consumerStats) {
+        this(messageProcessorStats, consumerStats, Collections.emptyList());
+    }
+
+    public PollingIngestStats(
+        MessageProcessorStats messageProcessorStats,
+        ConsumerStats consumerStats,
+        List<PartitionStats> partitionStats
+    ) {
         this.messageProcessorStats = messageProcessorStats;
         this.consumerStats = consumerStats;
+        this.partitionStats = partitionStats;
     }
 
     public PollingIngestStats(StreamInput in) throws IOException {
@@ -39,13 +51,24 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         long totalProcessorFailedCount = in.readLong();
         long totalProcessorFailuresDroppedCount = in.readLong();
         long totalProcessorThreadInterruptCount = in.readLong();
+        long totalBatchCount = 0;
+        long totalBatchedMessageCount = 0;
+        long totalStolenBatchCount = 0;
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            totalBatchCount = in.readLong();
+            totalBatchedMessageCount = in.readLong();
+            totalStolenBatchCount = in.readLong();
+        }
         this.messageProcessorStats = new MessageProcessorStats(
             totalProcessedCount,
             totalInvalidMessageCount,
             totalProcessorVersionConflictsCount,
             totalProcessorFailedCount,
             totalProcessorFailuresDroppedCount,
-            totalProcessorThreadInterruptCount
+            totalProcessorThreadInterruptCount,
+            totalBatchCount,
+            totalBatchedMessageCount,
+            totalStolenBatchCount
         );
         long totalPolledCount = in.readLong();
         long lagInMillis = in.readLong();
@@ -68,6 +91,7 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
             totalDuplicateMessageSkippedCount,
             pointerBasedLag
         );
+        this.partitionStats = in.getVersion().onOrAfter(Version.V_3_5_0) ? in.readList(PartitionStats::new) : Collections.emptyList();
     }
 
     @Override
@@ -78,6 +102,11 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         out.writeLong(messageProcessorStats.totalFailedCount);
         out.writeLong(messageProcessorStats.totalFailuresDroppedCount);
         out.writeLong(messageProcessorStats.totalProcessorThreadInterruptCount);
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeLong(messageProcessorStats.totalBatchCount);
+            out.writeLong(messageProcessorStats.totalBatchedMessageCount);
+            out.writeLong(messageProcessorStats.totalStolenBatchCount);
+        }
         out.writeLong(consumerStats.totalPolledCount);
         out.writeLong(consumerStats.lagInMillis);
         out.writeLong(consumerStats.totalConsumerErrorCount);
@@ -88,6 +117,9 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
             out.writeLong(consumerStats.pointerBasedLag);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeList(partitionStats);
+        }
     }
 
     @Override
@@ -100,6 +132,14 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         builder.field("total_failed_count", messageProcessorStats.totalFailedCount);
         builder.field("total_failures_dropped_count", messageProcessorStats.totalFailuresDroppedCount);
         builder.field("total_processor_thread_interrupt_count", messageProcessorStats.totalProcessorThreadInterruptCount);
+        builder.field("total_batch_count", messageProcessorStats.totalBatchCount);
+        builder.field("total_batched_message_count", messageProcessorStats.totalBatchedMessageCount);
+        builder.field("total_stolen_batch_count", messageProcessorStats.totalStolenBatchCount);
+        builder.startArray("partitions");
+        for (PartitionStats partition : partitionStats) {
+            partition.toXContent(builder, params);
+        }
+        builder.endArray();
         builder.endObject();
         builder.startObject("consumer_stats");
         builder.field("total_polled_count", consumerStats.totalPolledCount);
@@ -122,17 +162,23 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         return consumerStats;
     }
 
+    public List<PartitionStats> getPartitionStats() {
+        return partitionStats;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof PollingIngestStats)) return false;
         PollingIngestStats that = (PollingIngestStats) o;
-        return Objects.equals(messageProcessorStats, that.messageProcessorStats) && Objects.equals(consumerStats, that.consumerStats);
+        return Objects.equals(messageProcessorStats, that.messageProcessorStats)
+            && Objects.equals(consumerStats, that.consumerStats)
+            && Objects.equals(partitionStats, that.partitionStats);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(messageProcessorStats, consumerStats);
+        return Objects.hash(messageProcessorStats, consumerStats, partitionStats);
     }
 
     /**
@@ -140,7 +186,44 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
      */
     @ExperimentalApi
     public record MessageProcessorStats(long totalProcessedCount, long totalInvalidMessageCount, long totalVersionConflictsCount,
-        long totalFailedCount, long totalFailuresDroppedCount, long totalProcessorThreadInterruptCount) {
+        long totalFailedCount, long totalFailuresDroppedCount, long totalProcessorThreadInterruptCount, long totalBatchCount,
+        long totalBatchedMessageCount, long totalStolenBatchCount) {
+    }
+
+    /**
+     * Stats for a partition of the message processors: the messages waiting in its queue, the age of the oldest of them, and the
+     * batches it was processed in.
+     */
+    @ExperimentalApi
+    public record PartitionStats(int partition, long queuedMessageCount, long lagInMillis, long batchCount, long batchedMessageCount)
+        implements
+            Writeable,
+            ToXContentFragment {
+
+        public PartitionStats(StreamInput in) throws IOException {
+            this(in.readVInt(), in.readVLong(), in.readVLong(), in.readVLong(), in.readVLong());
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(partition);
+            out.writeVLong(queuedMessageCount);
+            out.writeVLong(lagInMillis);
+            out.writeVLong(batchCount);
+            out.writeVLong(batchedMessageCount);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("partition", partition);
+            builder.field("queued_message_count", queuedMessageCount);
+            builder.field("lag_in_millis", lagInMillis);
+            builder.field("batch_count", batchCount);
+            builder.field("avg_batch_size", batchCount == 0 ? 0.0 : (double) batchedMessageCount / batchCount);
+            builder.endObject();
+            return builder;
+        }
     }
 
     /**
@@ -171,6 +254,10 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         private long totalPollerMessageDroppedCount;
         private long totalDuplicateMessageSkippedCount;
         private long pointerBasedLag;
+        private long totalBatchCount;
+        private long totalBatchedMessageCount;
+        private long totalStolenBatchCount;
+        private List<PartitionStats> partitionStats = Collections.emptyList();
 
         public Builder() {}
 
@@ -243,6 +330,26 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder setTotalBatchCount(long totalBatchCount) {
+            this.totalBatchCount = totalBatchCount;
+            return this;
+        }
+
+        public Builder setTotalBatchedMessageCount(long totalBatchedMessageCount) {
+            this.totalBatchedMessageCount = totalBatchedMessageCount;
+            return this;
+        }
+
+        public Builder setTotalStolenBatchCount(long totalStolenBatchCount) {
+            this.totalStolenBatchCount = totalStolenBatchCount;
+            return this;
+        }
+
+        public Builder setPartitionStats(List<PartitionStats> partitionStats) {
+            this.partitionStats = partitionStats;
+            return this;
+        }
+
         public PollingIngestStats build() {
             MessageProcessorStats messageProcessorStats = new MessageProcessorStats(
                 totalProcessedCount,
@@ -250,7 +357,10 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
                 totalVersionConflictsCount,
                 totalFailedCount,
                 totalFailuresDroppedCount,
-                totalProcessorThreadInterruptCount
+                totalProcessorThreadInterruptCount,
+                totalBatchCount,
+                totalBatchedMessageCount,
+                totalStolenBatchCount
             );
             ConsumerStats consumerStats = new ConsumerStats(
                 totalPolledCount,
@@ -261,7 +371,7 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
                 totalDuplicateMessageSkippedCount,
                 pointerBasedLag
             );
-            return new PollingIngestStats(messageProcessorStats, consumerStats);
+            return new PollingIngestStats(messageProcessorStats, consumerStats, partitionStats);
         }
     }
 
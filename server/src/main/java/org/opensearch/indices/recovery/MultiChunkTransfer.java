@@ -65,9 +65,13 @@ import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_SEQ_NO;
  * recover target can flush all file chunks up to the local checkpoint.
  * <p>
  * When the number of un-replied file chunk requests reaches the limit (i.e. the gap between the max_seq_no and the local checkpoint is
- * greater than {@code maxConcurrentFileChunks}), the sending/requesting thread will abort its execution. That process will be resumed by
- * one of the networking threads which receive/handle the responses of the current pending file chunk requests. This process will continue
- * until all chunk requests are sent/responded.
+ * greater than the current window), the sending/requesting thread will abort its execution. That process will be resumed by one of the
+ * networking threads which receive/handle the responses of the current pending file chunk requests. This process will continue until all
+ * chunk requests are sent/responded.
+ * <p>
+ * The window starts at {@code maxConcurrentFileChunks} and adapts to the measured throughput between one and that value, see
+ * {@link ChunkWindow}: more requests in flight only help while the link is not saturated, beyond that they only make the recovery
+ * target buffer more chunks.
  *
  * @opensearch.internal
  */
@@ -77,7 +81,7 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
     private final ActionListener<Void> listener;
     private final LocalCheckpointTracker requestSeqIdTracker = new LocalCheckpointTracker(NO_OPS_PERFORMED, NO_OPS_PERFORMED);
     private final AsyncIOProcessor<FileChunkResponseItem<Source>> processor;
-    private final int maxConcurrentChunks;
+    private final ChunkWindow window;
     private Source currentSource = null;
     private final Iterator<Source> remainingSources;
     private Tuple<Source, Request> readAheadRequest = null;
@@ -90,9 +94,9 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
         List<Source> sources
     ) {
         this.logger = logger;
-        this.maxConcurrentChunks = maxConcurrentChunks;
+        this.window = new ChunkWindow(maxConcurrentChunks, maxConcurrentChunks);
         this.listener = listener;
-        this.processor = new AsyncIOProcessor<FileChunkResponseItem<Source>>(logger, maxConcurrentChunks, threadContext) {
+        this.processor = new AsyncIOProcessor<FileChunkResponseItem<Source>>(logger, window.maxSize(), threadContext) {
             @Override
             protected void write(List<Tuple<FileChunkResponseItem<Source>, Consumer<Exception>>> items) throws IOException {
                 handleItems(items);
@@ -102,11 +106,11 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
     }
 
     public final void start() {
-        addItem(UNASSIGNED_SEQ_NO, null, null); // put a dummy item to start the processor
+        addItem(UNASSIGNED_SEQ_NO, null, 0, null); // put a dummy item to start the processor
     }
 
-    private void addItem(long requestSeqId, Source resource, Exception failure) {
-        processor.put(new FileChunkResponseItem<>(requestSeqId, resource, failure), e -> { assert e == null : e; });
+    private void addItem(long requestSeqId, Source resource, long sizeInBytes, Exception failure) {
+        processor.put(new FileChunkResponseItem<>(requestSeqId, resource, sizeInBytes, failure), e -> { assert e == null : e; });
     }
 
     private void handleItems(List<Tuple<FileChunkResponseItem<Source>, Consumer<Exception>>> items) {
@@ -134,8 +138,9 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
                     handleError(resp.source, resp.failure);
                     throw resp.failure;
                 }
+                window.onResponse(resp.sizeInBytes, System.nanoTime());
             }
-            while (requestSeqIdTracker.getMaxSeqNo() - requestSeqIdTracker.getProcessedCheckpoint() < maxConcurrentChunks) {
+            while (requestSeqIdTracker.getMaxSeqNo() - requestSeqIdTracker.getProcessedCheckpoint() < window.size()) {
                 final Tuple<Source, Request> request = readAheadRequest != null ? readAheadRequest : getNextRequest();
                 readAheadRequest = null;
                 if (request == null) {
@@ -146,9 +151,14 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
                     return;
                 }
                 final long requestSeqId = requestSeqIdTracker.generateSeqNo();
+                final long sizeInBytes = request.v2().sizeInBytes();
+                window.onRequest(System.nanoTime());
                 executeChunkRequest(
                     request.v2(),
-                    ActionListener.wrap(r -> addItem(requestSeqId, request.v1(), null), e -> addItem(requestSeqId, request.v1(), e))
+                    ActionListener.wrap(
+                        r -> addItem(requestSeqId, request.v1(), sizeInBytes, null),
+                        e -> addItem(requestSeqId, request.v1(), sizeInBytes, e)
+                    )
                 );
             }
             // While we are waiting for the responses, we can prepare the next request in advance
@@ -219,15 +229,107 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
     private static class FileChunkResponseItem<Source> {
         final long requestSeqId;
         final Source source;
+        final long sizeInBytes;
         final Exception failure;
 
-        FileChunkResponseItem(long requestSeqId, Source source, Exception failure) {
+        FileChunkResponseItem(long requestSeqId, Source source, long sizeInBytes, Exception failure) {
             this.requestSeqId = requestSeqId;
             this.source = source;
+            this.sizeInBytes = sizeInBytes;
             this.failure = failure;
         }
     }
 
+    /**
+     * The number of chunk requests that may be in flight. The window starts at its initial size, which the transfer sets to its maximum
+     * size, and stays between one and its maximum size. It is adjusted once per round, i.e. once as many responses as the window
+     * allowed in flight at the start of the round have been received, from the throughput of the round. Every {@link #PROBE_INTERVAL}
+     * rounds the window probes a neighbouring size, alternately a larger and a smaller one: it keeps a larger
+     * size if the throughput improved by at least {@link #TOLERANCE}, and a smaller size if the throughput did not drop by more than
+     * {@link #TOLERANCE}. The window is fixed for requests that do not report their size.
+     * Only the thread that processes the responses uses the window.
+     *
+     * @opensearch.internal
+     */
+    static final class ChunkWindow {
+        static final int PROBE_INTERVAL = 4;
+        static final double TOLERANCE = 0.1;
+
+        private final int maxSize;
+        private int size;
+        private int roundSize;
+        private int roundResponses;
+        private long roundBytes;
+        private long roundStartNanos = -1;
+        private int rounds;
+        // the direction of the probe the current round measures, 0 if the round does not measure a probe
+        private int probe;
+        private boolean probeUp = true;
+        private double rateBeforeProbe;
+
+        ChunkWindow(int initialSize, int maxSize) {
+            assert 1 <= initialSize && initialSize <= maxSize : "invalid window sizes [" + initialSize + "] and [" + maxSize + "]";
+            this.maxSize = maxSize;
+            this.size = initialSize;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int maxSize() {
+            return maxSize;
+        }
+
+        void onRequest(long nowNanos) {
+            if (roundStartNanos == -1) {
+                roundStartNanos = nowNanos;
+                roundSize = size;
+            }
+        }
+
+        void onResponse(long sizeInBytes, long nowNanos) {
+            assert roundStartNanos != -1 : "received a response before a request was sent";
+            roundResponses++;
+            roundBytes += sizeInBytes;
+            if (roundResponses < roundSize) {
+                return;
+            }
+            final long elapsedNanos = Math.max(1, nowNanos - roundStartNanos);
+            if (roundBytes > 0) {
+                adjust((double) roundBytes / elapsedNanos);
+            }
+            roundResponses = 0;
+            roundBytes = 0;
+            roundStartNanos = nowNanos;
+            roundSize = size;
+        }
+
+        private void adjust(double rate) {
+            if (probe > 0) {
+                if (rate < rateBeforeProbe * (1 + TOLERANCE)) {
+                    size--;
+                }
+                probe = 0;
+            } else if (probe < 0) {
+                if (rate < rateBeforeProbe * (1 - TOLERANCE)) {
+                    size++;
+                }
+                probe = 0;
+            } else if (++rounds % PROBE_INTERVAL == 0) {
+                if (size < maxSize && (probeUp || size == 1)) {
+                    probe = 1;
+                    size++;
+                } else if (size > 1) {
+                    probe = -1;
+                    size--;
+                }
+                probeUp = probeUp == false;
+                rateBeforeProbe = rate;
+            }
+        }
+    }
+
     /**
      * A chunk request
      *
@@ -238,6 +340,14 @@ public abstract class MultiChunkTransfer<Source, Request extends MultiChunkTrans
          * @return {@code true} if this chunk request is the last chunk of the current file
          */
         boolean lastChunk();
+
+        /**
+         * @return the number of bytes this chunk request transfers, or {@code 0} if the number of chunk requests in flight should not
+         * adapt to the throughput
+         */
+        default long sizeInBytes() {
+            return 0;
+        }
     }
 
     private enum Status {
@@ -118,7 +118,9 @@ public class RecoverySettings {
     );
 
     /**
-     * Controls the maximum number of file chunk requests that can be sent concurrently from the source node to the target node.
+     * Controls the maximum number of file chunk requests that can be sent concurrently from the source node to the target node. The
+     * source starts with this many requests in flight, sends fewer while more requests do not improve the throughput and never sends
+     * more.
      */
     public static final Setting<Integer> INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING = Setting.intSetting(
         "indices.recovery.max_concurrent_file_chunks",
@@ -252,6 +252,11 @@ public final class SegmentFileTransferHandler {
             return lastChunk;
         }
 
+        @Override
+        public long sizeInBytes() {
+            return content.length();
+        }
+
         @Override
         public void close() {
             onClose.close();
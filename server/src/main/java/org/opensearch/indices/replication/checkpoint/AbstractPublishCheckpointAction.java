@@ -41,7 +41,9 @@ import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -158,6 +160,7 @@ public abstract class AbstractPublishCheckpointAction<
                             );
                             task.setPhase("finished");
                             taskManager.unregister(task);
+                            onPublished(indexShard, checkpoint, response, timer.time());
                         } finally {
                             latch.countDown();
                         }
@@ -228,6 +231,27 @@ public abstract class AbstractPublishCheckpointAction<
         }
     }
 
+    /**
+     * Called once the checkpoint was published to the replicas.
+     *
+     * @param indexShard the primary shard that published the checkpoint
+     * @param checkpoint the published checkpoint
+     * @param response   the response of the replication group, with the replicas that failed to process the checkpoint
+     * @param timeMillis the time the publication took
+     */
+    protected void onPublished(IndexShard indexShard, ReplicationCheckpoint checkpoint, ReplicationResponse response, long timeMillis) {}
+
+    /**
+     * Returns the ids of the nodes of the replicas that failed to process a published checkpoint.
+     */
+    protected static Set<String> failedNodeIds(ReplicationResponse response) {
+        final Set<String> failedNodeIds = new HashSet<>();
+        for (ReplicationResponse.ShardInfo.Failure failure : response.getShardInfo().getFailures()) {
+            failedNodeIds.add(failure.nodeId());
+        }
+        return failedNodeIds;
+    }
+
     @Override
     final protected void shardOperationOnReplica(ReplicaRequest shardRequest, IndexShard replica, ActionListener<ReplicaResult> listener) {
         Objects.requireNonNull(shardRequest);
@@ -89,6 +89,11 @@ public class PublishMergedSegmentAction extends AbstractPublishCheckpointAction<
         );
     }
 
+    @Override
+    protected void onPublished(IndexShard indexShard, ReplicationCheckpoint checkpoint, ReplicationResponse response, long timeMillis) {
+        indexShard.updatePreCopiedMergedSegment((MergedSegmentCheckpoint) checkpoint, failedNodeIds(response), timeMillis);
+    }
+
     @Override
     protected void shardOperationOnPrimary(
         PublishMergedSegmentRequest request,
@@ -98,6 +98,11 @@ public class RemoteStorePublishMergedSegmentAction extends AbstractPublishCheckp
         }
     }
 
+    @Override
+    protected void onPublished(IndexShard indexShard, ReplicationCheckpoint checkpoint, ReplicationResponse response, long timeMillis) {
+        indexShard.updatePreCopiedMergedSegment((MergedSegmentCheckpoint) checkpoint, failedNodeIds(response), timeMillis);
+    }
+
     @Override
     protected void shardOperationOnPrimary(
         RemoteStorePublishMergedSegmentRequest shardRequest,
@@ -99,6 +99,7 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("adaptive_selection");
         Set<String> allNodeIds = Sets.union(clientOutgoingConnections.keySet(), nodeComputedStats.keySet());
+        final ResponseCollectorService.RankingModel model = ResponseCollectorService.rankingModel(nodeComputedStats.values());
         for (String nodeId : allNodeIds) {
             builder.startObject(nodeId);
             ResponseCollectorService.ComputedNodeStats stats = nodeComputedStats.get(nodeId);
@@ -114,7 +115,7 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
                     builder.field("avg_response_time", new TimeValue((long) stats.responseTime, TimeUnit.NANOSECONDS).toString());
                 }
                 builder.field("avg_response_time_ns", (long) stats.responseTime);
-                builder.field("rank", String.format(Locale.ROOT, "%.1f", stats.rank(outgoingSearches)));
+                builder.field("rank", String.format(Locale.ROOT, "%.1f", stats.rank(outgoingSearches, model)));
             }
             builder.endObject();
         }
@@ -140,9 +141,12 @@ public class AdaptiveSelectionStats implements Writeable, ToXContentFragment {
      * Returns a map of node id to the ranking of the nodes based on the adaptive replica formula
      */
     public Map<String, Double> getRanks() {
+        final ResponseCollectorService.RankingModel model = ResponseCollectorService.rankingModel(nodeComputedStats.values());
         return nodeComputedStats.entrySet()
             .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().rank(clientOutgoingConnections.getOrDefault(e.getKey(), 0L))));
+            .collect(
+                Collectors.toMap(Map.Entry::getKey, e -> e.getValue().rank(clientOutgoingConnections.getOrDefault(e.getKey(), 0L), model))
+            );
     }
 
     /**
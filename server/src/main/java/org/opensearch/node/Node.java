@@ -434,6 +434,16 @@ public class Node implements Closeable {
         Property.NodeScope
     );
 
+    /**
+     * Whether the file cache uses a frequency based (TinyLFU) admission policy, so that large scans do not evict the files that are
+     * read by most queries.
+     */
+    public static final Setting<Boolean> NODE_SEARCH_CACHE_ADMISSION_FILTER_ENABLED_SETTING = Setting.boolSetting(
+        "node.search.cache.admission_filter.enabled",
+        false,
+        Property.NodeScope
+    );
+
     private static final String CLIENT_TYPE = "node";
 
     /**
@@ -949,6 +959,7 @@ public class Node implements Closeable {
             rerouteServiceReference.set(rerouteService);
             clusterService.setRerouteService(rerouteService);
             clusterModule.setRerouteServiceForAllocator(rerouteService);
+            clusterModule.setThreadPoolForAllocator(threadPool);
 
             final RecoverySettings recoverySettings = new RecoverySettings(settings, settingsModule.getClusterSettings());
 
@@ -1427,6 +1438,7 @@ public class Node implements Closeable {
                     threadPool,
                     transportService,
                     namedWriteableRegistry,
+                    bigArrays,
                     networkService,
                     clusterService.getClusterManagerService(),
                     clusterService.getClusterApplierService(),
@@ -2409,7 +2421,9 @@ public class Node implements Closeable {
             throw new SettingsException("Cache size must be larger than zero and less than total capacity");
         }
 
-        this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity);
+        this.fileCache = NODE_SEARCH_CACHE_ADMISSION_FILTER_ENABLED_SETTING.get(settings)
+            ? FileCacheFactory.createConcurrentTinyLFUFileCache(capacity)
+            : FileCacheFactory.createConcurrentLRUFileCache(capacity);
         fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(this.fileCache.capacity(), ByteSizeUnit.BYTES);
         ForkJoinPool loadFileCacheThreadpool = new ForkJoinPool(
             Runtime.getRuntime().availableProcessors(),
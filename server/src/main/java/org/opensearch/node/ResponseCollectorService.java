@@ -38,13 +38,16 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.ExponentiallyWeightedMovingAverage;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
@@ -62,10 +65,29 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     private static final double ALPHA = 0.3;
 
+    /**
+     * The model that ranks the copies of a shard by the statistics of the nodes that hold them.
+     */
+    public static final Setting<RankingModel> ADAPTIVE_REPLICA_SELECTION_MODEL_SETTING = new Setting<>(
+        "cluster.routing.adaptive_replica_selection.model",
+        RankingModel.C3.toString(),
+        RankingModel::fromString,
+        Setting.Property.Dynamic,
+        Setting.Property.NodeScope
+    );
+
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
 
+    private volatile RankingModel rankingModel;
+
     public ResponseCollectorService(ClusterService clusterService) {
         clusterService.addListener(this);
+        this.rankingModel = ADAPTIVE_REPLICA_SELECTION_MODEL_SETTING.get(clusterService.getSettings());
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ADAPTIVE_REPLICA_SELECTION_MODEL_SETTING, this::setRankingModel);
+    }
+
+    private void setRankingModel(RankingModel rankingModel) {
+        this.rankingModel = rankingModel;
     }
 
     @Override
@@ -82,25 +104,58 @@ public final class ResponseCollectorService implements ClusterStateListener {
     }
 
     public void addNodeStatistics(String nodeId, int queueSize, long responseTimeNanos, long avgServiceTimeNanos) {
+        addNodeStatistics(nodeId, queueSize, -1, -1, -1, responseTimeNanos, avgServiceTimeNanos);
+    }
+
+    /**
+     * Adds the statistics of a response of the given node. The number of active threads, the size of the search thread pool and the
+     * number of queued concurrent segment search slices are {@code -1} if the node did not report them.
+     */
+    public void addNodeStatistics(
+        String nodeId,
+        int queueSize,
+        int activeThreads,
+        int threadPoolSize,
+        int searcherQueueSize,
+        long responseTimeNanos,
+        long avgServiceTimeNanos
+    ) {
         nodeIdToStats.compute(nodeId, (id, ns) -> {
             if (ns == null) {
                 ExponentiallyWeightedMovingAverage queueEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, queueSize);
                 ExponentiallyWeightedMovingAverage responseEWMA = new ExponentiallyWeightedMovingAverage(ALPHA, responseTimeNanos);
-                return new NodeStatistics(nodeId, queueEWMA, responseEWMA, avgServiceTimeNanos);
+                ns = new NodeStatistics(nodeId, queueEWMA, responseEWMA, avgServiceTimeNanos);
             } else {
                 ns.queueSize.addValue((double) queueSize);
+                ns.responseTimeDeviation.addValue(Math.abs(responseTimeNanos - ns.responseTime.getAverage()));
                 ns.responseTime.addValue((double) responseTimeNanos);
                 ns.serviceTime = avgServiceTimeNanos;
-                return ns;
             }
+            if (activeThreads >= 0 && threadPoolSize > 0) {
+                if (ns.activeThreads == null) {
+                    ns.activeThreads = new ExponentiallyWeightedMovingAverage(ALPHA, activeThreads);
+                } else {
+                    ns.activeThreads.addValue(activeThreads);
+                }
+                ns.threadPoolSize = threadPoolSize;
+            }
+            if (searcherQueueSize >= 0) {
+                if (ns.searcherQueueSize == null) {
+                    ns.searcherQueueSize = new ExponentiallyWeightedMovingAverage(ALPHA, searcherQueueSize);
+                } else {
+                    ns.searcherQueueSize.addValue(searcherQueueSize);
+                }
+            }
+            return ns;
         });
     }
 
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
+        final RankingModel rankingModel = this.rankingModel;
         // Transform the mutable object internally used for accounting into the computed version
         Map<String, ComputedNodeStats> nodeStats = new HashMap<>(nodeIdToStats.size());
-        nodeIdToStats.forEach((k, v) -> { nodeStats.put(k, new ComputedNodeStats(clientNum, v)); });
+        nodeIdToStats.forEach((k, v) -> { nodeStats.put(k, new ComputedNodeStats(clientNum, v, rankingModel)); });
         return nodeStats;
     }
 
@@ -117,7 +172,47 @@ public final class ResponseCollectorService implements ClusterStateListener {
      */
     public Optional<ComputedNodeStats> getNodeStatistics(final String nodeId) {
         final int clientNum = nodeIdToStats.size();
-        return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> new ComputedNodeStats(clientNum, ns));
+        final RankingModel rankingModel = this.rankingModel;
+        return Optional.ofNullable(nodeIdToStats.get(nodeId)).map(ns -> new ComputedNodeStats(clientNum, ns, rankingModel));
+    }
+
+    /**
+     * Returns the model to rank the given nodes with, so that all copies of a shard are ranked by the same model: the configured one
+     * if every node reported what it needs, {@link RankingModel#C3} otherwise.
+     */
+    public static RankingModel rankingModel(Collection<ComputedNodeStats> nodeStats) {
+        for (ComputedNodeStats stats : nodeStats) {
+            if (stats.rankingModel == RankingModel.C3 || stats.canPredictResponseTime() == false) {
+                return RankingModel.C3;
+            }
+        }
+        return RankingModel.QUEUEING;
+    }
+
+    /**
+     * The models that rank the copies of a shard.
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.5.0")
+    public enum RankingModel {
+        /**
+         * The rank of the adaptive replica selection formula from the C3 paper.
+         */
+        C3,
+        /**
+         * The completion time of a request that is predicted by modelling the search thread pool of the node as a multi-server queue.
+         */
+        QUEUEING;
+
+        public static RankingModel fromString(String name) {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
     }
 
     /**
@@ -136,27 +231,60 @@ public final class ResponseCollectorService implements ClusterStateListener {
         private final int clientNum;
 
         private double cachedRank = 0;
+        private RankingModel cachedRankModel;
 
         public final String nodeId;
         public final int queueSize;
         public final double responseTime;
         public final double serviceTime;
 
+        // the following statistics are only known on the coordinating node and not serialized, -1 if the node did not report them
+        private final RankingModel rankingModel;
+        private final double activeThreads;
+        private final int threadPoolSize;
+        private final double searcherQueueSize;
+        private final double responseTimeDeviation;
+
         public ComputedNodeStats(String nodeId, int clientNum, int queueSize, double responseTime, double serviceTime) {
+            this(nodeId, clientNum, queueSize, responseTime, serviceTime, RankingModel.C3, -1, -1, -1, 0);
+        }
+
+        ComputedNodeStats(
+            String nodeId,
+            int clientNum,
+            int queueSize,
+            double responseTime,
+            double serviceTime,
+            RankingModel rankingModel,
+            double activeThreads,
+            int threadPoolSize,
+            double searcherQueueSize,
+            double responseTimeDeviation
+        ) {
             this.nodeId = nodeId;
             this.clientNum = clientNum;
             this.queueSize = queueSize;
             this.responseTime = responseTime;
             this.serviceTime = serviceTime;
+            this.rankingModel = rankingModel;
+            this.activeThreads = activeThreads;
+            this.threadPoolSize = threadPoolSize;
+            this.searcherQueueSize = searcherQueueSize;
+            this.responseTimeDeviation = responseTimeDeviation;
         }
 
-        ComputedNodeStats(int clientNum, NodeStatistics nodeStats) {
+        ComputedNodeStats(int clientNum, NodeStatistics nodeStats, RankingModel rankingModel) {
             this(
                 nodeStats.nodeId,
                 clientNum,
                 (int) nodeStats.queueSize.getAverage(),
                 nodeStats.responseTime.getAverage(),
-                nodeStats.serviceTime
+                nodeStats.serviceTime,
+                rankingModel,
+                nodeStats.activeThreads == null ? -1 : nodeStats.activeThreads.getAverage(),
+                nodeStats.activeThreads == null ? -1 : nodeStats.threadPoolSize,
+                nodeStats.searcherQueueSize == null ? -1 : nodeStats.searcherQueueSize.getAverage(),
+                nodeStats.responseTimeDeviation.getAverage()
             );
         }
 
@@ -166,6 +294,11 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.queueSize = in.readInt();
             this.responseTime = in.readDouble();
             this.serviceTime = in.readDouble();
+            this.rankingModel = RankingModel.C3;
+            this.activeThreads = -1;
+            this.threadPoolSize = -1;
+            this.searcherQueueSize = -1;
+            this.responseTimeDeviation = 0;
         }
 
         @Override
@@ -205,9 +338,51 @@ public final class ResponseCollectorService implements ClusterStateListener {
             return rank;
         }
 
+        /**
+         * Predicts the time in milliseconds it takes the node to respond to a request sent now. The search thread pool of the node is
+         * modelled as a queue with as many servers as the pool has threads, each taking the average service time for a request. The
+         * request has to wait until the requests ahead of it were picked up: the queued ones, the ones this and the other coordinating
+         * nodes are likely to have in flight, and the queued slices of concurrent segment searches that compete for the same cores.
+         * The time the node took to respond on top of serving the requests accounts for the network and any waiting in the past, and
+         * the deviation of the response times penalizes nodes that respond erratically, e.g. because of garbage collections.
+         * Returns a negative value if the node did not report the size of its search thread pool.
+         */
+        public double predictedResponseTime(long outstandingRequests) {
+            if (canPredictResponseTime() == false) {
+                return -1;
+            }
+            final double serviceTimeMillis = serviceTime / FACTOR;
+            final double responseTimeMillis = responseTime / FACTOR;
+            final double ahead = queueSize + Math.max(0, searcherQueueSize) + activeThreads + (double) outstandingRequests * clientNum;
+            final double waitingTimeMillis = Math.max(0, ahead - threadPoolSize + 1) * serviceTimeMillis / threadPoolSize;
+            final double overheadMillis = Math.max(0, responseTimeMillis - serviceTimeMillis);
+            return overheadMillis + waitingTimeMillis + serviceTimeMillis + responseTimeDeviation / FACTOR;
+        }
+
+        /**
+         * Returns whether the node reported the size of its search thread pool, which {@link RankingModel#QUEUEING} needs.
+         */
+        public boolean canPredictResponseTime() {
+            return threadPoolSize > 0;
+        }
+
+        /**
+         * Rank this copy of the data with the configured model, or with {@link RankingModel#C3} if the node did not report what the
+         * configured model needs. Copies that are compared to each other must be ranked with {@link #rank(long, RankingModel)} and
+         * the model {@link ResponseCollectorService#rankingModel(Collection)} picks for all of them instead.
+         */
         public double rank(long outstandingRequests) {
-            if (cachedRank == 0) {
-                cachedRank = innerRank(outstandingRequests);
+            return rank(outstandingRequests, rankingModel(List.of(this)));
+        }
+
+        /**
+         * Rank this copy of the data with the given model, lower is better.
+         */
+        public double rank(long outstandingRequests, RankingModel model) {
+            assert model == RankingModel.C3 || canPredictResponseTime() : "node [" + nodeId + "] cannot be ranked with " + model;
+            if (cachedRank == 0 || cachedRankModel != model) {
+                cachedRank = model == RankingModel.QUEUEING ? predictedResponseTime(outstandingRequests) : innerRank(outstandingRequests);
+                cachedRankModel = model;
             }
             return cachedRank;
         }
@@ -235,7 +410,12 @@ public final class ResponseCollectorService implements ClusterStateListener {
         final String nodeId;
         final ExponentiallyWeightedMovingAverage queueSize;
         final ExponentiallyWeightedMovingAverage responseTime;
+        final ExponentiallyWeightedMovingAverage responseTimeDeviation;
         double serviceTime;
+        // null until the node reports them
+        ExponentiallyWeightedMovingAverage activeThreads;
+        int threadPoolSize = -1;
+        ExponentiallyWeightedMovingAverage searcherQueueSize;
 
         NodeStatistics(
             String nodeId,
@@ -246,6 +426,7 @@ public final class ResponseCollectorService implements ClusterStateListener {
             this.nodeId = nodeId;
             this.queueSize = queueSizeEWMA;
             this.responseTime = responseTimeEWMA;
+            this.responseTimeDeviation = new ExponentiallyWeightedMovingAverage(ALPHA, 0);
             this.serviceTime = serviceTimeEWMA;
         }
     }
@@ -73,6 +73,7 @@ import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.search.NestedHelper;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.SegmentAggregationCache;
 import org.opensearch.search.aggregations.BucketCollectorProcessor;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.SearchContextAggregations;
@@ -213,6 +214,7 @@ final class DefaultSearchContext extends SearchContext {
     private List<RescoreContext> rescore;
     private Profilers profilers;
     private BucketCollectorProcessor bucketCollectorProcessor = NO_OP_BUCKET_COLLECTOR_PROCESSOR;
+    private SegmentAggregationCache segmentAggregationCache;
     private final Map<String, SearchExtBuilder> searchExtBuilders = new HashMap<>();
     private final Map<Class<?>, CollectorManager<? extends Collector, ReduceableSearchResult>> queryCollectorManagers = new HashMap<>();
     private final QueryShardContext queryShardContext;
@@ -1113,6 +1115,16 @@ final class DefaultSearchContext extends SearchContext {
         return bucketCollectorProcessor;
     }
 
+    @Override
+    public void setSegmentAggregationCache(SegmentAggregationCache segmentAggregationCache) {
+        this.segmentAggregationCache = segmentAggregationCache;
+    }
+
+    @Override
+    public SegmentAggregationCache segmentAggregationCache() {
+        return segmentAggregationCache;
+    }
+
     /**
      * Determines the appropriate concurrent segment search mode for the current search request.
      * <p>
@@ -1196,6 +1208,16 @@ final class DefaultSearchContext extends SearchContext {
 
     }
 
+    @Override
+    public String getSlicePlanner() {
+        return clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_SETTING);
+    }
+
+    @Override
+    public int getSlicePartitionMinDocs() {
+        return clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_PARTITION_MIN_DOCS_SETTING);
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return indexShard.isTimeSeriesDescSortOptimizationEnabled()
@@ -341,6 +341,37 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.Dynamic,
         Property.NodeScope
     );
+    // Planner that groups the leaves of a shard into slices for concurrent segment search
+    public static final String CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_MAX_TARGET = "max_target";
+    public static final String CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_COST_BASED = "cost_based";
+
+    public static final Setting<String> CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_SETTING = Setting.simpleString(
+        "search.concurrent.slice_planner",
+        CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_MAX_TARGET,
+        value -> {
+            switch (value) {
+                case CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_MAX_TARGET:
+                case CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_COST_BASED:
+                    // valid setting
+                    break;
+                default:
+                    throw new IllegalArgumentException("Setting value must be one of [max_target, cost_based]");
+            }
+        },
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // minimum number of docs per doc id range when the cost based planner splits a segment over several slices, 0 disables splitting.
+    // Segments are only split for requests without aggregations.
+    public static final Setting<Integer> CONCURRENT_SEGMENT_SEARCH_PARTITION_MIN_DOCS_SETTING = Setting.intSetting(
+        "search.concurrent.slice_planner.partition_min_docs",
+        0,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     // value 0 means rewrite filters optimization in aggregations will be disabled
     @ExperimentalApi
     public static final Setting<Integer> MAX_AGGREGATION_REWRITE_FILTERS = Setting.intSetting(
@@ -73,6 +73,7 @@ public abstract class AggregatorBase extends Aggregator {
     private Map<String, Aggregator> subAggregatorbyName;
     private final CircuitBreakerService breakerService;
     private long requestBytesUsed;
+    private boolean closed;
     protected LeafCollectionMode leafCollectorMode = LeafCollectionMode.NORMAL;
 
     /**
@@ -325,9 +326,13 @@ public abstract class AggregatorBase extends Aggregator {
 
     public void doReset() {}
 
-    /** Called upon release of the aggregator. */
+    /** Called upon release of the aggregator, aggregators that are released before the search context are released only once. */
     @Override
     public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
         try {
             doClose();
         } finally {
@@ -268,6 +268,20 @@ public class AggregatorFactories {
         return true;
     }
 
+    /**
+     * Returns true if the results that all the aggregators of this tree build for a single segment can be cached per segment, see
+     * {@link AggregatorFactory#supportsSegmentLevelCaching()}.
+     */
+    public boolean allFactoriesSupportSegmentLevelCaching() {
+        for (AggregatorFactory factory : factories) {
+            if (factory.supportsSegmentLevelCaching() == false
+                || factory.getSubFactories().allFactoriesSupportSegmentLevelCaching() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Create all aggregators so that they can be consumed with multiple
      * buckets.
@@ -124,6 +124,16 @@ public abstract class AggregatorFactory {
         return false;
     }
 
+    /**
+     * Implementation should override this method and return false if the result that the Aggregator created by the factory builds for a
+     * single segment depends on the rest of the shard, such as shard level statistics or doc ids, and can therefore not be cached per
+     * segment. Defaults to {@link #supportsConcurrentSegmentSearch()} as the results of single segments are reduced the same way the
+     * results of slices are.
+     */
+    protected boolean supportsSegmentLevelCaching() {
+        return supportsConcurrentSegmentSearch();
+    }
+
     public boolean evaluateChildFactories() {
         return factories.allFactoriesSupportConcurrentSearch();
     }
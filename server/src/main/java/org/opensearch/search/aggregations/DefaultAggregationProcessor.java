@@ -33,9 +33,17 @@ public class DefaultAggregationProcessor implements AggregationProcessor {
             if (context.aggregations() != null) {
                 // update the bucket collector process as there is aggregation in the request
                 context.setBucketCollectorProcessor(bucketCollectorProcessor);
+                if (context.segmentAggregationCache() != null && SegmentCachingAggCollectorManager.canCache(context) == false) {
+                    context.setSegmentAggregationCache(null);
+                }
                 if (context.aggregations().factories().hasNonGlobalAggregator()) {
                     context.queryCollectorManagers()
-                        .put(NonGlobalAggCollectorManager.class, new NonGlobalAggCollectorManagerWithSingleCollector(context));
+                        .put(
+                            NonGlobalAggCollectorManager.class,
+                            context.segmentAggregationCache() != null
+                                ? new SegmentCachingAggCollectorManager(context, context.segmentAggregationCache())
+                                : new NonGlobalAggCollectorManagerWithSingleCollector(context)
+                        );
                 }
                 // initialize global aggregators as well, such that any failure to initialize can be caught before executing the request
                 if (context.aggregations().factories().hasGlobalAggregator()) {
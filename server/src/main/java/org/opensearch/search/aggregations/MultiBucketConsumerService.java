@@ -138,6 +138,8 @@ public class MultiBucketConsumerService {
         private final LongAdder callCount;
         private volatile boolean circuitBreakerTripped;
         private final int availProcessors;
+        // false while partial results of single segments are built, see SegmentCachingAggCollectorManager
+        private boolean countBuckets = true;
 
         public MultiBucketConsumer(int limit, CircuitBreaker breaker) {
             this.limit = limit;
@@ -163,7 +165,7 @@ public class MultiBucketConsumerService {
 
         @Override
         public void accept(int value) {
-            if (value != 0) {
+            if (value != 0 && countBuckets) {
                 count += value;
                 if (count > limit) {
                     throw new TooManyBucketsException(
@@ -206,6 +208,13 @@ public class MultiBucketConsumerService {
             this.count = 0;
         }
 
+        /**
+         * Sets whether the consumed buckets count towards the limit, the circuit breaker is checked either way.
+         */
+        void countBuckets(boolean countBuckets) {
+            this.countBuckets = countBuckets;
+        }
+
         public int getCount() {
             return count;
         }
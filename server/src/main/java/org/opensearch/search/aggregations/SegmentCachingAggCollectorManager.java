@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.indices.SegmentAggregationCache;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.profile.query.CollectorResult;
+import org.opensearch.search.query.ReduceableSearchResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * {@link org.apache.lucene.search.CollectorManager} for non-global aggregation operators in the sequential search path that caches
+ * the aggregation results of every segment in the {@link SegmentAggregationCache}.
+ * <p>
+ * Every segment whose results are not cached yet is collected by its own aggregator tree, so that its results can be cached on their
+ * own. Segments whose results are cached are not collected at all. The tree of a segment builds its results and is released as soon
+ * as the segment is collected. The results of all the segments are then reduced at shard level, the same way the results of the
+ * slices of a concurrent segment search are.
+ * <p>
+ * The results of a segment are exact: they hold all the buckets of the segment rather than the top {@code shard_size} ones, see
+ * {@link SearchContext#asLocalBucketCountThresholds}, and their buckets do not count towards {@code search.max_buckets}. The shard
+ * level reduce applies the shard size, and the buckets of its result count towards {@code search.max_buckets}, so that the shard
+ * returns the same results and fails in the same cases as if it collected all the segments with a single tree.
+ *
+ * @opensearch.internal
+ */
+public class SegmentCachingAggCollectorManager extends AggregationCollectorManager {
+
+    private final SegmentAggregationCache cache;
+    private final BytesReference requestKey;
+    private final SegmentCachingCollector collector;
+
+    SegmentCachingAggCollectorManager(SearchContext context, SegmentAggregationCache cache) throws IOException {
+        super(context, context.aggregations().factories()::createTopLevelNonGlobalAggregators, CollectorResult.REASON_AGGREGATION);
+        this.cache = cache;
+        this.requestKey = context.request().cacheKey();
+        this.collector = new SegmentCachingCollector(Objects.requireNonNull(super.newCollector(), "collector instance is null"));
+    }
+
+    /**
+     * Returns true if the aggregation results of the request can be cached per segment. Results that depend on scores, on the order in
+     * which docs are collected or on state that spans several segments can not. Requests with global aggregations are not cached
+     * either as the global aggregators, which collect all the segments at once, would not apply the shard level thresholds.
+     */
+    static boolean canCache(SearchContext context) {
+        return context.shouldUseConcurrentSearch() == false
+            && context.aggregations().factories().hasNonGlobalAggregator()
+            && context.aggregations().factories().hasGlobalAggregator() == false
+            && context.getProfilers() == null
+            && context.minimumScore() == null
+            && context.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && context.aggregations().factories().allFactoriesSupportConcurrentSearch()
+            && context.aggregations().factories().allFactoriesSupportSegmentLevelCaching();
+    }
+
+    @Override
+    public Collector newCollector() {
+        // the sequential search path uses a single collector
+        return collector;
+    }
+
+    @Override
+    public String getCollectorName() {
+        return collector.prototype.toString();
+    }
+
+    @Override
+    public ReduceableSearchResult reduce(Collection<Collector> collectors) throws IOException {
+        // a timed out search may not have collected all the docs of the last segment
+        collector.finishSegment(context.isSearchTimedOut() == false);
+        final List<InternalAggregations> results = collector.results;
+        if (collector.prototypeUsed || results.isEmpty()) {
+            results.add(build(collector.prototype));
+        }
+        // the aggregators of single segments do not apply shard level thresholds such as the shard size, reduce at slice level even if
+        // there is a single result so that they get applied
+        final InternalAggregation.ReduceContext reduceContext = context.partialOnShard();
+        reduceContext.setSliceLevel(true);
+        final InternalAggregations reduced = InternalAggregations.reduce(results, reduceContext);
+        // count the buckets of the shard result as building them with a single tree does
+        int buckets = 0;
+        for (Aggregation aggregation : reduced) {
+            buckets += InternalMultiBucketAggregation.countInnerBucket(aggregation);
+        }
+        context.aggregations().multiBucketConsumer().accept(buckets);
+        context.aggregations().resetBucketMultiConsumer();
+        return new AggregationReduceableSearchResult(reduced);
+    }
+
+    /**
+     * Builds the partial results of the given tree, its buckets do not count towards {@code search.max_buckets} but the circuit
+     * breaker is still checked.
+     */
+    private InternalAggregations build(Collector tree) throws IOException {
+        final MultiBucketConsumer multiBucketConsumer = context.aggregations().multiBucketConsumer();
+        multiBucketConsumer.countBuckets(false);
+        try {
+            context.bucketCollectorProcessor().processPostCollection(tree);
+            final List<InternalAggregation> internals = context.bucketCollectorProcessor().toInternalAggregations(List.of(tree));
+            assert internals.stream().noneMatch(Objects::isNull);
+            return InternalAggregations.from(internals);
+        } finally {
+            multiBucketConsumer.countBuckets(true);
+            context.aggregations().resetBucketMultiConsumer();
+        }
+    }
+
+    private static void release(Aggregator aggregator) {
+        if (aggregator instanceof AggregatorBase aggregatorBase) {
+            for (Aggregator subAggregator : aggregatorBase.subAggregators()) {
+                release(subAggregator);
+            }
+        }
+        aggregator.close();
+    }
+
+    /**
+     * The aggregator tree that collects a single segment.
+     */
+    private static final class SegmentTree {
+        final IndexReader.CacheHelper segmentHelper;
+        final Collector tree;
+        final List<Aggregator> aggregators;
+
+        SegmentTree(IndexReader.CacheHelper segmentHelper, Collector tree, List<Aggregator> aggregators) {
+            this.segmentHelper = segmentHelper;
+            this.tree = tree;
+            this.aggregators = aggregators;
+        }
+    }
+
+    /**
+     * Collects every segment with its own aggregator tree unless its results are cached. Segments without a reader cache key are
+     * collected by the prototype tree and never cached.
+     */
+    private final class SegmentCachingCollector implements Collector {
+        final Collector prototype;
+        final boolean cachingEnabled;
+        // the results of the segments, read from the cache or built by the trees of the segments that are collected already
+        final List<InternalAggregations> results = new ArrayList<>();
+        // the tree of the segment that is being collected
+        SegmentTree segmentTree;
+        boolean prototypeUsed;
+        Weight weight;
+
+        SegmentCachingCollector(Collector prototype) {
+            this.prototype = prototype;
+            // scores depend on the statistics of the whole shard
+            this.cachingEnabled = prototype.scoreMode().needsScores() == false;
+        }
+
+        @Override
+        public void setWeight(Weight weight) {
+            this.weight = weight;
+            prototype.setWeight(weight);
+        }
+
+        @Override
+        public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+            // segments are collected one after the other, the previous one is complete
+            finishSegment(true);
+            final IndexReader.CacheHelper segmentHelper = context.reader().getReaderCacheHelper();
+            if (cachingEnabled == false || segmentHelper == null) {
+                prototypeUsed = true;
+                return prototype.getLeafCollector(context);
+            }
+            final SearchContext searchContext = SegmentCachingAggCollectorManager.this.context;
+            final InternalAggregations cached = cache.get(searchContext.indexShard(), segmentHelper.getKey(), requestKey);
+            if (cached != null) {
+                results.add(cached);
+                throw new CollectionTerminatedException();
+            }
+            final List<Aggregator> aggregators = new ArrayList<>();
+            final Collector tree = createCollector(searchContext, c -> {
+                final List<Aggregator> created = c.aggregations().factories().createTopLevelNonGlobalAggregators(c);
+                aggregators.addAll(created);
+                return created;
+            });
+            if (weight != null) {
+                tree.setWeight(weight);
+            }
+            segmentTree = new SegmentTree(segmentHelper, tree, aggregators);
+            return tree.getLeafCollector(context);
+        }
+
+        /**
+         * Builds the results of the segment that was collected last, caches them if the segment was collected completely and releases
+         * its tree.
+         */
+        void finishSegment(boolean complete) throws IOException {
+            if (segmentTree == null) {
+                return;
+            }
+            final SegmentTree finished = segmentTree;
+            segmentTree = null;
+            try {
+                final InternalAggregations aggregations = build(finished.tree);
+                if (complete) {
+                    final SearchContext searchContext = SegmentCachingAggCollectorManager.this.context;
+                    cache.put(searchContext.indexShard(), finished.segmentHelper, requestKey, aggregations);
+                }
+                results.add(aggregations);
+            } finally {
+                for (Aggregator aggregator : finished.aggregators) {
+                    release(aggregator);
+                }
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return prototype.scoreMode();
+        }
+
+        @Override
+        public String toString() {
+            return prototype.toString();
+        }
+    }
+}
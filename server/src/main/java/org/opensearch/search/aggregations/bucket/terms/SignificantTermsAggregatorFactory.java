@@ -311,6 +311,12 @@ public class SignificantTermsAggregatorFactory extends ValuesSourceAggregatorFac
         return true;
     }
 
+    @Override
+    protected boolean supportsSegmentLevelCaching() {
+        // the background frequencies are computed on the whole shard
+        return false;
+    }
+
     /**
      * The execution mode for the significant terms agg
      *
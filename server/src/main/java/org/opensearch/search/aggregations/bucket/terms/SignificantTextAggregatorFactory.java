@@ -317,4 +317,10 @@ public class SignificantTextAggregatorFactory extends AggregatorFactory {
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    @Override
+    protected boolean supportsSegmentLevelCaching() {
+        // the background frequencies are computed on the whole shard
+        return false;
+    }
 }
@@ -159,4 +159,10 @@ class TopHitsAggregatorFactory extends AggregatorFactory {
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
     }
+
+    @Override
+    protected boolean supportsSegmentLevelCaching() {
+        // the hits refer to shard level doc ids
+        return false;
+    }
 }
@@ -47,6 +47,7 @@ import org.apache.lucene.search.ConjunctionUtils;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FilterWeight;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Query;
@@ -84,6 +85,7 @@ import org.opensearch.search.profile.Timer;
 import org.opensearch.search.profile.query.ProfileWeight;
 import org.opensearch.search.profile.query.QueryProfiler;
 import org.opensearch.search.profile.query.QueryTimingType;
+import org.opensearch.search.profile.query.SlicePlanResult;
 import org.opensearch.search.query.QueryPhase;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.sort.FieldSortBuilder;
@@ -98,6 +100,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -119,6 +122,8 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
     private SearchContext searchContext;
+    private final Executor executor;
+    private volatile SlicePlanResult slicePlan;
 
     public ContextIndexSearcher(
         IndexReader reader,
@@ -157,6 +162,7 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         setQueryCachingPolicy(queryCachingPolicy);
         this.cancellable = cancellable;
         this.searchContext = searchContext;
+        this.executor = executor;
     }
 
     public void setProfiler(QueryProfiler profiler) {
@@ -167,6 +173,13 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         return profiler;
     }
 
+    /**
+     * Returns the leaf slices that were planned for concurrent segment search, {@code null} if they were not computed.
+     */
+    public SlicePlanResult getSlicePlan() {
+        return slicePlan;
+    }
+
     /**
      * Add a {@link Runnable} that will be run on a regular basis while accessing documents in the
      * DirectoryReader but also while collecting them and check for query cancellation or timeout.
@@ -347,7 +360,12 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             }
             weight = wrapWeight(weight);
             // See please https://github.com/apache/lucene/pull/964
-            collector.setWeight(weight);
+            if (minDocId > 0 || maxDocId < ctx.reader().maxDoc()) {
+                // the partition only covers a doc id range of the segment, collectors must not take the count of the whole segment
+                collector.setWeight(withoutCount(weight));
+            } else {
+                collector.setWeight(weight);
+            }
             leafCollector = collector.getLeafCollector(ctx);
         } catch (CollectionTerminatedException e) {
             // there is no doc of interest in this reader context
@@ -498,6 +516,15 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
+    private static Weight withoutCount(Weight weight) {
+        return new FilterWeight(weight) {
+            @Override
+            public int count(LeafReaderContext context) {
+                return -1;
+            }
+        };
+    }
+
     private static BitSet getSparseBitSetOrNull(Bits liveDocs) {
         if (liveDocs instanceof SparseFixedBitSet) {
             return (BitSet) liveDocs;
@@ -649,15 +676,54 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     // package-private for testing
     LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice) {
         LeafSlice[] leafSlices;
+        String planner;
+        int targetSliceCount = targetMaxSlice;
         if (targetMaxSlice == 0) {
             // use the default lucene slice calculation
             leafSlices = super.slices(leaves);
+            planner = "lucene";
             logger.debug("Slice count using lucene default [{}]", leafSlices.length);
+        } else if (SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_COST_BASED.equals(searchContext.getSlicePlanner())) {
+            // balance the slices by the cost of the leaves, splitting large segments if enabled
+            if (executor instanceof ThreadPoolExecutor threadPoolExecutor) {
+                targetSliceCount = CostBasedSliceSupplier.adjustForQueueDepth(
+                    targetMaxSlice,
+                    threadPoolExecutor.getMaximumPoolSize(),
+                    threadPoolExecutor.getQueue().size()
+                );
+            }
+            // doc count shortcuts of aggregations assume that a collector sees whole segments
+            final int minPartitionDocs = searchContext.aggregations() == null ? searchContext.getSlicePartitionMinDocs() : 0;
+            leafSlices = CostBasedSliceSupplier.getSlices(leaves, targetSliceCount, minPartitionDocs);
+            planner = SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_COST_BASED;
+            logger.debug("Slice count using cost based slice supplier [{}]", leafSlices.length);
         } else {
             // use the custom slice calculation based on targetMaxSlice
             leafSlices = MaxTargetSliceSupplier.getSlices(leaves, targetMaxSlice);
+            planner = SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_MAX_TARGET;
             logger.debug("Slice count using max target slice supplier [{}]", leafSlices.length);
         }
+        if (searchContext.getProfilers() != null) {
+            slicePlan = buildSlicePlan(planner, targetMaxSlice, targetSliceCount, leafSlices);
+        }
         return leafSlices;
     }
+
+    private static SlicePlanResult buildSlicePlan(String planner, int maxSliceCount, int targetSliceCount, LeafSlice[] leafSlices) {
+        final List<SlicePlanResult.Slice> slices = new ArrayList<>(leafSlices.length);
+        final Set<Integer> partitionedSegments = new HashSet<>();
+        for (LeafSlice leafSlice : leafSlices) {
+            long docs = 0;
+            for (LeafReaderContextPartition partition : leafSlice.partitions) {
+                final int maxDoc = partition.ctx.reader().maxDoc();
+                final int minDocId = Math.min(partition.minDocId, maxDoc);
+                docs += Math.min(partition.maxDocId, maxDoc) - minDocId;
+                if (partition.minDocId > 0 || partition.maxDocId < maxDoc) {
+                    partitionedSegments.add(partition.ctx.ord);
+                }
+            }
+            slices.add(new SlicePlanResult.Slice(leafSlice.partitions.length, docs));
+        }
+        return new SlicePlanResult(planner, maxSliceCount, targetSliceCount, partitionedSegments.size(), slices);
+    }
 }
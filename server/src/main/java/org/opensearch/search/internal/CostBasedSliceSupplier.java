@@ -0,0 +1,160 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Supplier to compute leaf slices that are balanced by the estimated cost of searching them rather than by the number of leaves.
+ * <p>
+ * The cost of a leaf is its number of live documents, so segments with many deletes are not over-weighted. Leaves are assigned to the
+ * slices in decreasing order of cost, each of them to the slice with the lowest total cost so far (longest processing time first).
+ * <p>
+ * With {@link MaxTargetSliceSupplier} a single large merged segment ends up as one slice that becomes the tail of the request. When
+ * a minimum partition size is given, segments whose cost exceeds the ideal cost of a slice are therefore split by doc id range into
+ * partitions (intra-segment concurrency) that are spread over distinct slices, the same slice never gets two partitions of the same
+ * segment.
+ *
+ * @opensearch.internal
+ */
+final class CostBasedSliceSupplier {
+
+    private CostBasedSliceSupplier() {}
+
+    /**
+     * Reduces the target slice count when the executor running the slices already has a backlog: slices that can not start right away
+     * only add per-slice collection and reduce overhead. Every full round of queued tasks divides the slice count once more.
+     *
+     * @param targetSliceCount the configured target slice count
+     * @param poolSize         the number of threads of the executor
+     * @param queuedTasks      the number of tasks waiting in the queue of the executor
+     */
+    static int adjustForQueueDepth(int targetSliceCount, int poolSize, int queuedTasks) {
+        if (poolSize <= 0 || queuedTasks < poolSize) {
+            return targetSliceCount;
+        }
+        return Math.max(1, targetSliceCount / (1 + queuedTasks / poolSize));
+    }
+
+    static IndexSearcher.LeafSlice[] getSlices(List<LeafReaderContext> leaves, int targetMaxSlice, int minPartitionDocs) {
+        if (targetMaxSlice <= 0) {
+            throw new IllegalArgumentException("CostBasedSliceSupplier called with unexpected slice count of " + targetMaxSlice);
+        }
+        if (leaves.isEmpty()) {
+            return new IndexSearcher.LeafSlice[0];
+        }
+
+        long totalCost = 0;
+        for (LeafReaderContext leaf : leaves) {
+            totalCost += cost(leaf);
+        }
+
+        // without partitioning the slice count can not exceed the segment count
+        int sliceCount = Math.min(targetMaxSlice, leaves.size());
+        if (minPartitionDocs > 0) {
+            sliceCount = (int) Math.min(targetMaxSlice, Math.max(leaves.size(), totalCost / minPartitionDocs));
+        }
+        final long idealSliceCost = (totalCost + sliceCount - 1) / sliceCount;
+
+        final List<Partition> partitions = new ArrayList<>();
+        for (LeafReaderContext leaf : leaves) {
+            final long cost = cost(leaf);
+            final int maxDoc = leaf.reader().maxDoc();
+            int partitionCount = 1;
+            if (minPartitionDocs > 0 && cost > idealSliceCost) {
+                partitionCount = (int) Math.min(
+                    Math.min(sliceCount, (cost + idealSliceCost - 1) / idealSliceCost),
+                    Math.max(1, maxDoc / minPartitionDocs)
+                );
+            }
+            if (partitionCount <= 1) {
+                partitions.add(new Partition(IndexSearcher.LeafReaderContextPartition.createForEntireSegment(leaf), cost));
+            } else {
+                // deletes are assumed to be spread evenly across the doc id space of the segment
+                for (int i = 0; i < partitionCount; i++) {
+                    final int minDocId = (int) ((long) maxDoc * i / partitionCount);
+                    final int maxDocId = (int) ((long) maxDoc * (i + 1) / partitionCount);
+                    partitions.add(
+                        new Partition(
+                            IndexSearcher.LeafReaderContextPartition.createFromAndTo(leaf, minDocId, maxDocId),
+                            cost / partitionCount
+                        )
+                    );
+                }
+            }
+        }
+        partitions.sort(Comparator.comparingLong((Partition p) -> p.cost).reversed());
+
+        final PriorityQueue<Group> groupQueue = new PriorityQueue<>();
+        for (int i = 0; i < sliceCount; i++) {
+            groupQueue.offer(new Group());
+        }
+        final List<Group> skipped = new ArrayList<>();
+        for (Partition partition : partitions) {
+            Group group = groupQueue.poll();
+            // partitions of the same segment must end up in distinct slices
+            while (group.leafOrds.contains(partition.partition.ctx.ord)) {
+                skipped.add(group);
+                group = groupQueue.poll();
+            }
+            group.add(partition);
+            groupQueue.offer(group);
+            groupQueue.addAll(skipped);
+            skipped.clear();
+        }
+
+        final List<IndexSearcher.LeafSlice> slices = new ArrayList<>(sliceCount);
+        for (Group group : groupQueue) {
+            if (group.partitions.isEmpty() == false) {
+                slices.add(new IndexSearcher.LeafSlice(group.partitions));
+            }
+        }
+        return slices.toArray(new IndexSearcher.LeafSlice[0]);
+    }
+
+    private static long cost(LeafReaderContext leaf) {
+        // empty segments are still visited, count them as a single document
+        return Math.max(1, leaf.reader().numDocs());
+    }
+
+    private static final class Partition {
+        final IndexSearcher.LeafReaderContextPartition partition;
+        final long cost;
+
+        Partition(IndexSearcher.LeafReaderContextPartition partition, long cost) {
+            this.partition = partition;
+            this.cost = cost;
+        }
+    }
+
+    private static final class Group implements Comparable<Group> {
+        final List<IndexSearcher.LeafReaderContextPartition> partitions = new ArrayList<>();
+        final Set<Integer> leafOrds = new HashSet<>();
+        long cost;
+
+        void add(Partition partition) {
+            partitions.add(partition.partition);
+            leafOrds.add(partition.partition.ctx.ord);
+            cost += partition.cost;
+        }
+
+        @Override
+        public int compareTo(Group other) {
+            return Long.compare(this.cost, other.cost);
+        }
+    }
+}
@@ -48,6 +48,7 @@ import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.SegmentAggregationCache;
 import org.opensearch.search.SearchExtBuilder;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.BucketCollectorProcessor;
@@ -568,6 +569,16 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.bucketCollectorProcessor();
     }
 
+    @Override
+    public void setSegmentAggregationCache(SegmentAggregationCache segmentAggregationCache) {
+        in.setSegmentAggregationCache(segmentAggregationCache);
+    }
+
+    @Override
+    public SegmentAggregationCache segmentAggregationCache() {
+        return in.segmentAggregationCache();
+    }
+
     @Override
     public boolean shouldUseConcurrentSearch() {
         return in.shouldUseConcurrentSearch();
@@ -53,6 +53,7 @@ import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.SegmentAggregationCache;
 import org.opensearch.search.RescoreDocIds;
 import org.opensearch.search.SearchExtBuilder;
 import org.opensearch.search.SearchPhaseResult;
@@ -439,9 +440,14 @@ public abstract class SearchContext implements Releasable {
     }
 
     /**
-     * Returns local bucket count thresholds based on concurrent segment search status
+     * Returns local bucket count thresholds based on concurrent segment search status, the shard level minimum doc count is applied
+     * by the shard level reduce when slices or segments are collected separately. Segments that are collected separately return all
+     * their buckets, so that the shard level reduce applies the shard size as a single collection over the shard would.
      */
     public LocalBucketCountThresholds asLocalBucketCountThresholds(TermsAggregator.BucketCountThresholds bucketCountThresholds) {
+        if (segmentAggregationCache() != null) {
+            return new LocalBucketCountThresholds(0, Integer.MAX_VALUE);
+        }
         return new LocalBucketCountThresholds(
             shouldUseConcurrentSearch() ? 0 : bucketCountThresholds.getShardMinDocCount(),
             bucketCountThresholds.getShardSize()
@@ -520,8 +526,39 @@ public abstract class SearchContext implements Releasable {
 
     public abstract BucketCollectorProcessor bucketCollectorProcessor();
 
+    /**
+     * Sets the cache of the aggregation results of single segments that the aggregations of the request are collected with, contexts
+     * that can not collect segments separately ignore it.
+     */
+    @ExperimentalApi
+    public void setSegmentAggregationCache(SegmentAggregationCache segmentAggregationCache) {}
+
+    /**
+     * Returns the cache of the aggregation results of single segments that the aggregations of the request are collected with, or
+     * {@code null} if they are collected over all the segments at once.
+     */
+    @ExperimentalApi
+    public SegmentAggregationCache segmentAggregationCache() {
+        return null;
+    }
+
     public abstract int getTargetMaxSliceCount();
 
+    /**
+     * Returns the planner that groups the leaves into slices for concurrent segment search.
+     */
+    public String getSlicePlanner() {
+        return SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_MAX_TARGET;
+    }
+
+    /**
+     * Returns the minimum number of docs of a doc id range when a segment is split over several slices, {@code 0} if segments must
+     * not be split.
+     */
+    public int getSlicePartitionMinDocs() {
+        return 0;
+    }
+
     @ExperimentalApi
     public long getStreamingMaxEstimatedBucketCount() {
         return 100_000L;
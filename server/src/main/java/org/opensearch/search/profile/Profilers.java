@@ -42,6 +42,7 @@ import org.opensearch.search.profile.query.ConcurrentQueryProfileTree;
 import org.opensearch.search.profile.query.ConcurrentQueryProfiler;
 import org.opensearch.search.profile.query.InternalQueryProfileTree;
 import org.opensearch.search.profile.query.QueryProfiler;
+import org.opensearch.search.profile.query.SlicePlanResult;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -114,4 +115,9 @@ public final class Profilers {
         return fetchProfiler;
     }
 
+    /** Return the leaf slices planned for concurrent segment search, or {@code null} if none were planned. */
+    public SlicePlanResult getSlicePlan() {
+        return searcher.getSlicePlan();
+    }
+
 }
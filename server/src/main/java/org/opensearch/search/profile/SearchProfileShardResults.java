@@ -45,6 +45,7 @@ import org.opensearch.search.profile.fetch.FetchProfileShardResult;
 import org.opensearch.search.profile.fetch.FetchProfiler;
 import org.opensearch.search.profile.query.QueryProfileShardResult;
 import org.opensearch.search.profile.query.QueryProfiler;
+import org.opensearch.search.profile.query.SlicePlanResult;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -209,12 +210,14 @@ public final class SearchProfileShardResults implements Writeable, ToXContentFra
         List<QueryProfiler> queryProfilers = profilers.getQueryProfilers();
         AggregationProfiler aggProfiler = profilers.getAggregationProfiler();
         FetchProfiler fetchProfiler = profilers.getFetchProfiler();
+        SlicePlanResult slicePlan = profilers.getSlicePlan();
         List<QueryProfileShardResult> queryResults = new ArrayList<>(queryProfilers.size());
         for (QueryProfiler queryProfiler : queryProfilers) {
             QueryProfileShardResult result = new QueryProfileShardResult(
                 queryProfiler.getTree(),
                 queryProfiler.getRewriteTime(),
-                queryProfiler.getCollector()
+                queryProfiler.getCollector(),
+                slicePlan
             );
             queryResults.add(result);
         }
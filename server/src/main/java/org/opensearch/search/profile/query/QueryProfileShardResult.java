@@ -32,6 +32,8 @@
 
 package org.opensearch.search.profile.query;
 
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -67,11 +69,24 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
     private final long rewriteTime;
 
+    @Nullable
+    private final SlicePlanResult slicePlan;
+
     public QueryProfileShardResult(List<ProfileResult> queryProfileResults, long rewriteTime, CollectorResult profileCollector) {
+        this(queryProfileResults, rewriteTime, profileCollector, null);
+    }
+
+    public QueryProfileShardResult(
+        List<ProfileResult> queryProfileResults,
+        long rewriteTime,
+        CollectorResult profileCollector,
+        @Nullable SlicePlanResult slicePlan
+    ) {
         assert (profileCollector != null);
         this.queryProfileResults = queryProfileResults;
         this.profileCollector = profileCollector;
         this.rewriteTime = rewriteTime;
+        this.slicePlan = slicePlan;
     }
 
     /**
@@ -86,6 +101,11 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
 
         profileCollector = new CollectorResult(in);
         rewriteTime = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            slicePlan = in.readOptionalWriteable(SlicePlanResult::new);
+        } else {
+            slicePlan = null;
+        }
     }
 
     @Override
@@ -96,6 +116,9 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         }
         profileCollector.writeTo(out);
         out.writeLong(rewriteTime);
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeOptionalWriteable(slicePlan);
+        }
     }
 
     public List<ProfileResult> getQueryResults() {
@@ -110,6 +133,14 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         return profileCollector;
     }
 
+    /**
+     * The leaf slices used by concurrent segment search, {@code null} if the shard was not searched concurrently.
+     */
+    @Nullable
+    public SlicePlanResult getSlicePlan() {
+        return slicePlan;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject();
@@ -122,6 +153,9 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         builder.startArray(COLLECTOR);
         profileCollector.toXContent(builder, params);
         builder.endArray();
+        if (slicePlan != null) {
+            builder.field(SlicePlanResult.SLICE_PLAN, slicePlan);
+        }
         builder.endObject();
         return builder;
     }
@@ -133,6 +167,7 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
         List<ProfileResult> queryProfileResults = new ArrayList<>();
         long rewriteTime = 0;
         CollectorResult collector = null;
+        SlicePlanResult slicePlan = null;
         while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
                 currentFieldName = parser.currentName();
@@ -154,10 +189,12 @@ public final class QueryProfileShardResult implements Writeable, ToXContentObjec
                 } else {
                     parser.skipChildren();
                 }
+            } else if (token == XContentParser.Token.START_OBJECT && SlicePlanResult.SLICE_PLAN.equals(currentFieldName)) {
+                slicePlan = SlicePlanResult.fromXContent(parser);
             } else {
                 parser.skipChildren();
             }
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector);
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, collector, slicePlan);
     }
 }
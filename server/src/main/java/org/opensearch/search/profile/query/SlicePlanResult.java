@@ -0,0 +1,259 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.profile.query;
+
+import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.core.ParseField;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+
+/**
+ * The leaf slices concurrent segment search used for a shard: which planner built them, the slice count it aimed for and the
+ * partitions and documents that ended up in every slice.
+ *
+ * @opensearch.api
+ */
+@PublicApi(since = "3.5.0")
+public final class SlicePlanResult implements Writeable, ToXContentObject {
+
+    public static final String SLICE_PLAN = "slice_plan";
+
+    private static final ParseField PLANNER = new ParseField("planner");
+    private static final ParseField MAX_SLICE_COUNT = new ParseField("max_slice_count");
+    private static final ParseField TARGET_SLICE_COUNT = new ParseField("target_slice_count");
+    private static final ParseField PARTITIONED_SEGMENT_COUNT = new ParseField("partitioned_segment_count");
+    private static final ParseField SLICES = new ParseField("slices");
+    private static final ParseField PARTITIONS = new ParseField("partitions");
+    private static final ParseField DOCS = new ParseField("docs");
+
+    private final String planner;
+    private final int maxSliceCount;
+    private final int targetSliceCount;
+    private final int partitionedSegmentCount;
+    private final List<Slice> slices;
+
+    public SlicePlanResult(String planner, int maxSliceCount, int targetSliceCount, int partitionedSegmentCount, List<Slice> slices) {
+        this.planner = Objects.requireNonNull(planner);
+        this.maxSliceCount = maxSliceCount;
+        this.targetSliceCount = targetSliceCount;
+        this.partitionedSegmentCount = partitionedSegmentCount;
+        this.slices = Objects.requireNonNull(slices);
+    }
+
+    public SlicePlanResult(StreamInput in) throws IOException {
+        this.planner = in.readString();
+        this.maxSliceCount = in.readVInt();
+        this.targetSliceCount = in.readVInt();
+        this.partitionedSegmentCount = in.readVInt();
+        this.slices = in.readList(Slice::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(planner);
+        out.writeVInt(maxSliceCount);
+        out.writeVInt(targetSliceCount);
+        out.writeVInt(partitionedSegmentCount);
+        out.writeList(slices);
+    }
+
+    /**
+     * The planner that built the slices, {@code lucene} when the default Lucene slicing was used.
+     */
+    public String getPlanner() {
+        return planner;
+    }
+
+    /**
+     * The configured maximum slice count.
+     */
+    public int getMaxSliceCount() {
+        return maxSliceCount;
+    }
+
+    /**
+     * The slice count the planner aimed for, lower than the maximum when the search executor was backlogged.
+     */
+    public int getTargetSliceCount() {
+        return targetSliceCount;
+    }
+
+    /**
+     * The number of segments that were split by doc id range over several slices.
+     */
+    public int getPartitionedSegmentCount() {
+        return partitionedSegmentCount;
+    }
+
+    public List<Slice> getSlices() {
+        return Collections.unmodifiableList(slices);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(PLANNER.getPreferredName(), planner);
+        builder.field(MAX_SLICE_COUNT.getPreferredName(), maxSliceCount);
+        builder.field(TARGET_SLICE_COUNT.getPreferredName(), targetSliceCount);
+        builder.field(PARTITIONED_SEGMENT_COUNT.getPreferredName(), partitionedSegmentCount);
+        builder.startArray(SLICES.getPreferredName());
+        for (Slice slice : slices) {
+            slice.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+
+    public static SlicePlanResult fromXContent(XContentParser parser) throws IOException {
+        XContentParser.Token token = parser.currentToken();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, token, parser);
+        String currentFieldName = null;
+        String planner = null;
+        int maxSliceCount = 0;
+        int targetSliceCount = 0;
+        int partitionedSegmentCount = 0;
+        List<Slice> slices = new ArrayList<>();
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentFieldName = parser.currentName();
+            } else if (token.isValue()) {
+                if (PLANNER.match(currentFieldName, parser.getDeprecationHandler())) {
+                    planner = parser.text();
+                } else if (MAX_SLICE_COUNT.match(currentFieldName, parser.getDeprecationHandler())) {
+                    maxSliceCount = parser.intValue();
+                } else if (TARGET_SLICE_COUNT.match(currentFieldName, parser.getDeprecationHandler())) {
+                    targetSliceCount = parser.intValue();
+                } else if (PARTITIONED_SEGMENT_COUNT.match(currentFieldName, parser.getDeprecationHandler())) {
+                    partitionedSegmentCount = parser.intValue();
+                } else {
+                    parser.skipChildren();
+                }
+            } else if (token == XContentParser.Token.START_ARRAY) {
+                if (SLICES.match(currentFieldName, parser.getDeprecationHandler())) {
+                    while (parser.nextToken() != XContentParser.Token.END_ARRAY) {
+                        slices.add(Slice.fromXContent(parser));
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new SlicePlanResult(planner, maxSliceCount, targetSliceCount, partitionedSegmentCount, slices);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SlicePlanResult that = (SlicePlanResult) o;
+        return maxSliceCount == that.maxSliceCount
+            && targetSliceCount == that.targetSliceCount
+            && partitionedSegmentCount == that.partitionedSegmentCount
+            && planner.equals(that.planner)
+            && slices.equals(that.slices);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(planner, maxSliceCount, targetSliceCount, partitionedSegmentCount, slices);
+    }
+
+    /**
+     * A single slice of the plan.
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.5.0")
+    public static final class Slice implements Writeable, ToXContentObject {
+        private final int partitions;
+        private final long docs;
+
+        public Slice(int partitions, long docs) {
+            this.partitions = partitions;
+            this.docs = docs;
+        }
+
+        public Slice(StreamInput in) throws IOException {
+            this.partitions = in.readVInt();
+            this.docs = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(partitions);
+            out.writeVLong(docs);
+        }
+
+        /**
+         * The number of segments or segment partitions searched by the slice.
+         */
+        public int getPartitions() {
+            return partitions;
+        }
+
+        /**
+         * The number of doc ids covered by the partitions of the slice.
+         */
+        public long getDocs() {
+            return docs;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            return builder.startObject().field(PARTITIONS.getPreferredName(), partitions).field(DOCS.getPreferredName(), docs).endObject();
+        }
+
+        static Slice fromXContent(XContentParser parser) throws IOException {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+            String currentFieldName = null;
+            int partitions = 0;
+            long docs = 0;
+            XContentParser.Token token;
+            while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+                if (token == XContentParser.Token.FIELD_NAME) {
+                    currentFieldName = parser.currentName();
+                } else if (PARTITIONS.match(currentFieldName, parser.getDeprecationHandler())) {
+                    partitions = parser.intValue();
+                } else if (DOCS.match(currentFieldName, parser.getDeprecationHandler())) {
+                    docs = parser.longValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new Slice(partitions, docs);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Slice slice = (Slice) o;
+            return partitions == slice.partitions && docs == slice.docs;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(partitions, docs);
+        }
+    }
+}
@@ -78,6 +78,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 import static org.opensearch.search.query.QueryCollectorContext.createEarlyTerminationCollectorContext;
@@ -289,10 +290,19 @@ public class QueryPhase {
                     timeoutSet
                 );
 
-                ExecutorService executor = searchContext.indexShard().getThreadPool().executor(ThreadPool.Names.SEARCH);
+                final ThreadPool threadPool = searchContext.indexShard().getThreadPool();
+                ExecutorService executor = threadPool.executor(ThreadPool.Names.SEARCH);
                 if (executor instanceof EWMATrackingThreadPoolExecutor rExecutor) {
                     queryResult.nodeQueueSize(rExecutor.getCurrentQueueSize());
                     queryResult.serviceTimeEWMA((long) rExecutor.getTaskExecutionEWMA());
+                    // sampled on every shard query, these are read from counters rather than from the locked state of the pool
+                    queryResult.nodeActiveThreads(rExecutor.getActiveThreadCount());
+                    if (executor instanceof ThreadPoolExecutor tpExecutor) {
+                        queryResult.nodeThreadPoolSize(tpExecutor.getMaximumPoolSize());
+                    }
+                }
+                if (threadPool.executor(ThreadPool.Names.INDEX_SEARCHER) instanceof EWMATrackingThreadPoolExecutor searcherExecutor) {
+                    queryResult.nodeSearcherQueueSize(searcherExecutor.getCurrentQueueSize());
                 }
 
                 return shouldRescore;
@@ -34,6 +34,7 @@ package org.opensearch.search.query;
 
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.io.stream.DelayableWriteable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
@@ -87,6 +88,9 @@ public final class QuerySearchResult extends SearchPhaseResult {
     private boolean hasProfileResults;
     private long serviceTimeEWMA = -1;
     private int nodeQueueSize = -1;
+    private int nodeActiveThreads = -1;
+    private int nodeThreadPoolSize = -1;
+    private int nodeSearcherQueueSize = -1;
 
     private final boolean isNull;
 
@@ -327,6 +331,42 @@ public final class QuerySearchResult extends SearchPhaseResult {
         return this;
     }
 
+    /**
+     * Returns the number of threads of the search thread pool that were busy on the node that executed the query, or -1 if unknown.
+     */
+    public int nodeActiveThreads() {
+        return this.nodeActiveThreads;
+    }
+
+    public QuerySearchResult nodeActiveThreads(int nodeActiveThreads) {
+        this.nodeActiveThreads = nodeActiveThreads;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of threads of the search thread pool of the node that executed the query, or -1 if unknown.
+     */
+    public int nodeThreadPoolSize() {
+        return this.nodeThreadPoolSize;
+    }
+
+    public QuerySearchResult nodeThreadPoolSize(int nodeThreadPoolSize) {
+        this.nodeThreadPoolSize = nodeThreadPoolSize;
+        return this;
+    }
+
+    /**
+     * Returns the number of slices queued for concurrent segment search on the node that executed the query, or -1 if unknown.
+     */
+    public int nodeSearcherQueueSize() {
+        return this.nodeSearcherQueueSize;
+    }
+
+    public QuerySearchResult nodeSearcherQueueSize(int nodeSearcherQueueSize) {
+        this.nodeSearcherQueueSize = nodeSearcherQueueSize;
+        return this;
+    }
+
     /**
      * Returns <code>true</code> if this result has any suggest score docs
      */
@@ -364,6 +404,11 @@ public final class QuerySearchResult extends SearchPhaseResult {
         hasProfileResults = profileShardResults != null;
         serviceTimeEWMA = in.readZLong();
         nodeQueueSize = in.readInt();
+        if (in.getVersion().onOrAfter(Version.V_3_5_0)) {
+            nodeActiveThreads = in.readInt();
+            nodeThreadPoolSize = in.readInt();
+            nodeSearcherQueueSize = in.readInt();
+        }
         setShardSearchRequest(in.readOptionalWriteable(ShardSearchRequest::new));
         setRescoreDocIds(new RescoreDocIds(in));
     }
@@ -406,6 +451,11 @@ public final class QuerySearchResult extends SearchPhaseResult {
         out.writeOptionalWriteable(profileShardResults);
         out.writeZLong(serviceTimeEWMA);
         out.writeInt(nodeQueueSize);
+        if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+            out.writeInt(nodeActiveThreads);
+            out.writeInt(nodeThreadPoolSize);
+            out.writeInt(nodeSearcherQueueSize);
+        }
         out.writeOptionalWriteable(getShardSearchRequest());
         getRescoreDocIds().writeTo(out);
     }
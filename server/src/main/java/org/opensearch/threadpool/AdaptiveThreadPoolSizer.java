@@ -0,0 +1,240 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.QueueResizableOpenSearchThreadPoolExecutor;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Periodically resizes the {@code index_searcher} thread pool between bounds around its configured size. The pool needs more
+ * threads than the node has processors when its tasks spend part of their execution blocked on I/O, and fewer when the processors
+ * are saturated. Every interval the sizer measures how much of the execution time of the tasks of the pool was spent off the CPU
+ * and how long the tasks waited in the queue, and then
+ * <ul>
+ *     <li>shrinks the pool if the CPU utilization of the node is above {@link #CPU_THRESHOLD_SETTING},</li>
+ *     <li>grows the pool if tasks waited longer than {@link #QUEUE_LATENCY_THRESHOLD_SETTING} and the pool has fewer threads than
+ *     it takes to keep the processors busy while the tasks wait on I/O,</li>
+ *     <li>shrinks the pool if tasks hardly waited and the pool has more threads than that.</li>
+ * </ul>
+ * Every step closes half of the gap, so that the size converges instead of oscillating with the load.
+ * <p>
+ * The {@code search} pool is not sized: with concurrent segment search its tasks wait for the slices they fork to the
+ * {@code index_searcher} pool, which is off the CPU too but is not I/O, and sizing it from that would grow the pool exactly when
+ * the slices are slow. The slices themselves do not wait on other tasks.
+ *
+ * @opensearch.internal
+ */
+public final class AdaptiveThreadPoolSizer implements Runnable {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveThreadPoolSizer.class);
+
+    public static final Setting<Boolean> ADAPTIVE_SIZING_ENABLED_SETTING = Setting.boolSetting(
+        "thread_pool.adaptive_sizing.enabled",
+        false,
+        Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> ADAPTIVE_SIZING_INTERVAL_SETTING = Setting.timeSetting(
+        "thread_pool.adaptive_sizing.interval",
+        TimeValue.timeValueSeconds(5),
+        TimeValue.timeValueMillis(100),
+        Property.NodeScope
+    );
+
+    public static final Setting<Double> CPU_THRESHOLD_SETTING = Setting.doubleSetting(
+        "thread_pool.adaptive_sizing.cpu_threshold",
+        90.0,
+        0.0,
+        100.0,
+        Property.NodeScope
+    );
+
+    public static final Setting<TimeValue> QUEUE_LATENCY_THRESHOLD_SETTING = Setting.timeSetting(
+        "thread_pool.adaptive_sizing.queue_latency_threshold",
+        TimeValue.timeValueMillis(10),
+        TimeValue.ZERO,
+        Property.NodeScope
+    );
+
+    /**
+     * The pools grow up to their configured size times this factor and shrink down to their configured size divided by it.
+     */
+    public static final Setting<Double> SIZE_FACTOR_SETTING = Setting.doubleSetting(
+        "thread_pool.adaptive_sizing.size_factor",
+        2.0,
+        1.0,
+        Property.NodeScope
+    );
+
+    static final String GROW = "grow";
+    static final String SHRINK = "shrink";
+    static final String HOLD = "hold";
+
+    private static final String[] POOLS = { ThreadPool.Names.INDEX_SEARCHER };
+
+    private final int allocatedProcessors;
+    private final double cpuThreshold;
+    private final long queueLatencyThresholdNanos;
+    private final IntSupplier cpuPercent;
+    private final Map<String, PoolSizer> pools = new HashMap<>();
+
+    AdaptiveThreadPoolSizer(
+        Settings settings,
+        int allocatedProcessors,
+        Map<String, ThreadPool.ExecutorHolder> executors,
+        IntSupplier cpuPercent
+    ) {
+        this.allocatedProcessors = allocatedProcessors;
+        this.cpuThreshold = CPU_THRESHOLD_SETTING.get(settings);
+        this.queueLatencyThresholdNanos = QUEUE_LATENCY_THRESHOLD_SETTING.get(settings).nanos();
+        this.cpuPercent = cpuPercent;
+        final double sizeFactor = SIZE_FACTOR_SETTING.get(settings);
+        for (String name : POOLS) {
+            final ThreadPool.ExecutorHolder holder = executors.get(name);
+            if (holder != null && holder.executor() instanceof QueueResizableOpenSearchThreadPoolExecutor executor) {
+                if (executor.setCpuTimeTracking(true) == false) {
+                    logger.warn("cannot measure the CPU time of threads, thread pool [{}] is only shrunk when the CPU is busy", name);
+                }
+                final int size = executor.getMaximumPoolSize();
+                final int minSize = Math.max(1, (int) Math.round(size / sizeFactor));
+                pools.put(name, new PoolSizer(name, executor, minSize, (int) Math.round(size * sizeFactor)));
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        final int cpu = cpuPercent.getAsInt();
+        for (PoolSizer pool : pools.values()) {
+            pool.adjust(cpu);
+        }
+    }
+
+    PoolSizer pool(String name) {
+        return pools.get(name);
+    }
+
+    /**
+     * Returns the last decision for the given pool, or {@code null} if the pool is not sized adaptively.
+     */
+    ThreadPoolStats.AdaptiveSizingStats stats(String name) {
+        final PoolSizer pool = pools.get(name);
+        return pool == null ? null : pool.stats;
+    }
+
+    /**
+     * Sizes one pool from the difference of its counters since the previous interval.
+     */
+    final class PoolSizer {
+        private final String name;
+        private final QueueResizableOpenSearchThreadPoolExecutor executor;
+        private final int minSize;
+        private final int maxSize;
+        private long lastExecutionNanos;
+        private long lastCpuNanos;
+        private long lastWaitNanos;
+        private long lastCompletedTasks;
+        private long resizes;
+        private volatile ThreadPoolStats.AdaptiveSizingStats stats;
+
+        PoolSizer(String name, QueueResizableOpenSearchThreadPoolExecutor executor, int minSize, int maxSize) {
+            this.name = name;
+            this.executor = executor;
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+            this.stats = new ThreadPoolStats.AdaptiveSizingStats(minSize, maxSize, executor.getMaximumPoolSize(), HOLD, 0, -1, -1, 0);
+        }
+
+        synchronized void adjust(int cpuPercent) {
+            final long executionNanos = executor.getTrackedExecutionTimeNanos();
+            final long cpuNanos = executor.getTrackedCpuTimeNanos();
+            final long waitNanos = executor.getPoolWaitTimeNanos();
+            final long completedTasks = executor.getCompletedTaskCount();
+            adjust(
+                cpuPercent,
+                executionNanos - lastExecutionNanos,
+                cpuNanos - lastCpuNanos,
+                waitNanos - lastWaitNanos,
+                completedTasks - lastCompletedTasks
+            );
+            lastExecutionNanos = executionNanos;
+            lastCpuNanos = cpuNanos;
+            lastWaitNanos = waitNanos;
+            lastCompletedTasks = completedTasks;
+        }
+
+        synchronized void adjust(int cpuPercent, long executionNanos, long cpuNanos, long waitNanos, long completedTasks) {
+            // the size can also be changed through the cluster settings, which resize the pool under the same lock
+            synchronized (executor) {
+                adjustLocked(cpuPercent, executionNanos, cpuNanos, waitNanos, completedTasks);
+            }
+        }
+
+        private void adjustLocked(int cpuPercent, long executionNanos, long cpuNanos, long waitNanos, long completedTasks) {
+            assert Thread.holdsLock(executor);
+            final int size = executor.getMaximumPoolSize();
+            final int ioWaitPercent = executionNanos > 0 ? (int) Math.round(100.0 * (executionNanos - cpuNanos) / executionNanos) : -1;
+            final long queueLatencyNanos = completedTasks > 0 ? waitNanos / completedTasks : 0;
+            // the number of threads that keeps the processors busy when every thread is off the CPU for part of its tasks
+            final int wanted = ioWaitPercent == -1
+                ? size
+                : clamp((int) Math.ceil(allocatedProcessors * 100.0 / Math.max(1, 100 - ioWaitPercent)));
+
+            int newSize = size;
+            if (cpuPercent >= cpuThreshold) {
+                newSize = clamp(size - Math.max(1, size / 10));
+            } else if (queueLatencyNanos >= queueLatencyThresholdNanos && wanted > size) {
+                newSize = clamp(size + Math.max(1, (wanted - size) / 2));
+            } else if (queueLatencyNanos < queueLatencyThresholdNanos && wanted < size) {
+                newSize = clamp(size - Math.max(1, (size - wanted) / 2));
+            }
+
+            final String decision;
+            if (newSize == size) {
+                decision = HOLD;
+            } else {
+                decision = newSize > size ? GROW : SHRINK;
+                logger.debug(
+                    "resizing thread pool [{}] from [{}] to [{}], cpu [{}%], io wait [{}%], queue latency [{}]",
+                    name,
+                    size,
+                    newSize,
+                    cpuPercent,
+                    ioWaitPercent,
+                    TimeValue.timeValueNanos(queueLatencyNanos)
+                );
+                ThreadPool.setFixedPoolSize(executor, newSize);
+                resizes++;
+            }
+            stats = new ThreadPoolStats.AdaptiveSizingStats(
+                minSize,
+                maxSize,
+                newSize,
+                decision,
+                resizes,
+                cpuPercent,
+                ioWaitPercent,
+                queueLatencyNanos
+            );
+        }
+
+        private int clamp(int size) {
+            return Math.max(minSize, Math.min(maxSize, size));
+        }
+    }
+}
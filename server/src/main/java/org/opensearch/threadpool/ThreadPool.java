@@ -55,6 +55,7 @@ import org.opensearch.core.service.ReportingService;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.gateway.remote.ClusterStateChecksum;
+import org.opensearch.monitor.os.OsProbe;
 import org.opensearch.node.Node;
 
 import java.io.IOException;
@@ -123,6 +124,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         public static final String REMOTE_PURGE = "remote_purge";
         public static final String REMOTE_REFRESH_RETRY = "remote_refresh_retry";
         public static final String REMOTE_RECOVERY = "remote_recovery";
+        public static final String REMOTE_PREFETCH = "remote_prefetch";
         public static final String REMOTE_STATE_READ = "remote_state_read";
         public static final String INDEX_SEARCHER = "index_searcher";
         public static final String REMOTE_STATE_CHECKSUM = "remote_state_checksum";
@@ -202,6 +204,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         map.put(Names.REMOTE_PURGE, ThreadPoolType.SCALING);
         map.put(Names.REMOTE_REFRESH_RETRY, ThreadPoolType.SCALING);
         map.put(Names.REMOTE_RECOVERY, ThreadPoolType.SCALING);
+        map.put(Names.REMOTE_PREFETCH, ThreadPoolType.FIXED);
         map.put(Names.REMOTE_STATE_READ, ThreadPoolType.FIXED);
         map.put(Names.INDEX_SEARCHER, ThreadPoolType.RESIZABLE);
         map.put(Names.REMOTE_STATE_CHECKSUM, ThreadPoolType.FIXED);
@@ -214,6 +217,9 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
 
     private final CachedTimeThread cachedTimeThread;
 
+    @Nullable
+    private final AdaptiveThreadPoolSizer adaptiveSizer;
+
     static final ExecutorService DIRECT_EXECUTOR = OpenSearchExecutors.newDirectExecutorService();
 
     private final ThreadContext threadContext;
@@ -322,6 +328,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                 TimeValue.timeValueMinutes(5)
             )
         );
+        builders.put(Names.REMOTE_PREFETCH, new FixedExecutorBuilder(settings, Names.REMOTE_PREFETCH, halfProcMaxAt5, 1000));
         builders.put(
             Names.REMOTE_STATE_READ,
             new FixedExecutorBuilder(settings, Names.REMOTE_STATE_READ, boundedBy(4 * allocatedProcessors, 4, 32), 120000)
@@ -375,6 +382,17 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         TimeValue estimatedTimeInterval = ESTIMATED_TIME_INTERVAL_SETTING.get(settings);
         this.cachedTimeThread = new CachedTimeThread(OpenSearchExecutors.threadName(settings, "[timer]"), estimatedTimeInterval.millis());
         this.cachedTimeThread.start();
+        if (AdaptiveThreadPoolSizer.ADAPTIVE_SIZING_ENABLED_SETTING.get(settings)) {
+            this.adaptiveSizer = new AdaptiveThreadPoolSizer(
+                settings,
+                allocatedProcessors,
+                executors,
+                () -> OsProbe.getInstance().getSystemCpuPercent()
+            );
+            scheduleWithFixedDelay(adaptiveSizer, AdaptiveThreadPoolSizer.ADAPTIVE_SIZING_INTERVAL_SETTING.get(settings), Names.GENERIC);
+        } else {
+            this.adaptiveSizer = null;
+        }
     }
 
     /**
@@ -512,22 +530,33 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                  This ensures that core pool is always smaller than max pool size .
                  Other wise IllegalArgumentException will be thrown from ThreadPoolExecutor
                  */
-                if (core < executor.getCorePoolSize()) {
-                    executor.setCorePoolSize(core);
-                    executor.setMaximumPoolSize(max);
-                } else {
-                    executor.setMaximumPoolSize(max);
-                    executor.setCorePoolSize(core);
+                synchronized (executor) {
+                    if (core < executor.getCorePoolSize()) {
+                        executor.setCorePoolSize(core);
+                        executor.setMaximumPoolSize(max);
+                    } else {
+                        executor.setMaximumPoolSize(max);
+                        executor.setCorePoolSize(core);
+                    }
                 }
             } else {
-                int size = tpGroup.getAsInt("size", executor.getMaximumPoolSize());
-                if (size < executor.getCorePoolSize()) {
-                    executor.setCorePoolSize(size);
-                    executor.setMaximumPoolSize(size);
-                } else {
-                    executor.setMaximumPoolSize(size);
-                    executor.setCorePoolSize(size);
-                }
+                setFixedPoolSize(executor, tpGroup.getAsInt("size", executor.getMaximumPoolSize()));
+            }
+        }
+    }
+
+    /**
+     * Resizes a fixed size pool. Pools are resized while holding the lock of their executor, so that concurrent resizes, e.g. from the
+     * cluster settings and from the {@link AdaptiveThreadPoolSizer}, cannot interleave and leave the core size above the maximum size.
+     */
+    static void setFixedPoolSize(ThreadPoolExecutor executor, int size) {
+        synchronized (executor) {
+            if (size < executor.getCorePoolSize()) {
+                executor.setCorePoolSize(size);
+                executor.setMaximumPoolSize(size);
+            } else {
+                executor.setMaximumPoolSize(size);
+                executor.setCorePoolSize(size);
             }
         }
     }
@@ -587,6 +616,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                     .completed(completed)
                     .waitTimeNanos(waitTimeNanos)
                     .parallelism(parallelism)
+                    .adaptiveSizing(adaptiveSizer == null ? null : adaptiveSizer.stats(name))
                     .build()
             );
         }
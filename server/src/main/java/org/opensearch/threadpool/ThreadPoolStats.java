@@ -33,6 +33,7 @@
 package org.opensearch.threadpool;
 
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -72,6 +73,8 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         private final long completed;
         private final long waitTimeNanos;
         private final int parallelism;
+        @Nullable
+        private final AdaptiveSizingStats adaptiveSizing;
 
         /**
          * Private constructor that takes a builder.
@@ -88,6 +91,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             this.completed = builder.completed;
             this.waitTimeNanos = builder.waitTimeNanos;
             this.parallelism = builder.parallelism;
+            this.adaptiveSizing = builder.adaptiveSizing;
         }
 
         /**
@@ -105,6 +109,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             this.completed = completed;
             this.waitTimeNanos = waitTimeNanos;
             this.parallelism = -1;
+            this.adaptiveSizing = null;
         }
 
         /**
@@ -132,6 +137,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             this.completed = completed;
             this.waitTimeNanos = waitTimeNanos;
             this.parallelism = parallelism;
+            this.adaptiveSizing = null;
         }
 
         public Stats(StreamInput in) throws IOException {
@@ -144,6 +150,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             completed = in.readLong();
             waitTimeNanos = in.getVersion().onOrAfter(Version.V_2_11_0) ? in.readLong() : -1;
             parallelism = in.getVersion().onOrAfter(Version.V_3_4_0) ? in.readInt() : -1;
+            adaptiveSizing = in.getVersion().onOrAfter(Version.V_3_5_0) ? in.readOptionalWriteable(AdaptiveSizingStats::new) : null;
         }
 
         @Override
@@ -161,6 +168,9 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
                 out.writeInt(parallelism);
             }
+            if (out.getVersion().onOrAfter(Version.V_3_5_0)) {
+                out.writeOptionalWriteable(adaptiveSizing);
+            }
         }
 
         public String getName() {
@@ -203,6 +213,14 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             return parallelism;
         }
 
+        /**
+         * Returns the decisions of the adaptive sizing of the pool, or {@code null} if the pool is not sized adaptively.
+         */
+        @Nullable
+        public AdaptiveSizingStats getAdaptiveSizing() {
+            return adaptiveSizing;
+        }
+
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.startObject(name);
@@ -233,6 +251,9 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
                 }
                 builder.field(Fields.WAIT_TIME_NANOS, getWaitTimeNanos());
             }
+            if (adaptiveSizing != null) {
+                adaptiveSizing.toXContent(builder, params);
+            }
             builder.endObject();
             return builder;
         }
@@ -268,6 +289,7 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             private long completed = 0;
             private long waitTimeNanos = 0;
             private int parallelism = 0;
+            private AdaptiveSizingStats adaptiveSizing = null;
 
             public Builder() {}
 
@@ -316,6 +338,11 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
                 return this;
             }
 
+            public Builder adaptiveSizing(@Nullable AdaptiveSizingStats adaptiveSizing) {
+                this.adaptiveSizing = adaptiveSizing;
+                return this;
+            }
+
             /**
              * Creates a {@link Stats} object from the builder's current state.
              * @return A new Stats instance.
@@ -326,6 +353,133 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         }
     }
 
+    /**
+     * The last decision of the adaptive sizing of a thread pool and the measurements it was based on.
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.5.0")
+    public static class AdaptiveSizingStats implements Writeable, ToXContentFragment {
+
+        private final int minSize;
+        private final int maxSize;
+        private final int size;
+        private final String lastDecision;
+        private final long resizes;
+        private final int cpuPercent;
+        private final int ioWaitPercent;
+        private final long queueLatencyNanos;
+
+        public AdaptiveSizingStats(
+            int minSize,
+            int maxSize,
+            int size,
+            String lastDecision,
+            long resizes,
+            int cpuPercent,
+            int ioWaitPercent,
+            long queueLatencyNanos
+        ) {
+            this.minSize = minSize;
+            this.maxSize = maxSize;
+            this.size = size;
+            this.lastDecision = lastDecision;
+            this.resizes = resizes;
+            this.cpuPercent = cpuPercent;
+            this.ioWaitPercent = ioWaitPercent;
+            this.queueLatencyNanos = queueLatencyNanos;
+        }
+
+        public AdaptiveSizingStats(StreamInput in) throws IOException {
+            minSize = in.readVInt();
+            maxSize = in.readVInt();
+            size = in.readVInt();
+            lastDecision = in.readString();
+            resizes = in.readVLong();
+            cpuPercent = in.readInt();
+            ioWaitPercent = in.readInt();
+            queueLatencyNanos = in.readLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(minSize);
+            out.writeVInt(maxSize);
+            out.writeVInt(size);
+            out.writeString(lastDecision);
+            out.writeVLong(resizes);
+            out.writeInt(cpuPercent);
+            out.writeInt(ioWaitPercent);
+            out.writeLong(queueLatencyNanos);
+        }
+
+        public int getMinSize() {
+            return minSize;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        /**
+         * Returns the size the pool was given by the last decision
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns whether the last decision grew, shrank or kept the size of the pool
+         */
+        public String getLastDecision() {
+            return lastDecision;
+        }
+
+        /**
+         * Returns the number of times the pool was resized
+         */
+        public long getResizes() {
+            return resizes;
+        }
+
+        /**
+         * Returns the CPU utilization of the node the last decision was based on, or {@code -1} if it is unknown
+         */
+        public int getCpuPercent() {
+            return cpuPercent;
+        }
+
+        /**
+         * Returns the percentage of the execution time of the tasks that was not spent on the CPU, or {@code -1} if it is unknown
+         */
+        public int getIoWaitPercent() {
+            return ioWaitPercent;
+        }
+
+        public TimeValue getQueueLatency() {
+            return TimeValue.timeValueNanos(queueLatencyNanos);
+        }
+
+        public long getQueueLatencyNanos() {
+            return queueLatencyNanos;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject(Fields.ADAPTIVE_SIZING);
+            builder.field(Fields.MIN_SIZE, minSize);
+            builder.field(Fields.MAX_SIZE, maxSize);
+            builder.field(Fields.SIZE, size);
+            builder.field(Fields.LAST_DECISION, lastDecision);
+            builder.field(Fields.RESIZES, resizes);
+            builder.field(Fields.CPU_PERCENT, cpuPercent);
+            builder.field(Fields.IO_WAIT_PERCENT, ioWaitPercent);
+            builder.humanReadableField(Fields.QUEUE_LATENCY_NANOS, Fields.QUEUE_LATENCY, getQueueLatency());
+            builder.endObject();
+            return builder;
+        }
+    }
+
     private List<Stats> stats;
 
     public ThreadPoolStats(List<Stats> stats) {
@@ -358,6 +512,16 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         static final String WAIT_TIME = "total_wait_time";
         static final String WAIT_TIME_NANOS = "total_wait_time_in_nanos";
         static final String PARALLELISM = "parallelism";
+        static final String ADAPTIVE_SIZING = "adaptive_sizing";
+        static final String MIN_SIZE = "min_size";
+        static final String MAX_SIZE = "max_size";
+        static final String SIZE = "size";
+        static final String LAST_DECISION = "last_decision";
+        static final String RESIZES = "resizes";
+        static final String CPU_PERCENT = "cpu_percent";
+        static final String IO_WAIT_PERCENT = "io_wait_percent";
+        static final String QUEUE_LATENCY = "queue_latency";
+        static final String QUEUE_LATENCY_NANOS = "queue_latency_in_nanos";
     }
 
     @Override
@@ -58,6 +58,8 @@ public class InboundDecoder implements Releasable {
     private final Version version;
     private final PageCacheRecycler recycler;
     private TransportDecompressor decompressor;
+    // the decompressor of the last compressed message, reset and reused for the next compressed message of the channel
+    private TransportDecompressor idleDecompressor;
     private int totalNetworkSize = -1;
     private int bytesConsumed = 0;
     private boolean isClosed = false;
@@ -95,7 +97,8 @@ public class InboundDecoder implements Releasable {
                     Header header = readHeader(version, messageLength, reference);
                     bytesConsumed += headerBytesToRead;
                     if (header.isCompressed()) {
-                        decompressor = new TransportDecompressor(recycler);
+                        decompressor = idleDecompressor == null ? new TransportDecompressor(recycler) : idleDecompressor;
+                        idleDecompressor = null;
                     }
                     fragmentConsumer.accept(header);
 
@@ -139,6 +142,8 @@ public class InboundDecoder implements Releasable {
     public void close() {
         isClosed = true;
         cleanDecodeState();
+        IOUtils.closeWhileHandlingException(idleDecompressor);
+        idleDecompressor = null;
     }
 
     private void finishMessage(Consumer<Object> fragmentConsumer) {
@@ -147,7 +152,14 @@ public class InboundDecoder implements Releasable {
     }
 
     private void cleanDecodeState() {
-        IOUtils.closeWhileHandlingException(decompressor);
+        if (decompressor != null) {
+            if (isClosed) {
+                IOUtils.closeWhileHandlingException(decompressor);
+            } else {
+                decompressor.reset();
+                idleDecompressor = decompressor;
+            }
+        }
         decompressor = null;
         totalNetworkSize = -1;
         bytesConsumed = 0;
@@ -157,6 +169,9 @@ public class InboundDecoder implements Releasable {
         try (ReleasableBytesReference toRelease = content) {
             int consumed = decompressor.decompress(content);
             assert consumed == content.length();
+            if (isDone()) {
+                decompressor.finish();
+            }
         }
     }
 
@@ -35,6 +35,7 @@ package org.opensearch.transport;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.Version;
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
@@ -44,6 +45,8 @@ import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.NotifyOnceListener;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
@@ -57,12 +60,29 @@ public final class OutboundHandler {
 
     private static final Logger logger = LogManager.getLogger(OutboundHandler.class);
 
+    // nodes before this version can only decompress DEFLATE compressed messages
+    static final Version COMPRESSION_SCHEME_VERSION = Version.V_3_5_0;
+
     private final StatsTracker statsTracker;
     private final ThreadPool threadPool;
+    private final Compressor compressor;
 
     public OutboundHandler(StatsTracker statsTracker, ThreadPool threadPool) {
+        this(statsTracker, threadPool, CompressorRegistry.defaultCompressor());
+    }
+
+    public OutboundHandler(StatsTracker statsTracker, ThreadPool threadPool, Compressor compressor) {
         this.statsTracker = statsTracker;
         this.threadPool = threadPool;
+        this.compressor = compressor;
+    }
+
+    /**
+     * Returns the compressor that compresses the messages sent to a node of the given version. The receiving node detects the
+     * compression scheme of every message from its header, so the configured scheme is used as soon as the node can decompress it.
+     */
+    public Compressor compressor(Version version) {
+        return version.onOrAfter(COMPRESSION_SCHEME_VERSION) ? compressor : CompressorRegistry.defaultCompressor();
     }
 
     void sendBytes(TcpChannel channel, BytesReference bytes, ActionListener<Void> listener) {
@@ -65,6 +65,7 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.transport.BoundTransportAddress;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.monitor.jvm.JvmInfo;
@@ -190,7 +191,11 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         }
         BigArrays bigArrays = new BigArrays(pageCacheRecycler, circuitBreakerService, CircuitBreaker.IN_FLIGHT_REQUESTS);
 
-        this.outboundHandler = new OutboundHandler(statsTracker, threadPool);
+        this.outboundHandler = new OutboundHandler(
+            statsTracker,
+            threadPool,
+            CompressorRegistry.getCompressor(TransportSettings.TRANSPORT_COMPRESSION_SCHEME.get(settings))
+        );
         this.handshakerHandler = new NativeOutboundHandler(
             nodeName,
             version,
@@ -35,42 +35,61 @@ package org.opensearch.transport;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.compress.DeflateCompressor;
 import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.util.PageCacheRecycler;
 import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.compress.Compressor;
 import org.opensearch.core.compress.CompressorRegistry;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
 /**
- * Decompresses data over the transport wire
+ * Decompresses data over the transport wire. The compression scheme of a message is detected from its header, DEFLATE compressed
+ * messages are inflated as their bytes arrive while messages compressed with any other registered {@link Compressor} are buffered
+ * in recycled pages and decompressed through the compressor once all their bytes arrived.
  *
  * @opensearch.internal
  */
 public class TransportDecompressor implements Closeable {
 
+    // the number of bytes that are required to detect the compression scheme of a message
+    private static final int MAX_HEADER_LENGTH = CompressorRegistry.registeredCompressors()
+        .values()
+        .stream()
+        .mapToInt(Compressor::headerLength)
+        .max()
+        .orElse(0);
+
     private final Inflater inflater;
     private final PageCacheRecycler recycler;
     private final ArrayDeque<Recycler.V<byte[]>> pages;
     private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
     private boolean hasReadHeader = false;
+    private Compressor compressor;
+    // the compressed bytes of a message that is not DEFLATE compressed
+    private final ArrayDeque<Recycler.V<byte[]>> compressedPages;
+    private int compressedPageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+    private boolean finished = false;
 
     public TransportDecompressor(PageCacheRecycler recycler) {
         this.recycler = recycler;
         inflater = new Inflater(true);
         pages = new ArrayDeque<>(4);
+        compressedPages = new ArrayDeque<>(4);
     }
 
     public int decompress(BytesReference bytesReference) throws IOException {
         int bytesConsumed = 0;
         if (hasReadHeader == false) {
-            final Compressor compressor = CompressorRegistry.defaultCompressor();
+            final Compressor compressor = CompressorRegistry.compressorForWritable(bytesReference);
             if (compressor.isCompressed(bytesReference) == false) {
                 int maxToRead = Math.min(bytesReference.length(), 10);
                 StringBuilder sb = new StringBuilder("stream marked as compressed, but no compressor found, first [").append(maxToRead)
@@ -87,9 +106,18 @@ public class TransportDecompressor implements Closeable {
                 throw new IllegalStateException(sb.toString());
             }
             hasReadHeader = true;
+            this.compressor = compressor;
+            if (isDeflate() == false) {
+                // the header is read again by the compressor
+                bufferCompressed(bytesReference);
+                return bytesReference.length();
+            }
             int headerLength = compressor.headerLength();
             bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
             bytesConsumed += headerLength;
+        } else if (isDeflate() == false) {
+            bufferCompressed(bytesReference);
+            return bytesReference.length();
         }
 
         BytesRefIterator refIterator = bytesReference.iterator();
@@ -136,12 +164,75 @@ public class TransportDecompressor implements Closeable {
         return bytesConsumed;
     }
 
+    /**
+     * Signals that all the compressed bytes of the message were passed to {@link #decompress(BytesReference)}. Messages that are not
+     * DEFLATE compressed are decompressed at this point.
+     */
+    public void finish() throws IOException {
+        if (compressor == null || isDeflate()) {
+            return;
+        }
+        assert finished == false : "message was decompressed already";
+        final BytesReference[] compressed = new BytesReference[compressedPages.size()];
+        int index = 0;
+        for (Recycler.V<byte[]> page : compressedPages) {
+            final int length = index == compressed.length - 1 ? compressedPageOffset : PageCacheRecycler.BYTE_PAGE_SIZE;
+            compressed[index++] = new BytesArray(page.v(), 0, length);
+        }
+        try (InputStream in = compressor.threadLocalInputStream(CompositeBytesReference.of(compressed).streamInput())) {
+            int bytesRead = PageCacheRecycler.BYTE_PAGE_SIZE;
+            while (bytesRead == PageCacheRecycler.BYTE_PAGE_SIZE) {
+                final Recycler.V<byte[]> page = recycler.bytePage(false);
+                try {
+                    bytesRead = in.readNBytes(page.v(), 0, PageCacheRecycler.BYTE_PAGE_SIZE);
+                } catch (IOException | RuntimeException e) {
+                    page.close();
+                    throw e;
+                }
+                if (bytesRead == 0) {
+                    page.close();
+                } else {
+                    pages.add(page);
+                    pageOffset = bytesRead;
+                }
+            }
+        } finally {
+            releasePages(compressedPages);
+            compressedPageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+        }
+        finished = true;
+    }
+
+    private boolean isDeflate() {
+        return compressor instanceof DeflateCompressor;
+    }
+
+    private void bufferCompressed(BytesReference bytesReference) throws IOException {
+        final BytesRefIterator refIterator = bytesReference.iterator();
+        BytesRef ref;
+        while ((ref = refIterator.next()) != null) {
+            int offset = ref.offset;
+            int remaining = ref.length;
+            while (remaining > 0) {
+                if (compressedPageOffset == PageCacheRecycler.BYTE_PAGE_SIZE) {
+                    compressedPages.add(recycler.bytePage(false));
+                    compressedPageOffset = 0;
+                }
+                final int length = Math.min(remaining, PageCacheRecycler.BYTE_PAGE_SIZE - compressedPageOffset);
+                System.arraycopy(ref.bytes, offset, compressedPages.getLast().v(), compressedPageOffset, length);
+                compressedPageOffset += length;
+                offset += length;
+                remaining -= length;
+            }
+        }
+    }
+
     public boolean canDecompress(int bytesAvailable) {
-        return hasReadHeader || bytesAvailable >= CompressorRegistry.defaultCompressor().headerLength();
+        return hasReadHeader || bytesAvailable >= MAX_HEADER_LENGTH;
     }
 
     public boolean isEOS() {
-        return inflater.finished();
+        return isDeflate() ? inflater.finished() : finished;
     }
 
     public ReleasableBytesReference pollDecompressedPage() {
@@ -162,11 +253,32 @@ public class TransportDecompressor implements Closeable {
         }
     }
 
+    /**
+     * Releases the pages that have not been polled and prepares this decompressor for the next message, so that the native state of
+     * the inflater is not allocated for every compressed message of a channel again.
+     */
+    public void reset() {
+        releasePages(pages);
+        releasePages(compressedPages);
+        inflater.reset();
+        pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+        compressedPageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+        hasReadHeader = false;
+        compressor = null;
+        finished = false;
+    }
+
+    private static void releasePages(ArrayDeque<Recycler.V<byte[]>> pages) {
+        Recycler.V<byte[]> page;
+        while ((page = pages.pollFirst()) != null) {
+            page.close();
+        }
+    }
+
     @Override
     public void close() {
         inflater.end();
-        for (Recycler.V<byte[]> page : pages) {
-            page.close();
-        }
+        releasePages(pages);
+        releasePages(compressedPages);
     }
 }
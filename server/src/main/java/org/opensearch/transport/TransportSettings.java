@@ -32,14 +32,18 @@
 package org.opensearch.transport;
 
 import org.opensearch.action.admin.cluster.node.liveness.TransportLivenessAction;
+import org.opensearch.common.compress.DeflateCompressor;
 import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.compress.CompressorRegistry;
+import org.opensearch.core.compress.NoneCompressor;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyList;
@@ -117,6 +121,21 @@ public final class TransportSettings {
         OLD_TRANSPORT_COMPRESS,
         Setting.Property.NodeScope
     );
+    // the compressor that compresses outbound messages if they are compressed, any compressor registered through the SPI can be used
+    public static final Setting<String> TRANSPORT_COMPRESSION_SCHEME = new Setting<>(
+        "transport.compression_scheme",
+        DeflateCompressor.NAME,
+        scheme -> {
+            final String name = scheme.toUpperCase(Locale.ROOT);
+            if (NoneCompressor.NAME.equals(name)) {
+                throw new IllegalArgumentException("[" + NoneCompressor.NAME + "] is not a compression scheme, use [transport.compress]");
+            }
+            // fails if no compressor is registered by that name
+            CompressorRegistry.getCompressor(name);
+            return name;
+        },
+        Setting.Property.NodeScope
+    );
     // the scheduled internal ping interval setting, defaults to disabled (-1)
     public static final Setting<TimeValue> PING_SCHEDULE = timeSetting(
         "transport.ping_schedule",
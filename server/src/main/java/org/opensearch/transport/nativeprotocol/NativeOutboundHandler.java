@@ -115,7 +115,7 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             action,
             requestId,
             isHandshake,
-            compressRequest
+            compressRequest ? handler.compressor(version) : null
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onRequestSent(node, requestId, action, request, options));
         sendMessage(requestId, channel, message, listener);
@@ -146,7 +146,7 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             version,
             requestId,
             isHandshake,
-            compress
+            compress ? handler.compressor(version) : null
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, response));
         sendMessage(requestId, channel, message, listener);
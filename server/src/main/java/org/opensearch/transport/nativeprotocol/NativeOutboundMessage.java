@@ -32,6 +32,7 @@
 package org.opensearch.transport.nativeprotocol;
 
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -40,6 +41,8 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
 import org.opensearch.transport.BytesTransportRequest;
 import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.TcpHeader;
@@ -57,10 +60,19 @@ import java.util.Set;
 public abstract class NativeOutboundMessage extends NetworkMessage {
 
     private final Writeable message;
+    private final Compressor compressor;
 
-    NativeOutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message) {
+    NativeOutboundMessage(
+        ThreadContext threadContext,
+        Version version,
+        byte status,
+        long requestId,
+        Writeable message,
+        @Nullable Compressor compressor
+    ) {
         super(threadContext, version, status, requestId);
         this.message = message;
+        this.compressor = TransportStatus.isCompress(status) ? compressor : null;
     }
 
     public BytesReference serialize(BytesStreamOutput bytesStream) throws IOException {
@@ -74,7 +86,7 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
         writeVariableHeader(bytesStream);
         variableHeaderLength = Math.toIntExact(bytesStream.position() - preHeaderPosition);
 
-        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
+        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, compressor)) {
             stream.setVersion(version);
             stream.setFeatures(bytesStream.getFeatures());
 
@@ -139,7 +151,32 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(
+                threadContext,
+                features,
+                message,
+                version,
+                action,
+                requestId,
+                isHandshake,
+                compress ? CompressorRegistry.defaultCompressor() : null
+            );
+        }
+
+        /**
+         * Creates a request that is compressed with the given compressor, or not compressed if it is {@code null}.
+         */
+        Request(
+            ThreadContext threadContext,
+            String[] features,
+            Writeable message,
+            Version version,
+            String action,
+            long requestId,
+            boolean isHandshake,
+            @Nullable Compressor compressor
+        ) {
+            super(threadContext, version, setStatus(compressor != null, isHandshake, message), requestId, message, compressor);
             this.features = features;
             this.action = action;
         }
@@ -183,7 +220,30 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(
+                threadContext,
+                features,
+                message,
+                version,
+                requestId,
+                isHandshake,
+                compress ? CompressorRegistry.defaultCompressor() : null
+            );
+        }
+
+        /**
+         * Creates a response that is compressed with the given compressor, or not compressed if it is {@code null}.
+         */
+        public Response(
+            ThreadContext threadContext,
+            Set<String> features,
+            Writeable message,
+            Version version,
+            long requestId,
+            boolean isHandshake,
+            @Nullable Compressor compressor
+        ) {
+            super(threadContext, version, setStatus(compressor != null, isHandshake, message), requestId, message, compressor);
             this.features = features;
         }
 
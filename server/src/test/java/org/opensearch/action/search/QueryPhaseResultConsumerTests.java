@@ -185,6 +185,56 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
         assertThrows(CircuitBreakingException.class, queryPhaseResultConsumer::reduce);
     }
 
+    public void testEagerReduceUnderBreakerPressure() throws Exception {
+        assertEquals(0, consumeWithBreakerUsage(0.5d, 10));
+        assertEquals(0, consumeWithBreakerUsage(1.0d, 90));
+        // the first two results are buffered, every following result reduces the buffer into the previously reduced aggregations
+        assertEquals(3, consumeWithBreakerUsage(0.5d, 90));
+    }
+
+    private int consumeWithBreakerUsage(double eagerReduceBreakerThreshold, long used) throws Exception {
+        SearchRequest searchRequest = new SearchRequest("index");
+        searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("max").field("test")).size(1));
+        searchRequest.setBatchedReduceSize(10);
+        AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+        CircuitBreaker circuitBreaker = new NoopCircuitBreaker(CircuitBreaker.REQUEST) {
+            @Override
+            public long getUsed() {
+                return used;
+            }
+
+            @Override
+            public long getLimit() {
+                return 100;
+            }
+        };
+        QueryPhaseResultConsumer queryPhaseResultConsumer = new QueryPhaseResultConsumer(
+            searchRequest,
+            executor,
+            circuitBreaker,
+            searchPhaseController,
+            SearchProgressListener.NOOP,
+            writableRegistry(),
+            5,
+            onPartialMergeFailure::set,
+            () -> false,
+            eagerReduceBreakerThreshold
+        );
+
+        CountDownLatch latch = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            QuerySearchResult querySearchResult = getQuerySearchResult(i);
+            querySearchResult.aggregations(InternalAggregations.from(List.of(new InternalMax("test", i, DocValueFormat.RAW, null))));
+            queryPhaseResultConsumer.consumeResult(querySearchResult, latch::countDown);
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNull(onPartialMergeFailure.get());
+        int numReducePhases = queryPhaseResultConsumer.getNumReducePhases();
+        SearchPhaseController.ReducedQueryPhase reducedQueryPhase = queryPhaseResultConsumer.reduce();
+        assertEquals(4.0d, ((InternalMax) reducedQueryPhase.aggregations.get("test")).getValue(), 0.0d);
+        return numReducePhases;
+    }
+
     private static QuerySearchResult getQuerySearchResult(int i) {
         SearchShardTarget searchShardTarget = new SearchShardTarget("node", new ShardId("index", "uuid", i), null, OriginalIndices.NONE);
 
@@ -41,18 +41,23 @@ import org.opensearch.cluster.routing.RecoverySource;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.UnassignedInfo;
 import org.opensearch.common.UUIDs;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.tasks.TaskId;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
 import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.Transport;
 import org.opensearch.transport.TransportException;
 import org.opensearch.transport.TransportRequest;
@@ -72,8 +77,10 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.opensearch.common.util.concurrent.ConcurrentCollections.newConcurrentMap;
@@ -711,6 +718,196 @@ public class SearchAsyncActionTests extends OpenSearchTestCase {
         assertThat(numFailReplicas.get(), greaterThanOrEqualTo(1));
     }
 
+    public void testHedgedShardRequests() throws InterruptedException {
+        SearchRequest request = new SearchRequest();
+        request.allowPartialSearchResults(true);
+        int numShards = randomIntBetween(1, 5);
+        DiscoveryNode slowNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode fastNode = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+        OriginalIndices originalIndices = new OriginalIndices(new String[] { "idx" }, SearchRequest.DEFAULT_INDICES_OPTIONS);
+        List<SearchShardIterator> iterators = new ArrayList<>();
+        for (int i = 0; i < numShards; i++) {
+            ShardId shardId = new ShardId(new Index("idx", "_na_"), i);
+            List<ShardRouting> copies = new ArrayList<>();
+            for (DiscoveryNode node : new DiscoveryNode[] { slowNode, fastNode }) {
+                ShardRouting routing = ShardRouting.newUnassigned(
+                    shardId,
+                    node == slowNode,
+                    node == slowNode ? RecoverySource.EmptyStoreRecoverySource.INSTANCE : RecoverySource.PeerRecoverySource.INSTANCE,
+                    new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "foobar")
+                );
+                copies.add(routing.initialize(node.getId(), i + node.getId(), 0).moveToStarted());
+            }
+            // the copy on the slow node is requested first
+            iterators.add(new SearchShardIterator(null, shardId, copies, originalIndices));
+        }
+        GroupShardsIterator<SearchShardIterator> shardsIter = new GroupShardsIterator<>(iterators);
+
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            Set<SearchTask> registeredTasks = newConcurrentSet();
+            Set<SearchTask> cancelledTasks = newConcurrentSet();
+            AtomicLong taskIdGenerator = new AtomicLong();
+            SearchRequestHedging requestHedging = new SearchRequestHedging(null, threadPool, null, NoopMetricsRegistry.INSTANCE) {
+                @Override
+                long startShardRequest(ClusterState clusterState, SearchShardIterator shardIt) {
+                    return TimeValue.timeValueMillis(1).nanos();
+                }
+
+                @Override
+                boolean tryAcquireHedge() {
+                    return true;
+                }
+
+                @Override
+                SearchTask registerAttemptTask(SearchTask searchTask, SearchShardTarget shard) {
+                    SearchTask task = new SearchTask(
+                        taskIdGenerator.incrementAndGet(),
+                        "transport",
+                        HEDGED_SHARD_ACTION_NAME,
+                        shard::toString,
+                        TaskId.EMPTY_TASK_ID,
+                        Collections.emptyMap()
+                    );
+                    registeredTasks.add(task);
+                    return task;
+                }
+
+                @Override
+                void cancelAttemptTask(SearchTask task) {
+                    assertTrue(registeredTasks.contains(task));
+                    cancelledTasks.add(task);
+                }
+
+                @Override
+                void unregisterAttemptTask(SearchTask task) {
+                    assertTrue(registeredTasks.remove(task));
+                }
+            };
+            Map<SearchTask, SearchShardTarget> parentTasks = new ConcurrentHashMap<>();
+            Map<String, Transport.Connection> lookup = new HashMap<>();
+            lookup.put(slowNode.getId(), new MockConnection(slowNode));
+            lookup.put(fastNode.getId(), new MockConnection(fastNode));
+            Map<String, AliasFilter> aliasFilters = Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY));
+            List<SearchActionListener<TestSearchPhaseResult>> slowListeners = Collections.synchronizedList(new ArrayList<>());
+            Set<ShardSearchContextId> releasedContexts = newConcurrentSet();
+            AtomicInteger contextIdGenerator = new AtomicInteger(0);
+            CountDownLatch latch = new CountDownLatch(1);
+            ActionListener<SearchResponse> responseListener = ActionListener.wrap(
+                response -> {},
+                (e) -> { throw new AssertionError("unexpected", e); }
+            );
+            final SearchRequestOperationsListener searchRequestOperationsListener = new SearchRequestOperationsListener.CompositeListener(
+                List.of(assertingListener),
+                LogManager.getLogger()
+            );
+            AbstractSearchAsyncAction<TestSearchPhaseResult> asyncAction = new AbstractSearchAsyncAction<TestSearchPhaseResult>(
+                "test",
+                logger,
+                new SearchTransportService(null, null),
+                (cluster, node) -> lookup.get(node),
+                aliasFilters,
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                threadPool.executor(ThreadPool.Names.GENERIC),
+                request,
+                responseListener,
+                shardsIter,
+                new TransportSearchAction.SearchTimeProvider(0, 0, () -> 0),
+                ClusterState.EMPTY_STATE,
+                null,
+                new ArraySearchPhaseResults<>(shardsIter.size()),
+                request.getMaxConcurrentShardRequests(),
+                SearchResponse.Clusters.EMPTY,
+                new SearchRequestContext(searchRequestOperationsListener, request, () -> null),
+                NoopTracer.INSTANCE
+            ) {
+                @Override
+                protected void executePhaseOnShard(
+                    SearchShardIterator shardIt,
+                    SearchShardTarget shard,
+                    SearchActionListener<TestSearchPhaseResult> listener
+                ) {
+                    throw new AssertionError("hedged shard requests must be sent as children of their own task");
+                }
+
+                @Override
+                protected void executePhaseOnShard(
+                    SearchShardIterator shardIt,
+                    SearchShardTarget shard,
+                    SearchTask parentTask,
+                    SearchActionListener<TestSearchPhaseResult> listener
+                ) {
+                    assertNull(parentTasks.put(parentTask, shard));
+                    if (shard.getNodeId().equals(slowNode.getId())) {
+                        slowListeners.add(listener);
+                    } else {
+                        new Thread(
+                            () -> listener.onResponse(
+                                new TestSearchPhaseResult(
+                                    new ShardSearchContextId(UUIDs.randomBase64UUID(), contextIdGenerator.incrementAndGet()),
+                                    fastNode
+                                )
+                            )
+                        ).start();
+                    }
+                }
+
+                @Override
+                public void sendReleaseSearchContext(
+                    ShardSearchContextId contextId,
+                    Transport.Connection connection,
+                    OriginalIndices originalIndices
+                ) {
+                    assertEquals(slowNode, connection.getNode());
+                    releasedContexts.add(contextId);
+                }
+
+                @Override
+                protected SearchPhase getNextPhase(SearchPhaseResults<TestSearchPhaseResult> results, SearchPhaseContext context) {
+                    return new SearchPhase("test") {
+                        @Override
+                        public void run() {
+                            results.getSuccessfulResults().forEach(result -> assertEquals(fastNode, result.node));
+                            searchRequestOperationsListener.onPhaseEnd(new MockSearchPhaseContext(1, request, this), null);
+                            latch.countDown();
+                        }
+                    };
+                }
+            };
+            asyncAction.setRequestHedging(requestHedging);
+            asyncAction.start();
+            latch.await();
+            SearchResponse searchResponse = asyncAction.buildSearchResponse(null, asyncAction.buildShardFailures(), null, null);
+            assertEquals(numShards, searchResponse.getSuccessfulShards());
+            assertEquals(0, searchResponse.getFailedShards());
+
+            // every request was sent as the child of its own task, the tasks of the requests that lost are cancelled
+            assertEquals(2 * numShards, parentTasks.size());
+            assertEquals(numShards, cancelledTasks.size());
+            for (SearchTask task : cancelledTasks) {
+                assertEquals(slowNode.getId(), parentTasks.get(task).getNodeId());
+            }
+            assertEquals(cancelledTasks, registeredTasks);
+
+            // the abandoned requests release their reader contexts when they respond
+            assertEquals(numShards, slowListeners.size());
+            for (SearchActionListener<TestSearchPhaseResult> listener : slowListeners) {
+                listener.onResponse(
+                    new TestSearchPhaseResult(
+                        new ShardSearchContextId(UUIDs.randomBase64UUID(), contextIdGenerator.incrementAndGet()),
+                        slowNode
+                    )
+                );
+            }
+            assertEquals(numShards, releasedContexts.size());
+            assertEquals(numShards, searchResponse.getSuccessfulShards());
+            assertTrue(registeredTasks.isEmpty());
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
     static GroupShardsIterator<SearchShardIterator> getShardsIter(
         String index,
         OriginalIndices originalIndices,
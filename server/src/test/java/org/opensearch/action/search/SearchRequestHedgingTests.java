@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.Version;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.RecoverySource;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.UnassignedInfo;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
+import org.opensearch.test.ClusterServiceUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.closeTo;
+
+public class SearchRequestHedgingTests extends OpenSearchTestCase {
+
+    public void testPercentileOfResponseTimes() {
+        final SearchRequestHedging.IndexResponseTimes responseTimes = new SearchRequestHedging.IndexResponseTimes();
+        final long startNanos = System.nanoTime();
+        for (int i = 1; i <= SearchRequestHedging.MIN_SAMPLES; i++) {
+            responseTimes.record(TimeValue.timeValueMillis(i).nanos());
+        }
+        // the response times are not used before the first window is complete
+        assertEquals(-1, responseTimes.valueAtPercentile(90, startNanos));
+        final long delayNanos = responseTimes.valueAtPercentile(90, startNanos + TimeUnit.SECONDS.toNanos(1));
+        assertThat((double) delayNanos, closeTo(TimeValue.timeValueMillis(90).nanos(), TimeValue.timeValueMillis(1).nanos()));
+
+        // a window needs enough response times to replace the previous one
+        for (int i = 0; i < SearchRequestHedging.MIN_SAMPLES / 2; i++) {
+            responseTimes.record(TimeValue.timeValueMillis(500).nanos());
+        }
+        assertEquals(delayNanos, responseTimes.valueAtPercentile(90, startNanos + TimeUnit.SECONDS.toNanos(2)));
+        for (int i = 0; i < SearchRequestHedging.MIN_SAMPLES / 2; i++) {
+            responseTimes.record(TimeValue.timeValueMillis(500).nanos());
+        }
+        assertThat(
+            (double) responseTimes.valueAtPercentile(90, startNanos + TimeUnit.SECONDS.toNanos(3)),
+            closeTo(TimeValue.timeValueMillis(500).nanos(), TimeValue.timeValueMillis(5).nanos())
+        );
+    }
+
+    public void testBudget() {
+        final ThreadPool threadPool = new TestThreadPool(getTestName());
+        try (ClusterService clusterService = ClusterServiceUtils.createClusterService(threadPool)) {
+            final SearchRequestHedging requestHedging = new SearchRequestHedging(
+                clusterService,
+                threadPool,
+                null,
+                NoopMetricsRegistry.INSTANCE
+            );
+            final ClusterState clusterState = clusterState(90, 1);
+            // the default budget of 5% allows one hedged request per 20 shard requests
+            for (int i = 0; i < 19; i++) {
+                assertEquals(-1, requestHedging.startShardRequest(clusterState, shardIterator(clusterState)));
+            }
+            assertFalse(requestHedging.tryAcquireHedge());
+            requestHedging.startShardRequest(clusterState, shardIterator(clusterState));
+            assertTrue(requestHedging.tryAcquireHedge());
+            assertFalse(requestHedging.tryAcquireHedge());
+
+            // shard requests of indices that are not hedged do not add to the budget, including once an update of the settings of
+            // the index turned hedging off
+            final ClusterState notHedged = clusterState(0, 2);
+            for (int i = 0; i < 20; i++) {
+                assertEquals(-1, requestHedging.startShardRequest(notHedged, shardIterator(notHedged)));
+            }
+            assertFalse(requestHedging.tryAcquireHedge());
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static ClusterState clusterState(double percentile, long settingsVersion) {
+        final IndexMetadata indexMetadata = IndexMetadata.builder("idx")
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(SearchRequestHedging.HEDGING_LATENCY_PERCENTILE_SETTING.getKey(), percentile)
+            )
+            .settingsVersion(settingsVersion)
+            .numberOfShards(1)
+            .numberOfReplicas(1)
+            .build();
+        return ClusterState.builder(ClusterName.DEFAULT).metadata(Metadata.builder().put(indexMetadata, false)).build();
+    }
+
+    private static SearchShardIterator shardIterator(ClusterState clusterState) {
+        final ShardId shardId = new ShardId(clusterState.metadata().index("idx").getIndex(), 0);
+        final List<ShardRouting> copies = new ArrayList<>();
+        for (String nodeId : new String[] { "node_1", "node_2" }) {
+            final ShardRouting routing = ShardRouting.newUnassigned(
+                shardId,
+                copies.isEmpty(),
+                copies.isEmpty() ? RecoverySource.EmptyStoreRecoverySource.INSTANCE : RecoverySource.PeerRecoverySource.INSTANCE,
+                new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "foobar")
+            );
+            copies.add(routing.initialize(nodeId, null, 0).moveToStarted());
+        }
+        final SearchShardIterator shardIt = new SearchShardIterator(
+            null,
+            shardId,
+            copies,
+            new OriginalIndices(new String[] { "idx" }, SearchRequest.DEFAULT_INDICES_OPTIONS)
+        );
+        shardIt.nextOrNull();
+        return shardIt;
+    }
+}
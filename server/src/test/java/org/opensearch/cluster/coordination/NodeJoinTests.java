@@ -54,6 +54,7 @@ import org.opensearch.cluster.service.FakeThreadPoolClusterManagerService;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.BaseFuture;
 import org.opensearch.common.util.concurrent.FutureUtils;
 import org.opensearch.core.action.ActionListener;
@@ -262,6 +263,7 @@ public class NodeJoinTests extends OpenSearchTestCase {
             clusterSettings,
             transportService,
             writableRegistry(),
+            BigArrays.NON_RECYCLING_INSTANCE,
             OpenSearchAllocationTestCase.createAllocationService(Settings.EMPTY),
             clusterManagerService,
             () -> persistedStateRegistry.getPersistedState(PersistedStateType.LOCAL),
@@ -36,18 +36,31 @@ import org.opensearch.Version;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.Diff;
+import org.opensearch.cluster.IncompatibleClusterStateVersionException;
 import org.opensearch.cluster.coordination.CoordinationMetadata.VotingConfiguration;
 import org.opensearch.cluster.coordination.PersistedStateRegistry.PersistedStateType;
 import org.opensearch.cluster.coordination.PublicationTransportHandler.PublicationContext;
 import org.opensearch.cluster.coordination.PublicationTransportHandler.RemotePublicationContext;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.LazyIndexSettings;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.common.UUIDs;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.gateway.GatewayMetaState.RemotePersistedState;
 import org.opensearch.gateway.remote.ClusterMetadataManifest;
 import org.opensearch.gateway.remote.ClusterStateDiffManifest;
@@ -58,6 +71,10 @@ import org.opensearch.telemetry.tracing.noop.NoopTracer;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.transport.CapturingTransport;
 import org.opensearch.test.transport.CapturingTransport.CapturedRequest;
+import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.transport.BytesTransportRequest;
+import org.opensearch.transport.RequestHandlerRegistry;
+import org.opensearch.transport.TestTransportChannel;
 import org.opensearch.transport.TransportService;
 import org.junit.Before;
 
@@ -66,6 +83,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.mockito.Mockito;
@@ -461,13 +479,148 @@ public class PublicationTransportHandlerTests extends OpenSearchTestCase {
         assertThat(capturedRequest1.request, instanceOf(RemotePublishRequest.class));
     }
 
+    public void testSerializedStatesAreReleasedOnceRequestsComplete() {
+        // the mock big arrays fail the test if the serialized states are not released
+        final BigArrays bigArrays = new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+        final PublicationTransportHandler handler = getPublicationTransportHandler(bigArrays, p -> null, null);
+        final ClusterChangedEvent event = new ClusterChangedEvent(
+            "test",
+            buildClusterState(TERM, VERSION + 1),
+            buildClusterState(TERM, VERSION)
+        );
+        final PublicationContext publicationContext = handler.newPublicationContext(event, false, new PersistedStateRegistry());
+        final AtomicReference<PublishWithJoinResponse> receivedResponse = new AtomicReference<>();
+        publicationContext.sendClusterState(
+            secondNode,
+            ActionListener.wrap(receivedResponse::set, e -> { throw new AssertionError("unexpected failure", e); })
+        );
+        publicationContext.decRef();
+        // the request in flight still holds on to the serialized diff
+        assertThat(publicationContext.refCount(), equalTo(1));
+
+        final CapturedRequest[] diffRequests = capturingTransport.getCapturedRequestsAndClear();
+        assertThat(diffRequests.length, equalTo(1));
+        assertThat(diffRequests[0].request, instanceOf(BytesTransportRequest.class));
+        capturingTransport.handleRemoteError(diffRequests[0].requestId, new IncompatibleClusterStateVersionException("simulated"));
+        // falling back to the full state keeps the serialized states alive
+        assertThat(publicationContext.refCount(), equalTo(1));
+
+        final CapturedRequest[] fullStateRequests = capturingTransport.getCapturedRequestsAndClear();
+        assertThat(fullStateRequests.length, equalTo(1));
+        final PublishWithJoinResponse response = new PublishWithJoinResponse(new PublishResponse(TERM, VERSION + 1), Optional.empty());
+        capturingTransport.handleResponse(fullStateRequests[0].requestId, response);
+        assertNotNull(receivedResponse.get());
+        assertThat(publicationContext.refCount(), equalTo(0));
+    }
+
+    public void testIncomingFullStateKeepsSettingsOfRemoteIndicesSerialized() throws Exception {
+        final AtomicReference<ClusterState> acceptedState = new AtomicReference<>();
+        final PublishWithJoinResponse expectedPublishResponse = new PublishWithJoinResponse(
+            new PublishResponse(TERM, VERSION + 1),
+            Optional.empty()
+        );
+        final PublicationTransportHandler handler = getPublicationTransportHandler(
+            BigArrays.NON_RECYCLING_INSTANCE,
+            new LazyIndexSettings(),
+            p -> {
+                acceptedState.set(p.getAcceptedState());
+                return expectedPublishResponse;
+            },
+            null
+        );
+
+        // the second node publishes a state with a shard of local_index on this node and a shard of remote_index on the second node
+        final Metadata.Builder metadata = Metadata.builder().coordinationMetadata(CoordinationMetadata.builder().term(TERM).build());
+        final RoutingTable.Builder routingTable = RoutingTable.builder();
+        for (DiscoveryNode node : new DiscoveryNode[] { localNode, secondNode }) {
+            final IndexMetadata indexMetadata = IndexMetadata.builder(node == localNode ? "local_index" : "remote_index")
+                .settings(settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_UUID, UUIDs.randomBase64UUID()))
+                .numberOfShards(1)
+                .numberOfReplicas(0)
+                .build();
+            metadata.put(indexMetadata, false);
+            routingTable.add(
+                IndexRoutingTable.builder(indexMetadata.getIndex())
+                    .addShard(
+                        TestShardRouting.newShardRouting(
+                            new ShardId(indexMetadata.getIndex(), 0),
+                            node.getId(),
+                            true,
+                            ShardRoutingState.STARTED
+                        )
+                    )
+            );
+        }
+        final ClusterState clusterState = ClusterState.builder(ClusterState.EMPTY_STATE)
+            .version(VERSION + 1)
+            .metadata(metadata)
+            .routingTable(routingTable.build())
+            .nodes(
+                DiscoveryNodes.builder()
+                    .add(localNode)
+                    .add(secondNode)
+                    .localNodeId(secondNode.getId())
+                    .clusterManagerNodeId(secondNode.getId())
+            )
+            .build();
+        final ClusterState previousState = ClusterState.builder(ClusterState.EMPTY_STATE).version(VERSION).build();
+
+        // serialize the full state as the second node does, capturing it on its way out, and receive it on this node
+        final PublicationContext publicationContext = handler.newPublicationContext(
+            new ClusterChangedEvent("test", clusterState, previousState),
+            false,
+            new PersistedStateRegistry()
+        );
+        publicationContext.sendClusterState(secondNode, ActionListener.wrap(r -> {}, e -> { throw new AssertionError(e); }));
+        final CapturedRequest[] requests = capturingTransport.getCapturedRequestsAndClear();
+        assertThat(requests.length, equalTo(1));
+        assertThat(requests[0].action, equalTo(PublicationTransportHandler.PUBLISH_STATE_ACTION_NAME));
+        final RequestHandlerRegistry<BytesTransportRequest> publishHandler = capturingTransport.getRequestHandlers()
+            .getHandler(PublicationTransportHandler.PUBLISH_STATE_ACTION_NAME);
+        final AtomicReference<TransportResponse> response = new AtomicReference<>();
+        publishHandler.processMessageReceived(
+            (BytesTransportRequest) requests[0].request,
+            new TestTransportChannel(ActionListener.wrap(response::set, e -> { throw new AssertionError(e); }))
+        );
+        assertThat(response.get(), is(expectedPublishResponse));
+        capturingTransport.handleResponse(requests[0].requestId, response.get());
+        publicationContext.decRef();
+        assertThat(publicationContext.refCount(), equalTo(0));
+
+        final Metadata accepted = acceptedState.get().metadata();
+        assertFalse(accepted.index("local_index").hasSerializedSettings());
+        assertTrue(accepted.index("remote_index").hasSerializedSettings());
+        assertEquals(clusterState.metadata().index("remote_index").getSettings(), accepted.index("remote_index").getSettings());
+        // the indices lookups refer to the instances of the accepted state
+        assertSame(accepted.index("remote_index"), accepted.getIndicesLookup().get("remote_index").getWriteIndex());
+    }
+
+    private PublicationTransportHandler getPublicationTransportHandler(
+        Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
+        RemoteClusterStateService remoteClusterStateService
+    ) {
+        return getPublicationTransportHandler(BigArrays.NON_RECYCLING_INSTANCE, handlePublishRequest, remoteClusterStateService);
+    }
+
+    private PublicationTransportHandler getPublicationTransportHandler(
+        BigArrays bigArrays,
+        Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
+        RemoteClusterStateService remoteClusterStateService
+    ) {
+        return getPublicationTransportHandler(bigArrays, null, handlePublishRequest, remoteClusterStateService);
+    }
+
     private PublicationTransportHandler getPublicationTransportHandler(
+        BigArrays bigArrays,
+        LazyIndexSettings lazyIndexSettings,
         Function<PublishRequest, PublishWithJoinResponse> handlePublishRequest,
         RemoteClusterStateService remoteClusterStateService
     ) {
         final PublicationTransportHandler handler = new PublicationTransportHandler(
             transportService,
             writableRegistry(),
+            bigArrays,
+            lazyIndexSettings,
             handlePublishRequest,
             (pu, uc, l) -> {},
             remoteClusterStateService
@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.function.IntPredicate;
+
+public class LazyIndexSettingsTests extends OpenSearchTestCase {
+
+    private static final String LOCAL_NODE_ID = "local";
+    private static final String OTHER_NODE_ID = "other";
+
+    public void testSettingsOfIndicesWithoutLocalShardsAreKeptSerialized() throws IOException {
+        final LazyIndexSettings lazyIndexSettings = new LazyIndexSettings();
+        final ClusterState clusterState = clusterState(6, i -> i % 2 == 0);
+        final ClusterState lazyState = lazyIndexSettings.apply(clusterState);
+        assertEquals(clusterState.version(), lazyState.version());
+        assertEquals(clusterState.stateUUID(), lazyState.stateUUID());
+        for (IndexMetadata indexMetadata : clusterState.metadata().indices().values()) {
+            final IndexMetadata lazyIndexMetadata = lazyState.metadata().index(indexMetadata.getIndex());
+            final boolean local = Integer.parseInt(indexMetadata.getIndex().getName().substring("index_".length())) % 2 == 0;
+            assertEquals(local == false, lazyIndexMetadata.hasSerializedSettings());
+            assertEquals(indexMetadata.getSettings(), lazyIndexMetadata.getSettings());
+            assertEquals(indexMetadata.isHidden(), lazyIndexMetadata.isHidden());
+            assertEquals(indexMetadata, lazyIndexMetadata);
+            assertEquals(indexMetadata.hashCode(), lazyIndexMetadata.hashCode());
+            // the lookups refer to the new instances
+            final IndexAbstraction indexAbstraction = lazyState.metadata().getIndicesLookup().get(indexMetadata.getIndex().getName());
+            assertSame(lazyIndexMetadata, indexAbstraction.getWriteIndex());
+        }
+        assertArrayEquals(clusterState.metadata().getConcreteVisibleIndices(), lazyState.metadata().getConcreteVisibleIndices());
+
+        // applying again does not copy the state
+        assertSame(lazyState, lazyIndexSettings.apply(lazyState));
+    }
+
+    public void testSerializationOfLazyIndexMetadata() throws IOException {
+        final IndexMetadata indexMetadata = clusterState(1, i -> false).metadata().index("index_0");
+        final IndexMetadata lazyIndexMetadata = indexMetadata.withSerializedSettings();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            lazyIndexMetadata.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final IndexMetadata deserialized = IndexMetadata.readFrom(in);
+                assertFalse(deserialized.hasSerializedSettings());
+                assertEquals(indexMetadata, deserialized);
+            }
+        }
+        // comparing serialized settings does not decode them
+        final IndexMetadata otherLazyIndexMetadata = indexMetadata.withSerializedSettings();
+        assertEquals(lazyIndexMetadata, otherLazyIndexMetadata);
+        assertEquals(lazyIndexMetadata.hashCode(), otherLazyIndexMetadata.hashCode());
+        assertFalse(lazyIndexMetadata.serializedSettings().isDecoded());
+        assertFalse(otherLazyIndexMetadata.serializedSettings().isDecoded());
+
+        final IndexMetadata updated = IndexMetadata.builder(lazyIndexMetadata)
+            .settings(Settings.builder().put(lazyIndexMetadata.getSettings()).put("index.refresh_interval", "5s"))
+            .build();
+        assertFalse(updated.hasSerializedSettings());
+        assertEquals("5s", updated.getSettings().get("index.refresh_interval"));
+        assertEquals(indexMetadata.getNumberOfShards(), updated.getNumberOfShards());
+        assertNotEquals(lazyIndexMetadata, updated.withSerializedSettings());
+    }
+
+    public void testDecodedSettingsAreReleasedUnlessAccessed() throws IOException {
+        final LazyIndexSettings lazyIndexSettings = new LazyIndexSettings();
+        ClusterState lazyState = lazyIndexSettings.apply(clusterState(1, i -> false));
+        final LazyIndexSettings.Serialized serialized = lazyState.metadata().index("index_0").serializedSettings();
+        assertFalse(serialized.isDecoded());
+        final Settings settings = lazyState.metadata().index("index_0").getSettings();
+        assertTrue(serialized.isDecoded());
+        assertSame(settings, lazyState.metadata().index("index_0").getSettings());
+
+        // the settings were accessed since the previous state, so they are kept for another one
+        lazyState = lazyIndexSettings.apply(ClusterState.builder(lazyState).incrementVersion().build());
+        assertTrue(serialized.isDecoded());
+        lazyState = lazyIndexSettings.apply(ClusterState.builder(lazyState).incrementVersion().build());
+        assertFalse(serialized.isDecoded());
+        assertEquals(settings, lazyState.metadata().index("index_0").getSettings());
+    }
+
+    public void testDiffOfLazyStateKeepsUnchangedIndices() throws IOException {
+        final LazyIndexSettings lazyIndexSettings = new LazyIndexSettings();
+        final ClusterState clusterState = clusterState(3, i -> false);
+        final ClusterState lazyState = lazyIndexSettings.apply(clusterState);
+        final IndexMetadata indexMetadata = clusterState.metadata().index("index_0");
+        final IndexMetadata changed = IndexMetadata.builder(indexMetadata)
+            .settings(Settings.builder().put(indexMetadata.getSettings()).put(IndexMetadata.SETTING_INDEX_HIDDEN, true))
+            .settingsVersion(2)
+            .build();
+        final ClusterState newState = ClusterState.builder(clusterState)
+            .incrementVersion()
+            .metadata(Metadata.builder(clusterState.metadata()).put(changed, true))
+            .build();
+        final ClusterState incomingState = newState.diff(clusterState).apply(lazyState);
+        final ClusterState appliedState = lazyIndexSettings.apply(incomingState);
+        assertSame(lazyState.metadata().index("index_1"), appliedState.metadata().index("index_1"));
+        assertTrue(appliedState.metadata().index("index_0").hasSerializedSettings());
+        assertTrue(appliedState.metadata().index("index_0").isHidden());
+        assertArrayEquals(new String[] { "index_1" }, appliedState.metadata().getConcreteVisibleIndices());
+        // the lookups of the incoming state are re-used
+        assertSame(
+            incomingState.metadata().getIndicesLookup().get("index_2"),
+            appliedState.metadata().getIndicesLookup().get("index_2")
+        );
+    }
+
+    public void testSettingsAreDecodedOnceShardIsAllocatedLocally() throws IOException {
+        final LazyIndexSettings lazyIndexSettings = new LazyIndexSettings();
+        final ClusterState clusterState = clusterState(2, i -> false);
+        final ClusterState lazyState = lazyIndexSettings.apply(clusterState);
+        assertTrue(lazyState.metadata().index("index_1").hasSerializedSettings());
+
+        final ClusterState relocatedState = ClusterState.builder(clusterState(2, i -> i == 1)).incrementVersion().build();
+        final ClusterState appliedState = lazyIndexSettings.apply(relocatedState.diff(clusterState).apply(lazyState));
+        assertTrue(appliedState.metadata().index("index_0").hasSerializedSettings());
+        assertFalse(appliedState.metadata().index("index_1").hasSerializedSettings());
+        assertEquals(clusterState.metadata().index("index_1"), appliedState.metadata().index("index_1"));
+
+        // and serialized again once the shard is allocated elsewhere
+        final ClusterState movedAwayState = ClusterState.builder(clusterState).version(relocatedState.version()).incrementVersion().build();
+        final ClusterState movedAwayAppliedState = lazyIndexSettings.apply(movedAwayState.diff(relocatedState).apply(appliedState));
+        assertTrue(movedAwayAppliedState.metadata().index("index_1").hasSerializedSettings());
+    }
+
+    private static ClusterState clusterState(int numberOfIndices, IntPredicate hasLocalShard) {
+        final Metadata.Builder metadata = Metadata.builder();
+        final RoutingTable.Builder routingTable = RoutingTable.builder();
+        for (int i = 0; i < numberOfIndices; i++) {
+            final IndexMetadata indexMetadata = IndexMetadata.builder("index_" + i)
+                .settings(
+                    Settings.builder()
+                        .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                        .put(IndexMetadata.SETTING_INDEX_HIDDEN, i % 3 == 2)
+                        .put("index.refresh_interval", i + "s")
+                )
+                .numberOfShards(1)
+                .numberOfReplicas(0)
+                .build();
+            metadata.put(indexMetadata, false);
+            routingTable.add(
+                IndexRoutingTable.builder(indexMetadata.getIndex())
+                    .addShard(
+                        TestShardRouting.newShardRouting(
+                            new ShardId(indexMetadata.getIndex(), 0),
+                            hasLocalShard.test(i) ? LOCAL_NODE_ID : OTHER_NODE_ID,
+                            true,
+                            ShardRoutingState.STARTED
+                        )
+                    )
+            );
+        }
+        final DiscoveryNodes nodes = DiscoveryNodes.builder()
+            .add(new DiscoveryNode(LOCAL_NODE_ID, buildNewFakeTransportAddress(), Version.CURRENT))
+            .add(new DiscoveryNode(OTHER_NODE_ID, buildNewFakeTransportAddress(), Version.CURRENT))
+            .localNodeId(LOCAL_NODE_ID)
+            .clusterManagerNodeId(OTHER_NODE_ID)
+            .build();
+        return ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).routingTable(routingTable.build()).nodes(nodes).build();
+    }
+}
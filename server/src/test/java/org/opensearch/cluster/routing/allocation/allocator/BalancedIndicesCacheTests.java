@@ -0,0 +1,231 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.OpenSearchAllocationTestCase;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.RoutingNode;
+import org.opensearch.cluster.routing.RoutingNodes;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.common.settings.Settings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BalancedIndicesCacheTests extends OpenSearchAllocationTestCase {
+
+    private static final float THRESHOLD = 1.0f;
+
+    private final BalancedShardsAllocator.WeightFunction weightFunction = new BalancedShardsAllocator.WeightFunction(
+        0.55f,
+        0.45f,
+        0.10f,
+        10,
+        false,
+        false
+    );
+
+    private final IndexMetadata indexMetadata = IndexMetadata.builder("idx")
+        .settings(settings(Version.CURRENT))
+        .numberOfShards(2)
+        .numberOfReplicas(0)
+        .build();
+
+    public void testUnchangedIndexIsCached() {
+        final BalancedIndicesCache cache = new BalancedIndicesCache();
+        final List<BalancedShardsAllocator.ModelNode> nodes = modelNodes(3);
+        addShard(nodes.get(0), "idx", 0);
+        addShard(nodes.get(1), "idx", 1);
+
+        BalancedIndicesCache.Round round = cache.startRound(nodes, weightFunction, THRESHOLD);
+        assertTrue(Float.isNaN(round.balancedDelta("idx", indexMetadata)));
+        round.computedDelta("idx", indexMetadata, 0.5f);
+        round.finish();
+
+        round = cache.startRound(nodes, weightFunction, THRESHOLD);
+        assertEquals(0.5f, round.balancedDelta("idx", indexMetadata), 0.0f);
+        round.finish();
+
+        // still cached after a round that did not need to compute it
+        round = cache.startRound(nodes, weightFunction, THRESHOLD);
+        assertEquals(0.5f, round.balancedDelta("idx", indexMetadata), 0.0f);
+    }
+
+    public void testUnbalancedIndexIsNotCached() {
+        final BalancedIndicesCache cache = new BalancedIndicesCache();
+        final List<BalancedShardsAllocator.ModelNode> nodes = modelNodes(3);
+        addShard(nodes.get(0), "idx", 0);
+        addShard(nodes.get(0), "idx", 1);
+
+        BalancedIndicesCache.Round round = cache.startRound(nodes, weightFunction, THRESHOLD);
+        round.computedDelta("idx", indexMetadata, 1.5f);
+        round.finish();
+
+        round = cache.startRound(nodes, weightFunction, THRESHOLD);
+        assertTrue(Float.isNaN(round.balancedDelta("idx", indexMetadata)));
+    }
+
+    public void testMovedShardsOfIndexAreRecomputed() {
+        final BalancedIndicesCache cache = new BalancedIndicesCache();
+        final List<BalancedShardsAllocator.ModelNode> nodes = modelNodes(3);
+        addShard(nodes.get(0), "idx", 0);
+        addShard(nodes.get(1), "idx", 1);
+        addShard(nodes.get(2), "other", 0);
+
+        BalancedIndicesCache.Round round = cache.startRound(nodes, weightFunction, THRESHOLD);
+        round.computedDelta("idx", indexMetadata, 0.5f);
+        round.finish();
+
+        // swap shards of the index and of another index, which does not change the number of shards of the nodes
+        nodes.get(1).removeShard(nodes.get(1).getIndex("idx").iterator().next());
+        nodes.get(2).removeShard(nodes.get(2).getIndex("other").iterator().next());
+        addShard(nodes.get(1), "other", 0);
+        addShard(nodes.get(2), "idx", 1);
+        round = cache.startRound(nodes, weightFunction, THRESHOLD);
+        assertTrue(Float.isNaN(round.balancedDelta("idx", indexMetadata)));
+    }
+
+    public void testShardsOfOtherIndicesIncreaseDelta() {
+        final BalancedIndicesCache cache = new BalancedIndicesCache();
+        final List<BalancedShardsAllocator.ModelNode> nodes = modelNodes(3);
+        addShard(nodes.get(0), "idx", 0);
+        addShard(nodes.get(1), "idx", 1);
+
+        BalancedIndicesCache.Round round = cache.startRound(nodes, weightFunction, THRESHOLD);
+        round.computedDelta("idx", indexMetadata, 0.5f);
+        round.finish();
+
+        // one node got a shard of another index
+        addShard(nodes.get(2), "other", 0);
+        round = cache.startRound(nodes, weightFunction, THRESHOLD);
+        final float delta = round.balancedDelta("idx", indexMetadata);
+        assertEquals(0.5f + weightFunction.maxDeltaIncrease(1), delta, 0.0f);
+        round.finish();
+
+        // the same node got another one, which could tip the balance of the index
+        addShard(nodes.get(2), "other", 1);
+        round = cache.startRound(nodes, weightFunction, THRESHOLD);
+        assertTrue(Float.isNaN(round.balancedDelta("idx", indexMetadata)));
+    }
+
+    public void testChangedModelInvalidatesCache() {
+        final BalancedIndicesCache cache = new BalancedIndicesCache();
+        final List<BalancedShardsAllocator.ModelNode> nodes = modelNodes(3);
+        addShard(nodes.get(0), "idx", 0);
+        addShard(nodes.get(1), "idx", 1);
+
+        BalancedIndicesCache.Round round = cache.startRound(nodes, weightFunction, THRESHOLD);
+        round.computedDelta("idx", indexMetadata, 0.5f);
+        round.finish();
+
+        // a different threshold
+        assertTrue(Float.isNaN(cache.startRound(nodes, weightFunction, 2.0f).balancedDelta("idx", indexMetadata)));
+        // a different weight function
+        final BalancedShardsAllocator.WeightFunction otherWeightFunction = new BalancedShardsAllocator.WeightFunction(
+            0.55f,
+            0.45f,
+            0.10f,
+            10,
+            false,
+            false
+        );
+        assertTrue(Float.isNaN(cache.startRound(nodes, otherWeightFunction, THRESHOLD).balancedDelta("idx", indexMetadata)));
+        // a different number of replicas
+        final IndexMetadata withReplicas = IndexMetadata.builder(indexMetadata).numberOfReplicas(1).build();
+        assertTrue(Float.isNaN(cache.startRound(nodes, weightFunction, THRESHOLD).balancedDelta("idx", withReplicas)));
+        // a new node
+        final List<BalancedShardsAllocator.ModelNode> moreNodes = new ArrayList<>(nodes);
+        moreNodes.add(new BalancedShardsAllocator.ModelNode(new RoutingNode("node_3", null)));
+        assertTrue(Float.isNaN(cache.startRound(moreNodes, weightFunction, THRESHOLD).balancedDelta("idx", indexMetadata)));
+
+        cache.invalidate();
+        assertTrue(Float.isNaN(cache.startRound(nodes, weightFunction, THRESHOLD).balancedDelta("idx", indexMetadata)));
+    }
+
+    public void testIncrementalBalanceBalancesCluster() {
+        final int numberOfIndices = randomIntBetween(5, 20);
+        final Metadata.Builder metadataBuilder = Metadata.builder();
+        for (int i = 0; i < numberOfIndices; i++) {
+            metadataBuilder.put(
+                IndexMetadata.builder("test_" + i)
+                    .settings(settings(Version.CURRENT))
+                    .numberOfShards(randomIntBetween(2, 5))
+                    .numberOfReplicas(1)
+            );
+        }
+        final Metadata metadata = metadataBuilder.build();
+        final RoutingTable.Builder routingTableBuilder = RoutingTable.builder();
+        for (int i = 0; i < numberOfIndices; i++) {
+            routingTableBuilder.addAsNew(metadata.index("test_" + i));
+        }
+        final DiscoveryNodes.Builder nodes = DiscoveryNodes.builder();
+        for (int i = 0; i < 3; i++) {
+            nodes.add(newNode("node_" + i));
+        }
+        ClusterState clusterState = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata)
+            .routingTable(routingTableBuilder.build())
+            .nodes(nodes)
+            .build();
+
+        final AllocationService strategy = createAllocationService(
+            Settings.builder()
+                .put(BalancedShardsAllocator.INCREMENTAL_BALANCE_SETTING.getKey(), true)
+                .put("cluster.routing.allocation.node_concurrent_recoveries", 10)
+                .put("cluster.routing.allocation.cluster_concurrent_rebalance", -1)
+                .build()
+        );
+        clusterState = strategy.reroute(clusterState, "reroute");
+        clusterState = applyStartedShardsUntilNoChange(clusterState, strategy);
+        assertAllStarted(clusterState);
+
+        // add nodes, the cached indices must not prevent the cluster from getting balanced again
+        final DiscoveryNodes.Builder moreNodes = DiscoveryNodes.builder(clusterState.nodes());
+        for (int i = 3; i < 6; i++) {
+            moreNodes.add(newNode("node_" + i));
+        }
+        clusterState = ClusterState.builder(clusterState).nodes(moreNodes).build();
+        clusterState = strategy.reroute(clusterState, "reroute");
+        clusterState = applyStartedShardsUntilNoChange(clusterState, strategy);
+        assertAllStarted(clusterState);
+        for (RoutingNode routingNode : clusterState.getRoutingNodes()) {
+            assertTrue(routingNode.nodeId() + " did not get any shards", routingNode.size() > 0);
+        }
+
+        // a balanced cluster stays as it is
+        assertEquals(clusterState, strategy.reroute(clusterState, "reroute"));
+    }
+
+    private static void assertAllStarted(ClusterState clusterState) {
+        final RoutingNodes routingNodes = clusterState.getRoutingNodes();
+        assertEquals(0, routingNodes.shardsWithState(ShardRoutingState.INITIALIZING).size());
+        assertEquals(0, routingNodes.shardsWithState(ShardRoutingState.RELOCATING).size());
+        assertEquals(0, routingNodes.shardsWithState(ShardRoutingState.UNASSIGNED).size());
+    }
+
+    private static List<BalancedShardsAllocator.ModelNode> modelNodes(int numberOfNodes) {
+        final List<BalancedShardsAllocator.ModelNode> nodes = new ArrayList<>();
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodes.add(new BalancedShardsAllocator.ModelNode(new RoutingNode("node_" + i, null)));
+        }
+        return nodes;
+    }
+
+    private static void addShard(BalancedShardsAllocator.ModelNode node, String index, int shardId) {
+        node.addShard(TestShardRouting.newShardRouting(index, shardId, node.getNodeId(), true, ShardRoutingState.STARTED));
+    }
+}
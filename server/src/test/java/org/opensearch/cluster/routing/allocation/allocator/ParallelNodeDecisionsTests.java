@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterInfo;
+import org.opensearch.cluster.ClusterModule;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.DiskUsage;
+import org.opensearch.cluster.OpenSearchAllocationTestCase;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.RoutingNode;
+import org.opensearch.cluster.routing.RoutingNodes;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardMovementStrategy;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.allocation.AllocateUnassignedDecision;
+import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.RoutingAllocation;
+import org.opensearch.cluster.routing.allocation.decider.AllocationDecider;
+import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
+import org.opensearch.cluster.routing.allocation.decider.AwarenessAllocationDecider;
+import org.opensearch.cluster.routing.allocation.decider.Decision;
+import org.opensearch.cluster.routing.allocation.decider.SameShardAllocationDecider;
+import org.opensearch.cluster.routing.allocation.decider.ShardsLimitAllocationDecider;
+import org.opensearch.cluster.routing.allocation.decider.ThrottlingAllocationDecider;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class ParallelNodeDecisionsTests extends OpenSearchAllocationTestCase {
+
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        super.tearDown();
+    }
+
+    public void testDecisionsAreInNodeOrder() {
+        final Integer[] nodes = new Integer[randomIntBetween(1, 200)];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = i;
+        }
+        final int from = randomIntBetween(0, nodes.length - 1);
+        final int to = randomIntBetween(from, nodes.length);
+        final ParallelNodeDecisions parallelNodeDecisions = new ParallelNodeDecisions(randomIntBetween(2, 8), threadPool.generic());
+        final Decision[] decisions = parallelNodeDecisions.decide(nodes, from, to, node -> node % 3 == 0 ? Decision.NO : Decision.YES);
+        assertEquals(to - from, decisions.length);
+        for (int i = from; i < to; i++) {
+            assertEquals(i % 3 == 0 ? Decision.NO : Decision.YES, decisions[i - from]);
+        }
+    }
+
+    public void testDecisionsCompleteWithoutExecutorThreads() {
+        final Integer[] nodes = new Integer[4 * ParallelNodeDecisions.MIN_NODES_PER_TASK];
+        Arrays.fill(nodes, 0);
+        // the executor either never runs the tasks or rejects them, so the calling thread takes all decisions
+        final Executor executor = randomBoolean() ? command -> {} : command -> {
+            throw new RejectedExecutionException("rejected");
+        };
+        final ParallelNodeDecisions parallelNodeDecisions = new ParallelNodeDecisions(4, executor);
+        final Decision[] decisions = parallelNodeDecisions.decide(nodes, 0, nodes.length, node -> Decision.YES);
+        for (Decision decision : decisions) {
+            assertEquals(Decision.YES, decision);
+        }
+    }
+
+    public void testFailingDecisionIsRethrown() {
+        final Integer[] nodes = new Integer[4 * ParallelNodeDecisions.MIN_NODES_PER_TASK];
+        Arrays.fill(nodes, 0);
+        nodes[randomIntBetween(0, nodes.length - 1)] = 1;
+        final ParallelNodeDecisions parallelNodeDecisions = new ParallelNodeDecisions(4, threadPool.generic());
+        final IllegalStateException e = expectThrows(
+            IllegalStateException.class,
+            () -> parallelNodeDecisions.decide(nodes, 0, nodes.length, node -> {
+                if (node == 1) {
+                    throw new IllegalStateException("boom");
+                }
+                return Decision.YES;
+            })
+        );
+        assertEquals("boom", e.getMessage());
+    }
+
+    public void testUnassignedShardsAreAllocatedToSameNodes() {
+        final ClusterState clusterState = clusterStateWithUnassignedShards(Settings.EMPTY);
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final AllocationDeciders deciders = new AllocationDeciders(
+            Arrays.asList(new SameShardAllocationDecider(Settings.EMPTY, clusterSettings), new RandomNodeDecider())
+        );
+        final RoutingAllocation allocation = new RoutingAllocation(
+            deciders,
+            new RoutingNodes(clusterState, false),
+            clusterState,
+            ClusterInfo.EMPTY,
+            null,
+            System.nanoTime()
+        );
+        final BalancedShardsAllocator.WeightFunction weightFunction = new BalancedShardsAllocator.WeightFunction(
+            0.55f,
+            0.45f,
+            0.10f,
+            10,
+            false,
+            false
+        );
+        final ParallelNodeDecisions parallelNodeDecisions = new ParallelNodeDecisions(randomIntBetween(2, 8), threadPool.generic());
+        final LocalShardsBalancer serial = newBalancer(allocation, weightFunction, null);
+        final LocalShardsBalancer parallel = newBalancer(allocation, weightFunction, parallelNodeDecisions);
+        int numberOfUnassignedShards = 0;
+        for (ShardRouting shard : allocation.routingNodes().unassigned()) {
+            final AllocateUnassignedDecision expected = serial.decideAllocateUnassigned(shard);
+            final AllocateUnassignedDecision actual = parallel.decideAllocateUnassigned(shard);
+            assertEquals(shard.toString(), expected.getAllocationDecision(), actual.getAllocationDecision());
+            assertEquals(shard.toString(), expected.getTargetNode(), actual.getTargetNode());
+            numberOfUnassignedShards++;
+        }
+        assertTrue(numberOfUnassignedShards > 0);
+    }
+
+    /**
+     * Takes the decisions of all built-in deciders for the nodes concurrently, and checks that they are the same as when taking them
+     * one node after the other, including their explanations.
+     */
+    public void testBuiltInDecidersTakeSameDecisionsConcurrently() {
+        final Settings settings = Settings.builder()
+            .put(AwarenessAllocationDecider.CLUSTER_ROUTING_ALLOCATION_AWARENESS_ATTRIBUTE_SETTING.getKey(), "zone")
+            .put(ShardsLimitAllocationDecider.CLUSTER_TOTAL_SHARDS_PER_NODE_SETTING.getKey(), randomIntBetween(1, 5))
+            .put(ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_CONCURRENT_RECOVERIES_SETTING.getKey(), randomIntBetween(1, 3))
+            .build();
+        final ClusterState clusterState = clusterStateWithUnassignedShards(settings);
+        final Map<String, DiskUsage> diskUsages = new HashMap<>();
+        for (DiscoveryNode node : clusterState.nodes()) {
+            final long totalBytes = ByteSizeUnit.GB.toBytes(100);
+            diskUsages.put(node.getId(), new DiskUsage(node.getId(), node.getName(), "_na_", totalBytes, randomLongBetween(0, totalBytes)));
+        }
+        final ClusterInfo clusterInfo = new ClusterInfo(diskUsages, diskUsages, Map.of(), Map.of(), Map.of(), Map.of());
+        final ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final AllocationDeciders deciders = new AllocationDeciders(
+            ClusterModule.createAllocationDeciders(settings, clusterSettings, Collections.emptyList())
+        );
+        final RoutingAllocation allocation = new RoutingAllocation(
+            deciders,
+            new RoutingNodes(clusterState, false),
+            clusterState,
+            clusterInfo,
+            null,
+            System.nanoTime()
+        );
+        allocation.debugDecision(true);
+        final RoutingNode[] nodes = allocation.routingNodes().stream().toArray(RoutingNode[]::new);
+        final ParallelNodeDecisions parallelNodeDecisions = new ParallelNodeDecisions(randomIntBetween(2, 8), threadPool.generic());
+        int numberOfUnassignedShards = 0;
+        for (ShardRouting shard : allocation.routingNodes().unassigned()) {
+            final IndexMetadata indexMetadata = allocation.metadata().getIndexSafe(shard.index());
+            final Decision[] shardDecisions = parallelNodeDecisions.decide(
+                nodes,
+                0,
+                nodes.length,
+                node -> deciders.canAllocate(shard, node, allocation)
+            );
+            final Decision[] indexDecisions = parallelNodeDecisions.decide(
+                nodes,
+                0,
+                nodes.length,
+                node -> deciders.canAllocate(indexMetadata, node, allocation)
+            );
+            for (int i = 0; i < nodes.length; i++) {
+                assertEquals(shard.toString(), deciders.canAllocate(shard, nodes[i], allocation), shardDecisions[i]);
+                assertEquals(shard.toString(), deciders.canAllocate(indexMetadata, nodes[i], allocation), indexDecisions[i]);
+            }
+            numberOfUnassignedShards++;
+        }
+        assertTrue(numberOfUnassignedShards > 0);
+    }
+
+    /**
+     * Returns a cluster state with enough nodes to take decisions concurrently, in two zones, where some of the shards are started
+     * and the shards of a new index are unassigned.
+     */
+    private ClusterState clusterStateWithUnassignedShards(Settings settings) {
+        final int numberOfNodes = randomIntBetween(2 * ParallelNodeDecisions.MIN_NODES_PER_TASK, 60);
+        final DiscoveryNodes.Builder nodesBuilder = DiscoveryNodes.builder();
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodesBuilder.add(newNode("node_" + i, Map.of("zone", "zone_" + (i % 2))));
+        }
+        final Metadata.Builder metadataBuilder = Metadata.builder();
+        final RoutingTable.Builder routingTableBuilder = RoutingTable.builder();
+        final int numberOfIndices = randomIntBetween(1, 10);
+        for (int i = 0; i < numberOfIndices; i++) {
+            final IndexMetadata indexMetadata = IndexMetadata.builder("test_" + i)
+                .settings(settings(Version.CURRENT))
+                .numberOfShards(randomIntBetween(1, 10))
+                .numberOfReplicas(randomIntBetween(0, 2))
+                .build();
+            metadataBuilder.put(indexMetadata, false);
+            routingTableBuilder.addAsNew(indexMetadata);
+        }
+        ClusterState clusterState = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadataBuilder)
+            .routingTable(routingTableBuilder.build())
+            .nodes(nodesBuilder)
+            .build();
+        // allocate some of the shards so that the nodes have different weights
+        final AllocationService strategy = createAllocationService(settings);
+        clusterState = strategy.reroute(clusterState, "reroute");
+        clusterState = startInitializingShardsAndReroute(strategy, clusterState);
+        final IndexMetadata newIndex = IndexMetadata.builder("new_index")
+            .settings(settings(Version.CURRENT))
+            .numberOfShards(randomIntBetween(1, 10))
+            .numberOfReplicas(randomIntBetween(0, 2))
+            .build();
+        return ClusterState.builder(clusterState)
+            .metadata(Metadata.builder(clusterState.metadata()).put(newIndex, false))
+            .routingTable(RoutingTable.builder(clusterState.routingTable()).addAsNew(newIndex).build())
+            .build();
+    }
+
+    private LocalShardsBalancer newBalancer(
+        RoutingAllocation allocation,
+        BalancedShardsAllocator.WeightFunction weightFunction,
+        ParallelNodeDecisions parallelNodeDecisions
+    ) {
+        return new LocalShardsBalancer(
+            logger,
+            allocation,
+            ShardMovementStrategy.NO_PREFERENCE,
+            weightFunction,
+            1.0f,
+            false,
+            false,
+            false,
+            () -> false,
+            null,
+            parallelNodeDecisions
+        );
+    }
+
+    /**
+     * Says no or throttles for some of the nodes, depending on the shard, so that not the lightest node is picked for every shard.
+     */
+    private static class RandomNodeDecider extends AllocationDecider {
+        @Override
+        public Decision canAllocate(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            switch (Math.floorMod(31 * node.nodeId().hashCode() + shardRouting.shardId().hashCode(), 5)) {
+                case 0:
+                    return Decision.NO;
+                case 1:
+                    return Decision.THROTTLE;
+                default:
+                    return Decision.YES;
+            }
+        }
+    }
+}
@@ -47,8 +47,11 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class AllocationDecidersTests extends OpenSearchTestCase {
 
@@ -141,6 +144,67 @@ public class AllocationDecidersTests extends OpenSearchTestCase {
         verify(deciders.canAllocateAnyShardToNode(routingNode, allocation), matcher);
     }
 
+    public void testDeciderTimings() {
+        final AllocationDeciders deciders = new AllocationDeciders(Arrays.asList(new YesDecider(), new SlowNoDecider()));
+        ClusterState clusterState = ClusterState.builder(new ClusterName("test")).build();
+        final RoutingAllocation allocation = new RoutingAllocation(deciders, clusterState.getRoutingNodes(), clusterState, null, null, 0L);
+        final ShardRouting shardRouting = ShardRouting.newUnassigned(
+            new ShardId("test", "testUUID", 0),
+            true,
+            RecoverySource.ExistingStoreRecoverySource.INSTANCE,
+            new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "_message")
+        );
+        final RoutingNode routingNode = new RoutingNode("testNode", null);
+
+        // not timed by default
+        assertNull(allocation.deciderTimings());
+        assertEquals(Decision.NO, deciders.canAllocate(shardRouting, routingNode, allocation));
+
+        final AllocationDeciderTimings timings = new AllocationDeciderTimings(deciders);
+        allocation.setDeciderTimings(timings);
+        assertEquals(Decision.NO, deciders.canAllocate(shardRouting, routingNode, allocation));
+        assertEquals(Decision.NO, deciders.canRemain(shardRouting, routingNode, allocation));
+
+        final Map<String, Long> tookInNanos = timings.tookInNanos();
+        assertThat(tookInNanos.keySet(), Matchers.contains("YesDecider", "SlowNoDecider"));
+        assertThat(tookInNanos.get("YesDecider"), Matchers.greaterThanOrEqualTo(0L));
+        assertThat(tookInNanos.get("SlowNoDecider"), Matchers.greaterThanOrEqualTo(2 * SlowNoDecider.TOOK_IN_NANOS));
+    }
+
+    private static class YesDecider extends AllocationDecider {
+        @Override
+        public Decision canAllocate(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            return Decision.YES;
+        }
+
+        @Override
+        public Decision canRemain(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            return Decision.YES;
+        }
+    }
+
+    private static class SlowNoDecider extends AllocationDecider {
+        static final long TOOK_IN_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+        @Override
+        public Decision canAllocate(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            return slowNo();
+        }
+
+        @Override
+        public Decision canRemain(ShardRouting shardRouting, RoutingNode node, RoutingAllocation allocation) {
+            return slowNo();
+        }
+
+        private static Decision slowNo() {
+            final long startTime = System.nanoTime();
+            while (System.nanoTime() - startTime < TOOK_IN_NANOS) {
+                Thread.onSpinWait();
+            }
+            return Decision.NO;
+        }
+    }
+
     private void verify(Decision decision, Matcher<Collection<? extends Decision>> matcher) {
         assertThat(decision.type(), Matchers.equalTo(Decision.Type.YES));
         assertThat(decision, Matchers.instanceOf(Decision.Multi.class));
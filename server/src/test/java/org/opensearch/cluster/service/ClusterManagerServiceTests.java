@@ -51,6 +51,7 @@ import org.opensearch.cluster.LocalClusterUpdateTask;
 import org.opensearch.cluster.block.ClusterBlocks;
 import org.opensearch.cluster.coordination.ClusterStatePublisher;
 import org.opensearch.cluster.coordination.FailedToCommitClusterStateException;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.common.Nullable;
@@ -62,6 +63,7 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.BaseFuture;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.node.Node;
+import org.opensearch.telemetry.metrics.Counter;
 import org.opensearch.telemetry.metrics.Histogram;
 import org.opensearch.telemetry.metrics.MetricsRegistry;
 import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
@@ -1525,13 +1527,19 @@ public class ClusterManagerServiceTests extends OpenSearchTestCase {
         final MetricsRegistry metricsRegistry = mock(MetricsRegistry.class);
         final Histogram clusterStateComputeHistogram = mock(Histogram.class);
         final Histogram clusterStatePublishHistogram = mock(Histogram.class);
+        final Histogram clusterStateUpdateBatchSizeHistogram = mock(Histogram.class);
         when(metricsRegistry.createHistogram(anyString(), anyString(), anyString())).thenAnswer(invocationOnMock -> {
             String histogramName = (String) invocationOnMock.getArguments()[0];
             if (histogramName.contains("cluster.state.new.compute.latency")) {
                 return clusterStateComputeHistogram;
             }
+            if (histogramName.contains("cluster.state.update.batch.size")) {
+                return clusterStateUpdateBatchSizeHistogram;
+            }
             return clusterStatePublishHistogram;
         });
+        final Counter clusterStatePublicationCounter = mock(Counter.class);
+        when(metricsRegistry.createCounter(anyString(), anyString(), anyString())).thenReturn(clusterStatePublicationCounter);
 
         try (
             ClusterManagerService clusterManagerService = new ClusterManagerService(
@@ -1665,6 +1673,197 @@ public class ClusterManagerServiceTests extends OpenSearchTestCase {
 
         verify(clusterStateComputeHistogram, times(2)).record(anyDouble(), any());
         verify(clusterStatePublishHistogram, times(1)).record(anyDouble());
+        verify(clusterStateUpdateBatchSizeHistogram, times(2)).record(1.0);
+        verify(clusterStatePublicationCounter, times(2)).add(1.0);
+    }
+
+    public void testTasksOfDifferentExecutorsAreCoalesced() throws Exception {
+        final List<ClusterChangedEvent> publishedEvents = new ArrayList<>();
+        try (ClusterManagerService clusterManagerService = createCoalescingClusterManagerService(8, publishedEvents)) {
+            final CoalescingExecutor putMapping = new CoalescingExecutor(true);
+            final CoalescingExecutor createIndex = new CoalescingExecutor(true);
+            final CoalescingExecutor other = new CoalescingExecutor(false);
+            final CountDownLatch processed = new CountDownLatch(6);
+            final Map<String, ClusterState> processedStates = new ConcurrentHashMap<>();
+            runWhileClusterManagerThreadIsBlocked(clusterManagerService, () -> {
+                submitCoalescingTasks(clusterManagerService, putMapping, processed, processedStates, "mapping-1", "mapping-2", "mapping-3");
+                submitCoalescingTasks(clusterManagerService, createIndex, processed, processedStates, "index-1", "index-2");
+                submitCoalescingTasks(clusterManagerService, other, processed, processedStates, "other-1");
+            });
+            assertTrue(processed.await(10, TimeUnit.SECONDS));
+
+            // the tasks of both coalescing executors are published with one cluster state, before the tasks of the other executor
+            assertEquals(2, publishedEvents.size());
+            final ClusterState coalescedState = publishedEvents.get(0).state();
+            for (String task : List.of("mapping-1", "mapping-2", "mapping-3", "index-1", "index-2")) {
+                assertTrue(task, coalescedState.metadata().transientSettings().getAsBoolean(task, false));
+                assertSame(coalescedState, processedStates.get(task));
+            }
+            assertFalse(coalescedState.metadata().transientSettings().hasValue("other-1"));
+            assertSame(publishedEvents.get(1).state(), processedStates.get("other-1"));
+            assertEquals(publishedEvents.get(0).previousState().version() + 1, coalescedState.version());
+            assertEquals(1, putMapping.published.get());
+            assertEquals(1, createIndex.published.get());
+            assertBusy(() -> assertEquals(1, other.published.get()));
+        }
+    }
+
+    public void testCoalescingStopsAtBatchThatCannotBeCoalesced() throws Exception {
+        final List<ClusterChangedEvent> publishedEvents = new ArrayList<>();
+        try (ClusterManagerService clusterManagerService = createCoalescingClusterManagerService(8, publishedEvents)) {
+            final CoalescingExecutor putMapping = new CoalescingExecutor(true);
+            final CoalescingExecutor createIndex = new CoalescingExecutor(true);
+            final CoalescingExecutor other = new CoalescingExecutor(false);
+            final CountDownLatch processed = new CountDownLatch(3);
+            final Map<String, ClusterState> processedStates = new ConcurrentHashMap<>();
+            runWhileClusterManagerThreadIsBlocked(clusterManagerService, () -> {
+                submitCoalescingTasks(clusterManagerService, putMapping, processed, processedStates, "mapping-1");
+                submitCoalescingTasks(clusterManagerService, other, processed, processedStates, "other-1");
+                submitCoalescingTasks(clusterManagerService, createIndex, processed, processedStates, "index-1");
+            });
+            assertTrue(processed.await(10, TimeUnit.SECONDS));
+
+            // the batch of the other executor is queued before the one of create index, which must not overtake it
+            assertEquals(3, publishedEvents.size());
+            assertSame(publishedEvents.get(0).state(), processedStates.get("mapping-1"));
+            assertSame(publishedEvents.get(1).state(), processedStates.get("other-1"));
+            assertSame(publishedEvents.get(2).state(), processedStates.get("index-1"));
+        }
+    }
+
+    public void testCoalescedBatchesPerTaskTypeAreLimited() throws Exception {
+        final List<ClusterChangedEvent> publishedEvents = new ArrayList<>();
+        try (ClusterManagerService clusterManagerService = createCoalescingClusterManagerService(2, publishedEvents)) {
+            final CountDownLatch processed = new CountDownLatch(3);
+            final Map<String, ClusterState> processedStates = new ConcurrentHashMap<>();
+            runWhileClusterManagerThreadIsBlocked(clusterManagerService, () -> {
+                for (int i = 0; i < 3; i++) {
+                    submitCoalescingTasks(clusterManagerService, new CoalescingExecutor(true), processed, processedStates, "task-" + i);
+                }
+            });
+            assertTrue(processed.await(10, TimeUnit.SECONDS));
+
+            // all executors have the same task type, only two of their batches go into the same cluster state
+            assertEquals(2, publishedEvents.size());
+            assertSame(publishedEvents.get(0).state(), processedStates.get("task-0"));
+            assertSame(publishedEvents.get(0).state(), processedStates.get("task-1"));
+            assertSame(publishedEvents.get(1).state(), processedStates.get("task-2"));
+        }
+    }
+
+    private ClusterManagerService createCoalescingClusterManagerService(int maxBatchesPerType, List<ClusterChangedEvent> publishedEvents) {
+        final DiscoveryNode localNode = new DiscoveryNode("node1", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT);
+        final ClusterManagerService clusterManagerService = new ClusterManagerService(
+            Settings.builder()
+                .put(ClusterName.CLUSTER_NAME_SETTING.getKey(), ClusterManagerServiceTests.class.getSimpleName())
+                .put(Node.NODE_NAME_SETTING.getKey(), "test_node")
+                .put(ClusterManagerService.CLUSTER_MANAGER_TASK_COALESCING_ENABLED_SETTING.getKey(), true)
+                .put(ClusterManagerService.CLUSTER_MANAGER_TASK_COALESCING_MAX_BATCHES_PER_TYPE_SETTING.getKey(), maxBatchesPerType)
+                .build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+        final AtomicReference<ClusterState> clusterStateRef = new AtomicReference<>(
+            ClusterState.builder(new ClusterName(ClusterManagerServiceTests.class.getSimpleName()))
+                .nodes(DiscoveryNodes.builder().add(localNode).localNodeId(localNode.getId()).clusterManagerNodeId(localNode.getId()))
+                .blocks(ClusterBlocks.EMPTY_CLUSTER_BLOCK)
+                .build()
+        );
+        clusterManagerService.setClusterStatePublisher((event, publishListener, ackListener) -> {
+            publishedEvents.add(event);
+            clusterStateRef.set(event.state());
+            publishListener.onResponse(null);
+        });
+        clusterManagerService.setClusterStateSupplier(clusterStateRef::get);
+        clusterManagerService.start();
+        return clusterManagerService;
+    }
+
+    private static void runWhileClusterManagerThreadIsBlocked(ClusterManagerService clusterManagerService, Runnable runnable)
+        throws InterruptedException {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        clusterManagerService.submitStateUpdateTask("block", new ClusterStateUpdateTask(Priority.IMMEDIATE) {
+            @Override
+            public ClusterState execute(ClusterState currentState) throws Exception {
+                blocked.countDown();
+                release.await();
+                return currentState;
+            }
+
+            @Override
+            public void onFailure(String source, Exception e) {
+                throw new AssertionError(e);
+            }
+        });
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        try {
+            runnable.run();
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private static void submitCoalescingTasks(
+        ClusterManagerService clusterManagerService,
+        CoalescingExecutor executor,
+        CountDownLatch processed,
+        Map<String, ClusterState> processedStates,
+        String... tasks
+    ) {
+        final Map<String, ClusterStateTaskListener> listeners = new HashMap<>();
+        for (String task : tasks) {
+            listeners.put(task, new ClusterStateTaskListener() {
+                @Override
+                public void onFailure(String source, Exception e) {
+                    throw new AssertionError(e);
+                }
+
+                @Override
+                public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
+                    processedStates.put(task, newState);
+                    processed.countDown();
+                }
+            });
+        }
+        clusterManagerService.submitStateUpdateTasks(tasks[0], listeners, ClusterStateTaskConfig.build(Priority.NORMAL), executor);
+    }
+
+    /**
+     * Sets a transient setting named after each of its tasks.
+     */
+    private static class CoalescingExecutor implements ClusterStateTaskExecutor<String> {
+        private final boolean coalesce;
+        private final AtomicInteger published = new AtomicInteger();
+
+        CoalescingExecutor(boolean coalesce) {
+            this.coalesce = coalesce;
+        }
+
+        @Override
+        public ClusterTasksResult<String> execute(ClusterState currentState, List<String> tasks) {
+            final Settings.Builder transientSettings = Settings.builder().put(currentState.metadata().transientSettings());
+            for (String task : tasks) {
+                transientSettings.put(task, true);
+            }
+            return ClusterTasksResult.<String>builder()
+                .successes(tasks)
+                .build(
+                    ClusterState.builder(currentState)
+                        .metadata(Metadata.builder(currentState.metadata()).transientSettings(transientSettings.build()))
+                        .build()
+                );
+        }
+
+        @Override
+        public boolean coalesceWithOtherExecutors() {
+            return coalesce;
+        }
+
+        @Override
+        public void clusterStatePublished(ClusterChangedEvent clusterChangedEvent) {
+            published.incrementAndGet();
+        }
     }
 
     public void testUpdateTaskThreadName() {
@@ -13,6 +13,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.junit.After;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -98,6 +99,25 @@ public class QueueResizableOpenSearchThreadPoolExecutorTests extends OpenSearchT
         assertBusy(() -> assertThat((long) executor.getTaskExecutionEWMA(), equalTo(83L)));
     }
 
+    public void testActiveThreadCount() throws Exception {
+        createExecutor(100, TimedRunnable::new);
+        assertThat(executor.getActiveThreadCount(), equalTo(0));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertThat(executor.getActiveThreadCount(), equalTo(1));
+        release.countDown();
+        assertBusy(() -> assertThat(executor.getActiveThreadCount(), equalTo(0)));
+    }
+
     /** Use a runnable wrapper that simulates a task with unknown failures. */
     public void testExceptionThrowingTask() {
         createExecutor(100, exceptionalWrapper());
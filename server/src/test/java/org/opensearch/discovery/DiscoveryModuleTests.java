@@ -43,6 +43,7 @@ import org.opensearch.cluster.service.ClusterManagerService;
 import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
@@ -119,6 +120,7 @@ public class DiscoveryModuleTests extends OpenSearchTestCase {
             threadPool,
             transportService,
             namedWriteableRegistry,
+            BigArrays.NON_RECYCLING_INSTANCE,
             null,
             clusterManagerService,
             clusterApplier,
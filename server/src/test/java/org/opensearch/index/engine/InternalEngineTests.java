@@ -113,6 +113,8 @@ import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver.DocIdAndSeqNo;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.ReleasableLock;
@@ -327,6 +329,40 @@ public class InternalEngineTests extends EngineTestCase {
         }
     }
 
+    public void testCloseReleasesPagedVersionMap() throws Exception {
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings(
+            "test",
+            Settings.builder()
+                .put(defaultSettings.getSettings())
+                .put(EngineConfig.INDEX_VERSION_MAP_STORAGE_SETTING.getKey(), "paged")
+                .build()
+        );
+        final MockBigArrays bigArrays = new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+        try (Store store = createStore()) {
+            final EngineConfig config = config(indexSettings, store, createTempDir(), newMergePolicy(), null);
+            final TranslogConfig translogConfig = new TranslogConfig(
+                config.getShardId(),
+                config.getTranslogConfig().getTranslogPath(),
+                indexSettings,
+                bigArrays,
+                "",
+                false
+            );
+            try (InternalEngine engine = createEngine(config.toBuilder().translogConfig(translogConfig).build())) {
+                final int numDocs = randomIntBetween(1, 20);
+                for (int i = 0; i < numDocs; i++) {
+                    engine.index(indexForDoc(createParsedDoc(Integer.toString(i), null)));
+                    if (rarely()) {
+                        engine.refresh("test");
+                    }
+                }
+                // updates put the version map into safe access mode, so that the pages hold live entries when the engine closes
+                engine.index(indexForDoc(createParsedDoc("0", null)));
+            }
+            MockBigArrays.ensureAllArraysAreReleased();
+        }
+    }
+
     public void testVerboseSegments() throws Exception {
         try (Store store = createStore(); Engine engine = createEngine(defaultSettings, store, createTempDir(), NoMergePolicy.INSTANCE)) {
             List<Segment> segments = engine.segments(true);
@@ -32,11 +32,17 @@
 
 package org.opensearch.index.engine;
 
+import org.apache.lucene.store.AlreadyClosedException;
 import org.apache.lucene.tests.util.RamUsageTester;
 import org.apache.lucene.tests.util.TestUtil;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefBuilder;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.MockBigArrays;
+import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -422,6 +428,100 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         assertEquals(0, map.getAllTombstones().size());
     }
 
+    public void testPagedStorageBasics() throws IOException {
+        LiveVersionMap map = new LiveVersionMap(newBigArrays());
+        try (Releasable r = map.acquireLock(uid("test"))) {
+            Translog.Location tlogLoc = randomTranslogLocation();
+            map.putIndexUnderLock(uid("test"), new IndexVersionValue(tlogLoc, 1, 1, 1));
+            assertEquals(new IndexVersionValue(tlogLoc, 1, 1, 1), map.getUnderLock(uid("test")));
+            assertThat(map.ramBytesUsedForRefresh(), greaterThan(0L));
+            map.putIndexUnderLock(uid("test"), new IndexVersionValue(null, 2, 2, 1));
+            assertEquals(new IndexVersionValue(null, 2, 2, 1), map.getUnderLock(uid("test")));
+            assertEquals(1, map.getAllCurrent().size());
+            map.beforeRefresh();
+            assertEquals(new IndexVersionValue(null, 2, 2, 1), map.getUnderLock(uid("test")));
+            assertThat(map.getRefreshingBytes(), greaterThan(0L));
+            map.afterRefresh(randomBoolean());
+            assertNull(map.getUnderLock(uid("test")));
+            assertThat(map.getRefreshingBytes(), equalTo(0L));
+
+            final IndexVersionValue value = new IndexVersionValue(tlogLoc, 3, 3, 1);
+            map.putIndexUnderLock(uid("test"), value);
+            // recently written values are returned without being decoded from the pages again
+            assertSame(value, map.getUnderLock(uid("test")));
+            final long bytesWithEntry = map.ramBytesUsedForRefresh();
+            assertThat(bytesWithEntry, greaterThan(0L));
+            map.putDeleteUnderLock(uid("test"), new DeleteVersionValue(4, 4, 1, 1));
+            assertEquals(new DeleteVersionValue(4, 4, 1, 1), map.getUnderLock(uid("test")));
+            assertEquals(0, map.getAllCurrent().size());
+            assertThat(map.ramBytesUsedForRefresh(), equalTo(0L));
+            map.putIndexUnderLock(uid("test"), new IndexVersionValue(tlogLoc, 5, 5, 1));
+            assertEquals(new IndexVersionValue(tlogLoc, 5, 5, 1), map.getUnderLock(uid("test")));
+            assertEquals(1, map.getAllCurrent().size());
+            assertThat(map.ramBytesUsedForRefresh(), equalTo(bytesWithEntry));
+        } finally {
+            map.clear();
+        }
+    }
+
+    public void testPagedStorageRejectsWritesOnceClosed() {
+        final PagedVersionStorage storage = new PagedVersionStorage(newBigArrays());
+        storage.put(uid("test"), new IndexVersionValue(null, 1, 1, 1));
+        storage.close();
+        assertNull(storage.get(uid("test")));
+        expectThrows(AlreadyClosedException.class, () -> storage.put(uid("test"), new IndexVersionValue(null, 2, 2, 1)));
+        expectThrows(AlreadyClosedException.class, () -> storage.remove(uid("test")));
+    }
+
+    public void testPagedStorageMatchesHeapStorage() throws IOException {
+        final LiveVersionMap heapMap = new LiveVersionMap();
+        final LiveVersionMap pagedMap = new LiveVersionMap(newBigArrays());
+        try {
+            final List<BytesRef> uids = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                uids.add(uid(TestUtil.randomSimpleString(random(), 1, 20)));
+            }
+            final int iters = scaledRandomIntBetween(100, 10000);
+            boolean refreshing = false;
+            for (int i = 0; i < iters; i++) {
+                if (refreshing == false && rarely()) {
+                    heapMap.beforeRefresh();
+                    pagedMap.beforeRefresh();
+                    refreshing = true;
+                } else if (refreshing && randomBoolean()) {
+                    final boolean didRefresh = randomBoolean();
+                    heapMap.afterRefresh(didRefresh);
+                    pagedMap.afterRefresh(didRefresh);
+                    refreshing = false;
+                }
+                final BytesRef uid = randomFrom(uids);
+                try (Releasable r1 = heapMap.acquireLock(uid); Releasable r2 = pagedMap.acquireLock(uid)) {
+                    if (randomBoolean()) {
+                        final IndexVersionValue value = randomIndexVersionValue();
+                        heapMap.putIndexUnderLock(uid, value);
+                        pagedMap.putIndexUnderLock(uid, value);
+                    } else {
+                        final DeleteVersionValue value = new DeleteVersionValue(
+                            randomNonNegativeLong(),
+                            randomNonNegativeLong(),
+                            randomNonNegativeLong(),
+                            randomNonNegativeLong()
+                        );
+                        heapMap.putDeleteUnderLock(uid, value);
+                        pagedMap.putDeleteUnderLock(uid, value);
+                    }
+                }
+                final BytesRef lookup = randomFrom(uids);
+                try (Releasable r1 = heapMap.acquireLock(lookup); Releasable r2 = pagedMap.acquireLock(lookup)) {
+                    assertEquals(heapMap.getUnderLock(lookup), pagedMap.getUnderLock(lookup));
+                }
+            }
+            assertEquals(heapMap.getAllCurrent(), pagedMap.getAllCurrent());
+        } finally {
+            pagedMap.clear();
+        }
+    }
+
     public void testRandomlyIndexDeleteAndRefresh() throws Exception {
         final LiveVersionMap versionMap = new LiveVersionMap();
         final BytesRef uid = uid("1");
@@ -456,6 +556,10 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         }
     }
 
+    private static BigArrays newBigArrays() {
+        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+    }
+
     IndexVersionValue randomIndexVersionValue() {
         return new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
     }
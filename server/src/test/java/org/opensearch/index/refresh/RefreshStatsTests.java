@@ -32,6 +32,7 @@
 
 package org.opensearch.index.refresh;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.test.OpenSearchTestCase;
@@ -46,6 +47,10 @@ public class RefreshStatsTests extends OpenSearchTestCase {
             .externalTotal(randomNonNegativeLong())
             .externalTotalTimeInMillis(randomNonNegativeLong())
             .listeners(between(0, Integer.MAX_VALUE))
+            .searchDemandSkipped(randomNonNegativeLong())
+            .searchDemandForSearches(randomNonNegativeLong())
+            .searchDemandForListeners(randomNonNegativeLong())
+            .searchDemandForFreshness(randomNonNegativeLong())
             .build();
 
         BytesStreamOutput out = new BytesStreamOutput();
@@ -58,5 +63,26 @@ public class RefreshStatsTests extends OpenSearchTestCase {
         assertEquals(stats.getListeners(), read.getListeners());
         assertEquals(stats.getTotalTimeInMillis(), read.getTotalTimeInMillis());
         assertEquals(stats.getExternalTotalTimeInMillis(), read.getExternalTotalTimeInMillis());
+        assertEquals(stats, read);
+    }
+
+    public void testSerializeBeforeSearchDemandStats() throws IOException {
+        RefreshStats stats = new RefreshStats.Builder().total(randomNonNegativeLong())
+            .listeners(between(0, Integer.MAX_VALUE))
+            .searchDemandSkipped(randomLongBetween(1, Long.MAX_VALUE))
+            .searchDemandForSearches(randomLongBetween(1, Long.MAX_VALUE))
+            .build();
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_4_0);
+        stats.writeTo(out);
+        StreamInput input = out.bytes().streamInput();
+        input.setVersion(Version.V_3_4_0);
+        RefreshStats read = new RefreshStats(input);
+        assertEquals(-1, input.read());
+        assertEquals(stats.getTotal(), read.getTotal());
+        assertEquals(stats.getListeners(), read.getListeners());
+        assertEquals(0, read.getSearchDemandSkipped());
+        assertEquals(0, read.getSearchDemandForSearches());
     }
 }
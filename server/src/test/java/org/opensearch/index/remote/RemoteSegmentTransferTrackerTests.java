@@ -8,6 +8,7 @@
 
 package org.opensearch.index.remote;
 
+import org.opensearch.Version;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.ClusterSettings;
@@ -551,6 +552,8 @@ public class RemoteSegmentTransferTrackerTests extends OpenSearchTestCase {
         assertEquals(transferTracker.getTotalUploadsStarted(), (int) transferTrackerStats.totalUploadsStarted);
         assertEquals(transferTracker.getTotalUploadsSucceeded(), (int) transferTrackerStats.totalUploadsSucceeded);
         assertEquals(transferTracker.getTotalUploadsFailed(), (int) transferTrackerStats.totalUploadsFailed);
+        assertEquals(transferTracker.getInflightUploadBytes(), transferTrackerStats.inflightUploadBytes);
+        assertEquals(transferTracker.getUploadQueueTimeMovingAverage(), transferTrackerStats.uploadQueueTimeMovingAverage, 0);
     }
 
     /**
@@ -580,6 +583,8 @@ public class RemoteSegmentTransferTrackerTests extends OpenSearchTestCase {
                 assertEquals((int) deserializedStats.totalUploadsStarted, (int) transferTrackerStats.totalUploadsStarted);
                 assertEquals((int) deserializedStats.totalUploadsSucceeded, (int) transferTrackerStats.totalUploadsSucceeded);
                 assertEquals((int) deserializedStats.totalUploadsFailed, (int) transferTrackerStats.totalUploadsFailed);
+                assertEquals(deserializedStats.inflightUploadBytes, transferTrackerStats.inflightUploadBytes);
+                assertEquals(deserializedStats.uploadQueueTimeMovingAverage, transferTrackerStats.uploadQueueTimeMovingAverage, 0);
                 assertEquals(
                     (int) deserializedStats.directoryFileTransferTrackerStats.transferredBytesStarted,
                     (int) transferTrackerStats.directoryFileTransferTrackerStats.transferredBytesStarted
@@ -596,6 +601,35 @@ public class RemoteSegmentTransferTrackerTests extends OpenSearchTestCase {
         }
     }
 
+    public void testStatsSerializationBeforeUploadQueueStats() throws IOException {
+        transferTracker = constructTracker();
+        RemoteSegmentTransferTracker.Stats transferTrackerStats = transferTracker.stats();
+        assertEquals(20, transferTrackerStats.inflightUploadBytes);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.V_3_4_0);
+            transferTrackerStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(Version.V_3_4_0);
+                RemoteSegmentTransferTracker.Stats deserializedStats = new RemoteSegmentTransferTracker.Stats(in);
+                assertEquals(transferTrackerStats.totalUploadsFailed, deserializedStats.totalUploadsFailed);
+                assertEquals(0, deserializedStats.inflightUploadBytes);
+                assertEquals(0, deserializedStats.uploadQueueTimeMovingAverage, 0);
+            }
+        }
+    }
+
+    public void testUpdateUploadQueueTimeMovingAverage() {
+        transferTracker = new RemoteSegmentTransferTracker(shardId, directoryFileTransferTracker, 5);
+        for (int i = 1; i <= 10; i++) {
+            transferTracker.updateUploadQueueTimeMovingAverage(i);
+        }
+        assertEquals(8, transferTracker.getUploadQueueTimeMovingAverage(), 0);
+        // the samples are kept when the window grows
+        transferTracker.updateMovingAverageWindowSize(10);
+        transferTracker.updateUploadQueueTimeMovingAverage(4);
+        assertEquals(44.0 / 6, transferTracker.getUploadQueueTimeMovingAverage(), 0.0001);
+    }
+
     private RemoteSegmentTransferTracker constructTracker() {
         RemoteSegmentTransferTracker transferTracker = new RemoteSegmentTransferTracker(
             shardId,
@@ -604,6 +638,8 @@ public class RemoteSegmentTransferTrackerTests extends OpenSearchTestCase {
         );
         transferTracker.incrementTotalUploadsStarted();
         transferTracker.incrementTotalUploadsFailed();
+        transferTracker.addUploadBytesStarted(20);
+        transferTracker.updateUploadQueueTimeMovingAverage(randomIntBetween(1, 50));
         transferTracker.updateUploadTimeMovingAverage(currentTimeMsUsingSystemNanos() + randomIntBetween(10, 100));
         transferTracker.updateUploadBytesMovingAverage(99);
         transferTracker.updateRemoteRefreshTimeMs(currentTimeMsUsingSystemNanos() + randomIntBetween(10, 100));
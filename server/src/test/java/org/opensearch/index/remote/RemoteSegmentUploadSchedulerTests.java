@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.remote;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RemoteSegmentUploadSchedulerTests extends OpenSearchTestCase {
+
+    private final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+
+    public void testBoundsConcurrentUploads() {
+        RemoteSegmentUploadScheduler scheduler = new RemoteSegmentUploadScheduler(
+            Settings.builder().put(RemoteSegmentUploadScheduler.MAX_CONCURRENT_UPLOADS_SETTING.getKey(), 2).build(),
+            clusterSettings
+        );
+        List<Releasable> started = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            scheduler.schedule(1024, false, started::add);
+        }
+        assertEquals(2, started.size());
+        assertEquals(2, scheduler.getInFlightUploads());
+        assertEquals(3, scheduler.getQueuedUploads());
+
+        // completing an upload starts the next one, closing it twice does not start another one
+        started.get(0).close();
+        started.get(0).close();
+        assertEquals(3, started.size());
+        assertEquals(2, scheduler.getInFlightUploads());
+
+        clusterSettings.applySettings(
+            Settings.builder().put(RemoteSegmentUploadScheduler.MAX_CONCURRENT_UPLOADS_SETTING.getKey(), 4).build()
+        );
+        assertEquals(5, started.size());
+        assertEquals(4, scheduler.getInFlightUploads());
+        assertEquals(0, scheduler.getQueuedUploads());
+    }
+
+    public void testStartsSmallFilesBeforeLargeFiles() {
+        RemoteSegmentUploadScheduler scheduler = new RemoteSegmentUploadScheduler(
+            Settings.builder().put(RemoteSegmentUploadScheduler.MAX_CONCURRENT_UPLOADS_SETTING.getKey(), 1).build(),
+            clusterSettings
+        );
+        List<String> order = new ArrayList<>();
+        List<Releasable> started = new ArrayList<>();
+        scheduler.schedule(1024, false, permit -> {
+            order.add("first");
+            started.add(permit);
+        });
+        long large = ByteSizeUnit.MB.toBytes(100);
+        for (int i = 0; i < 2; i++) {
+            String name = "large-" + i;
+            scheduler.schedule(large, false, permit -> {
+                order.add(name);
+                started.add(permit);
+            });
+        }
+        String recovery = "recovery";
+        scheduler.schedule(1024, true, permit -> {
+            order.add(recovery);
+            started.add(permit);
+        });
+        for (int i = 0; i < 4; i++) {
+            String name = "small-" + i;
+            scheduler.schedule(1024, false, permit -> {
+                order.add(name);
+                started.add(permit);
+            });
+        }
+        // every upload that completes starts the next one
+        for (int i = 0; i < 7; i++) {
+            assertEquals(i + 1, started.size());
+            started.get(i).close();
+        }
+        assertEquals(List.of("first", "small-0", "small-1", "large-0", "small-2", "small-3", "large-1", "recovery"), order);
+    }
+
+    public void testFailureToStartReleasesTheSlot() {
+        RemoteSegmentUploadScheduler scheduler = new RemoteSegmentUploadScheduler(
+            Settings.builder().put(RemoteSegmentUploadScheduler.MAX_CONCURRENT_UPLOADS_SETTING.getKey(), 1).build(),
+            clusterSettings
+        );
+        AtomicInteger started = new AtomicInteger();
+        scheduler.schedule(1024, false, permit -> { throw new IllegalStateException("boom"); });
+        List<Releasable> held = new ArrayList<>();
+        scheduler.schedule(1024, false, held::add);
+        assertEquals(1, held.size());
+        for (int i = 0; i < 10_000; i++) {
+            scheduler.schedule(1024, false, permit -> {
+                started.incrementAndGet();
+                permit.close();
+            });
+        }
+        assertEquals(0, started.get());
+        // uploads that complete while they are started do not recurse into starting the next ones
+        held.get(0).close();
+        assertEquals(10_000, started.get());
+        assertEquals(0, scheduler.getInFlightUploads());
+        assertEquals(0, scheduler.getQueuedUploads());
+    }
+}
@@ -52,6 +52,8 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.SegmentReplicationShardStats;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.replication.checkpoint.MergedSegmentCheckpoint;
+import org.opensearch.indices.replication.checkpoint.ReferencedSegmentsCheckpoint;
 import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.common.ReplicationType;
 import org.opensearch.indices.replication.common.SegmentReplicationLagTimer;
@@ -1919,6 +1921,129 @@ public class ReplicationTrackerTests extends ReplicationTrackerTestCase {
         }
     }
 
+    public void testPreCopiedMergedSegmentTracking() throws IOException {
+        Settings settings = Settings.builder().put(SETTING_REPLICATION_TYPE, ReplicationType.SEGMENT).build();
+        final long initialClusterStateVersion = randomNonNegativeLong();
+        final Tuple<Set<AllocationId>, Set<AllocationId>> activeAndInitializingAllocationIds = randomActiveAndInitializingAllocationIds(
+            1,
+            2
+        );
+        final Set<AllocationId> activeAllocationIds = activeAndInitializingAllocationIds.v1();
+        final Set<AllocationId> initializingIds = activeAndInitializingAllocationIds.v2();
+        AllocationId primaryId = activeAllocationIds.iterator().next();
+        IndexShardRoutingTable routingTable = routingTable(initializingIds, primaryId);
+        final ReplicationTracker tracker = newTracker(primaryId, settings);
+        tracker.updateFromClusterManager(initialClusterStateVersion, ids(activeAllocationIds), routingTable);
+        tracker.activatePrimaryMode(NO_OPS_PERFORMED);
+        initializingIds.forEach(aId -> markAsTrackingAndInSyncQuietly(tracker, aId.getId(), NO_OPS_PERFORMED));
+
+        final StoreFileMetadata segment_1 = new StoreFileMetadata("segment_1", 1L, "abcd", Version.LATEST);
+        final StoreFileMetadata segment_3 = new StoreFileMetadata("segment_3", 100L, "abcd", Version.LATEST);
+        final StoreFileMetadata segment_4 = new StoreFileMetadata("segment_4", 50L, "abcd", Version.LATEST);
+        final String codec = Codec.getDefault().getName();
+        final ReplicationCheckpoint initialCheckpoint = new ReplicationCheckpoint(
+            tracker.shardId(),
+            0L,
+            1,
+            1,
+            1L,
+            codec,
+            Map.of("segment_1", segment_1),
+            0L
+        );
+        tracker.setLatestReplicationCheckpoint(initialCheckpoint);
+        tracker.startReplicationLagTimers(initialCheckpoint);
+        for (AllocationId id : initializingIds) {
+            tracker.updateVisibleCheckpointForShard(id.getId(), initialCheckpoint);
+        }
+
+        // the merged segment is copied to all replicas but the one that failed
+        final AllocationId failedId = initializingIds.iterator().next();
+        final MergedSegmentCheckpoint mergedSegment = new MergedSegmentCheckpoint(
+            tracker.shardId(),
+            0L,
+            1,
+            100L,
+            codec,
+            Map.of("segment_3", segment_3),
+            "_3"
+        );
+        tracker.updatePreCopiedMergedSegment(mergedSegment, Set.of(nodeIdFromAllocationId(failedId)), 42L);
+        for (SegmentReplicationShardStats shardStat : tracker.getSegmentReplicationStats()) {
+            final boolean failed = shardStat.getAllocationId().equals(failedId.getId());
+            assertEquals(failed ? 0L : 100L, shardStat.getPreCopiedBytes());
+            assertEquals(0L, shardStat.getSavedReplicationLagMillis());
+        }
+
+        // once the merged segment is visible on the replicas, the time of the copy was saved
+        final ReplicationCheckpoint secondCheckpoint = new ReplicationCheckpoint(
+            tracker.shardId(),
+            0L,
+            2,
+            2,
+            101L,
+            codec,
+            Map.of("segment_1", segment_1, "segment_3", segment_3),
+            0L
+        );
+        tracker.setLatestReplicationCheckpoint(secondCheckpoint);
+        tracker.startReplicationLagTimers(secondCheckpoint);
+        for (AllocationId id : initializingIds) {
+            tracker.updateVisibleCheckpointForShard(id.getId(), secondCheckpoint);
+            assertTrue(tracker.checkpoints.get(id.getId()).preCopiedMergedSegments.isEmpty());
+        }
+        Set<SegmentReplicationShardStats> groupStats = tracker.getSegmentReplicationStats();
+        assertEquals(initializingIds.size(), groupStats.size());
+        for (SegmentReplicationShardStats shardStat : groupStats) {
+            final boolean failed = shardStat.getAllocationId().equals(failedId.getId());
+            assertEquals(failed ? 0L : 42L, shardStat.getSavedReplicationLagMillis());
+        }
+
+        // a merged segment that is merged away before it becomes visible does not save any time
+        final MergedSegmentCheckpoint mergedAwaySegment = new MergedSegmentCheckpoint(
+            tracker.shardId(),
+            0L,
+            2,
+            50L,
+            codec,
+            Map.of("segment_4", segment_4),
+            "_4"
+        );
+        tracker.updatePreCopiedMergedSegment(mergedAwaySegment, Set.of(), 7L);
+        tracker.pruneRedundantPreCopiedMergedSegments(
+            new ReferencedSegmentsCheckpoint(tracker.shardId(), 0L, 3, -1, codec, Collections.emptyMap(), Set.of("_1", "_3"))
+        );
+        for (AllocationId id : initializingIds) {
+            assertTrue(tracker.checkpoints.get(id.getId()).preCopiedMergedSegments.isEmpty());
+        }
+        groupStats = tracker.getSegmentReplicationStats();
+        for (SegmentReplicationShardStats shardStat : groupStats) {
+            final boolean failed = shardStat.getAllocationId().equals(failedId.getId());
+            assertEquals(failed ? 50L : 150L, shardStat.getPreCopiedBytes());
+            assertEquals(failed ? 0L : 42L, shardStat.getSavedReplicationLagMillis());
+
+            try (BytesStreamOutput output = new BytesStreamOutput()) {
+                shardStat.writeTo(output);
+                try (StreamInput in = output.bytes().streamInput()) {
+                    final SegmentReplicationShardStats deserialized = new SegmentReplicationShardStats(in);
+                    assertEquals(shardStat.getPreCopiedBytes(), deserialized.getPreCopiedBytes());
+                    assertEquals(shardStat.getSavedReplicationLagMillis(), deserialized.getSavedReplicationLagMillis());
+                }
+            }
+            try (BytesStreamOutput output = new BytesStreamOutput()) {
+                output.setVersion(org.opensearch.Version.V_3_4_0);
+                shardStat.writeTo(output);
+                try (StreamInput in = output.bytes().streamInput()) {
+                    in.setVersion(org.opensearch.Version.V_3_4_0);
+                    final SegmentReplicationShardStats deserialized = new SegmentReplicationShardStats(in);
+                    assertEquals(shardStat.getBytesBehindCount(), deserialized.getBytesBehindCount());
+                    assertEquals(0L, deserialized.getPreCopiedBytes());
+                    assertEquals(0L, deserialized.getSavedReplicationLagMillis());
+                }
+            }
+        }
+    }
+
     public void testSegmentReplicationCheckpointForRelocatingPrimary() {
         Settings settings = Settings.builder().put(SETTING_REPLICATION_TYPE, ReplicationType.SEGMENT).build();
         final long initialClusterStateVersion = randomNonNegativeLong();
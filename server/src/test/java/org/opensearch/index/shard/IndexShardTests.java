@@ -4522,6 +4522,46 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(primary);
     }
 
+    public void testSearchAfterSkippedSearchDemandRefreshSeesIndexedDocs() throws Exception {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexSettings.INDEX_REFRESH_SEARCH_DEMAND_ENABLED.getKey(), true)
+            .put(IndexSettings.INDEX_REFRESH_SEARCH_DEMAND_MAX_STALENESS.getKey(), TimeValue.timeValueHours(1))
+            .build();
+        IndexMetadata metadata = IndexMetadata.builder("test")
+            .putMapping("{ \"properties\": { \"foo\":  { \"type\": \"text\"}}}")
+            .settings(settings)
+            .primaryTerm(0, 1)
+            .build();
+        IndexShard primary = newShard(new ShardId(metadata.getIndex(), 0), true, "n1", metadata, null);
+        recoverShardFromStore(primary);
+        indexDoc(primary, "_doc", "0", "{\"foo\" : \"bar\"}");
+        assertTrue(primary.getEngine().refreshNeeded());
+        // the shard was not searched since its last refresh, and it is not search idle either
+        assertFalse(primary.isSearchIdle());
+        assertFalse(primary.scheduledRefresh());
+        assertTrue(primary.hasRefreshPending());
+        assertEquals(1, primary.refreshStats().getSearchDemandSkipped());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        primary.awaitShardSearchActive(refreshed -> {
+            assertTrue(refreshed);
+            try (Engine.Searcher searcher = primary.acquireSearcher("test")) {
+                assertEquals(1, searcher.getIndexReader().numDocs());
+            } finally {
+                latch.countDown();
+            }
+        });
+        // the search waits for the refresh pending since the skipped one
+        assertEquals(1, latch.getCount());
+        assertTrue(primary.scheduledRefresh());
+        latch.await();
+        assertFalse(primary.hasRefreshPending());
+        closeShards(primary);
+    }
+
     public void testRefreshIsNeededWithRefreshListeners() throws IOException, InterruptedException {
         Settings settings = Settings.builder()
             .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.refresh.RefreshStats;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SearchDemandRefreshPolicyTests extends OpenSearchTestCase {
+
+    public void testRefreshesOnSearchDemand() {
+        final AtomicLong now = new AtomicLong(randomNonNegativeLong() / 2);
+        final SearchDemandRefreshPolicy policy = new SearchDemandRefreshPolicy(new ShardId("index", "_na_", 0), now::get);
+        final TimeValue maxStaleness = TimeValue.timeValueSeconds(30);
+
+        // the shard was not searched and its last refresh is recent
+        now.addAndGet(1000);
+        assertFalse(policy.shouldRefresh(false, maxStaleness));
+
+        // refresh listeners always get their refresh
+        assertTrue(policy.shouldRefresh(true, maxStaleness));
+
+        // a search asks for the next refresh, which resets the demand
+        policy.onSearcherAccess();
+        assertTrue(policy.shouldRefresh(false, maxStaleness));
+        policy.beforeRefresh();
+        policy.afterRefresh(true);
+        assertFalse(policy.shouldRefresh(false, maxStaleness));
+
+        // the shard refreshes anyway once its last refresh is too old
+        now.addAndGet(maxStaleness.millis());
+        assertTrue(policy.shouldRefresh(false, maxStaleness));
+
+        final RefreshStats.Builder builder = new RefreshStats.Builder();
+        policy.addStats(builder);
+        final RefreshStats stats = builder.build();
+        assertEquals(2, stats.getSearchDemandSkipped());
+        assertEquals(1, stats.getSearchDemandForSearches());
+        assertEquals(1, stats.getSearchDemandForListeners());
+        assertEquals(1, stats.getSearchDemandForFreshness());
+    }
+
+    public void testStaggersFreshnessRefreshes() {
+        final AtomicLong now = new AtomicLong();
+        final TimeValue maxStaleness = TimeValue.timeValueSeconds(100);
+        long earliest = Long.MAX_VALUE;
+        long latest = Long.MIN_VALUE;
+        for (int shard = 0; shard < 50; shard++) {
+            now.set(0);
+            final SearchDemandRefreshPolicy policy = new SearchDemandRefreshPolicy(new ShardId("index", "_na_", shard), now::get);
+            // find the first second at which the shard refreshes for freshness
+            while (policy.shouldRefresh(false, maxStaleness) == false) {
+                now.addAndGet(1000);
+            }
+            assertTrue(now.get() <= maxStaleness.millis());
+            assertTrue(now.get() >= maxStaleness.millis() * (100 - SearchDemandRefreshPolicy.MAX_STAGGER_PERCENT) / 100);
+            earliest = Math.min(earliest, now.get());
+            latest = Math.max(latest, now.get());
+        }
+        assertTrue("the shards do not all refresh at the same time", earliest < latest);
+    }
+}
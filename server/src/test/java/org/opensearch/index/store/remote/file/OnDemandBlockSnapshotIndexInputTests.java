@@ -32,11 +32,15 @@ import org.junit.Before;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -102,6 +106,60 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
         );
     }
 
+    public void testReadAheadOnSequentialReads() throws Exception {
+        final int blockSizeShift = 12;
+        final int blockSize = 1 << blockSizeShift;
+        try (OnDemandBlockSnapshotIndexInput indexInput = createOnDemandBlockSnapshotIndexInput(blockSizeShift, 4)) {
+            // random accesses are not read ahead
+            indexInput.seek(10L * blockSize);
+            indexInput.seek(5L * blockSize);
+            indexInput.seek(20L * blockSize);
+            verify(transferManager, never()).prefetchBlobs(any());
+
+            // the third sequential block read ahead the next blocks
+            for (int blockId = 0; blockId < 3; blockId++) {
+                indexInput.seek((long) blockId * blockSize);
+            }
+            verify(transferManager).prefetchBlobs(argThat(requests -> blockIds(requests).equals(List.of(3, 4, 5, 6))));
+
+            // the next batch is only read ahead once half of the blocks that were read ahead were consumed
+            indexInput.seek(3L * blockSize);
+            verify(transferManager, times(1)).prefetchBlobs(any());
+            indexInput.seek(4L * blockSize);
+            verify(transferManager).prefetchBlobs(argThat(requests -> blockIds(requests).equals(List.of(7, 8))));
+        }
+    }
+
+    public void testPrefetch() throws Exception {
+        final int blockSizeShift = 12;
+        final int blockSize = 1 << blockSizeShift;
+        try (OnDemandBlockSnapshotIndexInput indexInput = createOnDemandBlockSnapshotIndexInput(blockSizeShift, 4)) {
+            indexInput.seek(0);
+            // the current block is not prefetched
+            indexInput.prefetch(10, 2L * blockSize);
+            verify(transferManager).prefetchBlobs(argThat(requests -> blockIds(requests).equals(List.of(1, 2))));
+            expectThrows(IndexOutOfBoundsException.class, () -> indexInput.prefetch(FILE_SIZE - 1, 2));
+        }
+    }
+
+    public void testNoReadAheadWhenDisabled() throws Exception {
+        final int blockSizeShift = 12;
+        final int blockSize = 1 << blockSizeShift;
+        try (OnDemandBlockSnapshotIndexInput indexInput = createOnDemandBlockSnapshotIndexInput(blockSizeShift, 0)) {
+            for (int blockId = 0; blockId < 10; blockId++) {
+                indexInput.seek((long) blockId * blockSize);
+            }
+            indexInput.prefetch(0, 2L * blockSize);
+            verify(transferManager, never()).prefetchBlobs(any());
+        }
+    }
+
+    private static List<Integer> blockIds(List<BlobFetchRequest> requests) {
+        return requests.stream()
+            .map(request -> Integer.parseInt(request.getFileName().substring((BLOCK_FILE_PREFIX + "_block_").length())))
+            .collect(Collectors.toList());
+    }
+
     private void verifyChunkedRepository(long blockSize, long repositoryChunkSize, long fileSize) throws IOException {
         when(transferManager.fetchBlob(any())).thenReturn(new ByteArrayIndexInput("test", new byte[(int) blockSize]));
         try (
@@ -131,7 +189,7 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
     }
 
     private void runAllTestsFor(int blockSizeShift) throws Exception {
-        final OnDemandBlockSnapshotIndexInput blockedSnapshotFile = createOnDemandBlockSnapshotIndexInput(blockSizeShift);
+        final OnDemandBlockSnapshotIndexInput blockedSnapshotFile = createOnDemandBlockSnapshotIndexInput(blockSizeShift, 0);
         final int blockSize = 1 << blockSizeShift;
         TestGroup.testGetBlock(blockedSnapshotFile, blockSize, FILE_SIZE);
         TestGroup.testGetBlockOffset(blockedSnapshotFile, blockSize, FILE_SIZE);
@@ -156,8 +214,8 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
     }
 
     // create OnDemandBlockSnapshotIndexInput for each block size
-    private OnDemandBlockSnapshotIndexInput createOnDemandBlockSnapshotIndexInput(int blockSizeShift) throws IOException,
-        InterruptedException {
+    private OnDemandBlockSnapshotIndexInput createOnDemandBlockSnapshotIndexInput(int blockSizeShift, int readAheadBlocks)
+        throws IOException, InterruptedException {
 
         // file info should be initialized per test method since file size need to be calculated
         fileInfo = new BlobStoreIndexShardSnapshot.FileInfo(
@@ -189,6 +247,7 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
                 .offset(BLOCK_SNAPSHOT_FILE_OFFSET)
                 .length(FILE_SIZE)
                 .blockSizeShift(blockSizeShift)
+                .readAheadBlocks(readAheadBlocks)
                 .isClone(IS_CLONE),
             fileInfo,
             directory,
@@ -510,6 +510,34 @@ public class FileCacheTests extends OpenSearchTestCase {
         assertEquals("No files should be actively used", 0, fileCache.activeUsage());
     }
 
+    public void testTinyLFUAdmissionStats() {
+        FileCache fileCache = FileCacheFactory.createConcurrentTinyLFUFileCache(10 * BLOCK_SIZE, 1);
+        for (int i = 0; i < 9; i++) {
+            putAndDecRef(fileCache, i, BLOCK_SIZE);
+        }
+        for (int i = 0; i < 9; i++) {
+            fileCache.get(createPath(Integer.toString(i)));
+            fileCache.decRef(createPath(Integer.toString(i)));
+        }
+        // files that are read once do not replace the files that were read before
+        for (int i = 100; i < 110; i++) {
+            putAndDecRef(fileCache, i, BLOCK_SIZE);
+        }
+        assertEquals(9, fileCache.fileCacheStats().getAdmissionRejections());
+        for (int i = 1; i < 9; i++) {
+            assertNotNull(fileCache.getRef(createPath(Integer.toString(i))));
+        }
+    }
+
+    public void testAdmissionPriority() {
+        assertEquals(2, FileCacheFactory.admissionPriority(path.resolve("_0.tim")));
+        assertEquals(2, FileCacheFactory.admissionPriority(path.resolve("_0.tip" + FileTypeUtils.BLOCK_FILE_IDENTIFIER + "3")));
+        assertEquals(2, FileCacheFactory.admissionPriority(path.resolve("_0_Lucene90_0.dvd")));
+        assertEquals(1, FileCacheFactory.admissionPriority(path.resolve("_0.fdt" + FileTypeUtils.BLOCK_FILE_IDENTIFIER + "1")));
+        assertEquals(1, FileCacheFactory.admissionPriority(path.resolve("_0.cfs")));
+        assertEquals(1, FileCacheFactory.admissionPriority(path.resolve("segments_1")));
+    }
+
     private void putAndDecRef(FileCache cache, int path, long indexInputSize) {
         final Path key = createPath(Integer.toString(path));
         cache.put(key, new StubCachedIndexInput(indexInputSize));
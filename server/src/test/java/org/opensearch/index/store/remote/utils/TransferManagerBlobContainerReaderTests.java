@@ -8,10 +8,14 @@
 
 package org.opensearch.index.store.remote.utils;
 
+import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.blobstore.BlobContainer;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -19,6 +23,9 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 public class TransferManagerBlobContainerReaderTests extends TransferManagerTestCase {
     private BlobContainer blobContainer;
@@ -30,6 +37,41 @@ public class TransferManagerBlobContainerReaderTests extends TransferManagerTest
         transferManager = new TransferManager(blobContainer::readBlob, fileCache, threadPool);
     }
 
+    public void testPrefetchCoalescesAdjacentBlobs() throws Exception {
+        final List<BlobFetchRequest> blobFetchRequests = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+            blobParts.add(new BlobFetchRequest.BlobPart("blob", i * 1024L, 1024));
+            blobFetchRequests.add(BlobFetchRequest.builder().fileName("prefetch-" + i).directory(directory).blobParts(blobParts).build());
+        }
+        transferManager.prefetchBlobs(blobFetchRequests);
+        assertBusy(() -> assertEquals(4096L, fileCache.usage()));
+        verify(blobContainer, times(1)).readBlob("blob", 0, 4096);
+        for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+            try (IndexInput indexInput = transferManager.fetchBlob(blobFetchRequest)) {
+                assertEquals(1024L, indexInput.length());
+            }
+        }
+        verifyNoMoreInteractions(blobContainer);
+    }
+
+    public void testCoalescedPrefetchFailsOnceCacheCapacityExceeded() throws Exception {
+        final int length = EIGHT_MB / 2;
+        final List<BlobFetchRequest> blobFetchRequests = new ArrayList<>();
+        // the reserved cache entries take more than the capacity of the cache
+        for (int i = 0; i < 5; i++) {
+            List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+            blobParts.add(new BlobFetchRequest.BlobPart("blob", (long) i * length, length));
+            blobFetchRequests.add(BlobFetchRequest.builder().fileName("prefetch-" + i).directory(directory).blobParts(blobParts).build());
+        }
+        transferManager.prefetchBlobs(blobFetchRequests);
+        assertBusy(() -> assertEquals(0L, fileCache.usage()));
+        assertEquals(0L, fileCache.activeUsage());
+        for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+            assertFalse(Files.exists(blobFetchRequest.getFilePath()));
+        }
+    }
+
     protected void mockExceptionWhileReading() throws IOException {
         doThrow(new IOException("Expected test exception")).when(blobContainer).readBlob(eq("failure-blob"), anyLong(), anyLong());
     }
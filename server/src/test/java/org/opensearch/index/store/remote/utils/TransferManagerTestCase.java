@@ -56,6 +56,7 @@ public abstract class TransferManagerTestCase extends OpenSearchTestCase {
         initializeTransferManager();
         executorService = Executors.newFixedThreadPool(3);
         doReturn(executorService).when(threadPool).executor(ThreadPool.Names.REMOTE_RECOVERY);
+        doReturn(executorService).when(threadPool).executor(ThreadPool.Names.REMOTE_PREFETCH);
     }
 
     @After
@@ -336,6 +337,37 @@ public abstract class TransferManagerTestCase extends OpenSearchTestCase {
         assertEquals(Optional.of(1), Optional.of(fileCache.getRef(blobFetchRequest.getFilePath())));
     }
 
+    public void testPrefetchBlobs() throws Exception {
+        final int length = randomIntBetween(1, EIGHT_MB / 4);
+        final List<BlobFetchRequest> blobFetchRequests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+            blobParts.add(new BlobFetchRequest.BlobPart("blob", (long) i * length, length));
+            blobFetchRequests.add(BlobFetchRequest.builder().fileName("prefetch-" + i).directory(directory).blobParts(blobParts).build());
+        }
+        transferManager.prefetchBlobs(blobFetchRequests);
+        for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+            // the reference held by the prefetch is released once the blob is downloaded
+            assertBusy(() -> assertEquals(Integer.valueOf(0), fileCache.getRef(blobFetchRequest.getFilePath())));
+            try (IndexInput indexInput = transferManager.fetchBlob(blobFetchRequest)) {
+                MatcherAssert.assertThat(indexInput.length(), equalTo((long) length));
+            }
+        }
+        MatcherAssert.assertThat(fileCache.activeUsage(), equalTo(0L));
+        MatcherAssert.assertThat(fileCache.usage(), equalTo(3L * length));
+    }
+
+    public void testPrefetchFailureIsNotCached() throws Exception {
+        mockExceptionWhileReading();
+        List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
+        blobParts.add(new BlobFetchRequest.BlobPart("failure-blob", 0, EIGHT_MB));
+        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder().fileName("file").directory(directory).blobParts(blobParts).build();
+        transferManager.prefetchBlobs(List.of(blobFetchRequest));
+        expectThrows(IOException.class, () -> transferManager.fetchBlob(blobFetchRequest));
+        assertBusy(() -> MatcherAssert.assertThat(fileCache.usage(), equalTo(0L)));
+        MatcherAssert.assertThat(fileCache.activeUsage(), equalTo(0L));
+    }
+
     protected abstract void initializeTransferManager() throws IOException;
 
     protected abstract void mockExceptionWhileReading() throws IOException;
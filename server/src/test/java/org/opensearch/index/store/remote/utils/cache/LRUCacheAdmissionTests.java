@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.function.ToIntFunction;
+
+public class LRUCacheAdmissionTests extends OpenSearchTestCase {
+    private static final int CAPACITY = 100;
+    private static final int HOT_KEYS = 9;
+
+    public void testScanDoesNotEvictFrequentlyAccessedEntries() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, key -> 1);
+        fillWithHotKeys(cache, ".tim", 3);
+
+        for (int i = 0; i < 50; i++) {
+            putAndRelease(cache, "scan_" + i + ".doc");
+        }
+        // the first scanned entry evicts the least recently used entry as there is no other candidate while it is in use, the
+        // following ones are rejected in favour of the frequently accessed entries
+        assertNull(cache.getRef("hot_0.tim"));
+        for (int i = 1; i < HOT_KEYS; i++) {
+            assertNotNull(cache.getRef("hot_" + i + ".tim"));
+        }
+        assertEquals(49, cache.stats().admissionRejectCount());
+        assertEquals(50, cache.stats().evictionCount());
+        assertEquals(CAPACITY - 10, cache.usage());
+    }
+
+    public void testWithoutAdmissionPolicyScanEvictsAllEntries() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value);
+        fillWithHotKeys(cache, ".tim", 3);
+
+        for (int i = 0; i < 50; i++) {
+            putAndRelease(cache, "scan_" + i + ".doc");
+        }
+        for (int i = 0; i < HOT_KEYS; i++) {
+            assertNull(cache.getRef("hot_" + i + ".tim"));
+        }
+        assertEquals(0, cache.stats().admissionRejectCount());
+    }
+
+    public void testFrequentlyAccessedEntriesAreAdmitted() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, key -> 1);
+        fillWithHotKeys(cache, ".tim", 1);
+
+        for (int i = 0; i < 5; i++) {
+            final String key = "new_" + i + ".doc";
+            accessMissing(cache, key, 2);
+            putAndRelease(cache, key);
+        }
+        // every new entry but the last one, which is still in the window, won against an entry of the main list
+        for (int i = 0; i < 5; i++) {
+            assertNotNull(cache.getRef("new_" + i + ".doc"));
+        }
+        for (int i = 0; i < HOT_KEYS; i++) {
+            assertEquals(i >= 5, cache.getRef("hot_" + i + ".tim") != null);
+        }
+        assertEquals(0, cache.stats().admissionRejectCount());
+    }
+
+    public void testAdmissionPriority() {
+        final ToIntFunction<String> priority = key -> key.endsWith(".tim") ? 2 : 1;
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, priority);
+        fillWithHotKeys(cache, ".tim", 1);
+
+        for (int i = 0; i < 5; i++) {
+            final String key = "new_" + i + ".doc";
+            accessMissing(cache, key, 2);
+            putAndRelease(cache, key);
+        }
+        // the new entries are accessed more often, but the entries of the main list have a higher priority
+        for (int i = 1; i < HOT_KEYS; i++) {
+            assertNotNull(cache.getRef("hot_" + i + ".tim"));
+        }
+        assertEquals(4, cache.stats().admissionRejectCount());
+    }
+
+    public void testClearResetsAdmission() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, key -> 1);
+        fillWithHotKeys(cache, ".tim", 3);
+        putAndRelease(cache, "scan_0.doc");
+        cache.clear();
+        assertEquals(0L, cache.usage());
+
+        // entries are admitted without competing until the cache fills up again
+        for (int i = 0; i < HOT_KEYS; i++) {
+            putAndRelease(cache, "other_" + i + ".doc");
+        }
+        assertEquals(CAPACITY - 10, cache.usage());
+        assertEquals(0, cache.stats().admissionRejectCount());
+    }
+
+    /**
+     * Fills the cache up to 90% with released entries of weight 10 that are accessed the given number of times.
+     */
+    private static void fillWithHotKeys(LRUCache<String, Long> cache, String extension, int accesses) {
+        for (int i = 0; i < HOT_KEYS; i++) {
+            putAndRelease(cache, "hot_" + i + extension);
+        }
+        for (int access = 0; access < accesses; access++) {
+            for (int i = 0; i < HOT_KEYS; i++) {
+                final String key = "hot_" + i + extension;
+                assertNotNull(cache.get(key));
+                cache.decRef(key);
+            }
+        }
+        assertEquals(CAPACITY - 10, cache.usage());
+        assertEquals(0L, cache.activeUsage());
+    }
+
+    private static void accessMissing(LRUCache<String, Long> cache, String key, int accesses) {
+        for (int i = 0; i < accesses; i++) {
+            assertNull(cache.get(key));
+        }
+    }
+
+    private static void putAndRelease(LRUCache<String, Long> cache, String key) {
+        cache.put(key, 10L);
+        cache.decRef(key);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class TranslogGroupCommitServiceTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        terminate(threadPool);
+        super.tearDown();
+    }
+
+    private TranslogGroupCommitService newService(TimeValue window) {
+        final Settings settings = Settings.builder()
+            .put(TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_ENABLED_SETTING.getKey(), true)
+            .put(TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_WINDOW_SETTING.getKey(), window)
+            .build();
+        return new TranslogGroupCommitService(
+            settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS),
+            threadPool
+        );
+    }
+
+    public void testSyncsOfAShardAreGrouped() throws Exception {
+        final TranslogGroupCommitService service = newService(TimeValue.timeValueMillis(50));
+        assertTrue(service.isEnabled());
+        final Path dataPath = createTempDir();
+        final List<List<Translog.Location>> syncs = new CopyOnWriteArrayList<>();
+        final TranslogGroupCommitService.Participant participant = service.register(dataPath, syncs::add);
+
+        final int requests = between(2, 20);
+        final CountDownLatch latch = new CountDownLatch(requests);
+        final Queue<Exception> failures = ConcurrentCollections.newQueue();
+        for (int i = 0; i < requests; i++) {
+            service.sync(participant, new Translog.Location(1, i, 1), e -> {
+                if (e != null) {
+                    failures.add(e);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(failures.size(), equalTo(0));
+
+        final int synced = syncs.stream().mapToInt(List::size).sum();
+        assertThat(synced, equalTo(requests));
+        assertThat(syncs.size(), lessThanOrEqualTo(requests));
+
+        final TranslogGroupCommitStats stats = participant.stats();
+        assertThat(stats.getCommits(), equalTo((long) syncs.size()));
+        assertThat(stats.getRequests(), equalTo((long) requests));
+        assertThat(stats.getMaxBatchSize(), greaterThanOrEqualTo(1L));
+    }
+
+    public void testShardsOnTheSameDataPathShareGroupCommits() throws Exception {
+        final TranslogGroupCommitService service = newService(TimeValue.timeValueMillis(randomIntBetween(0, 10)));
+        final Path dataPath = createTempDir();
+        final AtomicInteger firstShardSyncs = new AtomicInteger();
+        final AtomicInteger secondShardSyncs = new AtomicInteger();
+        final TranslogGroupCommitService.Participant first = service.register(dataPath, l -> firstShardSyncs.addAndGet(l.size()));
+        final TranslogGroupCommitService.Participant second = service.register(dataPath, l -> secondShardSyncs.addAndGet(l.size()));
+
+        final int requests = between(1, 50);
+        final CountDownLatch latch = new CountDownLatch(2 * requests);
+        for (int i = 0; i < requests; i++) {
+            service.sync(first, new Translog.Location(1, i, 1), e -> latch.countDown());
+            service.sync(second, new Translog.Location(1, i, 1), e -> latch.countDown());
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(firstShardSyncs.get(), equalTo(requests));
+        assertThat(secondShardSyncs.get(), equalTo(requests));
+        assertThat(first.stats().getRequests(), equalTo((long) requests));
+        assertThat(second.stats().getRequests(), equalTo((long) requests));
+    }
+
+    public void testShardsOfAGroupCommitSyncConcurrently() throws Exception {
+        final TranslogGroupCommitService service = newService(TimeValue.timeValueMillis(20));
+        final Path dataPath = createTempDir();
+        final int shards = between(2, 4);
+        // every shard waits for all the others to start syncing, which never happens if the syncs run one after the other
+        final CountDownLatch syncing = new CountDownLatch(shards);
+        final List<TranslogGroupCommitService.Participant> participants = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            participants.add(service.register(dataPath, l -> {
+                syncing.countDown();
+                if (syncing.await(10, TimeUnit.SECONDS) == false) {
+                    throw new IOException("shards did not sync concurrently");
+                }
+            }));
+        }
+
+        final CountDownLatch latch = new CountDownLatch(shards);
+        final Queue<Exception> failures = ConcurrentCollections.newQueue();
+        for (TranslogGroupCommitService.Participant participant : participants) {
+            service.sync(participant, new Translog.Location(1, 0, 1), e -> {
+                if (e != null) {
+                    failures.add(e);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        assertThat(failures.size(), equalTo(0));
+        for (TranslogGroupCommitService.Participant participant : participants) {
+            assertThat(participant.stats().getCommits(), equalTo(1L));
+        }
+    }
+
+    public void testFailureIsPassedToAllListenersOfTheShard() throws Exception {
+        final TranslogGroupCommitService service = newService(TimeValue.timeValueMillis(20));
+        final Path dataPath = createTempDir();
+        final IOException failure = new IOException("boom");
+        final TranslogGroupCommitService.Participant failing = service.register(dataPath, l -> { throw failure; });
+        final TranslogGroupCommitService.Participant healthy = service.register(dataPath, l -> {});
+
+        final int requests = between(1, 10);
+        final CountDownLatch latch = new CountDownLatch(2 * requests);
+        final Queue<Exception> failingResults = ConcurrentCollections.newQueue();
+        final Queue<Exception> healthyResults = ConcurrentCollections.newQueue();
+        for (int i = 0; i < requests; i++) {
+            service.sync(failing, new Translog.Location(1, i, 1), e -> {
+                failingResults.add(e);
+                latch.countDown();
+            });
+            service.sync(healthy, new Translog.Location(1, i, 1), e -> {
+                if (e != null) {
+                    healthyResults.add(e);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertThat(failingResults.size(), equalTo(requests));
+        for (Exception e : failingResults) {
+            assertThat(e, sameInstance(failure));
+        }
+        assertThat(healthyResults.peek(), nullValue());
+    }
+}
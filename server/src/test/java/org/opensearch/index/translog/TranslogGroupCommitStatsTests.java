@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class TranslogGroupCommitStatsTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        final TranslogGroupCommitStats stats = randomStats();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            stats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(stats, new TranslogGroupCommitStats(in));
+            }
+        }
+    }
+
+    public void testAdd() {
+        final TranslogGroupCommitStats stats = randomStats();
+        final TranslogGroupCommitStats other = randomStats();
+        final TranslogGroupCommitStats sum = new TranslogGroupCommitStats();
+        sum.add(stats);
+        sum.add(other);
+        sum.add(null);
+        assertEquals(stats.getCommits() + other.getCommits(), sum.getCommits());
+        assertEquals(stats.getRequests() + other.getRequests(), sum.getRequests());
+        assertEquals(Math.max(stats.getMaxBatchSize(), other.getMaxBatchSize()), sum.getMaxBatchSize());
+        assertEquals(stats.getTotalLatencyInMillis() + other.getTotalLatencyInMillis(), sum.getTotalLatencyInMillis());
+        assertEquals(Math.max(stats.getMaxLatencyInMillis(), other.getMaxLatencyInMillis()), sum.getMaxLatencyInMillis());
+    }
+
+    public void testTranslogStatsSerialization() throws IOException {
+        final TranslogStats translogStats = new TranslogStats(
+            randomIntBetween(0, 100),
+            randomNonNegativeLong(),
+            randomIntBetween(0, 100),
+            randomNonNegativeLong(),
+            randomNonNegativeLong()
+        );
+        final TranslogGroupCommitStats stats = randomStats();
+        translogStats.addGroupCommitStats(stats);
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            translogStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final TranslogStats deserialized = new TranslogStats(in);
+                assertEquals(stats, deserialized.getGroupCommitStats());
+                assertEquals(translogStats.estimatedNumberOfOperations(), deserialized.estimatedNumberOfOperations());
+                assertEquals(translogStats.getUncommittedOperations(), deserialized.getUncommittedOperations());
+            }
+        }
+
+        // nodes that do not know about group commits neither send nor receive their stats
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.V_3_4_0);
+            translogStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(Version.V_3_4_0);
+                final TranslogStats deserialized = new TranslogStats(in);
+                assertEquals(new TranslogGroupCommitStats(), deserialized.getGroupCommitStats());
+                assertEquals(translogStats.getUncommittedOperations(), deserialized.getUncommittedOperations());
+                assertEquals(0, in.available());
+            }
+        }
+    }
+
+    private static TranslogGroupCommitStats randomStats() {
+        return new TranslogGroupCommitStats(
+            randomLongBetween(0, 1000),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 100),
+            randomLongBetween(0, 100000),
+            randomLongBetween(0, 1000)
+        );
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.cache.request.ShardRequestCache;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SegmentAggregationCacheTests extends OpenSearchTestCase {
+
+    @Override
+    protected NamedWriteableRegistry writableRegistry() {
+        return new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables());
+    }
+
+    private static IndexShard shard(ShardId shardId, ShardRequestCache requestCache) {
+        final IndexShard shard = mock(IndexShard.class);
+        when(shard.shardId()).thenReturn(shardId);
+        when(shard.requestCache()).thenReturn(requestCache);
+        return shard;
+    }
+
+    public void testCacheIsKeyedOnSegmentAndRequest() throws Exception {
+        final SegmentAggregationCache cache = new SegmentAggregationCache(Settings.EMPTY, writableRegistry());
+        final BytesReference requestKey = new BytesArray("request");
+        final BytesReference otherRequestKey = new BytesArray("other_request");
+        final ShardRequestCache requestCache = new ShardRequestCache();
+        final IndexShard shard = shard(new ShardId("test", "_na_", 0), requestCache);
+        final IndexShard otherShard = shard(new ShardId("test", "_na_", 1), new ShardRequestCache());
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int i = 0; i < 2; i++) {
+                    Document document = new Document();
+                    document.add(new StringField("field", "value" + i, Field.Store.NO));
+                    writer.addDocument(document);
+                    writer.commit();
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(2, reader.leaves().size());
+                final IndexReader.CacheHelper first = reader.leaves().get(0).reader().getReaderCacheHelper();
+                final IndexReader.CacheHelper second = reader.leaves().get(1).reader().getReaderCacheHelper();
+
+                final InternalAggregations aggregations = InternalAggregations.from(
+                    List.of(new InternalMax("max", randomDouble(), DocValueFormat.RAW, null))
+                );
+                assertNull(cache.get(shard, first.getKey(), requestKey));
+                cache.put(shard, first, requestKey, aggregations);
+                assertEquals(1, cache.count());
+                assertTrue(requestCache.stats().getMemorySizeInBytes() > 0);
+
+                assertEquals(aggregations.asList(), cache.get(shard, first.getKey(), requestKey).asList());
+                assertNull(cache.get(shard, first.getKey(), otherRequestKey));
+                assertNull(cache.get(shard, second.getKey(), requestKey));
+                assertNull(cache.get(otherShard, first.getKey(), requestKey));
+                assertEquals(1, cache.getHitCount());
+                assertEquals(4, cache.getMissCount());
+
+                cache.put(shard, first, otherRequestKey, aggregations);
+                cache.put(shard, second, requestKey, aggregations);
+                cache.put(otherShard, first, requestKey, aggregations);
+                assertEquals(4, cache.count());
+
+                // clearing the cache of a shard only invalidates its own entries
+                cache.clear(shard.shardId());
+                assertEquals(1, cache.count());
+                assertEquals(0, requestCache.stats().getMemorySizeInBytes());
+                assertNotNull(cache.get(otherShard, first.getKey(), requestKey));
+
+                cache.put(shard, first, requestKey, aggregations);
+                assertEquals(2, cache.count());
+            }
+            // closing the segments invalidates their entries
+            assertEquals(0, cache.count());
+            assertEquals(0, requestCache.stats().getMemorySizeInBytes());
+            assertEquals(0, requestCache.stats().getEvictions());
+        }
+        cache.close();
+    }
+
+    public void testEntriesSurviveReopenOfUnchangedSegments() throws Exception {
+        final SegmentAggregationCache cache = new SegmentAggregationCache(Settings.EMPTY, writableRegistry());
+        final BytesReference requestKey = new BytesArray("request");
+        final IndexShard shard = shard(new ShardId("test", "_na_", 0), new ShardRequestCache());
+        final InternalAggregations aggregations = InternalAggregations.from(
+            List.of(new InternalMax("max", randomDouble(), DocValueFormat.RAW, null))
+        );
+        try (
+            Directory directory = newDirectory();
+            IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))
+        ) {
+            Document document = new Document();
+            document.add(new StringField("field", "value", Field.Store.NO));
+            writer.addDocument(document);
+            writer.commit();
+
+            DirectoryReader reader = DirectoryReader.open(writer);
+            final LeafReaderContext leaf = reader.leaves().get(0);
+            cache.put(shard, leaf.reader().getReaderCacheHelper(), requestKey, aggregations);
+
+            // a refresh that only adds a segment keeps the reader of the existing segment
+            writer.addDocument(document);
+            final DirectoryReader newReader = DirectoryReader.openIfChanged(reader);
+            assertNotNull(newReader);
+            reader.close();
+            assertEquals(2, newReader.leaves().size());
+            assertNotNull(cache.get(shard, newReader.leaves().get(0).reader().getReaderCacheHelper().getKey(), requestKey));
+            assertNull(cache.get(shard, newReader.leaves().get(1).reader().getReaderCacheHelper().getKey(), requestKey));
+            assertEquals(1, cache.count());
+            newReader.close();
+            assertEquals(0, cache.count());
+        }
+        cache.close();
+    }
+}
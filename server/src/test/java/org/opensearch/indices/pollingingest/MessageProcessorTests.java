@@ -29,8 +29,11 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -218,6 +221,39 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         assertEquals(1, combinedMetric.processorThreadInterruptCounter().count());
     }
 
+    public void testProcessBatch() throws Exception {
+        MessageProcessorRunnable.MessageProcessor processor = mock(MessageProcessorRunnable.MessageProcessor.class);
+        MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
+            new ArrayBlockingQueue<>(MessageProcessorRunnable.MAX_BATCH_SIZE * 2),
+            processor,
+            new DropIngestionErrorStrategy("ingestion_source"),
+            "test_index",
+            0
+        );
+        assertEquals(0, messageProcessorRunnable.processBatch());
+
+        ShardUpdateMessage[] messages = new ShardUpdateMessage[MessageProcessorRunnable.MAX_BATCH_SIZE + 1];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = new ShardUpdateMessage(new FakeIngestionSource.FakeIngestionShardPointer(i), null, Collections.emptyMap(), -1);
+            messageProcessorRunnable.getBlockingQueue().put(messages[i]);
+        }
+        // the first message fails once and is retried before the messages that follow it
+        doThrow(new RuntimeException()).doNothing().when(processor).process(same(messages[0]), any());
+
+        assertEquals(MessageProcessorRunnable.MAX_BATCH_SIZE, messageProcessorRunnable.processBatch());
+        InOrder inOrder = inOrder(processor);
+        inOrder.verify(processor, times(2)).process(same(messages[0]), any());
+        inOrder.verify(processor).process(same(messages[1]), any());
+        assertEquals(1, messageProcessorRunnable.getBlockingQueue().size());
+        assertEquals(1, messageProcessorRunnable.processBatch());
+
+        MessageProcessorRunnable.MessageProcessorMetrics metrics = messageProcessorRunnable.getMessageProcessorMetrics();
+        assertEquals(2, metrics.batchCounter().count());
+        assertEquals(MessageProcessorRunnable.MAX_BATCH_SIZE + 1, metrics.batchedMessageCounter().count());
+        assertEquals(MessageProcessorRunnable.MAX_BATCH_SIZE + 2, metrics.processedCounter().count());
+        assertEquals(messages[messages.length - 1].pointer(), messageProcessorRunnable.getCurrentShardPointer());
+    }
+
     public void testMessageRetrySuccess() throws Exception {
         MessageProcessorRunnable.MessageProcessor processor = mock(MessageProcessorRunnable.MessageProcessor.class);
         DropIngestionErrorStrategy errorStrategy = new DropIngestionErrorStrategy("ingestion_source");
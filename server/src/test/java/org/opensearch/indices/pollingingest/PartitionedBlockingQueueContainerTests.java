@@ -20,10 +20,15 @@ import org.junit.Before;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeoutException;
 
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -66,7 +71,7 @@ public class PartitionedBlockingQueueContainerTests extends OpenSearchTestCase {
     public void testAddMessage() throws TimeoutException, InterruptedException {
         assertEquals(1, blockingQueueContainer.getPartitionToQueueMap().size());
         assertEquals(1, blockingQueueContainer.getPartitionToMessageProcessorMap().size());
-        assertEquals(1, blockingQueueContainer.getPartitionToProcessorExecutorMap().size());
+        assertEquals(1, blockingQueueContainer.getNumProcessorThreads());
 
         List<
             IngestionShardConsumer.ReadResult<
@@ -103,6 +108,78 @@ public class PartitionedBlockingQueueContainerTests extends OpenSearchTestCase {
         verify(processor, times(2)).process(any(), any());
     }
 
+    public void testIdleProcessorThreadsStealPartitions() throws Exception {
+        final int numPartitions = 8;
+        final Map<String, List<Integer>> processedSequences = new ConcurrentHashMap<>();
+        final List<MessageProcessorRunnable> processors = new ArrayList<>();
+        for (int partition = 0; partition < numPartitions; partition++) {
+            MessageProcessorRunnable.MessageProcessor partitionProcessor = mock(MessageProcessorRunnable.MessageProcessor.class);
+            doAnswer(invocation -> {
+                ShardUpdateMessage update = invocation.getArgument(0);
+                Thread.sleep(1);
+                processedSequences.computeIfAbsent((String) update.parsedPayloadMap().get("_id"), id -> new CopyOnWriteArrayList<>())
+                    .add((Integer) update.parsedPayloadMap().get("seq"));
+                return null;
+            }).when(partitionProcessor).process(any(), any());
+            processors.add(
+                new MessageProcessorRunnable(
+                    new ArrayBlockingQueue<>(100),
+                    partitionProcessor,
+                    new DropIngestionErrorStrategy("ingestion_source"),
+                    "test_index",
+                    0
+                )
+            );
+        }
+        PartitionedBlockingQueueContainer container = new PartitionedBlockingQueueContainer(processors, 2, 0);
+        try {
+            container.startProcessorThreads();
+            // all documents belong to partitions owned by the first processor thread
+            List<String> ids = new ArrayList<>();
+            for (int i = 0; ids.size() < 8; i++) {
+                String id = Integer.toString(i);
+                if (Math.floorMod(id.hashCode(), numPartitions) % 2 == 0) {
+                    ids.add(id);
+                }
+            }
+            final int updatesPerId = 50;
+            for (int seq = 0; seq < updatesPerId; seq++) {
+                for (String id : ids) {
+                    Map<String, Object> payload = Map.of("_id", id, "seq", seq);
+                    container.add(new ShardUpdateMessage<>(new FakeIngestionSource.FakeIngestionShardPointer(seq), null, payload, -1));
+                }
+            }
+
+            assertBusy(() -> {
+                MessageProcessorRunnable.MessageProcessorMetrics metrics = container.getMessageProcessorMetrics();
+                assertEquals(ids.size() * updatesPerId, metrics.processedCounter().count());
+                assertEquals(ids.size() * updatesPerId, metrics.batchedMessageCounter().count());
+            });
+            MessageProcessorRunnable.MessageProcessorMetrics metrics = container.getMessageProcessorMetrics();
+            assertThat(metrics.stolenBatchCounter().count(), greaterThan(0L));
+            assertThat(metrics.batchCounter().count(), lessThanOrEqualTo((long) ids.size() * updatesPerId));
+
+            // the updates of every document were applied in order
+            for (String id : ids) {
+                List<Integer> sequences = processedSequences.get(id);
+                assertEquals(updatesPerId, sequences.size());
+                for (int seq = 0; seq < updatesPerId; seq++) {
+                    assertEquals(seq, (int) sequences.get(seq));
+                }
+            }
+
+            List<PollingIngestStats.PartitionStats> partitionStats = container.getPartitionStats();
+            assertEquals(numPartitions, partitionStats.size());
+            assertEquals(
+                ids.size() * updatesPerId,
+                partitionStats.stream().mapToLong(PollingIngestStats.PartitionStats::batchedMessageCount).sum()
+            );
+            partitionStats.forEach(partition -> assertEquals(0, partition.queuedMessageCount()));
+        } finally {
+            container.close();
+        }
+    }
+
     public void testUpdateErrorStrategy() {
         assertTrue(processorRunnable.getErrorStrategy() instanceof DropIngestionErrorStrategy);
         blockingQueueContainer.updateErrorStrategy(new BlockIngestionErrorStrategy("source"));
@@ -8,6 +8,7 @@
 
 package org.opensearch.indices.pollingingest;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
@@ -16,6 +17,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.List;
 
 public class PollingIngestStatsTests extends OpenSearchTestCase {
 
@@ -39,6 +41,15 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
             + stats.getMessageProcessorStats().totalFailuresDroppedCount()
             + ",\"total_processor_thread_interrupt_count\":"
             + stats.getMessageProcessorStats().totalProcessorThreadInterruptCount()
+            + ",\"total_batch_count\":"
+            + stats.getMessageProcessorStats().totalBatchCount()
+            + ",\"total_batched_message_count\":"
+            + stats.getMessageProcessorStats().totalBatchedMessageCount()
+            + ",\"total_stolen_batch_count\":"
+            + stats.getMessageProcessorStats().totalStolenBatchCount()
+            + ",\"partitions\":[{\"partition\":0,\"queued_message_count\":3,\"lag_in_millis\":20,\"batch_count\":4,"
+            + "\"avg_batch_size\":2.5},{\"partition\":1,\"queued_message_count\":0,\"lag_in_millis\":0,\"batch_count\":0,"
+            + "\"avg_batch_size\":0.0}]"
             + "},\"consumer_stats\":{\"total_polled_count\":"
             + stats.getConsumerStats().totalPolledCount()
             + ",\"total_consumer_error_count\":"
@@ -71,12 +82,39 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSerializationBeforeBatchStats() throws IOException {
+        PollingIngestStats original = createTestInstance();
+
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            output.setVersion(Version.V_3_4_0);
+            original.writeTo(output);
+
+            try (StreamInput input = output.bytes().streamInput()) {
+                input.setVersion(Version.V_3_4_0);
+                PollingIngestStats deserialized = new PollingIngestStats(input);
+                assertEquals(original.getConsumerStats(), deserialized.getConsumerStats());
+                assertEquals(
+                    original.getMessageProcessorStats().totalProcessedCount(),
+                    deserialized.getMessageProcessorStats().totalProcessedCount()
+                );
+                assertEquals(0, deserialized.getMessageProcessorStats().totalBatchCount());
+                assertTrue(deserialized.getPartitionStats().isEmpty());
+            }
+        }
+    }
+
     private PollingIngestStats createTestInstance() {
         return PollingIngestStats.builder()
             .setTotalProcessedCount(randomNonNegativeLong())
             .setTotalInvalidMessageCount(randomNonNegativeLong())
             .setTotalPolledCount(randomNonNegativeLong())
             .setLagInMillis(randomNonNegativeLong())
+            .setTotalBatchCount(randomNonNegativeLong())
+            .setTotalBatchedMessageCount(randomNonNegativeLong())
+            .setTotalStolenBatchCount(randomNonNegativeLong())
+            .setPartitionStats(
+                List.of(new PollingIngestStats.PartitionStats(0, 3, 20, 4, 10), new PollingIngestStats.PartitionStats(1, 0, 0, 0, 0))
+            )
             .build();
     }
 }
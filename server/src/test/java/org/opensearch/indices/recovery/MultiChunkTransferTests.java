@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.recovery;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.function.IntToLongFunction;
+
+public class MultiChunkTransferTests extends OpenSearchTestCase {
+
+    private static final long CHUNK_SIZE = 512 * 1024;
+
+    public void testWindowGrowsWhileMoreChunksImproveThroughput() {
+        final MultiChunkTransfer.ChunkWindow window = new MultiChunkTransfer.ChunkWindow(2, 4);
+        // the link is latency bound, every chunk in flight adds the same throughput
+        final long[] now = new long[1];
+        window.onRequest(now[0]);
+        int maxSize = window.size();
+        for (int round = 0; round < 10 * MultiChunkTransfer.ChunkWindow.PROBE_INTERVAL; round++) {
+            runRound(window, now, size -> 1_000_000L);
+            maxSize = Math.max(maxSize, window.size());
+        }
+        assertEquals("grows past its initial size up to its maximum size", 4, maxSize);
+        assertEquals(4, window.size());
+    }
+
+    public void testWindowShrinksWhenTheLinkIsSaturated() {
+        final MultiChunkTransfer.ChunkWindow window = new MultiChunkTransfer.ChunkWindow(4, 4);
+        // the link is saturated by two chunks in flight, more chunks only wait longer
+        final long[] now = new long[1];
+        window.onRequest(now[0]);
+        for (int round = 0; round < MultiChunkTransfer.ChunkWindow.PROBE_INTERVAL; round++) {
+            runRound(window, now, size -> size * 500_000L);
+        }
+        assertEquals("probes a smaller window", 3, window.size());
+        runRound(window, now, size -> size * 500_000L);
+        assertEquals("keeps the smaller window that does not lose throughput", 3, window.size());
+
+        for (int round = 0; round < 4 * (MultiChunkTransfer.ChunkWindow.PROBE_INTERVAL + 1); round++) {
+            runRound(window, now, size -> Math.max(2, size) * 500_000L);
+        }
+        assertEquals(2, window.size());
+    }
+
+    public void testWindowIsFixedWithoutSizes() {
+        final MultiChunkTransfer.ChunkWindow window = new MultiChunkTransfer.ChunkWindow(3, 6);
+        long now = 0;
+        window.onRequest(now);
+        for (int i = 0; i < 10 * MultiChunkTransfer.ChunkWindow.PROBE_INTERVAL * 3; i++) {
+            now += randomIntBetween(1, 1_000_000);
+            window.onResponse(0, now);
+        }
+        assertEquals(3, window.size());
+    }
+
+    /**
+     * Receives the responses of a round, the round takes the time the given function returns for the size of the window.
+     */
+    private static void runRound(MultiChunkTransfer.ChunkWindow window, long[] now, IntToLongFunction roundNanos) {
+        final int size = window.size();
+        final long elapsedNanos = roundNanos.applyAsLong(size);
+        for (int i = 1; i <= size; i++) {
+            window.onResponse(CHUNK_SIZE, now[0] + elapsedNanos * i / size);
+        }
+        now[0] += elapsedNanos;
+    }
+}
@@ -40,6 +40,7 @@ import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.test.ClusterServiceUtils;
 import org.opensearch.test.OpenSearchTestCase;
@@ -48,11 +49,14 @@ import org.opensearch.threadpool.ThreadPool;
 import org.junit.After;
 import org.junit.Before;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 
 public class ResponseCollectorServiceTests extends OpenSearchTestCase {
 
@@ -141,6 +145,60 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testQueueingModel() {
+        final long serviceTime = TimeValue.timeValueMillis(10).nanos();
+        final long responseTime = TimeValue.timeValueMillis(15).nanos();
+        // same queue and response times, but all threads of the smaller pool of node1 are busy
+        collector.addNodeStatistics("node1", 2, 4, 4, 0, responseTime, serviceTime);
+        collector.addNodeStatistics("node2", 2, 2, 16, 0, responseTime, serviceTime);
+        // node3 does not report its thread pool
+        collector.addNodeStatistics("node3", 2, responseTime, serviceTime);
+
+        Map<String, ResponseCollectorService.ComputedNodeStats> nodeStats = collector.getAllNodeStatistics();
+        assertThat(nodeStats.get("node1").rank(1), equalTo(nodeStats.get("node2").rank(1)));
+        final double c3Rank = nodeStats.get("node3").rank(1);
+
+        clusterService.getClusterSettings()
+            .applySettings(
+                Settings.builder()
+                    .put(ResponseCollectorService.ADAPTIVE_REPLICA_SELECTION_MODEL_SETTING.getKey(), "queueing")
+                    .build()
+            );
+        nodeStats = collector.getAllNodeStatistics();
+        assertThat(nodeStats.get("node1").rank(1), greaterThan(nodeStats.get("node2").rank(1)));
+        // 2 queued, 2 active and 1 outstanding request for each of the 3 coordinating nodes fit into the 16 threads of node2
+        assertThat(nodeStats.get("node2").predictedResponseTime(1), equalTo(15.0));
+        // 2 queued, 4 active and 3 outstanding requests are ahead of the request on the 4 threads of node1
+        assertThat(nodeStats.get("node1").predictedResponseTime(1), equalTo(5.0 + 6 * 10.0 / 4 + 10.0));
+        assertThat(nodeStats.get("node3").predictedResponseTime(1), lessThan(0.0));
+        assertThat(nodeStats.get("node3").rank(1), equalTo(c3Rank));
+
+        // copies are only ranked by the queueing model if all their nodes reported their thread pool
+        assertThat(
+            ResponseCollectorService.rankingModel(List.of(nodeStats.get("node1"), nodeStats.get("node2"))),
+            equalTo(ResponseCollectorService.RankingModel.QUEUEING)
+        );
+        assertThat(ResponseCollectorService.rankingModel(nodeStats.values()), equalTo(ResponseCollectorService.RankingModel.C3));
+        assertThat(
+            nodeStats.get("node1").rank(1, ResponseCollectorService.RankingModel.C3),
+            equalTo(nodeStats.get("node2").rank(1, ResponseCollectorService.RankingModel.C3))
+        );
+    }
+
+    public void testResponseTimeDeviation() {
+        final long serviceTime = TimeValue.timeValueMillis(10).nanos();
+        collector.addNodeStatistics("node1", 0, 0, 8, 0, TimeValue.timeValueMillis(20).nanos(), serviceTime);
+        collector.addNodeStatistics("node2", 0, 0, 8, 0, TimeValue.timeValueMillis(20).nanos(), serviceTime);
+        for (int i = 0; i < 10; i++) {
+            collector.addNodeStatistics("node1", 0, 0, 8, 0, TimeValue.timeValueMillis(20).nanos(), serviceTime);
+            // node2 alternates between fast and slow responses
+            collector.addNodeStatistics("node2", 0, 0, 8, 0, TimeValue.timeValueMillis(i % 2 == 0 ? 5 : 35).nanos(), serviceTime);
+        }
+        final Map<String, ResponseCollectorService.ComputedNodeStats> nodeStats = collector.getAllNodeStatistics();
+        assertThat(nodeStats.get("node1").predictedResponseTime(0), closeTo(20.0, 0.001));
+        assertThat(nodeStats.get("node2").predictedResponseTime(0), greaterThan(20.0));
+    }
+
     public void testNodeRemoval() throws Exception {
         collector.addNodeStatistics("node1", randomIntBetween(1, 100), randomIntBetween(1, 100), randomIntBetween(1, 100));
         collector.addNodeStatistics("node2", randomIntBetween(1, 100), randomIntBetween(1, 100), randomIntBetween(1, 100));
@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.index.cache.request.ShardRequestCache;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.indices.SegmentAggregationCache;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
+import org.opensearch.search.aggregations.MultiBucketConsumerService.TooManyBucketsException;
+import org.opensearch.search.aggregations.bucket.terms.StringTerms;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.query.QuerySearchResult;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SegmentCachingAggCollectorManagerTests extends AggregatorTestCase {
+
+    private static final String FIELD = "field";
+
+    @Override
+    protected NamedWriteableRegistry writableRegistry() {
+        return new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, List.of()).getNamedWriteables());
+    }
+
+    public void testShardSizeAppliesToShardResult() throws IOException {
+        try (Directory directory = newDirectory()) {
+            // the term "common" is not among the top terms of any segment but it is the top term of the shard
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int segment = 0; segment < 3; segment++) {
+                    for (int term = 0; term < 5; term++) {
+                        addDocs(writer, "segment" + segment + "_term" + term, 5);
+                    }
+                    addDocs(writer, "common", 4);
+                    writer.commit();
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertEquals(3, reader.leaves().size());
+                final TermsAggregationBuilder terms = new TermsAggregationBuilder("terms").field(FIELD).size(1).shardSize(5);
+                final StringTerms expected = search(reader, terms, null, DEFAULT_MAX_BUCKETS);
+                assertEquals("common", expected.getBuckets().get(0).getKeyAsString());
+                assertEquals(12, expected.getBuckets().get(0).getDocCount());
+
+                final SegmentAggregationCache cache = new SegmentAggregationCache(Settings.EMPTY, writableRegistry());
+                // the first search caches the results of the segments and the second one reads them
+                for (int i = 0; i < 2; i++) {
+                    final StringTerms actual = search(reader, terms, cache, DEFAULT_MAX_BUCKETS);
+                    assertEquals(buckets(expected), buckets(actual));
+                    assertEquals(expected.getSumOfOtherDocCounts(), actual.getSumOfOtherDocCounts());
+                }
+                assertEquals(3, cache.count());
+                assertEquals(3, cache.getHitCount());
+                cache.close();
+            }
+        }
+    }
+
+    public void testMaxBucketsAppliesToShardResult() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int segment = 0; segment < 3; segment++) {
+                    for (int term = 0; term < 30; term++) {
+                        addDocs(writer, "term" + randomIntBetween(0, 99), randomIntBetween(1, 3));
+                    }
+                    writer.commit();
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                final TermsAggregationBuilder terms = new TermsAggregationBuilder("terms").field(FIELD).size(5).shardSize(5);
+                final SegmentAggregationCache cache = new SegmentAggregationCache(Settings.EMPTY, writableRegistry());
+
+                expectThrows(TooManyBucketsException.class, () -> search(reader, terms, null, 3));
+                expectThrows(TooManyBucketsException.class, () -> search(reader, terms, cache, 3));
+                // the results of the segments are cached even though the shard result has too many buckets
+                assertEquals(3, cache.count());
+                expectThrows(TooManyBucketsException.class, () -> search(reader, terms, cache, 3));
+
+                // the segments hold more buckets than the limit but the shard result does not
+                final StringTerms expected = search(reader, terms, null, 10);
+                assertEquals(buckets(expected), buckets(search(reader, terms, cache, 10)));
+                cache.close();
+            }
+        }
+    }
+
+    private static void addDocs(IndexWriter writer, String value, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            final Document document = new Document();
+            document.add(new SortedSetDocValuesField(FIELD, new BytesRef(value)));
+            writer.addDocument(document);
+        }
+    }
+
+    private static Map<String, Long> buckets(Terms terms) {
+        final Map<String, Long> buckets = new HashMap<>();
+        for (Terms.Bucket bucket : terms.getBuckets()) {
+            buckets.put(bucket.getKeyAsString(), bucket.getDocCount());
+        }
+        return buckets;
+    }
+
+    /**
+     * Returns the shard result of the terms aggregation, collected with the segment aggregation cache if one is given or with a single
+     * tree otherwise.
+     */
+    private StringTerms search(DirectoryReader reader, TermsAggregationBuilder terms, SegmentAggregationCache cache, int maxBuckets)
+        throws IOException {
+        final IndexSearcher searcher = new IndexSearcher(reader);
+        final MultiBucketConsumer consumer = new MultiBucketConsumer(
+            maxBuckets,
+            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+        );
+        final SearchContext context = createSearchContext(
+            searcher,
+            createIndexSettings(),
+            new MatchAllDocsQuery(),
+            consumer,
+            new KeywordFieldMapper.KeywordFieldType(FIELD)
+        );
+        final AggregatorFactories factories = AggregatorFactories.builder()
+            .addAggregator(terms)
+            .build(context.getQueryShardContext(), null);
+        when(context.aggregations()).thenReturn(new SearchContextAggregations(factories, consumer));
+        when(context.segmentAggregationCache()).thenReturn(cache);
+        when(context.partialOnShard()).thenAnswer(
+            invocation -> InternalAggregation.ReduceContext.forPartialReduction(context.bigArrays(), null, () -> PipelineTree.EMPTY)
+        );
+        final ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.cacheKey()).thenReturn(new BytesArray("request"));
+        when(context.request()).thenReturn(request);
+        when(context.indexShard().requestCache()).thenReturn(new ShardRequestCache());
+
+        final AggregationCollectorManager manager = cache == null
+            ? new NonGlobalAggCollectorManagerWithSingleCollector(context)
+            : new SegmentCachingAggCollectorManager(context, cache);
+        final Collector collector = manager.newCollector();
+        searcher.search(new MatchAllDocsQuery(), collector);
+        final QuerySearchResult result = new QuerySearchResult();
+        manager.reduce(cache == null ? List.of() : List.of(collector)).reduce(result);
+        return result.aggregations().expand().get("terms");
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.MultiReader;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -55,6 +56,7 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.script.ScriptType;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
 import org.opensearch.search.aggregations.support.ValuesSourceType;
@@ -414,6 +416,35 @@ public class StatsAggregatorTests extends AggregatorTestCase {
         testCase(builder, iw -> iw.addDocuments(docs), stats -> verify.accept(expected, stats), singleton(ft));
     }
 
+    public void testCollectRange() throws IOException {
+        final MappedFieldType ft = new NumberFieldMapper.NumberFieldType("field", NumberType.LONG);
+        final SimpleStatsAggregator expected = new SimpleStatsAggregator();
+        try (Directory directory = newDirectory(); RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+            // the values are smaller than the doc ids so that bounding the range by the running maximum value skips docs
+            final int numDocs = randomIntBetween(10, 100);
+            for (int i = 0; i < numDocs; i++) {
+                final long value = i % 3;
+                indexWriter.addDocument(singleton(new NumericDocValuesField(ft.name(), value)));
+                expected.add(value);
+            }
+            try (IndexReader reader = indexWriter.getReader()) {
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                final StatsAggregator aggregator = createAggregator(stats("_name").field(ft.name()), searcher, ft);
+                for (LeafReaderContext ctx : reader.leaves()) {
+                    final LeafBucketCollector leafCollector = aggregator.getLeafCollector(ctx, LeafBucketCollector.NO_OP_COLLECTOR);
+                    final int split = randomIntBetween(0, ctx.reader().maxDoc());
+                    leafCollector.collectRange(0, split);
+                    leafCollector.collectRange(split, ctx.reader().maxDoc());
+                }
+                final InternalStats stats = (InternalStats) aggregator.buildTopLevel();
+                assertEquals(expected.count, stats.getCount());
+                assertEquals(expected.sum, stats.getSum(), 0d);
+                assertEquals(expected.min, stats.getMin(), 0d);
+                assertEquals(expected.max, stats.getMax(), 0d);
+            }
+        }
+    }
+
     private void testCase(
         StatsAggregationBuilder builder,
         CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
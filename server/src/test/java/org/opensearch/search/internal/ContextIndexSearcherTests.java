@@ -62,6 +62,7 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.Accountable;
@@ -89,6 +90,7 @@ import org.opensearch.search.aggregations.metrics.InternalSum;
 import org.opensearch.search.fetch.FetchSearchResult;
 import org.opensearch.search.fetch.QueryFetchSearchResult;
 import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.search.query.TotalHitCountCollectorManager;
 import org.opensearch.test.IndexSettingsModule;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -430,6 +432,60 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         }
     }
 
+    public void testPartitionedSegmentsCountEachHitOnce() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (
+                IndexWriter iw = new IndexWriter(
+                    directory,
+                    new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+                )
+            ) {
+                for (int docCount : new int[] { 400, 10 }) {
+                    for (int i = 0; i < docCount; i++) {
+                        Document document = new Document();
+                        document.add(new StringField("field1", i % 2 == 0 ? "even" : "odd", Field.Store.NO));
+                        iw.addDocument(document);
+                    }
+                    iw.commit();
+                }
+            }
+            try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+                // the match all and term queries can count the hits of whole segments without collecting them
+                assertEquals(410, totalHits(directoryReader, new MatchAllDocsQuery(), 0));
+                assertEquals(410, totalHits(directoryReader, new MatchAllDocsQuery(), 50));
+                assertEquals(205, totalHits(directoryReader, new TermQuery(new Term("field1", "even")), 0));
+                assertEquals(205, totalHits(directoryReader, new TermQuery(new Term("field1", "even")), 50));
+            }
+        }
+    }
+
+    private static long totalHits(DirectoryReader reader, Query query, int partitionMinDocs) throws IOException {
+        SearchContext searchContext = mock(SearchContext.class);
+        IndexShard indexShard = mock(IndexShard.class);
+        when(searchContext.indexShard()).thenReturn(indexShard);
+        when(indexShard.getSearchOperationListener()).thenReturn(new SearchOperationListener() {
+        });
+        when(searchContext.bucketCollectorProcessor()).thenReturn(SearchContext.NO_OP_BUCKET_COLLECTOR_PROCESSOR);
+        when(searchContext.shouldUseConcurrentSearch()).thenReturn(true);
+        when(searchContext.getTargetMaxSliceCount()).thenReturn(4);
+        when(searchContext.getSlicePlanner()).thenReturn(SearchService.CONCURRENT_SEGMENT_SEARCH_SLICE_PLANNER_COST_BASED);
+        when(searchContext.getSlicePartitionMinDocs()).thenReturn(partitionMinDocs);
+        ContextIndexSearcher searcher = new ContextIndexSearcher(
+            reader,
+            IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(),
+            IndexSearcher.getDefaultQueryCachingPolicy(),
+            true,
+            Runnable::run,
+            searchContext
+        );
+        assertEquals(partitionMinDocs == 0 ? 2 : 4, searcher.getSlices().length);
+        QuerySearchResult result = new QuerySearchResult();
+        searcher.search(query, new TotalHitCountCollectorManager(null)).reduce(result);
+        assertEquals(TotalHits.Relation.EQUAL_TO, result.topDocs().topDocs.totalHits.relation());
+        return result.topDocs().topDocs.totalHits.value();
+    }
+
     private SparseFixedBitSet query(LeafReaderContext leaf, String field, String value) throws IOException {
         SparseFixedBitSet sparseFixedBitSet = new SparseFixedBitSet(leaf.reader().maxDoc());
         TermsEnum tenum = leaf.reader().terms(field).iterator();
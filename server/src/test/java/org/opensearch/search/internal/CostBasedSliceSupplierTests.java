@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
+
+public class CostBasedSliceSupplierTests extends OpenSearchTestCase {
+
+    public void testInvalidSliceCount() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> CostBasedSliceSupplier.getSlices(new ArrayList<>(), randomIntBetween(-3, 0), randomIntBetween(0, 100))
+        );
+    }
+
+    public void testEmptyLeaves() {
+        assertEquals(0, CostBasedSliceSupplier.getSlices(new ArrayList<>(), 2, randomIntBetween(0, 100)).length);
+    }
+
+    public void testSliceCountGreaterThanLeafCount() throws Exception {
+        int leafCount = 2;
+        IndexSearcher.LeafSlice[] slices = CostBasedSliceSupplier.getSlices(getLeaves(leafCount), 5, 0);
+        assertEquals(leafCount, slices.length);
+        for (IndexSearcher.LeafSlice slice : slices) {
+            assertEquals(1, slice.partitions.length);
+        }
+    }
+
+    public void testSkewedSegmentsAreBalancedByCost() throws Exception {
+        try (Directory directory = newDirectory()) {
+            // one large segment and a tail of small ones
+            List<LeafReaderContext> leaves = createSegments(directory, 60, 10, 10, 10, 10, 10, 10);
+            IndexSearcher.LeafSlice[] slices = CostBasedSliceSupplier.getSlices(leaves, 2, 0);
+            assertEquals(2, slices.length);
+            for (IndexSearcher.LeafSlice slice : slices) {
+                assertEquals(60, slice.getMaxDocs());
+            }
+        }
+    }
+
+    public void testLargeSegmentIsPartitioned() throws Exception {
+        try (Directory directory = newDirectory()) {
+            List<LeafReaderContext> leaves = createSegments(directory, 400, 10);
+            IndexSearcher.LeafSlice[] slices = CostBasedSliceSupplier.getSlices(leaves, 4, 50);
+            assertEquals(4, slices.length);
+
+            long coveredDocs = 0;
+            for (IndexSearcher.LeafSlice slice : slices) {
+                Set<Integer> ords = new HashSet<>();
+                for (IndexSearcher.LeafReaderContextPartition partition : slice.partitions) {
+                    assertTrue("slice contains two partitions of the same segment", ords.add(partition.ctx.ord));
+                    int maxDoc = partition.ctx.reader().maxDoc();
+                    coveredDocs += Math.min(partition.maxDocId, maxDoc) - partition.minDocId;
+                }
+            }
+            assertEquals(410, coveredDocs);
+        }
+    }
+
+    public void testSegmentsAreNotPartitionedBelowMinimumSize() throws Exception {
+        try (Directory directory = newDirectory()) {
+            List<LeafReaderContext> leaves = createSegments(directory, 40, 10);
+            IndexSearcher.LeafSlice[] slices = CostBasedSliceSupplier.getSlices(leaves, 4, 100);
+            assertEquals(2, slices.length);
+            for (IndexSearcher.LeafSlice slice : slices) {
+                assertEquals(1, slice.partitions.length);
+                assertEquals(0, slice.partitions[0].minDocId);
+            }
+        }
+    }
+
+    public void testAdjustForQueueDepth() {
+        assertEquals(8, CostBasedSliceSupplier.adjustForQueueDepth(8, 4, 0));
+        assertEquals(8, CostBasedSliceSupplier.adjustForQueueDepth(8, 4, 3));
+        assertEquals(4, CostBasedSliceSupplier.adjustForQueueDepth(8, 4, 4));
+        assertEquals(2, CostBasedSliceSupplier.adjustForQueueDepth(8, 4, 12));
+        assertEquals(1, CostBasedSliceSupplier.adjustForQueueDepth(8, 4, 1000));
+        assertEquals(8, CostBasedSliceSupplier.adjustForQueueDepth(8, 0, 1000));
+    }
+
+    private static List<LeafReaderContext> createSegments(Directory directory, int... docCounts) throws Exception {
+        try (
+            IndexWriter iw = new IndexWriter(
+                directory,
+                new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE)
+            )
+        ) {
+            for (int docCount : docCounts) {
+                for (int i = 0; i < docCount; i++) {
+                    Document document = new Document();
+                    document.add(new StringField("field1", "value" + i, Field.Store.NO));
+                    iw.addDocument(document);
+                }
+                iw.commit();
+            }
+        }
+        try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
+            return directoryReader.leaves();
+        }
+    }
+}
@@ -61,7 +61,23 @@ public class QueryProfileShardResultTests extends OpenSearchTestCase {
         if (randomBoolean()) {
             rewriteTime = rewriteTime % 1000; // make sure to often test this with small values too
         }
-        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector);
+        SlicePlanResult slicePlan = randomBoolean() ? null : createSlicePlan();
+        return new QueryProfileShardResult(queryProfileResults, rewriteTime, profileCollector, slicePlan);
+    }
+
+    private static SlicePlanResult createSlicePlan() {
+        int sliceCount = randomIntBetween(0, 8);
+        List<SlicePlanResult.Slice> slices = new ArrayList<>(sliceCount);
+        for (int i = 0; i < sliceCount; i++) {
+            slices.add(new SlicePlanResult.Slice(randomIntBetween(1, 10), randomNonNegativeLong()));
+        }
+        return new SlicePlanResult(
+            randomFrom("lucene", "max_target", "cost_based"),
+            randomIntBetween(0, 16),
+            randomIntBetween(0, 16),
+            randomIntBetween(0, sliceCount),
+            slices
+        );
     }
 
     public void testFromXContent() throws IOException {
@@ -78,6 +94,13 @@ public class QueryProfileShardResultTests extends OpenSearchTestCase {
             assertNull(parser.nextToken());
         }
         assertToXContentEquivalent(originalBytes, toXContent(parsed, xContentType, humanReadable), xContentType);
+        assertEquals(profileResult.getSlicePlan(), parsed.getSlicePlan());
+    }
+
+    public void testSlicePlanSerialization() throws IOException {
+        SlicePlanResult slicePlan = createSlicePlan();
+        SlicePlanResult deserialized = copyWriteable(slicePlan, writableRegistry(), SlicePlanResult::new);
+        assertEquals(slicePlan, deserialized);
     }
 
 }
@@ -120,6 +120,30 @@ public class QuerySearchResultTests extends OpenSearchTestCase {
         assertEquals(querySearchResult.terminatedEarly(), deserialized.terminatedEarly());
     }
 
+    public void testNodeStatisticsSerialization() throws Exception {
+        QuerySearchResult querySearchResult = createTestInstance();
+        querySearchResult.serviceTimeEWMA(randomNonNegativeLong());
+        querySearchResult.nodeQueueSize(randomIntBetween(0, 100));
+        querySearchResult.nodeActiveThreads(randomIntBetween(0, 16));
+        querySearchResult.nodeThreadPoolSize(randomIntBetween(1, 16));
+        querySearchResult.nodeSearcherQueueSize(randomIntBetween(0, 100));
+
+        QuerySearchResult deserialized = copyWriteable(querySearchResult, namedWriteableRegistry, QuerySearchResult::new, Version.CURRENT);
+        assertEquals(querySearchResult.serviceTimeEWMA(), deserialized.serviceTimeEWMA());
+        assertEquals(querySearchResult.nodeQueueSize(), deserialized.nodeQueueSize());
+        assertEquals(querySearchResult.nodeActiveThreads(), deserialized.nodeActiveThreads());
+        assertEquals(querySearchResult.nodeThreadPoolSize(), deserialized.nodeThreadPoolSize());
+        assertEquals(querySearchResult.nodeSearcherQueueSize(), deserialized.nodeSearcherQueueSize());
+
+        // nodes before 3.5.0 do not know the thread pool statistics, so the response collector keeps ranking them with C3
+        deserialized = copyWriteable(querySearchResult, namedWriteableRegistry, QuerySearchResult::new, Version.V_3_4_0);
+        assertEquals(querySearchResult.serviceTimeEWMA(), deserialized.serviceTimeEWMA());
+        assertEquals(querySearchResult.nodeQueueSize(), deserialized.nodeQueueSize());
+        assertEquals(-1, deserialized.nodeActiveThreads());
+        assertEquals(-1, deserialized.nodeThreadPoolSize());
+        assertEquals(-1, deserialized.nodeSearcherQueueSize());
+    }
+
     public void testNullResponse() throws Exception {
         QuerySearchResult querySearchResult = QuerySearchResult.nullInstance();
         QuerySearchResult deserialized = copyWriteable(querySearchResult, namedWriteableRegistry, QuerySearchResult::new, Version.CURRENT);
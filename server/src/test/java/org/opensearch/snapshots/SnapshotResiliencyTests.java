@@ -2648,6 +2648,7 @@ public class SnapshotResiliencyTests extends OpenSearchTestCase {
                     clusterService.getClusterSettings(),
                     transportService,
                     namedWriteableRegistry,
+                    BigArrays.NON_RECYCLING_INSTANCE,
                     allocationService,
                     clusterManagerService,
                     () -> persistedState,
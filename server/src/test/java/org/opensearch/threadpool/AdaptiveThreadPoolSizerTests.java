@@ -0,0 +1,176 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.QueueResizableOpenSearchThreadPoolExecutor;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+public class AdaptiveThreadPoolSizerTests extends OpenSearchTestCase {
+
+    public void testResizeDecisions() {
+        final QueueResizableOpenSearchThreadPoolExecutor executor = newExecutor(7);
+        try {
+            final ThreadPool.Info info = new ThreadPool.Info(ThreadPool.Names.INDEX_SEARCHER, ThreadPool.ThreadPoolType.RESIZABLE);
+            final AdaptiveThreadPoolSizer sizer = new AdaptiveThreadPoolSizer(
+                Settings.EMPTY,
+                4,
+                Map.of(ThreadPool.Names.INDEX_SEARCHER, new ThreadPool.ExecutorHolder(executor, info)),
+                () -> 50
+            );
+            final AdaptiveThreadPoolSizer.PoolSizer pool = sizer.pool(ThreadPool.Names.INDEX_SEARCHER);
+            final long queueLatency = TimeValue.timeValueMillis(20).nanos();
+
+            // the tasks spend three quarters of their time off the CPU and wait in the queue, so the pool grows towards 16 threads
+            pool.adjust(50, 1000, 250, 10 * queueLatency, 10);
+            assertEquals(10, executor.getMaximumPoolSize());
+            assertEquals(10, executor.getCorePoolSize());
+            ThreadPoolStats.AdaptiveSizingStats stats = sizer.stats(ThreadPool.Names.INDEX_SEARCHER);
+            assertEquals(AdaptiveThreadPoolSizer.GROW, stats.getLastDecision());
+            assertEquals(75, stats.getIoWaitPercent());
+            assertEquals(queueLatency, stats.getQueueLatencyNanos());
+            assertEquals(4, stats.getMinSize());
+            assertEquals(14, stats.getMaxSize());
+
+            // the pool does not grow beyond twice its configured size
+            for (int i = 0; i < 3; i++) {
+                pool.adjust(50, 1000, 250, 10 * queueLatency, 10);
+            }
+            assertEquals(14, executor.getMaximumPoolSize());
+            pool.adjust(50, 1000, 250, 10 * queueLatency, 10);
+            assertEquals(14, executor.getMaximumPoolSize());
+            assertEquals(AdaptiveThreadPoolSizer.HOLD, sizer.stats(ThreadPool.Names.INDEX_SEARCHER).getLastDecision());
+
+            // the pool shrinks when the processors are saturated, even though tasks wait in the queue
+            pool.adjust(95, 1000, 250, 10 * queueLatency, 10);
+            assertEquals(13, executor.getMaximumPoolSize());
+            assertEquals(AdaptiveThreadPoolSizer.SHRINK, sizer.stats(ThreadPool.Names.INDEX_SEARCHER).getLastDecision());
+
+            // the pool shrinks towards the number of processors when the tasks only use the CPU and do not wait in the queue
+            pool.adjust(50, 1000, 1000, 0, 10);
+            assertEquals(9, executor.getMaximumPoolSize());
+
+            // nothing is decided without tasks
+            pool.adjust(50, 0, 0, 0, 0);
+            assertEquals(9, executor.getMaximumPoolSize());
+            stats = sizer.stats(ThreadPool.Names.INDEX_SEARCHER);
+            assertEquals(AdaptiveThreadPoolSizer.HOLD, stats.getLastDecision());
+            assertEquals(-1, stats.getIoWaitPercent());
+            assertEquals(6, stats.getResizes());
+        } finally {
+            ThreadPool.terminate(executor, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testSearchPoolIsNotSized() {
+        final QueueResizableOpenSearchThreadPoolExecutor executor = newExecutor(7);
+        try {
+            final ThreadPool.Info info = new ThreadPool.Info(ThreadPool.Names.SEARCH, ThreadPool.ThreadPoolType.RESIZABLE);
+            final AdaptiveThreadPoolSizer sizer = new AdaptiveThreadPoolSizer(
+                Settings.EMPTY,
+                4,
+                Map.of(ThreadPool.Names.SEARCH, new ThreadPool.ExecutorHolder(executor, info)),
+                () -> 50
+            );
+            // search threads wait for the slices of concurrent segment searches, which would be mistaken for I/O
+            assertNull(sizer.pool(ThreadPool.Names.SEARCH));
+            assertNull(sizer.stats(ThreadPool.Names.SEARCH));
+        } finally {
+            ThreadPool.terminate(executor, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testConcurrentResizes() throws Exception {
+        final QueueResizableOpenSearchThreadPoolExecutor executor = newExecutor(7);
+        try {
+            final ThreadPool.Info info = new ThreadPool.Info(ThreadPool.Names.INDEX_SEARCHER, ThreadPool.ThreadPoolType.RESIZABLE);
+            final AdaptiveThreadPoolSizer sizer = new AdaptiveThreadPoolSizer(
+                Settings.EMPTY,
+                4,
+                Map.of(ThreadPool.Names.INDEX_SEARCHER, new ThreadPool.ExecutorHolder(executor, info)),
+                () -> 50
+            );
+            final AdaptiveThreadPoolSizer.PoolSizer pool = sizer.pool(ThreadPool.Names.INDEX_SEARCHER);
+            final long queueLatency = TimeValue.timeValueMillis(20).nanos();
+            final int[] sizes = new int[randomIntBetween(100, 1000)];
+            for (int i = 0; i < sizes.length; i++) {
+                sizes[i] = randomIntBetween(1, 20);
+            }
+            final CyclicBarrier barrier = new CyclicBarrier(2);
+            // the pool is resized through the cluster settings while the sizer grows and shrinks it
+            final Thread settingsUpdates = new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int size : sizes) {
+                        ThreadPool.setFixedPoolSize(executor, size);
+                    }
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            settingsUpdates.start();
+            barrier.await();
+            for (int i = 0; i < sizes.length; i++) {
+                if (i % 2 == 0) {
+                    pool.adjust(50, 1000, 250, 10 * queueLatency, 10);
+                } else {
+                    pool.adjust(95, 1000, 1000, 0, 10);
+                }
+            }
+            settingsUpdates.join();
+            assertEquals(executor.getCorePoolSize(), executor.getMaximumPoolSize());
+        } finally {
+            ThreadPool.terminate(executor, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testCpuTimeTracking() throws Exception {
+        final QueueResizableOpenSearchThreadPoolExecutor executor = newExecutor(1);
+        try {
+            assumeTrue("the JVM measures the CPU time of threads", executor.setCpuTimeTracking(true));
+            final CountDownLatch latch = new CountDownLatch(1);
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                latch.countDown();
+            });
+            latch.await();
+            assertBusy(() -> assertEquals(1, executor.getCompletedTaskCount()));
+            assertThat(executor.getTrackedExecutionTimeNanos(), greaterThan(TimeValue.timeValueMillis(40).nanos()));
+            assertThat(executor.getTrackedCpuTimeNanos(), lessThan(executor.getTrackedExecutionTimeNanos() / 2));
+        } finally {
+            ThreadPool.terminate(executor, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    private QueueResizableOpenSearchThreadPoolExecutor newExecutor(int size) {
+        return (QueueResizableOpenSearchThreadPoolExecutor) OpenSearchExecutors.newResizable(
+            "search",
+            size,
+            1000,
+            OpenSearchExecutors.daemonThreadFactory(getTestName()),
+            new ThreadContext(Settings.EMPTY),
+            null
+        );
+    }
+}
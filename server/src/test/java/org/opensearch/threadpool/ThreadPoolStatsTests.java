@@ -153,6 +153,48 @@ public class ThreadPoolStatsTests extends OpenSearchTestCase {
         assertEquals(-1, statsIn.getParallelism());
     }
 
+    public void testStatsSerializationAdaptiveSizingVersion() throws IOException {
+        ThreadPoolStats.Stats statsOut = new ThreadPoolStats.Stats.Builder().name("search")
+            .threads(1)
+            .queue(2)
+            .active(3)
+            .rejected(4L)
+            .largest(5)
+            .completed(6L)
+            .waitTimeNanos(7L)
+            .parallelism(-1)
+            .adaptiveSizing(new ThreadPoolStats.AdaptiveSizingStats(4, 14, 10, "grow", 3L, 50, 75, 20_000_000L))
+            .build();
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_5_0);
+        statsOut.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(Version.V_3_5_0);
+        ThreadPoolStats.AdaptiveSizingStats adaptiveSizing = new ThreadPoolStats.Stats(in).getAdaptiveSizing();
+        assertEquals(4, adaptiveSizing.getMinSize());
+        assertEquals(14, adaptiveSizing.getMaxSize());
+        assertEquals(10, adaptiveSizing.getSize());
+        assertEquals("grow", adaptiveSizing.getLastDecision());
+        assertEquals(3L, adaptiveSizing.getResizes());
+        assertEquals(50, adaptiveSizing.getCpuPercent());
+        assertEquals(75, adaptiveSizing.getIoWaitPercent());
+        assertEquals(20_000_000L, adaptiveSizing.getQueueLatencyNanos());
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.startObject();
+        statsOut.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        assertTrue(builder.toString().contains("\"adaptive_sizing\":{\"min_size\":4,\"max_size\":14,\"size\":10"));
+
+        // Serialization for version < 3.5.0 (adaptive sizing is not written, should be null)
+        out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_4_0);
+        statsOut.writeTo(out);
+        in = out.bytes().streamInput();
+        in.setVersion(Version.V_3_4_0);
+        assertNull(new ThreadPoolStats.Stats(in).getAdaptiveSizing());
+    }
+
     public void testStatsCompareToWithParallelism() {
         ThreadPoolStats.Stats.Builder builder = new ThreadPoolStats.Stats.Builder().name("a")
             .threads(1)
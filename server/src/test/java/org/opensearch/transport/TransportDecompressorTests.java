@@ -37,6 +37,8 @@ import org.opensearch.common.io.Streams;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.compress.ZstdCompressor;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
@@ -48,6 +50,8 @@ import org.opensearch.test.OpenSearchTestCase;
 import java.io.IOException;
 import java.io.OutputStream;
 
+import static org.hamcrest.Matchers.startsWith;
+
 public class TransportDecompressorTests extends OpenSearchTestCase {
 
     public void testSimpleCompression() throws IOException {
@@ -73,6 +77,99 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testResetForNextMessage() throws IOException {
+        try (TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE)) {
+            for (int message = 0; message < 3; message++) {
+                try (BytesStreamOutput output = new BytesStreamOutput()) {
+                    try (
+                        StreamOutput deflateStream = new OutputStreamStreamOutput(
+                            CompressorRegistry.defaultCompressor().threadLocalOutputStream(Streams.flushOnCloseStream(output))
+                        )
+                    ) {
+                        for (int i = 0; i < 10000; ++i) {
+                            deflateStream.writeInt(message + i);
+                        }
+                    }
+
+                    BytesReference bytes = output.bytes();
+                    if (message == 1) {
+                        // abandon the message half-way, as if the channel failed while decoding it
+                        decompressor.decompress(bytes.slice(0, bytes.length() / 2));
+                        assertFalse(decompressor.isEOS());
+                        decompressor.reset();
+                        continue;
+                    }
+                    int bytesConsumed = decompressor.decompress(bytes);
+                    assertEquals(bytes.length(), bytesConsumed);
+                    assertTrue(decompressor.isEOS());
+                    ReleasableBytesReference reference1 = decompressor.pollDecompressedPage();
+                    ReleasableBytesReference reference2 = decompressor.pollDecompressedPage();
+                    ReleasableBytesReference reference3 = decompressor.pollDecompressedPage();
+                    assertNull(decompressor.pollDecompressedPage());
+                    BytesReference composite = CompositeBytesReference.of(reference1, reference2, reference3);
+                    assertEquals(4 * 10000, composite.length());
+                    StreamInput streamInput = composite.streamInput();
+                    for (int i = 0; i < 10000; ++i) {
+                        assertEquals(message + i, streamInput.readInt());
+                    }
+                    Releasables.close(reference1, reference2, reference3);
+                    decompressor.reset();
+                }
+            }
+        }
+    }
+
+    public void testIncrementalZstdCompression() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (
+                StreamOutput compressStream = new OutputStreamStreamOutput(
+                    CompressorRegistry.getCompressor(ZstdCompressor.NAME).threadLocalOutputStream(Streams.flushOnCloseStream(output))
+                )
+            ) {
+                for (int i = 0; i < 10000; ++i) {
+                    compressStream.writeInt(i);
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+
+            try (TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE)) {
+                int split = randomIntBetween(1, bytes.length() - 1);
+                BytesReference inbound1 = bytes.slice(0, split);
+                BytesReference inbound2 = bytes.slice(split, bytes.length() - split);
+
+                assertEquals(inbound1.length(), decompressor.decompress(inbound1));
+                assertEquals(inbound2.length(), decompressor.decompress(inbound2));
+                // the message is only decompressed once all its bytes arrived
+                assertFalse(decompressor.isEOS());
+                assertNull(decompressor.pollDecompressedPage());
+                decompressor.finish();
+                assertTrue(decompressor.isEOS());
+                ReleasableBytesReference reference1 = decompressor.pollDecompressedPage();
+                ReleasableBytesReference reference2 = decompressor.pollDecompressedPage();
+                ReleasableBytesReference reference3 = decompressor.pollDecompressedPage();
+                assertNull(decompressor.pollDecompressedPage());
+                BytesReference composite = CompositeBytesReference.of(reference1, reference2, reference3);
+                assertEquals(4 * 10000, composite.length());
+                StreamInput streamInput = composite.streamInput();
+                for (int i = 0; i < 10000; ++i) {
+                    assertEquals(i, streamInput.readInt());
+                }
+                Releasables.close(reference1, reference2, reference3);
+            }
+        }
+    }
+
+    public void testUnknownCompressionScheme() throws IOException {
+        try (TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE)) {
+            IllegalStateException e = expectThrows(
+                IllegalStateException.class,
+                () -> decompressor.decompress(new BytesArray(new byte[] { 'N', 'O', 'N', 'E', '\0', 1, 2, 3 }))
+            );
+            assertThat(e.getMessage(), startsWith("stream marked as compressed, but no compressor found"));
+        }
+    }
+
     public void testMultiPageCompression() throws IOException {
         try (BytesStreamOutput output = new BytesStreamOutput()) {
             try (
@@ -1178,6 +1178,7 @@ public class AbstractCoordinatorTestCase extends OpenSearchTestCase {
                     clusterSettings,
                     transportService,
                     writableRegistry(),
+                    BigArrays.NON_RECYCLING_INSTANCE,
                     allocationService,
                     clusterManagerService,
                     this::getPersistedState,
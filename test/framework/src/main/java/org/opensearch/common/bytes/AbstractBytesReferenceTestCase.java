@@ -718,6 +718,41 @@ public abstract class AbstractBytesReferenceTestCase extends OpenSearchTestCase
         }
     }
 
+    public void testStreamInputReadPrimitives() throws IOException {
+        final BytesReference bytesReference = newBytesReference(randomIntBetween(0, 3 * PAGE_SIZE));
+        final BytesRef bytesRef = bytesReference.toBytesRef();
+        final StreamInput expected = StreamInput.wrap(bytesRef.bytes, bytesRef.offset, bytesRef.length);
+        final StreamInput actual = bytesReference.streamInput();
+        while (expected.available() >= Long.BYTES) {
+            switch (randomIntBetween(0, 3)) {
+                case 0:
+                    assertEquals(expected.readShort(), actual.readShort());
+                    break;
+                case 1:
+                    assertEquals(expected.readInt(), actual.readInt());
+                    break;
+                case 2:
+                    assertEquals(expected.readLong(), actual.readLong());
+                    break;
+                default:
+                    final int position = bytesRef.offset + bytesReference.length() - expected.available();
+                    boolean validVInt = false;
+                    for (int i = 0; i < 5; i++) {
+                        validVInt |= (bytesRef.bytes[position + i] & 0x80) == 0;
+                    }
+                    if (validVInt) {
+                        assertEquals(expected.readVInt(), actual.readVInt());
+                    } else {
+                        expectThrows(IOException.class, expected::readVInt);
+                        expectThrows(IOException.class, actual::readVInt);
+                    }
+                    break;
+            }
+            assertEquals(expected.available(), actual.available());
+        }
+        expectThrows(EOFException.class, actual::readLong);
+    }
+
     public void testIndexOf() throws IOException {
         final int size = randomIntBetween(0, 100);
         final BytesReference bytesReference = newBytesReference(size);
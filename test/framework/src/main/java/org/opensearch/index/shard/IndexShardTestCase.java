@@ -799,7 +799,8 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
                 new Object(),
                 clusterService.getClusterApplierService(),
                 mergedSegmentPublisher,
-                ReferencedSegmentsPublisher.EMPTY
+                ReferencedSegmentsPublisher.EMPTY,
+                null
             );
             indexShard.addShardFailureCallback(DEFAULT_SHARD_FAILURE_HANDLER);
             if (remoteStoreStatsTrackerFactory != null) {